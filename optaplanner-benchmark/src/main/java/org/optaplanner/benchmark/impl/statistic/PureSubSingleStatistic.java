@@ -28,6 +28,7 @@ import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
 import org.optaplanner.benchmark.impl.statistic.common.GraphSupport;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalbestscore.ConstraintMatchTotalBestScoreSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore.ConstraintMatchTotalStepScoreSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofile.ConstraintProfileSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypebestscore.PickedMoveTypeBestScoreDiffSubSingleStatistic;
 import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscore.PickedMoveTypeStepScoreDiffSubSingleStatistic;
 
@@ -38,7 +39,8 @@ import org.optaplanner.benchmark.impl.statistic.subsingle.pickedmovetypestepscor
         ConstraintMatchTotalBestScoreSubSingleStatistic.class,
         ConstraintMatchTotalStepScoreSubSingleStatistic.class,
         PickedMoveTypeBestScoreDiffSubSingleStatistic.class,
-        PickedMoveTypeStepScoreDiffSubSingleStatistic.class
+        PickedMoveTypeStepScoreDiffSubSingleStatistic.class,
+        ConstraintProfileSubSingleStatistic.class
 })
 public abstract class PureSubSingleStatistic<Solution_, StatisticPoint_ extends StatisticPoint>
         extends SubSingleStatistic<Solution_, StatisticPoint_> {
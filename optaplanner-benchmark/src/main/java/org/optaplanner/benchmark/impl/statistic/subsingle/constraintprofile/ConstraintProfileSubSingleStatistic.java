@@ -0,0 +1,184 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.benchmark.impl.statistic.subsingle.constraintprofile;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.xml.bind.annotation.XmlTransient;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.title.TextTitle;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.optaplanner.benchmark.config.statistic.SingleStatisticType;
+import org.optaplanner.benchmark.impl.report.BenchmarkReport;
+import org.optaplanner.benchmark.impl.result.SubSingleBenchmarkResult;
+import org.optaplanner.benchmark.impl.statistic.PureSubSingleStatistic;
+import org.optaplanner.benchmark.impl.statistic.common.MillisecondsSpentNumberFormat;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
+import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.impl.phase.event.PhaseLifecycleListenerAdapter;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.solver.DefaultSolver;
+
+/**
+ * Tracks how much score calculation time each constraint has spent so far.
+ * The {@link ConstraintProfiler} slows down score calculation, so don't compare the score calculation speed
+ * of a benchmark with this statistic to the score calculation speed of a benchmark without it.
+ * <p>
+ * With Drools, the time is consequence time only.
+ * With Bavet, nodes shared by multiple constraints are duplicated per constraint while profiling,
+ * which inflates the time of those constraints.
+ * See {@link ConstraintProfile#getTimeNanos()}.
+ */
+public class ConstraintProfileSubSingleStatistic<Solution_>
+        extends PureSubSingleStatistic<Solution_, ConstraintProfileStatisticPoint> {
+
+    @XmlTransient
+    private ConstraintProfileSubSingleStatisticListener listener;
+
+    @XmlTransient
+    protected List<File> graphFileList = null;
+
+    public ConstraintProfileSubSingleStatistic(SubSingleBenchmarkResult subSingleBenchmarkResult) {
+        super(subSingleBenchmarkResult, SingleStatisticType.CONSTRAINT_PROFILE);
+        listener = new ConstraintProfileSubSingleStatisticListener();
+    }
+
+    /**
+     * @return never null
+     */
+    @Override
+    public List<File> getGraphFileList() {
+        return graphFileList;
+    }
+
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void open(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        listener.constraintProfiler = new ConstraintProfiler();
+        defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintProfiler(listener.constraintProfiler);
+        defaultSolver.addPhaseLifecycleListener(listener);
+    }
+
+    @Override
+    public void close(Solver<Solution_> solver) {
+        DefaultSolver<Solution_> defaultSolver = (DefaultSolver<Solution_>) solver;
+        defaultSolver.removePhaseLifecycleListener(listener);
+        defaultSolver.getSolverScope().getScoreDirector().overwriteConstraintProfiler(null);
+    }
+
+    private class ConstraintProfileSubSingleStatisticListener extends PhaseLifecycleListenerAdapter<Solution_> {
+
+        private ConstraintProfiler constraintProfiler;
+        private long lastTimeMillisSpent = -1L;
+
+        @Override
+        public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+            long timeMillisSpent = stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow();
+            // Steps can be much shorter than a millisecond, so don't record the same moment twice
+            if (timeMillisSpent == lastTimeMillisSpent) {
+                return;
+            }
+            lastTimeMillisSpent = timeMillisSpent;
+            for (ConstraintProfile constraintProfile : constraintProfiler.getConstraintProfileList()) {
+                pointList.add(new ConstraintProfileStatisticPoint(
+                        timeMillisSpent,
+                        constraintProfile.getConstraintPackage(),
+                        constraintProfile.getConstraintName(),
+                        constraintProfile.getEvaluationCount(),
+                        constraintProfile.getTimeNanos()));
+            }
+        }
+
+    }
+
+    // ************************************************************************
+    // CSV methods
+    // ************************************************************************
+
+    @Override
+    protected String getCsvHeader() {
+        return ConstraintProfileStatisticPoint.buildCsvLine(
+                "timeMillisSpent", "constraintPackage", "constraintName",
+                "evaluationCount", "timeNanos");
+    }
+
+    @Override
+    protected ConstraintProfileStatisticPoint createPointFromCsvLine(ScoreDefinition scoreDefinition,
+            List<String> csvLine) {
+        return new ConstraintProfileStatisticPoint(Long.parseLong(csvLine.get(0)),
+                csvLine.get(1), csvLine.get(2),
+                Long.parseLong(csvLine.get(3)), Long.parseLong(csvLine.get(4)));
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    @Override
+    public void writeGraphFiles(BenchmarkReport benchmarkReport) {
+        Map<String, XYSeries> constraintIdToTimeSeriesMap = new LinkedHashMap<>();
+        for (ConstraintProfileStatisticPoint point : getPointList()) {
+            XYSeries timeSeries = constraintIdToTimeSeriesMap.computeIfAbsent(point.getConstraintId(),
+                    k -> new XYSeries(point.getConstraintName()));
+            // In milliseconds, so the y axis can use the same format as the x axis
+            timeSeries.add(point.getTimeMillisSpent(), point.getTimeNanos() / 1_000_000.0);
+        }
+        XYPlot plot = createPlot(benchmarkReport);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer(true, false);
+        plot.setRenderer(renderer);
+        XYSeriesCollection seriesCollection = new XYSeriesCollection();
+        for (XYSeries series : constraintIdToTimeSeriesMap.values()) {
+            seriesCollection.addSeries(series);
+        }
+        plot.setDataset(seriesCollection);
+        JFreeChart chart = new JFreeChart(subSingleBenchmarkResult.getName() + " constraint profile statistic",
+                JFreeChart.DEFAULT_TITLE_FONT, plot, true);
+        chart.addSubtitle(new TextTitle("Drools: consequence time only."
+                + " Bavet: nodes shared by constraints are duplicated per constraint, which inflates their time."));
+        graphFileList = Collections.singletonList(writeChartToImageFile(chart, "ConstraintProfileStatistic"));
+    }
+
+    private XYPlot createPlot(BenchmarkReport benchmarkReport) {
+        Locale locale = benchmarkReport.getLocale();
+        NumberAxis xAxis = new NumberAxis("Time spent");
+        xAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        NumberAxis yAxis = new NumberAxis("Score calculation time spent per constraint");
+        yAxis.setNumberFormatOverride(new MillisecondsSpentNumberFormat(locale));
+        XYPlot plot = new XYPlot(null, xAxis, yAxis, null);
+        plot.setOrientation(PlotOrientation.VERTICAL);
+        return plot;
+    }
+
+}
@@ -16,11 +16,14 @@
 
 package org.optaplanner.core.api.score;
 
+import java.util.List;
+
 import org.optaplanner.core.api.domain.solution.PlanningScore;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.impl.score.DefaultScoreManager;
@@ -99,4 +102,36 @@ public interface ScoreManager<Solution_, Score_ extends Score<Score_>> {
      */
     ScoreExplanation<Solution_, Score_> explainScore(Solution_ solution);
 
+    /**
+     * Calculates the {@link Score} of a {@link PlanningSolution} from scratch
+     * and measures how much time each constraint spent on that.
+     * With Drools, that is consequence time only, see {@link ConstraintProfile#getTimeNanos()}.
+     * Like {@link #updateScore(Object)}, it also updates the {@link PlanningScore} member.
+     *
+     * @param solution never null
+     * @return never null, sorted by descending {@link ConstraintProfile#getTimeNanos()},
+     *         empty if the underlying score calculator can't attribute its work to constraints,
+     *         such as {@link EasyScoreCalculator}.
+     */
+    List<ConstraintProfile> profileScore(Solution_ solution);
+
+    /**
+     * Some score calculators, such as constraint streams on Drools,
+     * compile the constraints again for every set of constraints that zero constraint weights disable.
+     * Every ScoreManager caches those compilations,
+     * so solutions that switch between a few constraint weight configurations don't pay for that more than once.
+     *
+     * @return 0 or higher, how many times a method of this ScoreManager reused a cached compilation,
+     *         always 0 if the underlying score calculator doesn't compile its constraints per configuration
+     */
+    long getConstraintCompilationCacheHitCount();
+
+    /**
+     * @return 0 or higher, how many times a method of this ScoreManager had to compile the constraints
+     *         because no cached compilation was available,
+     *         always 0 if the underlying score calculator doesn't compile its constraints per configuration
+     * @see #getConstraintCompilationCacheHitCount()
+     */
+    long getConstraintCompilationCacheMissCount();
+
 }
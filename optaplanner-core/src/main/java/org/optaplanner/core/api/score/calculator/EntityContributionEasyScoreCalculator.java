@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.calculator;
+
+import org.optaplanner.core.api.domain.entity.PlanningEntity;
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.domain.variable.PlanningVariable;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.config.solver.EnvironmentMode;
+
+/**
+ * Allows an {@link EasyScoreCalculator} to be calculated incrementally per {@link PlanningEntity}:
+ * the score is the sum of the score contribution of every entity,
+ * so only the entities that changed since the last score calculation need to be recalculated.
+ * <p>
+ * The score contribution of an entity must only depend on that entity's own planning variables
+ * (genuine and shadow) and on problem facts, never on the planning variables of other entities.
+ * If a problem fact changes, all contributions are recalculated.
+ * <p>
+ * An implementation must be stateless.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the {@link Score} type
+ */
+public interface EntityContributionEasyScoreCalculator<Solution_, Score_ extends Score<Score_>>
+        extends EasyScoreCalculator<Solution_, Score_> {
+
+    /**
+     * Called for every entity when the working solution is set
+     * and afterwards only for an entity of which a {@link PlanningVariable} changed.
+     *
+     * @param solution never null
+     * @param entity never null, a {@link PlanningEntity} of the solution
+     * @return never null, with an {@link Score#getInitScore() initScore} of 0
+     */
+    Score_ calculateEntityScore(Solution_ solution, Object entity);
+
+    /**
+     * Not called by the score director, which sums the {@link #calculateEntityScore(Object, Object)} results instead,
+     * but it must return the same {@link Score}.
+     * With {@link EnvironmentMode#FULL_ASSERT} or {@link EnvironmentMode#NON_INTRUSIVE_FULL_ASSERT},
+     * it is called after every calculation from scratch to verify that.
+     *
+     * @param solution never null
+     * @return never null, the sum of {@link #calculateEntityScore(Object, Object)} of every entity
+     */
+    @Override
+    Score_ calculateScore(Solution_ solution);
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.score.constraint;
+
+import org.optaplanner.core.api.score.ScoreManager;
+
+/**
+ * How much score calculation time a single constraint spent, measured by a profiling score calculation.
+ * Retrievable from {@link ScoreManager#profileScore(Object)}.
+ * <p>
+ * What the time includes depends on the score calculation implementation, see {@link #getTimeNanos()}.
+ */
+public final class ConstraintProfile {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private final long evaluationCount;
+    private final long timeNanos;
+
+    public ConstraintProfile(String constraintPackage, String constraintName, long evaluationCount, long timeNanos) {
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.evaluationCount = evaluationCount;
+        this.timeNanos = timeNanos;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    /**
+     * @return never null
+     */
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    /**
+     * The number of tuples the constraint refreshed (constraint streams with Bavet)
+     * or the number of its rule activations that fired (Drools).
+     *
+     * @return {@code >= 0}
+     */
+    public long getEvaluationCount() {
+        return evaluationCount;
+    }
+
+    /**
+     * With Drools (DRL or constraint streams), this is consequence time only:
+     * the time spent firing the rule's right hand side.
+     * The left hand side is evaluated in network nodes that are often shared by multiple rules,
+     * so that time isn't attributed to any constraint and the sum over all constraints is lower
+     * than the total score calculation time.
+     * <p>
+     * With constraint streams on Bavet, this includes everything the constraint's nodes do.
+     * To attribute that time, profiling builds a separate session partition per constraint,
+     * so a node that multiple constraints normally share is duplicated and its time is counted for each of them.
+     * The sum over all constraints is therefore higher than the score calculation time without profiling.
+     *
+     * @return {@code >= 0}, in nanoseconds
+     */
+    public long getTimeNanos() {
+        return timeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return getConstraintId() + "=" + evaluationCount + " evaluations in " + timeNanos + "ns";
+    }
+
+}
@@ -29,6 +29,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistance
 @XmlType(propOrder = {
         "originEntitySelectorConfig",
         "nearbyDistanceMeterClass",
+        "nearbyDistanceMatrixSizeMaximum",
         "nearbySelectionDistributionType",
         "blockDistributionSizeMinimum",
         "blockDistributionSizeMaximum",
@@ -44,6 +45,7 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
     @XmlElement(name = "originEntitySelector")
     protected EntitySelectorConfig originEntitySelectorConfig = null;
     protected Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass = null;
+    protected Integer nearbyDistanceMatrixSizeMaximum = null;
 
     protected NearbySelectionDistributionType nearbySelectionDistributionType = null;
 
@@ -75,6 +77,14 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
     }
 
+    public Integer getNearbyDistanceMatrixSizeMaximum() {
+        return nearbyDistanceMatrixSizeMaximum;
+    }
+
+    public void setNearbyDistanceMatrixSizeMaximum(Integer nearbyDistanceMatrixSizeMaximum) {
+        this.nearbyDistanceMatrixSizeMaximum = nearbyDistanceMatrixSizeMaximum;
+    }
+
     public NearbySelectionDistributionType getNearbySelectionDistributionType() {
         return nearbySelectionDistributionType;
     }
@@ -164,6 +174,11 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                     + ") is nearby selection"
                     + " but lacks a nearbyDistanceMeterClass (" + nearbyDistanceMeterClass + ").");
         }
+        if (nearbyDistanceMatrixSizeMaximum != null && nearbyDistanceMatrixSizeMaximum < 1) {
+            throw new IllegalArgumentException("The nearbySelectorConfig (" + this
+                    + ") has a nearbyDistanceMatrixSizeMaximum (" + nearbyDistanceMatrixSizeMaximum
+                    + ") that is lower than 1.");
+        }
         if (resolvedSelectionOrder != SelectionOrder.ORIGINAL && resolvedSelectionOrder != SelectionOrder.RANDOM) {
             throw new IllegalArgumentException("The nearbySelectorConfig (" + this
                     + ") with nearbyOriginEntitySelector (" + originEntitySelectorConfig
@@ -186,6 +201,8 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                 inheritedConfig.getOriginEntitySelectorConfig());
         nearbyDistanceMeterClass = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMeterClass,
                 inheritedConfig.getNearbyDistanceMeterClass());
+        nearbyDistanceMatrixSizeMaximum = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMatrixSizeMaximum,
+                inheritedConfig.getNearbyDistanceMatrixSizeMaximum());
         nearbySelectionDistributionType = ConfigUtils.inheritOverwritableProperty(nearbySelectionDistributionType,
                 inheritedConfig.getNearbySelectionDistributionType());
         blockDistributionSizeMinimum = ConfigUtils.inheritOverwritableProperty(blockDistributionSizeMinimum,
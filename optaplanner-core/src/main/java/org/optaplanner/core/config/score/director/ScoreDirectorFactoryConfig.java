@@ -39,6 +39,7 @@ import org.optaplanner.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderClass",
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
+        "constraintStreamPartitionCount",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -59,6 +60,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     @XmlJavaTypeAdapter(JaxbCustomPropertiesAdapter.class)
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
+    protected Integer constraintStreamPartitionCount = null;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -123,6 +125,22 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamImplType = constraintStreamImplType;
     }
 
+    /**
+     * Only supported by {@link ConstraintStreamImplType#BAVET}.
+     * Splits the constraints over at most this number of independent sessions,
+     * keeping constraints that share nodes together,
+     * so calculating the score from scratch inserts the facts and refreshes them in parallel.
+     * Defaults to 1, which keeps every constraint in the same session.
+     * @return sometimes null
+     */
+    public Integer getConstraintStreamPartitionCount() {
+        return constraintStreamPartitionCount;
+    }
+
+    public void setConstraintStreamPartitionCount(Integer constraintStreamPartitionCount) {
+        this.constraintStreamPartitionCount = constraintStreamPartitionCount;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -212,6 +230,11 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig withConstraintStreamPartitionCount(Integer constraintStreamPartitionCount) {
+        this.constraintStreamPartitionCount = constraintStreamPartitionCount;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -267,6 +290,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintProviderCustomProperties, inheritedConfig.getConstraintProviderCustomProperties());
         constraintStreamImplType = ConfigUtils.inheritOverwritableProperty(
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
+        constraintStreamPartitionCount = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamPartitionCount, inheritedConfig.getConstraintStreamPartitionCount());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
@@ -17,8 +17,11 @@
 package org.optaplanner.core.impl.domain.lookup;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.api.domain.lookup.PlanningId;
 import org.optaplanner.core.api.score.director.ScoreDirector;
@@ -32,16 +35,76 @@ public class LookUpManager {
     private final LookUpStrategyResolver lookUpStrategyResolver;
 
     private Map<Object, Object> idToWorkingObjectMap;
+    /**
+     * Null if nothing is shared.
+     * Otherwise it indexes the working objects that are the same instances in another working solution,
+     * such as the problem facts of a parent thread's solution that the solution cloner didn't clone.
+     * Read-only, so multiple child threads can use it concurrently.
+     */
+    private Map<Object, Object> sharedIdToWorkingObjectMap = null;
 
     public LookUpManager(LookUpStrategyResolver lookUpStrategyResolver) {
         this.lookUpStrategyResolver = lookUpStrategyResolver;
     }
 
     public void resetWorkingObjects(Collection<Object> allFacts) {
-        idToWorkingObjectMap = new HashMap<>(allFacts.size());
+        if (sharedIdToWorkingObjectMap == null) {
+            idToWorkingObjectMap = new HashMap<>(allFacts.size());
+            for (Object fact : allFacts) {
+                addWorkingObject(fact);
+            }
+            return;
+        }
+        idToWorkingObjectMap = new HashMap<>();
         for (Object fact : allFacts) {
-            addWorkingObject(fact);
+            LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(fact);
+            // A shared fact is already indexed by the shared map, so only index the cloned objects
+            if (!isShared(lookUpStrategy, fact)) {
+                lookUpStrategy.addWorkingObject(idToWorkingObjectMap, fact);
+            }
+        }
+    }
+
+    private boolean isShared(LookUpStrategy lookUpStrategy, Object workingObject) {
+        if (lookUpStrategy instanceof NoneLookUpStrategy) {
+            // It cannot look up, but it doesn't index anything either
+            return false;
         }
+        return lookUpStrategy.lookUpWorkingObjectIfExists(sharedIdToWorkingObjectMap, workingObject) == workingObject;
+    }
+
+    /**
+     * Indexes the working objects that are the same instance in both working solutions,
+     * so multiple {@link LookUpManager}s can share them through {@link #shareWorkingObjects(Map)}
+     * instead of each indexing all of them.
+     *
+     * @param allFacts never null, the facts of one working solution
+     * @param otherAllFacts never null, the facts of another working solution, usually a planning clone of the first
+     * @return never null, read-only after this method returns
+     */
+    public Map<Object, Object> buildSharedIdToWorkingObjectMap(Collection<Object> allFacts,
+            Collection<Object> otherAllFacts) {
+        Set<Object> otherFactSet = Collections.newSetFromMap(new IdentityHashMap<>(otherAllFacts.size()));
+        otherFactSet.addAll(otherAllFacts);
+        Map<Object, Object> sharedMap = new HashMap<>(allFacts.size());
+        for (Object fact : allFacts) {
+            if (otherFactSet.contains(fact)) {
+                LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(fact);
+                lookUpStrategy.addWorkingObject(sharedMap, fact);
+            }
+        }
+        return sharedMap;
+    }
+
+    /**
+     * Takes effect on the next {@link #resetWorkingObjects(Collection)} call.
+     *
+     * @param sharedIdToWorkingObjectMap null to stop sharing,
+     *        otherwise the result of {@link #buildSharedIdToWorkingObjectMap(Collection, Collection)}
+     *        for the working solution that will be passed to the next {@link #resetWorkingObjects(Collection)}
+     */
+    public void shareWorkingObjects(Map<Object, Object> sharedIdToWorkingObjectMap) {
+        this.sharedIdToWorkingObjectMap = sharedIdToWorkingObjectMap;
     }
 
     public void addWorkingObject(Object workingObject) {
@@ -73,6 +136,12 @@ public class LookUpManager {
             return null;
         }
         LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(externalObject);
+        if (sharedIdToWorkingObjectMap != null && !(lookUpStrategy instanceof NoneLookUpStrategy)) {
+            E workingObject = lookUpWorkingObjectOrSharedIfExists(lookUpStrategy, externalObject);
+            if (workingObject != null) {
+                return workingObject;
+            }
+        }
         return lookUpStrategy.lookUpWorkingObject(idToWorkingObjectMap, externalObject);
     }
 
@@ -90,7 +159,22 @@ public class LookUpManager {
             return null;
         }
         LookUpStrategy lookUpStrategy = lookUpStrategyResolver.determineLookUpStrategy(externalObject);
+        if (sharedIdToWorkingObjectMap != null && !(lookUpStrategy instanceof NoneLookUpStrategy)) {
+            E workingObject = lookUpWorkingObjectOrSharedIfExists(lookUpStrategy, externalObject);
+            if (workingObject != null) {
+                return workingObject;
+            }
+        }
         return lookUpStrategy.lookUpWorkingObjectIfExists(idToWorkingObjectMap, externalObject);
     }
 
+    private <E> E lookUpWorkingObjectOrSharedIfExists(LookUpStrategy lookUpStrategy, E externalObject) {
+        // The own working objects first, in case this working solution cloned an object that the other one shares
+        E workingObject = lookUpStrategy.lookUpWorkingObjectIfExists(idToWorkingObjectMap, externalObject);
+        if (workingObject != null) {
+            return workingObject;
+        }
+        return lookUpStrategy.lookUpWorkingObjectIfExists(sharedIdToWorkingObjectMap, externalObject);
+    }
+
 }
@@ -34,6 +34,7 @@ import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScop
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.AbstractPhase;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -174,12 +175,13 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         if (decider.isScoreBounderEnabled()) {
             InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
             Score score = scoreDirector.calculateScore();
-            startNode.setScore(score);
+            ScoreDefinition scoreDefinition = phaseScope.getScoreDefinition();
+            startNode.setScore(score, scoreDefinition);
             ScoreBounder scoreBounder = decider.getScoreBounder();
             phaseScope.setBestPessimisticBound(startLayer.isLastLayer() ? score
                     : scoreBounder.calculatePessimisticBound(scoreDirector, score));
             startNode.setOptimisticBound(startLayer.isLastLayer() ? score
-                    : scoreBounder.calculateOptimisticBound(scoreDirector, score));
+                    : scoreBounder.calculateOptimisticBound(scoreDirector, score), scoreDefinition);
         }
         if (!startLayer.isLastLayer()) {
             phaseScope.addExpandableNode(startNode);
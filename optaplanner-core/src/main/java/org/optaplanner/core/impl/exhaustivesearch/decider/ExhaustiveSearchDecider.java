@@ -26,6 +26,7 @@ import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScop
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -179,7 +180,8 @@ public class ExhaustiveSearchDecider<Solution_> implements ExhaustiveSearchPhase
             }
         } else {
             Score_ score = phaseScope.calculateScore();
-            moveNode.setScore(score);
+            ScoreDefinition<Score_> scoreDefinition = phaseScope.getScoreDefinition();
+            moveNode.setScore(score, scoreDefinition);
             if (assertMoveScoreFromScratch) {
                 phaseScope.assertWorkingScoreFromScratch(score, moveNode.getMove());
             }
@@ -190,7 +192,7 @@ public class ExhaustiveSearchDecider<Solution_> implements ExhaustiveSearchPhase
             } else {
                 InnerScoreDirector<Solution_, Score_> scoreDirector = phaseScope.getScoreDirector();
                 Score_ optimisticBound = (Score_) scoreBounder.calculateOptimisticBound(scoreDirector, score);
-                moveNode.setOptimisticBound(optimisticBound);
+                moveNode.setOptimisticBound(optimisticBound, scoreDefinition);
                 Score_ bestPessimisticBound = (Score_) phaseScope.getBestPessimisticBound();
                 if (optimisticBound.compareTo(bestPessimisticBound) > 0) {
                     // It's still worth investigating this node further (no need to prune it)
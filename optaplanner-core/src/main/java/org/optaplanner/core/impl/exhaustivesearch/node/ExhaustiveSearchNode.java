@@ -20,6 +20,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public class ExhaustiveSearchNode {
 
@@ -31,12 +32,24 @@ public class ExhaustiveSearchNode {
     private Move move;
     private Move undoMove;
     private Score score;
+    /**
+     * Only valid if {@link #scorePacked} is true.
+     *
+     * @see ScoreDefinition#packScore(Score)
+     */
+    private long packedScore;
+    private boolean scorePacked = false;
     /**
      * Never worse than the best possible score a leaf node below this node might lead to.
      *
      * @see ScoreBounder#calculateOptimisticBound(ScoreDirector, Score)
      */
     private Score optimisticBound;
+    /**
+     * Only valid if {@link #optimisticBoundPacked} is true.
+     */
+    private long packedOptimisticBound;
+    private boolean optimisticBoundPacked = false;
     private boolean expandable = false;
 
     public ExhaustiveSearchNode(ExhaustiveSearchLayer layer, ExhaustiveSearchNode parent) {
@@ -79,6 +92,21 @@ public class ExhaustiveSearchNode {
 
     public void setScore(Score score) {
         this.score = score;
+        scorePacked = false;
+    }
+
+    /**
+     * Also packs the score if the scoreDefinition supports it, to compare it faster.
+     *
+     * @param score never null
+     * @param scoreDefinition never null
+     */
+    public void setScore(Score score, ScoreDefinition scoreDefinition) {
+        this.score = score;
+        scorePacked = scoreDefinition.isPackable(score);
+        if (scorePacked) {
+            packedScore = scoreDefinition.packScore(score);
+        }
     }
 
     public Score getOptimisticBound() {
@@ -87,6 +115,23 @@ public class ExhaustiveSearchNode {
 
     public void setOptimisticBound(Score optimisticBound) {
         this.optimisticBound = optimisticBound;
+        optimisticBoundPacked = false;
+    }
+
+    /**
+     * Also packs the optimistic bound if the scoreDefinition supports it, to compare it faster.
+     * An unbounded level, such as {@link Integer#MAX_VALUE} in a {@link ScoreDefinition#buildOptimisticBound},
+     * might not be packable.
+     *
+     * @param optimisticBound never null
+     * @param scoreDefinition never null
+     */
+    public void setOptimisticBound(Score optimisticBound, ScoreDefinition scoreDefinition) {
+        this.optimisticBound = optimisticBound;
+        optimisticBoundPacked = scoreDefinition.isPackable(optimisticBound);
+        if (optimisticBoundPacked) {
+            packedOptimisticBound = scoreDefinition.packScore(optimisticBound);
+        }
     }
 
     public boolean isExpandable() {
@@ -121,6 +166,36 @@ public class ExhaustiveSearchNode {
         return parent == null ? -1 : parent.getBreadth();
     }
 
+    /**
+     * Ignores the initScore, without creating a new {@link Score} if both scores are packed.
+     *
+     * @param other never null
+     * @return negative, zero or positive like {@link Comparable#compareTo(Object)}
+     */
+    public int compareScoreIgnoringInitScore(ExhaustiveSearchNode other) {
+        if (scorePacked && other.scorePacked) {
+            return Long.compare(packedScore, other.packedScore);
+        }
+        return score.withInitScore(0).compareTo(other.score.withInitScore(0));
+    }
+
+    /**
+     * @param other never null
+     * @return negative, zero or positive like {@link Comparable#compareTo(Object)}
+     */
+    public int compareOptimisticBound(ExhaustiveSearchNode other) {
+        if (optimisticBoundPacked && other.optimisticBoundPacked) {
+            // The packed levels don't include the initScore
+            int initScoreComparison = Integer.compare(optimisticBound.getInitScore(),
+                    other.optimisticBound.getInitScore());
+            if (initScoreComparison != 0) {
+                return initScoreComparison;
+            }
+            return Long.compare(packedOptimisticBound, other.packedOptimisticBound);
+        }
+        return optimisticBound.compareTo(other.optimisticBound);
+    }
+
     @Override
     public String toString() {
         return getTreeId() + " (" + layer.getEntity() + ")";
@@ -42,7 +42,7 @@ public class DepthFirstNodeComparator implements Comparator<ExhaustiveSearchNode
             return 1;
         }
         // Investigate better score first (ignore initScore as that's already done by investigate deeper first)
-        int scoreComparison = a.getScore().withInitScore(0).compareTo(b.getScore().withInitScore(0));
+        int scoreComparison = a.compareScoreIgnoringInitScore(b);
         if (scoreComparison < 0) {
             return -1;
         } else if (scoreComparison > 0) {
@@ -54,7 +54,7 @@ public class DepthFirstNodeComparator implements Comparator<ExhaustiveSearchNode
         // In non-mixed cases, the comparison order is irrelevant.
         if (scoreBounderEnabled) {
             // Investigate better optimistic bound first
-            int optimisticBoundComparison = a.getOptimisticBound().compareTo(b.getOptimisticBound());
+            int optimisticBoundComparison = a.compareOptimisticBound(b);
             if (optimisticBoundComparison < 0) {
                 return -1;
             } else if (optimisticBoundComparison > 0) {
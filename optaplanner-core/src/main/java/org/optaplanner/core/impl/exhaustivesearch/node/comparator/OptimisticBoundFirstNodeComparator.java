@@ -35,14 +35,14 @@ public class OptimisticBoundFirstNodeComparator implements Comparator<Exhaustive
     @Override
     public int compare(ExhaustiveSearchNode a, ExhaustiveSearchNode b) {
         // Investigate better optimistic bound first (ignore initScore to avoid depth first ordering)
-        int optimisticBoundComparison = a.getOptimisticBound().compareTo(b.getOptimisticBound());
+        int optimisticBoundComparison = a.compareOptimisticBound(b);
         if (optimisticBoundComparison < 0) {
             return -1;
         } else if (optimisticBoundComparison > 0) {
             return 1;
         }
         // Investigate better score first
-        int scoreComparison = a.getScore().withInitScore(0).compareTo(b.getScore().withInitScore(0));
+        int scoreComparison = a.compareScoreIgnoringInitScore(b);
         if (scoreComparison < 0) {
             return -1;
         } else if (scoreComparison > 0) {
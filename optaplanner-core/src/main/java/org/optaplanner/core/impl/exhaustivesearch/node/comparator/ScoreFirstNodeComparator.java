@@ -35,14 +35,14 @@ public class ScoreFirstNodeComparator implements Comparator<ExhaustiveSearchNode
     @Override
     public int compare(ExhaustiveSearchNode a, ExhaustiveSearchNode b) {
         // Investigate better score first (ignore initScore to avoid depth first ordering)
-        int scoreComparison = a.getScore().withInitScore(0).compareTo(b.getScore().withInitScore(0));
+        int scoreComparison = a.compareScoreIgnoringInitScore(b);
         if (scoreComparison < 0) {
             return -1;
         } else if (scoreComparison > 0) {
             return 1;
         }
         // Investigate better optimistic bound first
-        int optimisticBoundComparison = a.getOptimisticBound().compareTo(b.getOptimisticBound());
+        int optimisticBoundComparison = a.compareOptimisticBound(b);
         if (optimisticBoundComparison < 0) {
             return -1;
         } else if (optimisticBoundComparison > 0) {
@@ -55,6 +55,87 @@ public abstract class AbstractMove<Solution_> implements Move<Solution_> {
      */
     protected abstract void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector);
 
+    // ************************************************************************
+    // In place undo
+    // ************************************************************************
+
+    /**
+     * Evaluating a move does it and undoes it immediately afterwards,
+     * so a move that can revert itself doesn't need to allocate an undo move for every evaluation.
+     *
+     * @return true if {@link #doMoveUndoableInPlace(ScoreDirector)} and {@link #undoMoveInPlace(ScoreDirector)}
+     *         are supported
+     */
+    public boolean isUndoableInPlace() {
+        return false;
+    }
+
+    /**
+     * Like {@link #doMove(ScoreDirector)}, but instead of creating an undo move,
+     * it remembers in this instance what {@link #undoMoveInPlace(ScoreDirector)} needs to revert it.
+     * <p>
+     * Only call this if {@link #isUndoableInPlace()} returns true
+     * and call {@link #undoMoveInPlace(ScoreDirector)} before the working solution is changed in any other way.
+     * This instance must not be done again or be done by another thread in the meantime.
+     *
+     * @param scoreDirector never null
+     */
+    public final void doMoveUndoableInPlace(ScoreDirector<Solution_> scoreDirector) {
+        rememberUndoState(scoreDirector);
+        doMoveOnGenuineVariables(scoreDirector);
+        scoreDirector.triggerVariableListeners();
+    }
+
+    /**
+     * Does the exact opposite of the last {@link #doMoveUndoableInPlace(ScoreDirector)}.
+     *
+     * @param scoreDirector never null
+     */
+    public final void undoMoveInPlace(ScoreDirector<Solution_> scoreDirector) {
+        undoMoveInPlace(scoreDirector, true);
+    }
+
+    /**
+     * Like {@link #undoMoveInPlace(ScoreDirector)},
+     * but the {@link ScoreDirector#triggerVariableListeners()} call can be left to the next change,
+     * which then triggers the variable listeners for both changes at once.
+     * <p>
+     * The shadow variables are stale until then,
+     * so only skip that call if nothing reads a shadow variable before that next change triggers the listeners.
+     * The moves that are {@link #isUndoableInPlace() undoable in place} only read genuine variables
+     * when they are done or undone.
+     *
+     * @param scoreDirector never null
+     * @param triggerVariableListeners false to leave the triggering of the variable listeners to the next change
+     */
+    public final void undoMoveInPlace(ScoreDirector<Solution_> scoreDirector, boolean triggerVariableListeners) {
+        undoMoveOnGenuineVariables(scoreDirector);
+        if (triggerVariableListeners) {
+            scoreDirector.triggerVariableListeners();
+        }
+    }
+
+    /**
+     * Called before the move is done by {@link #doMoveUndoableInPlace(ScoreDirector)},
+     * like {@link #createUndoMove(ScoreDirector)}.
+     *
+     * @param scoreDirector the {@link ScoreDirector} not yet modified by the move.
+     */
+    protected void rememberUndoState(ScoreDirector<Solution_> scoreDirector) {
+        // Most moves that are undoable in place can revert themselves without remembering anything
+    }
+
+    /**
+     * Like {@link #undoMoveInPlace(ScoreDirector)} but without the {@link ScoreDirector#triggerVariableListeners()}
+     * call (because {@link #undoMoveInPlace(ScoreDirector)} already does that).
+     *
+     * @param scoreDirector never null
+     */
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        throw new UnsupportedOperationException("The move class (" + getClass()
+                + ") is not undoable in place.");
+    }
+
     // ************************************************************************
     // Util methods
     // ************************************************************************
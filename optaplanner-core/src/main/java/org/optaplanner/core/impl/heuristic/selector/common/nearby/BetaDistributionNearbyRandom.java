@@ -22,6 +22,9 @@ import org.apache.commons.math3.distribution.BetaDistribution;
 
 public class BetaDistributionNearbyRandom implements NearbyRandom {
 
+    /** The probability that {@link #nextInt(Random, int)} returns less than {@link #getEffectiveSizeMaximum(int)}. */
+    protected static final double EFFECTIVE_PROBABILITY = 0.99;
+
     protected final BetaDistribution betaDistribution;
 
     public BetaDistributionNearbyRandom(double betaDistributionAlpha, double betaDistributionBeta) {
@@ -52,4 +55,10 @@ public class BetaDistributionNearbyRandom implements NearbyRandom {
         return Integer.MAX_VALUE;
     }
 
+    @Override
+    public int getEffectiveSizeMaximum(int nearbySize) {
+        double d = betaDistribution.inverseCumulativeProbability(EFFECTIVE_PROBABILITY);
+        return Math.min((int) Math.ceil(d * (double) nearbySize), nearbySize);
+    }
+
 }
@@ -58,6 +58,10 @@ public class BlockDistributionNearbyRandom implements NearbyRandom {
                 return random.nextInt(nearbySize);
             }
         }
+        return random.nextInt(calculateBlockSize(nearbySize));
+    }
+
+    private int calculateBlockSize(int nearbySize) {
         int size;
         if (sizeRatio < 1.0) {
             size = (int) (nearbySize * sizeRatio);
@@ -73,7 +77,7 @@ public class BlockDistributionNearbyRandom implements NearbyRandom {
         if (size > sizeMaximum) {
             size = sizeMaximum;
         }
-        return random.nextInt(size);
+        return size;
     }
 
     @Override
@@ -84,4 +88,10 @@ public class BlockDistributionNearbyRandom implements NearbyRandom {
         return sizeMaximum;
     }
 
+    @Override
+    public int getEffectiveSizeMaximum(int nearbySize) {
+        // The uniform distribution part rarely selects beyond the block
+        return calculateBlockSize(nearbySize);
+    }
+
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+/**
+ * A {@link NearbyDistanceMeter} that places every origin and destination at coordinates in a Euclidean space,
+ * such as the x and y of a location on a flat map.
+ * <p>
+ * Nearby selection indexes the destinations of such a meter in a k-d tree,
+ * if they are the same for every origin,
+ * so it finds the nearest destinations of an origin without measuring the distance to every destination.
+ * That index orders the destinations by the Euclidean distance between their coordinates,
+ * so {@link #getNearbyDistance(Object, Object)} should not be overridden with another distance.
+ * Use a plain {@link NearbyDistanceMeter} for road distances or driving times.
+ */
+public interface CoordinateNearbyDistanceMeter<O, D> extends NearbyDistanceMeter<O, D> {
+
+    /**
+     * @param origin never null
+     * @return never null, the same length for every origin and destination
+     */
+    double[] getOriginCoordinates(O origin);
+
+    /**
+     * @param destination never null
+     * @return never null, the same length for every origin and destination
+     */
+    double[] getDestinationCoordinates(D destination);
+
+    /**
+     * @param origin never null
+     * @param destination never null
+     * @return {@code >= 0.0}, the Euclidean distance between their coordinates
+     */
+    @Override
+    default double getNearbyDistance(O origin, D destination) {
+        return calculateEuclideanDistance(getOriginCoordinates(origin), getDestinationCoordinates(destination));
+    }
+
+    static double calculateEuclideanDistance(double[] originCoordinates, double[] destinationCoordinates) {
+        double squaredDistance = 0.0;
+        for (int i = 0; i < originCoordinates.length; i++) {
+            double difference = destinationCoordinates[i] - originCoordinates[i];
+            squaredDistance += difference * difference;
+        }
+        return Math.sqrt(squaredDistance);
+    }
+
+}
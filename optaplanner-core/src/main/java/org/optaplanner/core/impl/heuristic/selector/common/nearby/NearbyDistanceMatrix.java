@@ -17,21 +17,91 @@
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
 
+/**
+ * Holds the destinations of each origin, ordered from nearest to farthest.
+ * <p>
+ * Either every origin is added eagerly with {@link #addAllDestinations(Object, Iterator, int)},
+ * or the destinations of an origin are computed lazily at its first {@link #getDestination(Object, int)}.
+ * In the lazy mode, only the nearest destinations are computed, as many as the initialDestinationSizeFunction returns,
+ * and a higher nearbyIndex recomputes that origin with at least twice as many destinations,
+ * so the RAM memory and the time before the first move don't scale quadratically with the number of origins.
+ * <p>
+ * In the lazy mode, if the {@link NearbyDistanceMeter} is a {@link CoordinateNearbyDistanceMeter}
+ * and every origin has the same destinations, those destinations are indexed once in a {@link NearbyKdTree},
+ * so computing the nearest destinations of an origin doesn't measure the distance to every destination.
+ */
 public final class NearbyDistanceMatrix {
 
     private final NearbyDistanceMeter nearbyDistanceMeter;
     private final Map<Object, Object[]> originToDestinationsMap;
+    /** Null if every origin is added eagerly. */
+    private final Function<Object, Iterator<Object>> destinationIteratorFunction;
+    /** Null if every origin is added eagerly. */
+    private final ToIntFunction<Object> destinationSizeFunction;
+    /** Null if every origin is added eagerly. */
+    private final IntUnaryOperator initialDestinationSizeFunction;
+    /** False if every origin is added eagerly or the destinations can't be indexed. */
+    private final boolean kdTreeEnabled;
+    /** Built at the first lazily computed origin. */
+    private volatile NearbyKdTree kdTree = null;
 
     public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize) {
+        this(nearbyDistanceMeter, originSize, null, null, null);
+    }
+
+    /**
+     * Creates a lazy matrix, which is thread-safe.
+     * @param nearbyDistanceMeter never null
+     * @param originSize at least 0
+     * @param destinationIteratorFunction never null, returns all the destinations of an origin
+     * @param destinationSizeFunction never null, returns the number of destinations of an origin
+     * @param initialDestinationSizeFunction never null, maps the number of destinations of an origin
+     * to the number of nearest destinations that are computed first for that origin
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize,
+            Function<Object, Iterator<Object>> destinationIteratorFunction,
+            ToIntFunction<Object> destinationSizeFunction, IntUnaryOperator initialDestinationSizeFunction) {
+        this(nearbyDistanceMeter, originSize, destinationIteratorFunction, destinationSizeFunction,
+                initialDestinationSizeFunction, false);
+    }
+
+    /**
+     * Creates a lazy matrix, which is thread-safe.
+     * @param nearbyDistanceMeter never null
+     * @param originSize at least 0
+     * @param destinationIteratorFunction never null, returns all the destinations of an origin
+     * @param destinationSizeFunction never null, returns the number of destinations of an origin
+     * @param initialDestinationSizeFunction never null, maps the number of destinations of an origin
+     * to the number of nearest destinations that are computed first for that origin
+     * @param destinationsOriginIndependent true if every origin has the same destinations, in the same order
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter nearbyDistanceMeter, int originSize,
+            Function<Object, Iterator<Object>> destinationIteratorFunction,
+            ToIntFunction<Object> destinationSizeFunction, IntUnaryOperator initialDestinationSizeFunction,
+            boolean destinationsOriginIndependent) {
         this.nearbyDistanceMeter = nearbyDistanceMeter;
-        originToDestinationsMap = new HashMap<>(originSize);
+        // Concurrent, because lazily computed origins can be requested by multiple threads
+        originToDestinationsMap = new ConcurrentHashMap<>(originSize);
+        this.destinationIteratorFunction = destinationIteratorFunction;
+        this.destinationSizeFunction = destinationSizeFunction;
+        this.initialDestinationSizeFunction = initialDestinationSizeFunction;
+        kdTreeEnabled = destinationIteratorFunction != null && destinationsOriginIndependent
+                && nearbyDistanceMeter instanceof CoordinateNearbyDistanceMeter;
     }
 
     public void addAllDestinations(Object origin, Iterator<Object> destinationIterator, int destinationSize) {
+        originToDestinationsMap.put(origin, computeNearestDestinations(origin, destinationIterator, destinationSize));
+    }
+
+    private Object[] computeNearestDestinations(Object origin, Iterator<Object> destinationIterator,
+            int destinationSize) {
         Object[] destinations = new Object[destinationSize];
         double[] distances = new double[destinationSize];
         int size = 0;
@@ -64,12 +134,58 @@ public final class NearbyDistanceMatrix {
             throw new IllegalStateException("The destinationIterator's size (" + size
                     + ") differs from the expected destinationSize (" + destinationSize + ").");
         }
-        originToDestinationsMap.put(origin, destinations);
+        return destinations;
     }
 
     public Object getDestination(Object origin, int nearbyIndex) {
         Object[] destinations = originToDestinationsMap.get(origin);
+        if (destinationIteratorFunction != null && (destinations == null || nearbyIndex >= destinations.length)) {
+            destinations = computeLazyDestinations(origin, nearbyIndex);
+        }
         return destinations[nearbyIndex];
     }
 
+    private Object[] computeLazyDestinations(Object origin, int nearbyIndex) {
+        // Another thread might have computed enough destinations for this origin in the meantime
+        return originToDestinationsMap.compute(origin, (key, destinations) -> {
+            if (destinations != null && nearbyIndex < destinations.length) {
+                return destinations;
+            }
+            int destinationSize = destinationSizeFunction.applyAsInt(origin);
+            int computedSize;
+            if (destinations == null) {
+                computedSize = initialDestinationSizeFunction.applyAsInt(destinationSize);
+            } else {
+                // Double it, so an origin that is iterated far is recomputed only a logarithmic number of times
+                computedSize = destinations.length > destinationSize / 2 ? destinationSize : destinations.length * 2;
+            }
+            computedSize = Math.min(Math.max(computedSize, nearbyIndex + 1), destinationSize);
+            if (kdTreeEnabled) {
+                return findNearestDestinations(origin, destinationSize, computedSize);
+            }
+            return computeNearestDestinations(origin, destinationIteratorFunction.apply(origin), computedSize);
+        });
+    }
+
+    private Object[] findNearestDestinations(Object origin, int destinationSize, int computedSize) {
+        NearbyKdTree tree = kdTree;
+        if (tree == null) {
+            synchronized (this) {
+                tree = kdTree;
+                if (tree == null) {
+                    // The destinations of any origin will do, because they are the same for every origin
+                    tree = new NearbyKdTree((CoordinateNearbyDistanceMeter) nearbyDistanceMeter,
+                            destinationIteratorFunction.apply(origin));
+                    kdTree = tree;
+                }
+            }
+        }
+        // The destinationSize can be capped below the size of the destinationIterator
+        if (tree.getDestinationSize() < destinationSize) {
+            throw new IllegalStateException("The destinationIterator's size (" + tree.getDestinationSize()
+                    + ") differs from the expected destinationSize (" + destinationSize + ").");
+        }
+        return tree.findNearestDestinations(origin, computedSize);
+    }
+
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.common.nearby;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A k-d tree over the destinations of a {@link CoordinateNearbyDistanceMeter},
+ * which finds the k nearest destinations of an origin in about {@code O(k log(n))} instead of {@code O(n)}.
+ * <p>
+ * It is built in {@code O(n log(n))} on average and it is immutable, so it is thread-safe.
+ * The nearest destinations are ordered by their Euclidean distance
+ * and destinations at the same distance are ordered as the destinationIterator returned them,
+ * just like {@link NearbyDistanceMatrix#addAllDestinations(Object, Iterator, int)} orders them.
+ */
+final class NearbyKdTree {
+
+    private final CoordinateNearbyDistanceMeter nearbyDistanceMeter;
+    /** Indexed by the iteration index of each destination. */
+    private final Object[] destinations;
+    /** Indexed by the iteration index of each destination. */
+    private final double[][] coordinates;
+    /**
+     * Holds the iteration indexes as an implicit tree:
+     * the node of a range is at the middle of that range, its children are in the left and right half of that range.
+     */
+    private final int[] nodes;
+    /** Indexed like {@link #nodes}, the dimension that the node of that range splits. */
+    private final int[] splitDimensions;
+
+    public NearbyKdTree(CoordinateNearbyDistanceMeter nearbyDistanceMeter, Iterator<Object> destinationIterator) {
+        this.nearbyDistanceMeter = nearbyDistanceMeter;
+        List<Object> destinationList = new ArrayList<>();
+        List<double[]> coordinatesList = new ArrayList<>();
+        int dimensionCount = -1;
+        while (destinationIterator.hasNext()) {
+            Object destination = destinationIterator.next();
+            double[] destinationCoordinates = nearbyDistanceMeter.getDestinationCoordinates(destination);
+            if (dimensionCount < 0) {
+                dimensionCount = destinationCoordinates.length;
+            } else if (destinationCoordinates.length != dimensionCount) {
+                throw new IllegalStateException("The nearbyDistanceMeter (" + nearbyDistanceMeter
+                        + ") returns coordinates with a length (" + destinationCoordinates.length
+                        + ") for the destination (" + destination
+                        + ") which differs from the length (" + dimensionCount
+                        + ") for the other destinations.");
+            }
+            destinationList.add(destination);
+            coordinatesList.add(destinationCoordinates);
+        }
+        destinations = destinationList.toArray();
+        coordinates = coordinatesList.toArray(new double[0][]);
+        nodes = new int[destinations.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = i;
+        }
+        splitDimensions = new int[destinations.length];
+        build(0, nodes.length, Math.max(dimensionCount, 0));
+    }
+
+    private void build(int from, int to, int dimensionCount) {
+        if (to - from <= 1) {
+            return;
+        }
+        int splitDimension = findWidestDimension(from, to, dimensionCount);
+        int middle = (from + to) >>> 1;
+        select(from, to - 1, middle, splitDimension);
+        splitDimensions[middle] = splitDimension;
+        build(from, middle, dimensionCount);
+        build(middle + 1, to, dimensionCount);
+    }
+
+    private int findWidestDimension(int from, int to, int dimensionCount) {
+        int widestDimension = 0;
+        double widestSpread = -1.0;
+        for (int dimension = 0; dimension < dimensionCount; dimension++) {
+            double minimum = Double.POSITIVE_INFINITY;
+            double maximum = Double.NEGATIVE_INFINITY;
+            for (int i = from; i < to; i++) {
+                double coordinate = coordinates[nodes[i]][dimension];
+                minimum = Math.min(minimum, coordinate);
+                maximum = Math.max(maximum, coordinate);
+            }
+            if (maximum - minimum > widestSpread) {
+                widestDimension = dimension;
+                widestSpread = maximum - minimum;
+            }
+        }
+        return widestDimension;
+    }
+
+    /**
+     * Quickselect: afterwards no node in [left, k) is greater than the node at k
+     * and no node in (k, right] is lower than it.
+     */
+    private void select(int left, int right, int k, int dimension) {
+        while (left < right) {
+            int pivot = nodes[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (compare(nodes[i], pivot, dimension) < 0) {
+                    i++;
+                }
+                while (compare(nodes[j], pivot, dimension) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = nodes[i];
+                    nodes[i] = nodes[j];
+                    nodes[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int compare(int a, int b, int dimension) {
+        int comparison = Double.compare(coordinates[a][dimension], coordinates[b][dimension]);
+        // Break ties by iteration index, so every node is unique and the partitioning terminates
+        return comparison != 0 ? comparison : Integer.compare(a, b);
+    }
+
+    public int getDestinationSize() {
+        return destinations.length;
+    }
+
+    /**
+     * @param origin never null
+     * @param destinationSize {@code 0 <= destinationSize <= }{@link #getDestinationSize()}
+     * @return never null, the destinationSize nearest destinations, ordered from nearest to farthest
+     */
+    public Object[] findNearestDestinations(Object origin, int destinationSize) {
+        double[] originCoordinates = nearbyDistanceMeter.getOriginCoordinates(origin);
+        NearestHeap heap = new NearestHeap(destinationSize);
+        if (destinationSize > 0) {
+            search(originCoordinates, 0, nodes.length, heap);
+        }
+        return heap.toSortedDestinations();
+    }
+
+    private void search(double[] originCoordinates, int from, int to, NearestHeap heap) {
+        if (from >= to) {
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        int node = nodes[middle];
+        heap.offer(node, CoordinateNearbyDistanceMeter.calculateEuclideanDistance(
+                originCoordinates, coordinates[node]));
+        if (to - from == 1) {
+            return;
+        }
+        int splitDimension = splitDimensions[middle];
+        double splitDifference = originCoordinates[splitDimension] - coordinates[node][splitDimension];
+        boolean leftFirst = splitDifference < 0.0;
+        search(originCoordinates, leftFirst ? from : middle + 1, leftFirst ? middle : to, heap);
+        // The other half is at least that far away, but it can still hold destinations at the same distance
+        if (!heap.isFull() || Math.abs(splitDifference) <= heap.getFarthestDistance()) {
+            search(originCoordinates, leftFirst ? middle + 1 : from, leftFirst ? to : middle, heap);
+        }
+    }
+
+    /**
+     * A max heap of the nearest nodes found so far, with the farthest one (or the last one iterated on a tie) on top.
+     */
+    private final class NearestHeap {
+
+        private final int[] heapNodes;
+        private final double[] heapDistances;
+        private int size = 0;
+
+        private NearestHeap(int capacity) {
+            heapNodes = new int[capacity];
+            heapDistances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == heapNodes.length;
+        }
+
+        private double getFarthestDistance() {
+            return heapDistances[0];
+        }
+
+        private boolean isFarther(int node, double distance, int otherNode, double otherDistance) {
+            return distance > otherDistance || (distance == otherDistance && node > otherNode);
+        }
+
+        private void offer(int node, double distance) {
+            if (!isFull()) {
+                int i = size;
+                size++;
+                while (i > 0) {
+                    int parent = (i - 1) / 2;
+                    if (!isFarther(node, distance, heapNodes[parent], heapDistances[parent])) {
+                        break;
+                    }
+                    heapNodes[i] = heapNodes[parent];
+                    heapDistances[i] = heapDistances[parent];
+                    i = parent;
+                }
+                heapNodes[i] = node;
+                heapDistances[i] = distance;
+            } else if (size > 0 && isFarther(heapNodes[0], heapDistances[0], node, distance)) {
+                siftDown(node, distance);
+            }
+        }
+
+        /**
+         * Replaces the top.
+         */
+        private void siftDown(int node, double distance) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && isFarther(heapNodes[child + 1], heapDistances[child + 1],
+                        heapNodes[child], heapDistances[child])) {
+                    child++;
+                }
+                if (!isFarther(heapNodes[child], heapDistances[child], node, distance)) {
+                    break;
+                }
+                heapNodes[i] = heapNodes[child];
+                heapDistances[i] = heapDistances[child];
+                i = child;
+            }
+            heapNodes[i] = node;
+            heapDistances[i] = distance;
+        }
+
+        private Object[] toSortedDestinations() {
+            Object[] sortedDestinations = new Object[size];
+            // Popping the farthest first fills the array from the back
+            while (size > 0) {
+                int node = heapNodes[0];
+                size--;
+                sortedDestinations[size] = destinations[node];
+                if (size > 0) {
+                    siftDown(heapNodes[size], heapDistances[size]);
+                }
+            }
+            return sortedDestinations;
+        }
+
+    }
+
+}
@@ -41,4 +41,16 @@ public interface NearbyRandom {
      */
     int getOverallSizeMaximum();
 
+    /**
+     * Used to limit the RAM memory size of a lazily computed nearby distance matrix,
+     * which computes the destinations beyond this size only on demand.
+     *
+     * @param nearbySize never negative. The number of available values to select from.
+     * @return {@code 0 <= x <= nearbySize}, the number of lowest indexes
+     *         that {@link #nextInt(Random, int)} returns nearly always
+     */
+    default int getEffectiveSizeMaximum(int nearbySize) {
+        return Math.min(getOverallSizeMaximum(), nearbySize);
+    }
+
 }
@@ -208,7 +208,7 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
         // TODO Check nearbyDistanceMeterClass.getGenericInterfaces() to confirm generic type S is an entityClass
         NearbyRandom nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
         return new NearEntityNearbyEntitySelector<>(entitySelector, originEntitySelector, nearbyDistanceMeter,
-                nearbyRandom, randomSelection);
+                nearbyRandom, randomSelection, nearbySelectionConfig.getNearbyDistanceMatrixSizeMaximum());
     }
 
     private EntitySelector<Solution_> applyFiltering(EntitySelector<Solution_> entitySelector) {
@@ -37,12 +37,29 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero = true; // TODO deactivate me when appropriate
+    protected final Integer nearbyDistanceMatrixSizeMaximum;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
     public NearEntityNearbyEntitySelector(EntitySelector<Solution_> childEntitySelector,
             EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
             NearbyRandom nearbyRandom, boolean randomSelection) {
+        this(childEntitySelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom, randomSelection, null);
+    }
+
+    /**
+     * @param childEntitySelector never null
+     * @param originEntitySelector never null
+     * @param nearbyDistanceMeter never null
+     * @param nearbyRandom null if not randomSelection
+     * @param randomSelection true if the nearby entities are selected randomly
+     * @param nearbyDistanceMatrixSizeMaximum null if derived from the nearbyRandom,
+     * otherwise the number of nearest entities that are computed first for each origin
+     */
+    public NearEntityNearbyEntitySelector(EntitySelector<Solution_> childEntitySelector,
+            EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, Integer nearbyDistanceMatrixSizeMaximum) {
+        this.nearbyDistanceMatrixSizeMaximum = nearbyDistanceMatrixSizeMaximum;
         this.childEntitySelector = childEntitySelector;
         if (!(originEntitySelector instanceof MimicReplayingEntitySelector)) {
             // In order to select a nearby entity, we must first have something to be near by.
@@ -99,11 +116,22 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
                 destinationSize = overallSizeMaximum;
             }
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
-        for (Iterator<Object> originIt = replayingOriginEntitySelector.endingIterator(); originIt.hasNext();) {
-            final Object origin = originIt.next();
-            nearbyDistanceMatrix.addAllDestinations(origin, childEntitySelector.endingIterator(), destinationSize);
+        int cappedDestinationSize = destinationSize;
+        // Lazily, so only the origins that are selected are computed, and only their nearest entities
+        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
+                origin -> childEntitySelector.endingIterator(), origin -> cappedDestinationSize,
+                this::calculateInitialDestinationSize, true);
+    }
+
+    private int calculateInitialDestinationSize(int destinationSize) {
+        if (nearbyDistanceMatrixSizeMaximum != null) {
+            return Math.min(nearbyDistanceMatrixSizeMaximum, destinationSize);
+        }
+        if (!randomSelection) {
+            return destinationSize;
         }
+        int discardedSize = discardNearbyIndexZero ? 1 : 0;
+        return nearbyRandom.getEffectiveSizeMaximum(Math.max(destinationSize - discardedSize, 0)) + discardedSize;
     }
 
     @Override
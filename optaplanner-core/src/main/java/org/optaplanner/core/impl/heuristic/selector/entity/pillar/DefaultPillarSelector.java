@@ -34,12 +34,14 @@ import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarCon
 import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
@@ -54,7 +56,13 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
     protected final boolean randomSelection;
     protected final SubPillarConfigPolicy subpillarConfigPolicy;
+    /**
+     * True if the pillars are maintained by a {@link PillarSupply} instead of being rebuilt every step.
+     * Only possible if the pillars group every entity, in no particular order, by a single variable.
+     */
+    protected final boolean pillarSupplyEnabled;
 
+    protected PillarSupply pillarSupply = null;
     protected List<List<Object>> cachedBasePillarList = null;
 
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
@@ -100,6 +108,9 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
                     + "sub pillars because the number of sub pillars scales exponentially.\n"
                     + "Either set subPillarType to " + SubPillarType.NONE + " or use JIT random selection.");
         }
+        pillarSupplyEnabled = variableDescriptors.size() == 1
+                && entitySelector instanceof FromSolutionEntitySelector
+                && subpillarConfigPolicy.getEntityComparator() == null;
     }
 
     private static <Solution_> List<Object> getSingleVariableValueState(Object entity,
@@ -118,6 +129,27 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return valueState;
     }
 
+    // ************************************************************************
+    // Lifecycle methods
+    // ************************************************************************
+
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        if (pillarSupplyEnabled) {
+            SupplyManager<Solution_> supplyManager = solverScope.getScoreDirector().getSupplyManager();
+            // Without sub pillars, the minimumSubPillarSize is -1
+            int minimumPillarSize = Math.max(subpillarConfigPolicy.getMinimumSubPillarSize(), 1);
+            pillarSupply = supplyManager.demand(new PillarDemand<>(variableDescriptors.get(0), minimumPillarSize));
+        }
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        pillarSupply = null;
+    }
+
     // ************************************************************************
     // Cache lifecycle methods
     // ************************************************************************
@@ -134,6 +166,11 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
 
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
+        if (pillarSupply != null) {
+            // Only reindexes the entities that changed since the previous step
+            cachedBasePillarList = pillarSupply.getPillarList();
+            return;
+        }
         long entitySize = entitySelector.getSize();
         if (entitySize > (long) Integer.MAX_VALUE) {
             throw new IllegalStateException("The selector (" + this + ") has an entitySelector ("
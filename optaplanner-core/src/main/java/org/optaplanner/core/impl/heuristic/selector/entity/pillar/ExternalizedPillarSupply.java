@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+
+/**
+ * A notification only marks its entity dirty, because most notifications are undone by the undo move
+ * before the step ends, and because a pillar that a move references must not change.
+ * The dirty entities are reindexed by {@link #getPillarList()}, which a selector calls at the start of each step.
+ */
+public class ExternalizedPillarSupply<Solution_> implements SourcedVariableListener<Solution_, Object>, PillarSupply {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+    protected final int minimumPillarSize;
+
+    /** The value of each entity when it was last indexed. */
+    protected Map<Object, Object> entityToValueMap = null;
+    /** Every pillar, also those lower than the minimumPillarSize. */
+    protected Map<Object, List<Object>> valueToPillarMap = null;
+    /** Only the pillars with at least the minimumPillarSize. */
+    protected List<List<Object>> pillarList = null;
+    protected Map<List<Object>, Integer> pillarIndexMap = null;
+
+    protected List<Object> dirtyEntityList = null;
+    protected Set<Object> dirtyEntitySet = null;
+    protected Set<Object> removedEntitySet = null;
+
+    public ExternalizedPillarSupply(VariableDescriptor<Solution_> sourceVariableDescriptor, int minimumPillarSize) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+        this.minimumPillarSize = minimumPillarSize;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        EntityDescriptor<Solution_> entityDescriptor = sourceVariableDescriptor.getEntityDescriptor();
+        List<Object> entityList = entityDescriptor.extractEntities(scoreDirector.getWorkingSolution());
+        entityToValueMap = new IdentityHashMap<>(entityList.size());
+        // Insertion ordered, so the pillars are ordered like the entities, as if they were built from scratch
+        valueToPillarMap = new LinkedHashMap<>();
+        for (Object entity : entityList) {
+            Object value = sourceVariableDescriptor.getValue(entity);
+            entityToValueMap.put(entity, value);
+            valueToPillarMap.computeIfAbsent(value, k -> new ArrayList<>()).add(entity);
+        }
+        pillarList = new ArrayList<>(valueToPillarMap.size());
+        pillarIndexMap = new IdentityHashMap<>(valueToPillarMap.size());
+        for (List<Object> pillar : valueToPillarMap.values()) {
+            if (pillar.size() >= minimumPillarSize) {
+                pillarIndexMap.put(pillar, pillarList.size());
+                pillarList.add(pillar);
+            }
+        }
+        dirtyEntityList = new ArrayList<>();
+        dirtyEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public void close() {
+        entityToValueMap = null;
+        valueToPillarMap = null;
+        pillarList = null;
+        pillarIndexMap = null;
+        dirtyEntityList = null;
+        dirtyEntitySet = null;
+        removedEntitySet = null;
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        removedEntitySet.remove(entity);
+        markDirty(entity);
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        markDirty(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        removedEntitySet.add(entity);
+        markDirty(entity);
+    }
+
+    protected void markDirty(Object entity) {
+        if (dirtyEntitySet.add(entity)) {
+            dirtyEntityList.add(entity);
+        }
+    }
+
+    @Override
+    public List<List<Object>> getPillarList() {
+        if (!dirtyEntityList.isEmpty()) {
+            reindexDirtyEntities();
+        }
+        return Collections.unmodifiableList(pillarList);
+    }
+
+    protected void reindexDirtyEntities() {
+        // Gather the changes per pillar first, so each changed pillar is copied only once
+        Map<Object, PillarChange> valueToPillarChangeMap = new LinkedHashMap<>();
+        for (Object entity : dirtyEntityList) {
+            boolean wasIndexed = entityToValueMap.containsKey(entity);
+            Object oldValue = entityToValueMap.get(entity);
+            boolean removed = removedEntitySet.contains(entity);
+            Object newValue = removed ? null : sourceVariableDescriptor.getValue(entity);
+            if (wasIndexed && !removed && Objects.equals(oldValue, newValue)) {
+                // Changed and changed back, for example by an undo move
+                continue;
+            }
+            if (wasIndexed) {
+                valueToPillarChangeMap.computeIfAbsent(oldValue, k -> new PillarChange())
+                        .removedEntitySet.add(entity);
+                entityToValueMap.remove(entity);
+            }
+            if (!removed) {
+                valueToPillarChangeMap.computeIfAbsent(newValue, k -> new PillarChange())
+                        .addedEntityList.add(entity);
+                entityToValueMap.put(entity, newValue);
+            }
+        }
+        valueToPillarChangeMap.forEach(this::applyPillarChange);
+        dirtyEntityList.clear();
+        dirtyEntitySet.clear();
+        removedEntitySet.clear();
+    }
+
+    protected void applyPillarChange(Object value, PillarChange pillarChange) {
+        List<Object> oldPillar = valueToPillarMap.get(value);
+        List<Object> newPillar;
+        if (oldPillar == null) {
+            newPillar = pillarChange.addedEntityList;
+        } else {
+            // Copy on write, because a move can still reference the old pillar
+            newPillar = new ArrayList<>(oldPillar.size() + pillarChange.addedEntityList.size());
+            for (Object entity : oldPillar) {
+                if (!pillarChange.removedEntitySet.contains(entity)) {
+                    newPillar.add(entity);
+                }
+            }
+            newPillar.addAll(pillarChange.addedEntityList);
+        }
+        Integer oldIndex = oldPillar == null ? null : pillarIndexMap.remove(oldPillar);
+        boolean newEligible = !newPillar.isEmpty() && newPillar.size() >= minimumPillarSize;
+        if (newPillar.isEmpty()) {
+            valueToPillarMap.remove(value);
+        } else {
+            valueToPillarMap.put(value, newPillar);
+        }
+        if (oldIndex != null) {
+            if (newEligible) {
+                // Replace in place, so the other pillars keep their index
+                pillarList.set(oldIndex, newPillar);
+                pillarIndexMap.put(newPillar, oldIndex);
+            } else {
+                removePillar(oldIndex);
+            }
+        } else if (newEligible) {
+            pillarIndexMap.put(newPillar, pillarList.size());
+            pillarList.add(newPillar);
+        }
+    }
+
+    private void removePillar(int index) {
+        // Move the last pillar into the gap, so removal is O(1)
+        int lastIndex = pillarList.size() - 1;
+        List<Object> lastPillar = pillarList.remove(lastIndex);
+        if (index != lastIndex) {
+            pillarList.set(index, lastPillar);
+            pillarIndexMap.put(lastPillar, index);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+    protected static class PillarChange {
+
+        private final Set<Object> removedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<Object> addedEntityList = new ArrayList<>();
+
+    }
+
+}
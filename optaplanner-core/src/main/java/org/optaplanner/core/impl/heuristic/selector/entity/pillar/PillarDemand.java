@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+public class PillarDemand<Solution_> implements Demand<Solution_, PillarSupply> {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+    protected final int minimumPillarSize;
+
+    public PillarDemand(VariableDescriptor<Solution_> sourceVariableDescriptor, int minimumPillarSize) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+        this.minimumPillarSize = minimumPillarSize;
+    }
+
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    public int getMinimumPillarSize() {
+        return minimumPillarSize;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public PillarSupply createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new ExternalizedPillarSupply<>(sourceVariableDescriptor, minimumPillarSize);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PillarDemand)) {
+            return false;
+        }
+        PillarDemand<Solution_> other = (PillarDemand<Solution_>) o;
+        if (!sourceVariableDescriptor.equals(other.sourceVariableDescriptor)) {
+            return false;
+        }
+        return minimumPillarSize == other.minimumPillarSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(PillarDemand.class.getName(), sourceVariableDescriptor, minimumPillarSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName()
+                + ", " + minimumPillarSize + ")";
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Groups the entities by the value of a single genuine planning variable,
+ * kept up to date by variable listener notifications instead of being rebuilt every step.
+ * <p>
+ * To get an instance, demand a {@link PillarDemand} from {@link InnerScoreDirector#getSupplyManager()}.
+ */
+public interface PillarSupply extends Supply {
+
+    /**
+     * Applies the variable changes notified since the last call first,
+     * so it costs O(changed entities + size of the changed pillars), not O(entities).
+     * A pillar that is returned is never changed afterwards, so moves can keep a reference to it:
+     * a pillar that changes is replaced by a new {@link List} instance.
+     * @return never null, every pillar with at least the minimum pillar size of its {@link PillarDemand},
+     * in no particular order, only valid until the next call
+     */
+    List<List<Object>> getPillarList();
+
+}
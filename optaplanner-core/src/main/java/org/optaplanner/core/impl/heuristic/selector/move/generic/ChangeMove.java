@@ -34,6 +34,8 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
     protected final Object entity;
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
     protected final Object toPlanningValue;
+    /** The value before the last {@link #doMoveUndoableInPlace(ScoreDirector)}, null otherwise. */
+    protected Object undoPlanningValue = null;
 
     public ChangeMove(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
             Object toPlanningValue) {
@@ -72,9 +74,32 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        changeValue(scoreDirector, toPlanningValue);
+    }
+
+    @Override
+    public boolean isUndoableInPlace() {
+        // A subclass that changes more than the entity must revert that too
+        return getClass() == ChangeMove.class;
+    }
+
+    @Override
+    protected void rememberUndoState(ScoreDirector<Solution_> scoreDirector) {
+        undoPlanningValue = variableDescriptor.getValue(entity);
+    }
+
+    @Override
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        Object undoValue = undoPlanningValue;
+        // Don't keep the value from being garbage collected
+        undoPlanningValue = null;
+        changeValue(scoreDirector, undoValue);
+    }
+
+    private void changeValue(ScoreDirector<Solution_> scoreDirector, Object value) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         innerScoreDirector.beforeVariableChanged(variableDescriptor, entity);
-        variableDescriptor.setValue(entity, toPlanningValue);
+        variableDescriptor.setValue(entity, value);
         innerScoreDirector.afterVariableChanged(variableDescriptor, entity);
     }
 
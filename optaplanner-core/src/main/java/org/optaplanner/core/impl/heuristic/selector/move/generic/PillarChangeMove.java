@@ -41,6 +41,8 @@ public class PillarChangeMove<Solution_> extends AbstractMove<Solution_> {
 
     protected final List<Object> pillar;
     protected final Object toPlanningValue;
+    /** The value before the last {@link #doMoveUndoableInPlace(ScoreDirector)}, null otherwise. */
+    protected Object undoPlanningValue = null;
 
     public PillarChangeMove(List<Object> pillar, GenuineVariableDescriptor<Solution_> variableDescriptor,
             Object toPlanningValue) {
@@ -92,10 +94,31 @@ public class PillarChangeMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        changeValue(scoreDirector, toPlanningValue);
+    }
+
+    @Override
+    public boolean isUndoableInPlace() {
+        return getClass() == PillarChangeMove.class;
+    }
+
+    @Override
+    protected void rememberUndoState(ScoreDirector<Solution_> scoreDirector) {
+        undoPlanningValue = variableDescriptor.getValue(pillar.get(0));
+    }
+
+    @Override
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        Object undoValue = undoPlanningValue;
+        undoPlanningValue = null;
+        changeValue(scoreDirector, undoValue);
+    }
+
+    private void changeValue(ScoreDirector<Solution_> scoreDirector, Object value) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         for (Object entity : pillar) {
             innerScoreDirector.beforeVariableChanged(variableDescriptor, entity);
-            variableDescriptor.setValue(entity, toPlanningValue);
+            variableDescriptor.setValue(entity, value);
             innerScoreDirector.afterVariableChanged(variableDescriptor, entity);
         }
     }
@@ -105,20 +105,36 @@ public class PillarSwapMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        swapValues(scoreDirector, leftPillar, rightPillar);
+    }
+
+    @Override
+    public boolean isUndoableInPlace() {
+        return getClass() == PillarSwapMove.class;
+    }
+
+    @Override
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        // Swapping again reverts it, like the undo move of createUndoMove()
+        swapValues(scoreDirector, rightPillar, leftPillar);
+    }
+
+    private void swapValues(ScoreDirector<Solution_> scoreDirector, List<Object> firstPillar,
+            List<Object> secondPillar) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
-            Object oldLeftValue = variableDescriptor.getValue(leftPillar.get(0));
-            Object oldRightValue = variableDescriptor.getValue(rightPillar.get(0));
-            if (!Objects.equals(oldLeftValue, oldRightValue)) {
-                for (Object leftEntity : leftPillar) {
-                    innerScoreDirector.beforeVariableChanged(variableDescriptor, leftEntity);
-                    variableDescriptor.setValue(leftEntity, oldRightValue);
-                    innerScoreDirector.afterVariableChanged(variableDescriptor, leftEntity);
+            Object oldFirstValue = variableDescriptor.getValue(firstPillar.get(0));
+            Object oldSecondValue = variableDescriptor.getValue(secondPillar.get(0));
+            if (!Objects.equals(oldFirstValue, oldSecondValue)) {
+                for (Object firstEntity : firstPillar) {
+                    innerScoreDirector.beforeVariableChanged(variableDescriptor, firstEntity);
+                    variableDescriptor.setValue(firstEntity, oldSecondValue);
+                    innerScoreDirector.afterVariableChanged(variableDescriptor, firstEntity);
                 }
-                for (Object rightEntity : rightPillar) {
-                    innerScoreDirector.beforeVariableChanged(variableDescriptor, rightEntity);
-                    variableDescriptor.setValue(rightEntity, oldLeftValue);
-                    innerScoreDirector.afterVariableChanged(variableDescriptor, rightEntity);
+                for (Object secondEntity : secondPillar) {
+                    innerScoreDirector.beforeVariableChanged(variableDescriptor, secondEntity);
+                    variableDescriptor.setValue(secondEntity, oldFirstValue);
+                    innerScoreDirector.afterVariableChanged(variableDescriptor, secondEntity);
                 }
             }
         }
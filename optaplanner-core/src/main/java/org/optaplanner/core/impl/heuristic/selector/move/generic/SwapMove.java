@@ -105,17 +105,33 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        swapValues(scoreDirector, leftEntity, rightEntity);
+    }
+
+    @Override
+    public boolean isUndoableInPlace() {
+        // A subclass that changes more than both entities must revert that too
+        return getClass() == SwapMove.class;
+    }
+
+    @Override
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        // Swapping again reverts it, like the undo move of createUndoMove()
+        swapValues(scoreDirector, rightEntity, leftEntity);
+    }
+
+    private void swapValues(ScoreDirector<Solution_> scoreDirector, Object firstEntity, Object secondEntity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptorList) {
-            Object oldLeftValue = variableDescriptor.getValue(leftEntity);
-            Object oldRightValue = variableDescriptor.getValue(rightEntity);
-            if (!Objects.equals(oldLeftValue, oldRightValue)) {
-                innerScoreDirector.beforeVariableChanged(variableDescriptor, leftEntity);
-                variableDescriptor.setValue(leftEntity, oldRightValue);
-                innerScoreDirector.afterVariableChanged(variableDescriptor, leftEntity);
-                innerScoreDirector.beforeVariableChanged(variableDescriptor, rightEntity);
-                variableDescriptor.setValue(rightEntity, oldLeftValue);
-                innerScoreDirector.afterVariableChanged(variableDescriptor, rightEntity);
+            Object oldFirstValue = variableDescriptor.getValue(firstEntity);
+            Object oldSecondValue = variableDescriptor.getValue(secondEntity);
+            if (!Objects.equals(oldFirstValue, oldSecondValue)) {
+                innerScoreDirector.beforeVariableChanged(variableDescriptor, firstEntity);
+                variableDescriptor.setValue(firstEntity, oldSecondValue);
+                innerScoreDirector.afterVariableChanged(variableDescriptor, firstEntity);
+                innerScoreDirector.beforeVariableChanged(variableDescriptor, secondEntity);
+                variableDescriptor.setValue(secondEntity, oldFirstValue);
+                innerScoreDirector.afterVariableChanged(variableDescriptor, secondEntity);
             }
         }
     }
@@ -66,17 +66,35 @@ public class ChainedChangeMove<Solution_> extends ChangeMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        changeChainedValue(scoreDirector, toPlanningValue, oldTrailingEntity, newTrailingEntity);
+    }
+
+    @Override
+    public boolean isUndoableInPlace() {
+        return getClass() == ChainedChangeMove.class;
+    }
+
+    @Override
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        Object undoValue = undoPlanningValue;
+        undoPlanningValue = null;
+        // Like the undo move of createUndoMove(), which swaps the trailing entities
+        changeChainedValue(scoreDirector, undoValue, newTrailingEntity, oldTrailingEntity);
+    }
+
+    private void changeChainedValue(ScoreDirector<Solution_> scoreDirector, Object value,
+            Object closedTrailingEntity, Object reroutedTrailingEntity) {
         InnerScoreDirector<Solution_, ?> innerScoreDirector = (InnerScoreDirector<Solution_, ?>) scoreDirector;
         Object oldValue = variableDescriptor.getValue(entity);
         // Close the old chain
-        if (oldTrailingEntity != null) {
-            innerScoreDirector.changeVariableFacade(variableDescriptor, oldTrailingEntity, oldValue);
+        if (closedTrailingEntity != null) {
+            innerScoreDirector.changeVariableFacade(variableDescriptor, closedTrailingEntity, oldValue);
         }
         // Change the entity
-        innerScoreDirector.changeVariableFacade(variableDescriptor, entity, toPlanningValue);
+        innerScoreDirector.changeVariableFacade(variableDescriptor, entity, value);
         // Reroute the new chain
-        if (newTrailingEntity != null) {
-            innerScoreDirector.changeVariableFacade(variableDescriptor, newTrailingEntity, entity);
+        if (reroutedTrailingEntity != null) {
+            innerScoreDirector.changeVariableFacade(variableDescriptor, reroutedTrailingEntity, entity);
         }
     }
 
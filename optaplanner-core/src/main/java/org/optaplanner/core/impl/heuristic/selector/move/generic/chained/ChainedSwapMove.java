@@ -67,6 +67,24 @@ public class ChainedSwapMove<Solution_> extends SwapMove<Solution_> {
 
     @Override
     protected void doMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        swapChainedValues(scoreDirector, leftEntity, rightEntity,
+                oldLeftTrailingEntityList, oldRightTrailingEntityList);
+    }
+
+    @Override
+    public boolean isUndoableInPlace() {
+        return getClass() == ChainedSwapMove.class;
+    }
+
+    @Override
+    protected void undoMoveOnGenuineVariables(ScoreDirector<Solution_> scoreDirector) {
+        // Like the undo move of createUndoMove(), which swaps the entities but not the trailing entity lists
+        swapChainedValues(scoreDirector, rightEntity, leftEntity,
+                oldLeftTrailingEntityList, oldRightTrailingEntityList);
+    }
+
+    private void swapChainedValues(ScoreDirector<Solution_> scoreDirector, Object leftEntity, Object rightEntity,
+            List<Object> oldLeftTrailingEntityList, List<Object> oldRightTrailingEntityList) {
         for (int i = 0; i < variableDescriptorList.size(); i++) {
             GenuineVariableDescriptor<Solution_> variableDescriptor = variableDescriptorList.get(i);
             Object oldLeftValue = variableDescriptor.getValue(leftEntity);
@@ -37,12 +37,29 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero;
+    protected final Integer nearbyDistanceMatrixSizeMaximum;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
     public NearEntityNearbyValueSelector(ValueSelector<Solution_> childValueSelector,
             EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
             NearbyRandom nearbyRandom, boolean randomSelection) {
+        this(childValueSelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom, randomSelection, null);
+    }
+
+    /**
+     * @param childValueSelector never null
+     * @param originEntitySelector never null
+     * @param nearbyDistanceMeter never null
+     * @param nearbyRandom null if not randomSelection
+     * @param randomSelection true if the nearby values are selected randomly
+     * @param nearbyDistanceMatrixSizeMaximum null if derived from the nearbyRandom,
+     * otherwise the number of nearest values that are computed first for each origin
+     */
+    public NearEntityNearbyValueSelector(ValueSelector<Solution_> childValueSelector,
+            EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, Integer nearbyDistanceMatrixSizeMaximum) {
+        this.nearbyDistanceMatrixSizeMaximum = nearbyDistanceMatrixSizeMaximum;
         this.childValueSelector = childValueSelector;
         if (!(originEntitySelector instanceof MimicReplayingEntitySelector)) {
             // In order to select a nearby value, we must first have something to be near by.
@@ -78,28 +95,43 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
                     + ") has an entitySize (" + originSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize);
-        for (Iterator<Object> originIt = replayingOriginEntitySelector.endingIterator(); originIt.hasNext();) {
-            final Object origin = originIt.next();
-            long childSize = childValueSelector.getSize(origin);
-            if (childSize > (long) Integer.MAX_VALUE) {
-                throw new IllegalStateException("The childEntitySelector (" + childValueSelector
-                        + ") has an entitySize (" + childSize
-                        + ") which is higher than Integer.MAX_VALUE.");
+        // Lazily, so only the origins that are selected are computed, and only their nearest values
+        nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
+                childValueSelector::endingIterator, this::calculateDestinationSize,
+                this::calculateInitialDestinationSize,
+                childValueSelector.getVariableDescriptor().isValueRangeEntityIndependent());
+    }
+
+    private int calculateDestinationSize(Object origin) {
+        long childSize = childValueSelector.getSize(origin);
+        if (childSize > (long) Integer.MAX_VALUE) {
+            throw new IllegalStateException("The childEntitySelector (" + childValueSelector
+                    + ") has an entitySize (" + childSize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        int destinationSize = (int) childSize;
+        if (randomSelection) {
+            // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
+            int overallSizeMaximum = nearbyRandom.getOverallSizeMaximum();
+            if (discardNearbyIndexZero && overallSizeMaximum < Integer.MAX_VALUE) {
+                overallSizeMaximum++;
             }
-            int destinationSize = (int) childSize;
-            if (randomSelection) {
-                // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
-                int overallSizeMaximum = nearbyRandom.getOverallSizeMaximum();
-                if (discardNearbyIndexZero && overallSizeMaximum < Integer.MAX_VALUE) {
-                    overallSizeMaximum++;
-                }
-                if (destinationSize > overallSizeMaximum) {
-                    destinationSize = overallSizeMaximum;
-                }
+            if (destinationSize > overallSizeMaximum) {
+                destinationSize = overallSizeMaximum;
             }
-            nearbyDistanceMatrix.addAllDestinations(origin, childValueSelector.endingIterator(origin), destinationSize);
         }
+        return destinationSize;
+    }
+
+    private int calculateInitialDestinationSize(int destinationSize) {
+        if (nearbyDistanceMatrixSizeMaximum != null) {
+            return Math.min(nearbyDistanceMatrixSizeMaximum, destinationSize);
+        }
+        if (!randomSelection) {
+            return destinationSize;
+        }
+        int discardedSize = discardNearbyIndexZero ? 1 : 0;
+        return nearbyRandom.getEffectiveSizeMaximum(Math.max(destinationSize - discardedSize, 0)) + discardedSize;
     }
 
     @Override
@@ -16,6 +16,12 @@
 
 package org.optaplanner.core.impl.localsearch.decider;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -36,6 +42,12 @@ import org.slf4j.LoggerFactory;
  */
 public class LocalSearchDecider<Solution_> {
 
+    /**
+     * The number of doable moves that are submitted to the score director at once,
+     * so it can amortize the work that consecutive moves have in common.
+     */
+    protected static final int MOVE_BATCH_SIZE = 16;
+
     protected final transient Logger logger = LoggerFactory.getLogger(getClass());
 
     protected final String logIndentation;
@@ -47,6 +59,11 @@ public class LocalSearchDecider<Solution_> {
     protected boolean assertMoveScoreFromScratch = false;
     protected boolean assertExpectedUndoMoveScore = false;
 
+    // Reused for every batch, so submitting a batch doesn't allocate
+    private final List<LocalSearchMoveScope<Solution_>> moveScopeBatch = new ArrayList<>(MOVE_BATCH_SIZE);
+    private final List<Move<Solution_>> moveBatch = new ArrayList<>(MOVE_BATCH_SIZE);
+    private final MoveBatchProcessor<?> moveBatchProcessor = new MoveBatchProcessor<>();
+
     public LocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager) {
         this.logIndentation = logIndentation;
@@ -105,6 +122,9 @@ public class LocalSearchDecider<Solution_> {
     public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
         InnerScoreDirector<Solution_, ?> scoreDirector = stepScope.getScoreDirector();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        // The expected undo move score is asserted after each move, so those moves can't be batched
+        int moveBatchSize = assertExpectedUndoMoveScore ? 1 : MOVE_BATCH_SIZE;
+        boolean proceeding = true;
         int moveIndex = 0;
         for (Move<Solution_> move : moveSelector) {
             LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, moveIndex, move);
@@ -113,37 +133,54 @@ public class LocalSearchDecider<Solution_> {
             if (!move.isMoveDoable(scoreDirector)) {
                 logger.trace("{}        Move index ({}) not doable, ignoring move ({}).",
                         logIndentation, moveScope.getMoveIndex(), move);
-            } else {
-                doMove(moveScope);
-                if (forager.isQuitEarly()) {
+                stepScope.getPhaseScope().getSolverScope().checkYielding();
+                if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+                    // The pending batch was selected before this move, so it's still evaluated below,
+                    // which stops after its first move because the phase terminated
                     break;
                 }
+            } else {
+                moveScopeBatch.add(moveScope);
+                if (moveScopeBatch.size() >= moveBatchSize) {
+                    proceeding = doMoves(stepScope);
+                    if (!proceeding) {
+                        break;
+                    }
+                }
             }
-            stepScope.getPhaseScope().getSolverScope().checkYielding();
-            if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
-                break;
-            }
         }
+        if (proceeding && !moveScopeBatch.isEmpty()) {
+            doMoves(stepScope);
+        }
+        moveScopeBatch.clear();
         scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
         pickMove(stepScope);
     }
 
-    protected <Score_ extends Score<Score_>> void doMove(LocalSearchMoveScope<Solution_> moveScope) {
-        InnerScoreDirector<Solution_, Score_> scoreDirector = moveScope.getScoreDirector();
-        scoreDirector.doAndProcessMove(moveScope.getMove(), assertMoveScoreFromScratch, score -> {
-            moveScope.setScore(score);
-            boolean accepted = acceptor.isAccepted(moveScope);
-            moveScope.setAccepted(accepted);
-            forager.addMove(moveScope);
-        });
+    /**
+     * Evaluates the doable moves of {@link #moveScopeBatch} in order and empties it.
+     *
+     * @param stepScope never null
+     * @return false if the forager quit early or the phase terminated, so no more moves should be evaluated
+     */
+    protected <Score_ extends Score<Score_>> boolean doMoves(LocalSearchStepScope<Solution_> stepScope) {
+        InnerScoreDirector<Solution_, Score_> scoreDirector = stepScope.getScoreDirector();
+        for (LocalSearchMoveScope<Solution_> moveScope : moveScopeBatch) {
+            moveBatch.add(moveScope.getMove());
+        }
+        MoveBatchProcessor<Score_> processor = (MoveBatchProcessor<Score_>) moveBatchProcessor;
+        processor.reset(stepScope);
+        // The score director passes a packed score instead of a Score if it can
+        boolean proceeding = scoreDirector.doAndProcessMoves(moveBatch, assertMoveScoreFromScratch,
+                processor, processor.packedScoreProcessor, processor);
         if (assertExpectedUndoMoveScore) {
-            scoreDirector.assertExpectedUndoMoveScore(moveScope.getMove(),
-                    (Score_) moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore());
+            // Each batch has only 1 move
+            scoreDirector.assertExpectedUndoMoveScore(moveScopeBatch.get(0).getMove(),
+                    (Score_) stepScope.getPhaseScope().getLastCompletedStepScope().getScore());
         }
-        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
-                logIndentation,
-                moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
-                moveScope.getMove());
+        moveBatch.clear();
+        moveScopeBatch.clear();
+        return proceeding;
     }
 
     protected void pickMove(LocalSearchStepScope<Solution_> stepScope) {
@@ -176,4 +213,61 @@ public class LocalSearchDecider<Solution_> {
         forager.solvingEnded(solverScope);
     }
 
+    /**
+     * Processes the scores of {@link #moveScopeBatch} while each move is done,
+     * but only checks yielding and termination after that move is undone.
+     * A packed score is kept packed, so only the picked move and the moves that need it create a {@link Score}.
+     * Reused for every batch.
+     */
+    private final class MoveBatchProcessor<Score_ extends Score<Score_>>
+            implements Predicate<Score_>, BooleanSupplier {
+
+        // A separate instance, because LongPredicate and Predicate can't be implemented by the same class
+        private final LongPredicate packedScoreProcessor = this::testPackedScore;
+
+        private LocalSearchStepScope<Solution_> stepScope = null;
+        private int moveScopeIndex = 0;
+
+        private void reset(LocalSearchStepScope<Solution_> stepScope) {
+            this.stepScope = stepScope;
+            moveScopeIndex = 0;
+        }
+
+        @Override
+        public boolean test(Score_ score) {
+            LocalSearchMoveScope<Solution_> moveScope = moveScopeBatch.get(moveScopeIndex);
+            moveScopeIndex++;
+            moveScope.setScore(score);
+            return processMove(moveScope);
+        }
+
+        private boolean testPackedScore(long packedScore) {
+            LocalSearchMoveScope<Solution_> moveScope = moveScopeBatch.get(moveScopeIndex);
+            moveScopeIndex++;
+            moveScope.setPackedScore(packedScore);
+            return processMove(moveScope);
+        }
+
+        private boolean processMove(LocalSearchMoveScope<Solution_> moveScope) {
+            boolean accepted = acceptor.isAccepted(moveScope);
+            moveScope.setAccepted(accepted);
+            forager.addMove(moveScope);
+            if (logger.isTraceEnabled()) {
+                // Creates the Score of a packed score
+                logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                        logIndentation,
+                        moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(),
+                        moveScope.getMove());
+            }
+            return !forager.isQuitEarly();
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            stepScope.getPhaseScope().getSolverScope().checkYielding();
+            return !termination.isPhaseTerminated(stepScope.getPhaseScope());
+        }
+
+    }
+
 }
@@ -21,6 +21,7 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -30,6 +31,13 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     protected Score[] previousScores;
     protected int lateScoreIndex = -1;
 
+    // Packed scores are compared to a packed move score, so that move doesn't create its Score
+    protected ScoreDefinition scoreDefinition;
+    protected boolean[] previousScoresPacked;
+    protected long[] previousPackedScores;
+    protected boolean lastStepScorePacked;
+    protected long lastStepPackedScore;
+
     public void setLateAcceptanceSize(int lateAcceptanceSize) {
         this.lateAcceptanceSize = lateAcceptanceSize;
     }
@@ -46,14 +54,28 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         validate();
+        scoreDefinition = phaseScope.getScoreDefinition();
         previousScores = new Score[lateAcceptanceSize];
+        previousScoresPacked = new boolean[lateAcceptanceSize];
+        previousPackedScores = new long[lateAcceptanceSize];
         Score initialScore = phaseScope.getBestScore();
         for (int i = 0; i < previousScores.length; i++) {
-            previousScores[i] = initialScore;
+            setPreviousScore(i, initialScore);
         }
         lateScoreIndex = 0;
     }
 
+    private void setPreviousScore(int index, Score score) {
+        previousScores[index] = score;
+        previousScoresPacked[index] = isPackable(score);
+        previousPackedScores[index] = previousScoresPacked[index] ? scoreDefinition.packScore(score) : 0L;
+    }
+
+    private boolean isPackable(Score score) {
+        // A packed score has no init score
+        return score.isSolutionInitialized() && scoreDefinition.isPackable(score);
+    }
+
     private void validate() {
         if (lateAcceptanceSize <= 0) {
             throw new IllegalArgumentException("The lateAcceptanceSize (" + lateAcceptanceSize
@@ -63,31 +85,45 @@ public class LateAcceptanceAcceptor<Solution_> extends AbstractAcceptor<Solution
 
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
-        Score moveScore = moveScope.getScore();
-        Score lateScore = previousScores[lateScoreIndex];
-        if (moveScore.compareTo(lateScore) >= 0) {
+        if (moveScope.isScorePacked() && previousScoresPacked[lateScoreIndex]) {
+            if (moveScope.getPackedScore() >= previousPackedScores[lateScoreIndex]) {
+                return true;
+            }
+        } else if (((Score) moveScope.getScore()).compareTo(previousScores[lateScoreIndex]) >= 0) {
             return true;
         }
         if (hillClimbingEnabled) {
-            Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
-            if (moveScore.compareTo(lastStepScore) >= 0) {
-                return true;
+            if (moveScope.isScorePacked() && lastStepScorePacked) {
+                return moveScope.getPackedScore() >= lastStepPackedScore;
             }
+            Score lastStepScore = moveScope.getStepScope().getPhaseScope().getLastCompletedStepScope().getScore();
+            return ((Score) moveScope.getScore()).compareTo(lastStepScore) >= 0;
         }
         return false;
     }
 
+    @Override
+    public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        lastStepScorePacked = isPackable(lastStepScore);
+        lastStepPackedScore = lastStepScorePacked ? scoreDefinition.packScore(lastStepScore) : 0L;
+    }
+
     @Override
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
-        previousScores[lateScoreIndex] = stepScope.getScore();
+        setPreviousScore(lateScoreIndex, stepScope.getScore());
         lateScoreIndex = (lateScoreIndex + 1) % lateAcceptanceSize;
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
+        scoreDefinition = null;
         previousScores = null;
+        previousScoresPacked = null;
+        previousPackedScores = null;
         lateScoreIndex = -1;
     }
 
@@ -22,9 +22,18 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 import org.optaplanner.core.impl.score.ScoreUtils;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 /**
  * The time gradient implementation of simulated annealing.
+ * <p>
+ * The score difference between a move and the last step is calculated per level on doubles,
+ * to avoid creating a {@link Score} for every move.
+ * A packed move score is compared and subtracted without creating its {@link Score} at all,
+ * see {@link ScoreDefinition#packScore(Score)}.
+ * A double only represents integers exactly up to 2^53,
+ * so if a level of either score is larger than that in absolute value,
+ * the difference is calculated exactly with {@link Score#subtract(Score)} instead.
  */
 public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solution_> {
 
@@ -36,6 +45,15 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
     protected double[] temperatureLevels;
 
     protected double temperatureMinimum = 1.0E-100; // Double.MIN_NORMAL is E-308
+    // From this absolute value on, a long level doesn't fit in a double without losing precision
+    protected static final double EXACT_DOUBLE_LIMIT = 0x1.0p53;
+
+    protected ScoreDefinition scoreDefinition;
+    // Reused for every move, so comparing a move doesn't create a Score for the difference or box its levels
+    protected double[] lastStepScoreLevels;
+    protected double[] moveScoreLevels;
+    protected boolean lastStepScorePacked;
+    protected long lastStepPackedScore;
 
     public void setStartingTemperature(Score startingTemperature) {
         this.startingTemperature = startingTemperature;
@@ -57,6 +75,9 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         startingTemperatureLevels = ScoreUtils.extractLevelDoubles(startingTemperature);
         temperatureLevels = startingTemperatureLevels;
         levelsLength = startingTemperatureLevels.length;
+        scoreDefinition = phaseScope.getScoreDefinition();
+        lastStepScoreLevels = new double[scoreDefinition.getLevelsSize()];
+        moveScoreLevels = new double[scoreDefinition.getLevelsSize()];
     }
 
     @Override
@@ -65,21 +86,39 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         startingTemperatureLevels = null;
         temperatureLevels = null;
         levelsLength = -1;
+        scoreDefinition = null;
+        lastStepScoreLevels = null;
+        moveScoreLevels = null;
     }
 
     @Override
     public boolean isAccepted(LocalSearchMoveScope<Solution_> moveScope) {
         LocalSearchPhaseScope<Solution_> phaseScope = moveScope.getStepScope().getPhaseScope();
         Score lastStepScore = phaseScope.getLastCompletedStepScope().getScore();
-        Score moveScore = moveScope.getScore();
-        if (moveScore.compareTo(lastStepScore) >= 0) {
-            return true;
+        // The lastStepScoreLevels and lastStepPackedScore are extracted once per step in stepStarted()
+        if (moveScope.isScorePacked() && lastStepScorePacked) {
+            long movePackedScore = moveScope.getPackedScore();
+            if (movePackedScore >= lastStepPackedScore) {
+                return true;
+            }
+            scoreDefinition.extractPackedLevelDoubles(movePackedScore, moveScoreLevels);
+        } else {
+            Score moveScore = moveScope.getScore();
+            if (moveScore.compareTo(lastStepScore) >= 0) {
+                return true;
+            }
+            scoreDefinition.extractLevelDoubles(moveScore, moveScoreLevels);
+        }
+        boolean exactDifference = exceedsExactDoubleLimit(lastStepScoreLevels)
+                || exceedsExactDoubleLimit(moveScoreLevels);
+        if (exactDifference) {
+            // Reuse moveScoreLevels to hold the difference, calculated without rounding the levels first
+            scoreDefinition.extractLevelDoubles(lastStepScore.subtract(moveScope.getScore()), moveScoreLevels);
         }
-        Score moveScoreDifference = lastStepScore.subtract(moveScore);
-        double[] moveScoreDifferenceLevels = ScoreUtils.extractLevelDoubles(moveScoreDifference);
         double acceptChance = 1.0;
         for (int i = 0; i < levelsLength; i++) {
-            double moveScoreDifferenceLevel = moveScoreDifferenceLevels[i];
+            double moveScoreDifferenceLevel = exactDifference ? moveScoreLevels[i]
+                    : lastStepScoreLevels[i] - moveScoreLevels[i];
             double temperatureLevel = temperatureLevels[i];
             double acceptChanceLevel;
             if (moveScoreDifferenceLevel <= 0.0) {
@@ -97,9 +136,23 @@ public class SimulatedAnnealingAcceptor<Solution_> extends AbstractAcceptor<Solu
         }
     }
 
+    private static boolean exceedsExactDoubleLimit(double[] levels) {
+        for (double level : levels) {
+            if (Math.abs(level) >= EXACT_DOUBLE_LIMIT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
+        Score lastStepScore = stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        scoreDefinition.extractLevelDoubles(lastStepScore, lastStepScoreLevels);
+        // A packed score has no init score
+        lastStepScorePacked = lastStepScore.isSolutionInitialized() && scoreDefinition.isPackable(lastStepScore);
+        lastStepPackedScore = lastStepScorePacked ? scoreDefinition.packScore(lastStepScore) : 0L;
         // TimeGradient only refreshes at the beginning of a step, so this code is in stepStarted instead of stepEnded
         double timeGradient = stepScope.getTimeGradient();
         double reverseTimeGradient = 1.0 - timeGradient;
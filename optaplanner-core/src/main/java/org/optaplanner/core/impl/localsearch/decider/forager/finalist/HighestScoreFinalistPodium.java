@@ -29,11 +29,15 @@ import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
 public class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodium<Solution_> {
 
     protected Score finalistScore;
+    // If true, the finalistScore is null and the finalists are compared on their packed scores
+    protected boolean finalistScorePacked;
+    protected long finalistPackedScore;
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
         finalistScore = null;
+        finalistScorePacked = false;
     }
 
     @Override
@@ -45,28 +49,43 @@ public class HighestScoreFinalistPodium<Solution_> extends AbstractFinalistPodiu
         if (accepted && !finalistIsAccepted) {
             finalistIsAccepted = true;
             finalistScore = null;
+            finalistScorePacked = false;
         }
-        Score moveScore = moveScope.getScore();
-        int scoreComparison = doComparison(moveScore);
+        int scoreComparison = doComparison(moveScope);
         if (scoreComparison > 0) {
-            finalistScore = moveScore;
+            if (moveScope.isScorePacked()) {
+                finalistScore = null;
+                finalistScorePacked = true;
+                finalistPackedScore = moveScope.getPackedScore();
+            } else {
+                finalistScore = moveScope.getScore();
+                finalistScorePacked = false;
+            }
             clearAndAddFinalist(moveScope);
         } else if (scoreComparison == 0) {
             addFinalist(moveScope);
         }
     }
 
-    private int doComparison(Score moveScore) {
+    private int doComparison(LocalSearchMoveScope<Solution_> moveScope) {
+        if (finalistScorePacked) {
+            if (moveScope.isScorePacked()) {
+                return Long.compare(moveScope.getPackedScore(), finalistPackedScore);
+            }
+            // The first finalist has the finalist score
+            return ((Score) moveScope.getScore()).compareTo(finalistList.get(0).getScore());
+        }
         if (finalistScore == null) {
             return 1;
         }
-        return moveScore.compareTo(finalistScore);
+        return ((Score) moveScope.getScore()).compareTo(finalistScore);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         finalistScore = null;
+        finalistScorePacked = false;
     }
 
 }
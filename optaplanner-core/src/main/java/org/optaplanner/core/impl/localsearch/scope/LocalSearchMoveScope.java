@@ -17,8 +17,10 @@
 package org.optaplanner.core.impl.localsearch.scope;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.scope.AbstractMoveScope;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -28,6 +30,9 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
     private final LocalSearchStepScope<Solution_> stepScope;
 
     private Boolean accepted = null;
+    /** If true, {@link #score} is only created from {@link #packedScore} when {@link #getScore()} is called. */
+    private boolean scorePacked = false;
+    private long packedScore = 0L;
 
     public LocalSearchMoveScope(LocalSearchStepScope<Solution_> stepScope, int moveIndex, Move<Solution_> move) {
         super(moveIndex, move);
@@ -47,6 +52,55 @@ public class LocalSearchMoveScope<Solution_> extends AbstractMoveScope<Solution_
         this.accepted = accepted;
     }
 
+    /**
+     * Creates the {@link Score} from the packed score on the first call after {@link #setPackedScore(long)},
+     * so the acceptors and foragers that compare the packed score don't create it for every move.
+     *
+     * @return sometimes null
+     */
+    @Override
+    public <Score_ extends Score<Score_>> Score_ getScore() {
+        if (score == null && scorePacked) {
+            ScoreDefinition<Score_> scoreDefinition = stepScope.getPhaseScope().getScoreDefinition();
+            score = scoreDefinition.unpackScore(0, packedScore);
+        }
+        return (Score_) score;
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> void setScore(Score_ score) {
+        super.setScore(score);
+        scorePacked = false;
+    }
+
+    /**
+     * @return true if the score was set by {@link #setPackedScore(long)}
+     */
+    public boolean isScorePacked() {
+        return scorePacked;
+    }
+
+    /**
+     * @return the packed score, see {@link ScoreDefinition#packScore(Score)}
+     * @throws IllegalStateException if {@link #isScorePacked()} is false
+     */
+    public long getPackedScore() {
+        if (!scorePacked) {
+            throw new IllegalStateException("Impossible state: the moveScope (" + this
+                    + ") has no packedScore, only a score (" + score + ").");
+        }
+        return packedScore;
+    }
+
+    /**
+     * @param packedScore the score of a move with init score 0, see {@link ScoreDefinition#packScore(Score)}
+     */
+    public void setPackedScore(long packedScore) {
+        this.packedScore = packedScore;
+        scorePacked = true;
+        score = null;
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
@@ -20,7 +20,9 @@ import static java.util.Comparator.comparing;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
@@ -114,13 +116,23 @@ public final class DefaultScoreExplanation<Solution_, Score_ extends Score<Score
         return scoreExplanation.toString();
     }
 
+    /**
+     * Copies both maps, so later changes to the maps of the score director don't affect this explanation.
+     * The {@link ConstraintMatchTotal} and {@link Indictment} instances themselves aren't copied,
+     * so the score director that produced them must not change them anymore, for example because it's closed.
+     * @param solution never null
+     * @param score never null
+     * @param constraintMatchTotalMap never null
+     * @param indictmentMap never null
+     */
     public DefaultScoreExplanation(Solution_ solution, Score_ score,
             Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap,
             Map<Object, Indictment<Score_>> indictmentMap) {
         this.solution = solution;
         this.score = requireNonNull(score);
-        this.constraintMatchTotalMap = requireNonNull(constraintMatchTotalMap);
-        this.indictmentMap = requireNonNull(indictmentMap);
+        this.constraintMatchTotalMap = Collections.unmodifiableMap(
+                new LinkedHashMap<>(requireNonNull(constraintMatchTotalMap)));
+        this.indictmentMap = Collections.unmodifiableMap(new LinkedHashMap<>(requireNonNull(indictmentMap)));
     }
 
     @Override
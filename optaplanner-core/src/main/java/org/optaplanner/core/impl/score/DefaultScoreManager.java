@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score;
 
+import java.util.List;
 import java.util.Map;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
@@ -23,9 +24,12 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.ScoreExplanation;
 import org.optaplanner.core.api.score.ScoreManager;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.InnerScoreDirectorFactory;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
@@ -72,4 +76,34 @@ public final class DefaultScoreManager<Solution_, Score_ extends Score<Score_>>
                     indictmentMap);
         }
     }
+
+    @Override
+    public List<ConstraintProfile> profileScore(Solution_ solution) {
+        ConstraintProfiler constraintProfiler = new ConstraintProfiler();
+        try (InnerScoreDirector<Solution_, Score_> scoreDirector = scoreDirectorFactory.buildScoreDirector()) {
+            scoreDirector.overwriteConstraintProfiler(constraintProfiler);
+            scoreDirector.setWorkingSolution(solution);
+            scoreDirector.calculateScore();
+        }
+        return constraintProfiler.getConstraintProfileList();
+    }
+
+    @Override
+    public long getConstraintCompilationCacheHitCount() {
+        if (!(scoreDirectorFactory instanceof ConstraintStreamScoreDirectorFactory)) {
+            return 0L;
+        }
+        return ((ConstraintStreamScoreDirectorFactory<Solution_, Score_>) scoreDirectorFactory)
+                .getConstraintCompilationCacheHitCount();
+    }
+
+    @Override
+    public long getConstraintCompilationCacheMissCount() {
+        if (!(scoreDirectorFactory instanceof ConstraintStreamScoreDirectorFactory)) {
+            return 0L;
+        }
+        return ((ConstraintStreamScoreDirectorFactory<Solution_, Score_>) scoreDirectorFactory)
+                .getConstraintCompilationCacheMissCount();
+    }
+
 }
@@ -86,6 +86,13 @@ public class BendableScoreDefinition extends AbstractBendableScoreDefinition<Ben
         return BendableScore.ofUninitialized(initScore, hardScores, softScores);
     }
 
+    @Override
+    public void extractLevelDoubles(BendableScore score, double[] levelDoubles) {
+        for (int i = 0; i < levelDoubles.length; i++) {
+            levelDoubles[i] = score.getHardOrSoftScore(i);
+        }
+    }
+
     public BendableScore createScore(int... scores) {
         return createScoreUninitialized(0, scores);
     }
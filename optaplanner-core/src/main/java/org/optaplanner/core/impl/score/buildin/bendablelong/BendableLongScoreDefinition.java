@@ -86,6 +86,13 @@ public class BendableLongScoreDefinition extends AbstractBendableScoreDefinition
         return BendableLongScore.ofUninitialized(initScore, hardScores, softScores);
     }
 
+    @Override
+    public void extractLevelDoubles(BendableLongScore score, double[] levelDoubles) {
+        for (int i = 0; i < levelDoubles.length; i++) {
+            levelDoubles[i] = score.getHardOrSoftScore(i);
+        }
+    }
+
     public BendableLongScore createScore(long... scores) {
         return createScoreUninitialized(0, scores);
     }
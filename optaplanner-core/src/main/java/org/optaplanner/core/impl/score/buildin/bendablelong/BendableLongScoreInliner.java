@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.bendablelong;
 
 import java.util.Arrays;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.bendablelong.BendableLongScore;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -55,51 +53,42 @@ public class BendableLongScoreInliner extends ScoreInliner<BendableLongScore> {
             long levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
-                return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+                return LongWeightedScoreImpacter.of((long matchWeight) -> {
                     long hardImpact = levelWeight * matchWeight;
                     this.hardScores[level] += hardImpact;
-                    if (constraintMatchEnabled) {
-                        matchScoreConsumer
-                                .accept(BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact));
-                    }
-                    return () -> this.hardScores[level] -= hardImpact;
-                };
+                }, (long matchWeight) -> {
+                    long hardImpact = levelWeight * matchWeight;
+                    return BendableLongScore.ofHard(hardScores.length, softScores.length, level, hardImpact);
+                });
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
-                return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+                return LongWeightedScoreImpacter.of((long matchWeight) -> {
                     long softImpact = levelWeight * matchWeight;
                     this.softScores[level] += softImpact;
-                    if (constraintMatchEnabled) {
-                        matchScoreConsumer
-                                .accept(BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact));
-                    }
-                    return () -> this.softScores[level] -= softImpact;
-                };
+                }, (long matchWeight) -> {
+                    long softImpact = levelWeight * matchWeight;
+                    return BendableLongScore.ofSoft(hardScores.length, softScores.length, level, softImpact);
+                });
             }
         } else {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
+                for (int i = 0; i < hardScores.length; i++) {
+                    this.hardScores[i] += constraintWeight.getHardScore(i) * matchWeight;
+                }
+                for (int i = 0; i < softScores.length; i++) {
+                    this.softScores[i] += constraintWeight.getSoftScore(i) * matchWeight;
+                }
+            }, (long matchWeight) -> {
                 long[] hardImpacts = new long[hardScores.length];
                 long[] softImpacts = new long[softScores.length];
                 for (int i = 0; i < hardImpacts.length; i++) {
                     hardImpacts[i] = constraintWeight.getHardScore(i) * matchWeight;
-                    this.hardScores[i] += hardImpacts[i];
                 }
                 for (int i = 0; i < softImpacts.length; i++) {
                     softImpacts[i] = constraintWeight.getSoftScore(i) * matchWeight;
-                    this.softScores[i] += softImpacts[i];
-                }
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(BendableLongScore.of(hardImpacts, softImpacts));
                 }
-                return () -> {
-                    for (int i = 0; i < hardImpacts.length; i++) {
-                        this.hardScores[i] -= hardImpacts[i];
-                    }
-                    for (int i = 0; i < softImpacts.length; i++) {
-                        this.softScores[i] -= softImpacts[i];
-                    }
-                };
-            };
+                return BendableLongScore.of(hardImpacts, softImpacts);
+            });
         }
     }
 
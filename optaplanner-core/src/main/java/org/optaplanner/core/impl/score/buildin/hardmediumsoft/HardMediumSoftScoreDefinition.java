@@ -21,6 +21,7 @@ import java.util.Arrays;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
 import org.optaplanner.core.impl.score.definition.AbstractScoreDefinition;
+import org.optaplanner.core.impl.score.definition.PackedScoreCodec;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
@@ -74,6 +75,40 @@ public class HardMediumSoftScoreDefinition extends AbstractScoreDefinition<HardM
                 (Integer) levelNumbers[2]);
     }
 
+    @Override
+    public void extractLevelDoubles(HardMediumSoftScore score, double[] levelDoubles) {
+        levelDoubles[0] = score.getHardScore();
+        levelDoubles[1] = score.getMediumScore();
+        levelDoubles[2] = score.getSoftScore();
+    }
+
+    @Override
+    public boolean isPackable(HardMediumSoftScore score) {
+        return PackedScoreCodec.HARD_MEDIUM_SOFT.isPackable(score.getHardScore(), score.getMediumScore(),
+                score.getSoftScore());
+    }
+
+    @Override
+    public long packScore(HardMediumSoftScore score) {
+        return PackedScoreCodec.HARD_MEDIUM_SOFT.pack(score.getHardScore(), score.getMediumScore(),
+                score.getSoftScore());
+    }
+
+    @Override
+    public HardMediumSoftScore unpackScore(int initScore, long packedScore) {
+        return HardMediumSoftScore.ofUninitialized(initScore,
+                PackedScoreCodec.HARD_MEDIUM_SOFT.unpackHardScore(packedScore),
+                PackedScoreCodec.HARD_MEDIUM_SOFT.unpackMediumScore(packedScore),
+                PackedScoreCodec.HARD_MEDIUM_SOFT.unpackSoftScore(packedScore));
+    }
+
+    @Override
+    public void extractPackedLevelDoubles(long packedScore, double[] levelDoubles) {
+        levelDoubles[0] = PackedScoreCodec.HARD_MEDIUM_SOFT.unpackHardScore(packedScore);
+        levelDoubles[1] = PackedScoreCodec.HARD_MEDIUM_SOFT.unpackMediumScore(packedScore);
+        levelDoubles[2] = PackedScoreCodec.HARD_MEDIUM_SOFT.unpackSoftScore(packedScore);
+    }
+
     @Override
     public ScoreInliner<HardMediumSoftScore> buildScoreInliner(boolean constraintMatchEnabled) {
         return new HardMediumSoftScoreInliner(constraintMatchEnabled);
@@ -16,9 +16,6 @@
 
 package org.optaplanner.core.impl.score.buildin.hardmediumsoft;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -43,49 +40,43 @@ public class HardMediumSoftScoreInliner extends ScoreInliner<HardMediumSoftScore
         int mediumConstraintWeight = constraintWeight.getMediumScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0 && softConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore -= hardImpact;
-            };
+            }, (int matchWeight) -> {
+                int hardImpact = hardConstraintWeight * matchWeight;
+                return HardMediumSoftScore.ofHard(hardImpact);
+            });
         } else if (hardConstraintWeight == 0 && softConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int mediumImpact = mediumConstraintWeight * matchWeight;
                 this.mediumScore += mediumImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.ofMedium(mediumImpact));
-                }
-                return () -> this.mediumScore -= mediumImpact;
-            };
+            }, (int matchWeight) -> {
+                int mediumImpact = mediumConstraintWeight * matchWeight;
+                return HardMediumSoftScore.ofMedium(mediumImpact);
+            });
         } else if (hardConstraintWeight == 0 && mediumConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore -= softImpact;
-            };
+            }, (int matchWeight) -> {
+                int softImpact = softConstraintWeight * matchWeight;
+                return HardMediumSoftScore.ofSoft(softImpact);
+            });
         } else {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 int mediumImpact = mediumConstraintWeight * matchWeight;
                 int softImpact = softConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 this.mediumScore += mediumImpact;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
-            };
+            }, (int matchWeight) -> {
+                int hardImpact = hardConstraintWeight * matchWeight;
+                int mediumImpact = mediumConstraintWeight * matchWeight;
+                int softImpact = softConstraintWeight * matchWeight;
+                return HardMediumSoftScore.of(hardImpact, mediumImpact, softImpact);
+            });
         }
     }
 
@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.hardmediumsoftbigdecimal;
 
 import java.math.BigDecimal;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardmediumsoftbigdecimal.HardMediumSoftBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -44,49 +42,43 @@ public class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<HardMediu
         BigDecimal mediumConstraintWeight = constraintWeight.getMediumScore();
         BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
                 this.hardScore = this.hardScore.add(hardImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore = this.hardScore.subtract(hardImpact);
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
+                return HardMediumSoftBigDecimalScore.ofHard(hardImpact);
+            });
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
                 this.mediumScore = this.mediumScore.add(mediumImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofMedium(mediumImpact));
-                }
-                return () -> this.mediumScore = this.mediumScore.subtract(mediumImpact);
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
+                return HardMediumSoftBigDecimalScore.ofMedium(mediumImpact);
+            });
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO) && mediumConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
                 this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore = this.softScore.subtract(softImpact);
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
+                return HardMediumSoftBigDecimalScore.ofSoft(softImpact);
+            });
         } else {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
                 BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
                 BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
                 this.hardScore = this.hardScore.add(hardImpact);
                 this.mediumScore = this.mediumScore.add(mediumImpact);
                 this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.mediumScore = this.mediumScore.subtract(mediumImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
+                BigDecimal mediumImpact = mediumConstraintWeight.multiply(matchWeight);
+                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
+                return HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact);
+            });
         }
     }
 
@@ -74,6 +74,13 @@ public class HardMediumSoftLongScoreDefinition extends AbstractScoreDefinition<H
                 (Long) levelNumbers[2]);
     }
 
+    @Override
+    public void extractLevelDoubles(HardMediumSoftLongScore score, double[] levelDoubles) {
+        levelDoubles[0] = score.getHardScore();
+        levelDoubles[1] = score.getMediumScore();
+        levelDoubles[2] = score.getSoftScore();
+    }
+
     @Override
     public ScoreInliner<HardMediumSoftLongScore> buildScoreInliner(boolean constraintMatchEnabled) {
         return new HardMediumSoftLongScoreInliner(constraintMatchEnabled);
@@ -16,9 +16,6 @@
 
 package org.optaplanner.core.impl.score.buildin.hardmediumsoftlong;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardmediumsoftlong.HardMediumSoftLongScore;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -43,49 +40,43 @@ public class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediumSoftL
         long mediumConstraintWeight = constraintWeight.getMediumScore();
         long softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0L && softConstraintWeight == 0L) {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftLongScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore -= hardImpact;
-            };
+            }, (long matchWeight) -> {
+                long hardImpact = hardConstraintWeight * matchWeight;
+                return HardMediumSoftLongScore.ofHard(hardImpact);
+            });
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long mediumImpact = mediumConstraintWeight * matchWeight;
                 this.mediumScore += mediumImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftLongScore.ofMedium(mediumImpact));
-                }
-                return () -> this.mediumScore -= mediumImpact;
-            };
+            }, (long matchWeight) -> {
+                long mediumImpact = mediumConstraintWeight * matchWeight;
+                return HardMediumSoftLongScore.ofMedium(mediumImpact);
+            });
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftLongScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore -= softImpact;
-            };
+            }, (long matchWeight) -> {
+                long softImpact = softConstraintWeight * matchWeight;
+                return HardMediumSoftLongScore.ofSoft(softImpact);
+            });
         } else {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 long mediumImpact = mediumConstraintWeight * matchWeight;
                 long softImpact = softConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 this.mediumScore += mediumImpact;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardMediumSoftLongScore.of(hardImpact, mediumImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.mediumScore -= mediumImpact;
-                    this.softScore -= softImpact;
-                };
-            };
+            }, (long matchWeight) -> {
+                long hardImpact = hardConstraintWeight * matchWeight;
+                long mediumImpact = mediumConstraintWeight * matchWeight;
+                long softImpact = softConstraintWeight * matchWeight;
+                return HardMediumSoftLongScore.of(hardImpact, mediumImpact, softImpact);
+            });
         }
     }
 
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
 import org.optaplanner.core.impl.score.definition.AbstractScoreDefinition;
+import org.optaplanner.core.impl.score.definition.PackedScoreCodec;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
 
 public class HardSoftScoreDefinition extends AbstractScoreDefinition<HardSoftScore> {
@@ -67,6 +68,35 @@ public class HardSoftScoreDefinition extends AbstractScoreDefinition<HardSoftSco
         return HardSoftScore.ofUninitialized(initScore, (Integer) levelNumbers[0], (Integer) levelNumbers[1]);
     }
 
+    @Override
+    public void extractLevelDoubles(HardSoftScore score, double[] levelDoubles) {
+        levelDoubles[0] = score.getHardScore();
+        levelDoubles[1] = score.getSoftScore();
+    }
+
+    @Override
+    public boolean isPackable(HardSoftScore score) {
+        // Every hard and soft level fits in 32 bits
+        return true;
+    }
+
+    @Override
+    public long packScore(HardSoftScore score) {
+        return PackedScoreCodec.HARD_SOFT.pack(score.getHardScore(), 0, score.getSoftScore());
+    }
+
+    @Override
+    public HardSoftScore unpackScore(int initScore, long packedScore) {
+        return HardSoftScore.ofUninitialized(initScore, PackedScoreCodec.HARD_SOFT.unpackHardScore(packedScore),
+                PackedScoreCodec.HARD_SOFT.unpackSoftScore(packedScore));
+    }
+
+    @Override
+    public void extractPackedLevelDoubles(long packedScore, double[] levelDoubles) {
+        levelDoubles[0] = PackedScoreCodec.HARD_SOFT.unpackHardScore(packedScore);
+        levelDoubles[1] = PackedScoreCodec.HARD_SOFT.unpackSoftScore(packedScore);
+    }
+
     @Override
     public HardSoftScoreInliner buildScoreInliner(boolean constraintMatchEnabled) {
         return new HardSoftScoreInliner(constraintMatchEnabled);
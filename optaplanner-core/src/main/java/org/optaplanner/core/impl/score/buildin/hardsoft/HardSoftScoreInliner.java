@@ -16,10 +16,8 @@
 
 package org.optaplanner.core.impl.score.buildin.hardsoft;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+import org.optaplanner.core.impl.score.definition.PackedScoreCodec;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
 
@@ -41,37 +39,32 @@ public class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
         int hardConstraintWeight = constraintWeight.getHardScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore -= hardImpact;
-            };
+            }, (int matchWeight) -> {
+                int hardImpact = hardConstraintWeight * matchWeight;
+                return HardSoftScore.ofHard(hardImpact);
+            });
         } else if (hardConstraintWeight == 0) {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore -= softImpact;
-            };
+            }, (int matchWeight) -> {
+                int softImpact = softConstraintWeight * matchWeight;
+                return HardSoftScore.ofSoft(softImpact);
+            });
         } else {
-            return (int matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return IntWeightedScoreImpacter.of((int matchWeight) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 int softImpact = softConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftScore.of(hardImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.softScore -= softImpact;
-                };
-            };
+            }, (int matchWeight) -> {
+                int hardImpact = hardConstraintWeight * matchWeight;
+                int softImpact = softConstraintWeight * matchWeight;
+                return HardSoftScore.of(hardImpact, softImpact);
+            });
         }
     }
 
@@ -80,6 +73,16 @@ public class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
         return HardSoftScore.ofUninitialized(initScore, hardScore, softScore);
     }
 
+    @Override
+    public boolean isPackedScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public long extractPackedScore() {
+        return PackedScoreCodec.HARD_SOFT.pack(hardScore, 0, softScore);
+    }
+
     @Override
     public String toString() {
         return HardSoftScore.class.getSimpleName() + " inliner";
@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.hardsoftbigdecimal;
 
 import java.math.BigDecimal;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -42,37 +40,32 @@ public class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftBigDeci
         BigDecimal hardConstraintWeight = constraintWeight.getHardScore();
         BigDecimal softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
                 this.hardScore = this.hardScore.add(hardImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftBigDecimalScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore = this.hardScore.subtract(hardImpact);
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
+                return HardSoftBigDecimalScore.ofHard(hardImpact);
+            });
         } else if (hardConstraintWeight.equals(BigDecimal.ZERO)) {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
                 this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftBigDecimalScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore = this.softScore.subtract(softImpact);
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
+                return HardSoftBigDecimalScore.ofSoft(softImpact);
+            });
         } else {
-            return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return BigDecimalWeightedScoreImpacter.of((BigDecimal matchWeight) -> {
                 BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
                 BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
                 this.hardScore = this.hardScore.add(hardImpact);
                 this.softScore = this.softScore.add(softImpact);
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftBigDecimalScore.of(hardImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore = this.hardScore.subtract(hardImpact);
-                    this.softScore = this.softScore.subtract(softImpact);
-                };
-            };
+            }, (BigDecimal matchWeight) -> {
+                BigDecimal hardImpact = hardConstraintWeight.multiply(matchWeight);
+                BigDecimal softImpact = softConstraintWeight.multiply(matchWeight);
+                return HardSoftBigDecimalScore.of(hardImpact, softImpact);
+            });
         }
     }
 
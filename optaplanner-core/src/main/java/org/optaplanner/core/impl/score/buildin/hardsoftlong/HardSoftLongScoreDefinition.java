@@ -72,6 +72,12 @@ public class HardSoftLongScoreDefinition extends AbstractScoreDefinition<HardSof
         return HardSoftLongScore.ofUninitialized(initScore, (Long) levelNumbers[0], (Long) levelNumbers[1]);
     }
 
+    @Override
+    public void extractLevelDoubles(HardSoftLongScore score, double[] levelDoubles) {
+        levelDoubles[0] = score.getHardScore();
+        levelDoubles[1] = score.getSoftScore();
+    }
+
     @Override
     public HardSoftLongScoreInliner buildScoreInliner(boolean constraintMatchEnabled) {
         return new HardSoftLongScoreInliner(constraintMatchEnabled);
@@ -16,9 +16,6 @@
 
 package org.optaplanner.core.impl.score.buildin.hardsoftlong;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.hardsoftlong.HardSoftLongScore;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -41,37 +38,32 @@ public class HardSoftLongScoreInliner extends ScoreInliner<HardSoftLongScore> {
         long hardConstraintWeight = constraintWeight.getHardScore();
         long softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight == 0L) {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftLongScore.ofHard(hardImpact));
-                }
-                return () -> this.hardScore -= hardImpact;
-            };
+            }, (long matchWeight) -> {
+                long hardImpact = hardConstraintWeight * matchWeight;
+                return HardSoftLongScore.ofHard(hardImpact);
+            });
         } else if (hardConstraintWeight == 0L) {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftLongScore.ofSoft(softImpact));
-                }
-                return () -> this.softScore -= softImpact;
-            };
+            }, (long matchWeight) -> {
+                long softImpact = softConstraintWeight * matchWeight;
+                return HardSoftLongScore.ofSoft(softImpact);
+            });
         } else {
-            return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
+            return LongWeightedScoreImpacter.of((long matchWeight) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 long softImpact = softConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 this.softScore += softImpact;
-                if (constraintMatchEnabled) {
-                    matchScoreConsumer.accept(HardSoftLongScore.of(hardImpact, softImpact));
-                }
-                return () -> {
-                    this.hardScore -= hardImpact;
-                    this.softScore -= softImpact;
-                };
-            };
+            }, (long matchWeight) -> {
+                long hardImpact = hardConstraintWeight * matchWeight;
+                long softImpact = softConstraintWeight * matchWeight;
+                return HardSoftLongScore.of(hardImpact, softImpact);
+            });
         }
     }
 
@@ -72,6 +72,32 @@ public class SimpleScoreDefinition extends AbstractScoreDefinition<SimpleScore>
         return SimpleScore.ofUninitialized(initScore, (Integer) levelNumbers[0]);
     }
 
+    @Override
+    public void extractLevelDoubles(SimpleScore score, double[] levelDoubles) {
+        levelDoubles[0] = score.getScore();
+    }
+
+    @Override
+    public boolean isPackable(SimpleScore score) {
+        // The only level is the packed score itself
+        return true;
+    }
+
+    @Override
+    public long packScore(SimpleScore score) {
+        return score.getScore();
+    }
+
+    @Override
+    public SimpleScore unpackScore(int initScore, long packedScore) {
+        return SimpleScore.ofUninitialized(initScore, (int) packedScore);
+    }
+
+    @Override
+    public void extractPackedLevelDoubles(long packedScore, double[] levelDoubles) {
+        levelDoubles[0] = packedScore;
+    }
+
     @Override
     public SimpleScoreInliner buildScoreInliner(boolean constraintMatchEnabled) {
         return new SimpleScoreInliner(constraintMatchEnabled);
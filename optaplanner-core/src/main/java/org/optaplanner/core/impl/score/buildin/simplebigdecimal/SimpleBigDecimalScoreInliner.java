@@ -17,9 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.simplebigdecimal;
 
 import java.math.BigDecimal;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -39,14 +37,9 @@ public class SimpleBigDecimalScoreInliner extends ScoreInliner<SimpleBigDecimalS
                     + " this constraint should have been culled during node creation.");
         }
         BigDecimal simpleConstraintWeight = constraintWeight.getScore();
-        return (BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-            BigDecimal impact = simpleConstraintWeight.multiply(matchWeight);
-            this.score = this.score.add(impact);
-            if (constraintMatchEnabled) {
-                matchScoreConsumer.accept(SimpleBigDecimalScore.of(impact));
-            }
-            return () -> this.score = this.score.subtract(impact);
-        };
+        return BigDecimalWeightedScoreImpacter.of(
+                (BigDecimal matchWeight) -> this.score = this.score.add(simpleConstraintWeight.multiply(matchWeight)),
+                (BigDecimal matchWeight) -> SimpleBigDecimalScore.of(simpleConstraintWeight.multiply(matchWeight)));
     }
 
     @Override
@@ -67,6 +67,32 @@ public class SimpleLongScoreDefinition extends AbstractScoreDefinition<SimpleLon
         return SimpleLongScore.ofUninitialized(initScore, (Long) levelNumbers[0]);
     }
 
+    @Override
+    public void extractLevelDoubles(SimpleLongScore score, double[] levelDoubles) {
+        levelDoubles[0] = score.getScore();
+    }
+
+    @Override
+    public boolean isPackable(SimpleLongScore score) {
+        // The only level is the packed score itself
+        return true;
+    }
+
+    @Override
+    public long packScore(SimpleLongScore score) {
+        return score.getScore();
+    }
+
+    @Override
+    public SimpleLongScore unpackScore(int initScore, long packedScore) {
+        return SimpleLongScore.ofUninitialized(initScore, packedScore);
+    }
+
+    @Override
+    public void extractPackedLevelDoubles(long packedScore, double[] levelDoubles) {
+        levelDoubles[0] = packedScore;
+    }
+
     @Override
     public SimpleLongScoreInliner buildScoreInliner(boolean constraintMatchEnabled) {
         return new SimpleLongScoreInliner(constraintMatchEnabled);
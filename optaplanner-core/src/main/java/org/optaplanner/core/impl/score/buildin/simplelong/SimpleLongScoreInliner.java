@@ -16,9 +16,6 @@
 
 package org.optaplanner.core.impl.score.buildin.simplelong;
 
-import java.util.function.Consumer;
-
-import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
@@ -38,14 +35,9 @@ public class SimpleLongScoreInliner extends ScoreInliner<SimpleLongScore> {
                     + " this constraint should have been culled during node creation.");
         }
         long simpleConstraintWeight = constraintWeight.getScore();
-        return (long matchWeight, Consumer<Score<?>> matchScoreConsumer) -> {
-            long impact = simpleConstraintWeight * matchWeight;
-            this.score += impact;
-            if (constraintMatchEnabled) {
-                matchScoreConsumer.accept(SimpleLongScore.of(impact));
-            }
-            return () -> this.score -= impact;
-        };
+        return LongWeightedScoreImpacter.of(
+                (long matchWeight) -> this.score += simpleConstraintWeight * matchWeight,
+                (long matchWeight) -> SimpleLongScore.of(simpleConstraintWeight * matchWeight));
     }
 
     @Override
@@ -53,6 +45,16 @@ public class SimpleLongScoreInliner extends ScoreInliner<SimpleLongScore> {
         return SimpleLongScore.ofUninitialized(initScore, score);
     }
 
+    @Override
+    public boolean isPackedScoreSupported() {
+        return true;
+    }
+
+    @Override
+    public long extractPackedScore() {
+        return score;
+    }
+
     @Override
     public String toString() {
         return SimpleLongScore.class.getSimpleName() + " inliner";
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.constraint;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Accumulates the time and the evaluation count per constraint,
+ * for a score director that has been given this profiler through
+ * {@link InnerScoreDirector#overwriteConstraintProfiler(ConstraintProfiler)}.
+ * <p>
+ * Profiling is opt-in, because reading the clock around every constraint slows down score calculation.
+ * This class is thread-safe, so multiple score directors (for example of move threads) can share one profiler.
+ */
+public final class ConstraintProfiler {
+
+    private final Map<String, Counter> constraintIdToCounterMap = new ConcurrentHashMap<>();
+
+    /**
+     * @param constraintPackage never null
+     * @param constraintName never null
+     * @return never null, the same instance for the same constraint
+     */
+    public Counter getCounter(String constraintPackage, String constraintName) {
+        String constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+        return constraintIdToCounterMap.computeIfAbsent(constraintId,
+                k -> new Counter(constraintPackage, constraintName));
+    }
+
+    /**
+     * @return never null, sorted by descending time
+     */
+    public List<ConstraintProfile> getConstraintProfileList() {
+        List<ConstraintProfile> constraintProfileList = new ArrayList<>(constraintIdToCounterMap.size());
+        for (Counter counter : constraintIdToCounterMap.values()) {
+            constraintProfileList.add(counter.toConstraintProfile());
+        }
+        constraintProfileList.sort(Comparator.comparingLong(ConstraintProfile::getTimeNanos).reversed()
+                .thenComparing(ConstraintProfile::getConstraintId));
+        return constraintProfileList;
+    }
+
+    public void reset() {
+        constraintIdToCounterMap.clear();
+    }
+
+    public static final class Counter {
+
+        private final String constraintPackage;
+        private final String constraintName;
+        private final LongAdder evaluationCount = new LongAdder();
+        private final LongAdder timeNanos = new LongAdder();
+
+        private Counter(String constraintPackage, String constraintName) {
+            this.constraintPackage = constraintPackage;
+            this.constraintName = constraintName;
+        }
+
+        /**
+         * @param evaluationCount {@code >= 0}
+         * @param timeNanos {@code >= 0}
+         */
+        public void record(long evaluationCount, long timeNanos) {
+            this.evaluationCount.add(evaluationCount);
+            this.timeNanos.add(timeNanos);
+        }
+
+        private ConstraintProfile toConstraintProfile() {
+            return new ConstraintProfile(constraintPackage, constraintName, evaluationCount.sum(), timeNanos.sum());
+        }
+
+    }
+
+}
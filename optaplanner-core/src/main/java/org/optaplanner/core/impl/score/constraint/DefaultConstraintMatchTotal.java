@@ -20,6 +20,7 @@ import static java.util.Comparator.comparing;
 import static java.util.Objects.hash;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -72,7 +73,7 @@ public final class DefaultConstraintMatchTotal<Score_ extends Score<Score_>> imp
 
     @Override
     public Set<ConstraintMatch<Score_>> getConstraintMatchSet() {
-        return constraintMatchSet;
+        return Collections.unmodifiableSet(constraintMatchSet);
     }
 
     @Override
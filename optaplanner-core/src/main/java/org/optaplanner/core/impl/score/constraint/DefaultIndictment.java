@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.constraint;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -43,7 +44,7 @@ public final class DefaultIndictment<Score_ extends Score<Score_>> implements In
 
     @Override
     public Set<ConstraintMatch<Score_>> getConstraintMatchSet() {
-        return constraintMatchSet;
+        return Collections.unmodifiableSet(constraintMatchSet);
     }
 
     @Override
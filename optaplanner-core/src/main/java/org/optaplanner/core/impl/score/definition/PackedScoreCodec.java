@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.definition;
+
+import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
+import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
+
+/**
+ * Packs the hard, medium and soft levels of an int score into a single long,
+ * so comparing 2 packed scores is a {@link Long#compare(long, long)} that doesn't dereference a {@link HardSoftScore}
+ * or {@link HardMediumSoftScore}. The init score isn't packed.
+ * <p>
+ * The hard level keeps its sign in the highest bits.
+ * The lower levels are stored with a bias, so the packed longs sort in the same order as the scores.
+ */
+public final class PackedScoreCodec {
+
+    /**
+     * Every {@link HardSoftScore} fits: the hard and soft level get 32 bits each.
+     */
+    public static final PackedScoreCodec HARD_SOFT = new PackedScoreCodec(32, 0, 32);
+    /**
+     * Only a {@link HardMediumSoftScore} with small levels fits: the hard level gets 22 bits,
+     * the medium and soft level get 21 bits each.
+     */
+    public static final PackedScoreCodec HARD_MEDIUM_SOFT = new PackedScoreCodec(22, 21, 21);
+
+    private final int hardBits;
+    private final int mediumBits;
+    private final int softBits;
+    private final long hardMinimum;
+    private final long hardMaximum;
+    private final long mediumMinimum;
+    private final long mediumMaximum;
+    private final long mediumMask;
+    private final long softMinimum;
+    private final long softMaximum;
+    private final long softMask;
+
+    private PackedScoreCodec(int hardBits, int mediumBits, int softBits) {
+        if (hardBits + mediumBits + softBits != Long.SIZE) {
+            throw new IllegalArgumentException("The hardBits (" + hardBits + "), mediumBits (" + mediumBits
+                    + ") and softBits (" + softBits + ") must add up to " + Long.SIZE + ".");
+        }
+        this.hardBits = hardBits;
+        this.mediumBits = mediumBits;
+        this.softBits = softBits;
+        hardMinimum = minimum(hardBits);
+        hardMaximum = maximum(hardBits);
+        mediumMinimum = minimum(mediumBits);
+        mediumMaximum = maximum(mediumBits);
+        mediumMask = (1L << mediumBits) - 1L;
+        softMinimum = minimum(softBits);
+        softMaximum = maximum(softBits);
+        softMask = (1L << softBits) - 1L;
+    }
+
+    private static long minimum(int bits) {
+        return bits == 0 ? 0L : -(1L << (bits - 1));
+    }
+
+    private static long maximum(int bits) {
+        return bits == 0 ? 0L : (1L << (bits - 1)) - 1L;
+    }
+
+    /**
+     * @param hardScore any
+     * @param mediumScore any, 0 if the score type has no medium level
+     * @param softScore any
+     * @return true if {@link #pack(int, int, int)} doesn't overflow
+     */
+    public boolean isPackable(int hardScore, int mediumScore, int softScore) {
+        return hardMinimum <= hardScore && hardScore <= hardMaximum
+                && mediumMinimum <= mediumScore && mediumScore <= mediumMaximum
+                && softMinimum <= softScore && softScore <= softMaximum;
+    }
+
+    /**
+     * @param hardScore any
+     * @param mediumScore any, 0 if the score type has no medium level
+     * @param softScore any
+     * @return the packed levels, the natural order of the packed longs matches the order of the scores
+     * @throws ArithmeticException if a level overflows its bits, see {@link #isPackable(int, int, int)}
+     */
+    public long pack(int hardScore, int mediumScore, int softScore) {
+        if (!isPackable(hardScore, mediumScore, softScore)) {
+            throw new ArithmeticException("The hardScore (" + hardScore + "), mediumScore (" + mediumScore
+                    + ") or softScore (" + softScore + ") overflows its hardBits (" + hardBits
+                    + "), mediumBits (" + mediumBits + ") or softBits (" + softBits + ").");
+        }
+        return ((long) hardScore << (mediumBits + softBits))
+                | ((((long) mediumScore - mediumMinimum) & mediumMask) << softBits)
+                | (((long) softScore - softMinimum) & softMask);
+    }
+
+    public int unpackHardScore(long packedScore) {
+        return (int) (packedScore >> (mediumBits + softBits));
+    }
+
+    public int unpackMediumScore(long packedScore) {
+        return (int) (((packedScore >>> softBits) & mediumMask) + mediumMinimum);
+    }
+
+    public int unpackSoftScore(long packedScore) {
+        return (int) ((packedScore & softMask) + softMinimum);
+    }
+
+    @Override
+    public String toString() {
+        return "PackedScoreCodec(" + hardBits + ", " + mediumBits + ", " + softBits + ")";
+    }
+
+}
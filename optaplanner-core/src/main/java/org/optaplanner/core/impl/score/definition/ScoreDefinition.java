@@ -137,6 +137,69 @@ public interface ScoreDefinition<Score_ extends Score<Score_>> {
      */
     Score_ fromLevelNumbers(int initScore, Number[] levelNumbers);
 
+    /**
+     * Like {@link Score#toLevelNumbers()}, but writes the levels as doubles into a reusable array
+     * instead of boxing them, so the deciders can compare the levels of every move without allocating.
+     * The built-in int and long score definitions read their level fields directly.
+     *
+     * @param score never null
+     * @param levelDoubles never null, its length must be {@link #getLevelsSize()}
+     */
+    default void extractLevelDoubles(Score_ score, double[] levelDoubles) {
+        Number[] levelNumbers = score.toLevelNumbers();
+        for (int i = 0; i < levelNumbers.length; i++) {
+            levelDoubles[i] = levelNumbers[i].doubleValue();
+        }
+    }
+
+    /**
+     * Only the built-in simple score definitions and the 2 and 3 level int score definitions support packing,
+     * see {@link PackedScoreCodec}.
+     *
+     * @param score never null
+     * @return true if {@link #packScore(Score)} can pack the levels of this score into a long
+     */
+    default boolean isPackable(Score_ score) {
+        return false;
+    }
+
+    /**
+     * Packs the levels of the score, ignoring its init score,
+     * so comparing the packed longs gives the same result as comparing the scores
+     * with {@link Score#withInitScore(int) initScore 0}.
+     *
+     * @param score never null, {@link #isPackable(Score)} must be true
+     * @return the packed levels
+     * @see #unpackScore(int, long)
+     */
+    default long packScore(Score_ score) {
+        throw new UnsupportedOperationException("The scoreDefinition (" + getClass().getSimpleName()
+                + ") does not support packing the score (" + score + ").");
+    }
+
+    /**
+     * The opposite of {@link #packScore(Score)}.
+     *
+     * @param initScore {@code <= 0}, see {@link Score#getInitScore()}
+     * @param packedScore a value returned by {@link #packScore(Score)}
+     * @return never null
+     */
+    default Score_ unpackScore(int initScore, long packedScore) {
+        throw new UnsupportedOperationException("The scoreDefinition (" + getClass().getSimpleName()
+                + ") does not support unpacking a packedScore (" + packedScore + ").");
+    }
+
+    /**
+     * Like {@link #extractLevelDoubles(Score, double[])} on {@link #unpackScore(int, long)},
+     * but without creating the {@link Score}, so the levels of 2 packed scores can be subtracted.
+     *
+     * @param packedScore a value returned by {@link #packScore(Score)}
+     * @param levelDoubles never null, its length must be {@link #getLevelsSize()}
+     */
+    default void extractPackedLevelDoubles(long packedScore, double[] levelDoubles) {
+        extractLevelDoubles(unpackScore(0, packedScore), levelDoubles);
+    }
+
     /**
      * Used by {@link BavetConstraintFactory}
      *
@@ -31,7 +31,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 
 import org.optaplanner.core.api.domain.lookup.PlanningId;
 import org.optaplanner.core.api.domain.solution.cloner.SolutionCloner;
@@ -51,7 +54,9 @@ import org.optaplanner.core.impl.domain.variable.descriptor.ShadowVariableDescri
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.listener.support.VariableListenerSupport;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
+import org.optaplanner.core.impl.heuristic.move.AbstractMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 import org.slf4j.Logger;
@@ -78,6 +83,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final boolean lookUpEnabled;
     protected final LookUpManager lookUpManager;
     protected boolean constraintMatchEnabledPreference;
+    /** Null if profiling is disabled. */
+    protected ConstraintProfiler constraintProfiler = null;
     protected final VariableListenerSupport<Solution_> variableListenerSupport;
 
     protected Solution_ workingSolution;
@@ -88,6 +95,15 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     protected long calculationCount = 0L;
 
+    /**
+     * Lazily built by the first move thread child, null if there are none yet.
+     * Indexes the problem facts that the move thread clones share with the working solution.
+     * Volatile because the move threads set up their children concurrently,
+     * see {@link #findOrBuildChildThreadSharedIdToWorkingObjectMap(Object)}.
+     */
+    private volatile Map<Object, Object> childThreadSharedIdToWorkingObjectMap = null;
+    private final Object childThreadSharedIdToWorkingObjectMapLock = new Object();
+
     protected AbstractScoreDirector(Factory_ scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         this.scoreDirectorFactory = scoreDirectorFactory;
@@ -128,6 +144,16 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         this.constraintMatchEnabledPreference = constraintMatchEnabledPreference;
     }
 
+    @Override
+    public void overwriteConstraintProfiler(ConstraintProfiler constraintProfiler) {
+        this.constraintProfiler = constraintProfiler;
+    }
+
+    @Override
+    public ConstraintProfiler getConstraintProfiler() {
+        return constraintProfiler;
+    }
+
     @Override
     public Solution_ getWorkingSolution() {
         return workingSolution;
@@ -169,6 +195,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     @Override
     public void setWorkingSolution(Solution_ workingSolution) {
         this.workingSolution = requireNonNull(workingSolution);
+        childThreadSharedIdToWorkingObjectMap = null;
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         workingInitScore = -solutionDescriptor.countUninitializedVariables(workingSolution);
         Collection<Object> allFacts = solutionDescriptor.getAllFacts(workingSolution);
@@ -209,24 +236,107 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public Score_ doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch) {
-        Move<Solution_> undoMove = move.doMove(this);
+        Move<Solution_> undoMove = doMoveForEvaluation(move);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
         }
-        undoMove.doMove(this);
+        undoMoveForEvaluation(move, undoMove);
         return score;
     }
 
     @Override
     public void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor) {
-        Move<Solution_> undoMove = move.doMove(this);
+        Move<Solution_> undoMove = doMoveForEvaluation(move);
         Score_ score = calculateScore();
         if (assertMoveScoreFromScratch) {
             assertWorkingScoreFromScratch(score, move);
         }
         moveProcessor.accept(score);
-        undoMove.doMove(this);
+        undoMoveForEvaluation(move, undoMove);
+    }
+
+    @Override
+    public boolean doAndProcessMoves(List<Move<Solution_>> moveList, boolean assertMoveScoreFromScratch,
+            Predicate<Score_> moveProcessor, LongPredicate packedMoveProcessor, BooleanSupplier undoneMoveProcessor) {
+        for (int i = 0; i < moveList.size(); i++) {
+            Move<Solution_> move = moveList.get(i);
+            Move<Solution_> undoMove = doMoveForEvaluation(move);
+            boolean proceeding;
+            // Checked per move, because a move can change the init score
+            if (packedMoveProcessor != null && !assertMoveScoreFromScratch && isPackedScoreCalculationSupported()) {
+                proceeding = packedMoveProcessor.test(calculatePackedScore());
+            } else {
+                Score_ score = calculateScore();
+                if (assertMoveScoreFromScratch) {
+                    assertWorkingScoreFromScratch(score, move);
+                }
+                proceeding = moveProcessor.test(score);
+            }
+            boolean variableListenersDeferred = false;
+            if (undoMove == null) {
+                // The next move reads no shadow variables while it's done, so it can trigger the listeners of both
+                variableListenersDeferred = proceeding && i + 1 < moveList.size()
+                        && isUndoableInPlace(moveList.get(i + 1));
+                ((AbstractMove<Solution_>) move).undoMoveInPlace(this, !variableListenersDeferred);
+            } else {
+                undoMove.doMove(this);
+            }
+            // Only after the undo, so yielding and termination checks never see the move applied
+            if (!proceeding || !undoneMoveProcessor.getAsBoolean()) {
+                if (variableListenersDeferred) {
+                    // There is no next move to trigger them
+                    triggerVariableListeners();
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if {@link #calculatePackedScore()} is supported for the working solution as it is now
+     */
+    protected boolean isPackedScoreCalculationSupported() {
+        return false;
+    }
+
+    /**
+     * Like {@link #calculateScore()}, but packs the levels into a long instead of creating a {@link Score},
+     * see {@link ScoreDefinition#packScore(Score)}.
+     * It doesn't set the score of the working solution, so only use it for a move that is undone right after.
+     *
+     * @return the packed levels
+     * @throws UnsupportedOperationException if {@link #isPackedScoreCalculationSupported()} is false
+     */
+    protected long calculatePackedScore() {
+        throw new UnsupportedOperationException("The scoreDirector (" + getClass().getSimpleName()
+                + ") does not support packed score calculation.");
+    }
+
+    private boolean isUndoableInPlace(Move<Solution_> move) {
+        return move instanceof AbstractMove && ((AbstractMove<Solution_>) move).isUndoableInPlace();
+    }
+
+    /**
+     * @param move never null
+     * @return null if the move is undone in place, otherwise its undo move
+     */
+    private Move<Solution_> doMoveForEvaluation(Move<Solution_> move) {
+        if (isUndoableInPlace(move)) {
+            // The move is undone right after its evaluation, so it doesn't need to allocate an undo move
+            ((AbstractMove<Solution_>) move).doMoveUndoableInPlace(this);
+            return null;
+        }
+        return move.doMove(this);
+    }
+
+    private void undoMoveForEvaluation(Move<Solution_> move, Move<Solution_> undoMove) {
+        if (undoMove == null) {
+            ((AbstractMove<Solution_>) move).undoMoveInPlace(this);
+        } else {
+            undoMove.doMove(this);
+        }
     }
 
     @Override
@@ -320,6 +430,8 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             // ScoreCalculationCountTermination takes into account previous phases
             // but the calculationCount of partitions is maxed, not summed.
             childThreadScoreDirector.calculationCount = calculationCount;
+            // The profiler is thread-safe, so the partitions add up in the same profile
+            childThreadScoreDirector.constraintProfiler = constraintProfiler;
             return childThreadScoreDirector;
         } else if (childThreadType == ChildThreadType.MOVE_THREAD) {
             // TODO The move thread must use constraintMatchEnabledPreference in FULL_ASSERT,
@@ -327,13 +439,45 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
             AbstractScoreDirector<Solution_, Score_, Factory_> childThreadScoreDirector =
                     (AbstractScoreDirector<Solution_, Score_, Factory_>) scoreDirectorFactory
                             .buildScoreDirector(true, constraintMatchEnabledPreference);
-            childThreadScoreDirector.setWorkingSolution(cloneWorkingSolution());
+            childThreadScoreDirector.constraintProfiler = constraintProfiler;
+            Solution_ childThreadSolution = cloneWorkingSolution();
+            // Every move thread indexes its cloned entities, but the uncloned problem facts are indexed only once
+            childThreadScoreDirector.lookUpManager.shareWorkingObjects(
+                    findOrBuildChildThreadSharedIdToWorkingObjectMap(childThreadSolution));
+            childThreadScoreDirector.setWorkingSolution(childThreadSolution);
             return childThreadScoreDirector;
         } else {
             throw new IllegalStateException("The childThreadType (" + childThreadType + ") is not implemented.");
         }
     }
 
+    /**
+     * Called on every move thread during its setup, so this uses double-checked locking:
+     * the map is built only once and fully built before any other move thread reads it.
+     *
+     * @param childThreadSolution never null
+     * @return never null, read-only
+     */
+    private Map<Object, Object> findOrBuildChildThreadSharedIdToWorkingObjectMap(Solution_ childThreadSolution) {
+        Map<Object, Object> sharedIdToWorkingObjectMap = childThreadSharedIdToWorkingObjectMap;
+        if (sharedIdToWorkingObjectMap == null) {
+            synchronized (childThreadSharedIdToWorkingObjectMapLock) {
+                sharedIdToWorkingObjectMap = childThreadSharedIdToWorkingObjectMap;
+                if (sharedIdToWorkingObjectMap == null) {
+                    SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
+                    // Every clone of the same working solution shares the same problem facts
+                    LookUpManager sharedLookUpManager =
+                            new LookUpManager(solutionDescriptor.getLookUpStrategyResolver());
+                    sharedIdToWorkingObjectMap = sharedLookUpManager.buildSharedIdToWorkingObjectMap(
+                            solutionDescriptor.getAllFacts(workingSolution),
+                            solutionDescriptor.getAllFacts(childThreadSolution));
+                    childThreadSharedIdToWorkingObjectMap = sharedIdToWorkingObjectMap;
+                }
+            }
+        }
+        return sharedIdToWorkingObjectMap;
+    }
+
     @Override
     public void close() {
         workingSolution = null;
@@ -449,6 +593,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
+        childThreadSharedIdToWorkingObjectMap = null;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -459,6 +604,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        childThreadSharedIdToWorkingObjectMap = null;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
@@ -472,6 +618,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
+        childThreadSharedIdToWorkingObjectMap = null;
         variableListenerSupport.resetWorkingSolution(); // TODO do not nuke the variable listeners
     }
 
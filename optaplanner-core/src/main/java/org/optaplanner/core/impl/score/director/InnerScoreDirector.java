@@ -18,7 +18,10 @@ package org.optaplanner.core.impl.score.director;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
 
 import org.optaplanner.core.api.domain.entity.PlanningEntity;
 import org.optaplanner.core.api.domain.lookup.PlanningId;
@@ -36,6 +39,7 @@ import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 
@@ -107,6 +111,18 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void overwriteConstraintMatchEnabledPreference(boolean constraintMatchEnabledPreference);
 
+    /**
+     * Takes effect on the next {@link #setWorkingSolution(Object)} call.
+     * Ignored by a {@link ScoreDirector} implementation that can't attribute its work to constraints.
+     * @param constraintProfiler null to disable profiling
+     */
+    void overwriteConstraintProfiler(ConstraintProfiler constraintProfiler);
+
+    /**
+     * @return null if profiling is disabled
+     */
+    ConstraintProfiler getConstraintProfiler();
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
@@ -126,6 +142,46 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     void doAndProcessMove(Move<Solution_> move, boolean assertMoveScoreFromScratch, Consumer<Score_> moveProcessor);
 
+    /**
+     * Like {@link #doAndProcessMove(Move, boolean, Consumer)} for each move in order,
+     * but it can amortize the work that consecutive moves have in common,
+     * such as triggering the variable listeners for the undo of a move together with the next move.
+     * <p>
+     * Every move must be doable in the working solution as it is before this call.
+     *
+     * @param moveList never null, the moves to evaluate in order
+     * @param assertMoveScoreFromScratch true will hurt performance
+     * @param moveProcessor never null, called with the score of each move in order while that move is done,
+     * use this to store the score as well as call the acceptor and forager,
+     * return false to skip the remaining moves
+     * @param undoneMoveProcessor never null, called after each move is undone
+     * (unless the moveProcessor returned false for it) and before the next move is done,
+     * use this for checks that must not see a move applied, such as yielding and termination,
+     * return false to skip the remaining moves.
+     * The shadow variables might be stale during this call.
+     * @return false if the moveProcessor or the undoneMoveProcessor returned false
+     */
+    default boolean doAndProcessMoves(List<Move<Solution_>> moveList, boolean assertMoveScoreFromScratch,
+            Predicate<Score_> moveProcessor, BooleanSupplier undoneMoveProcessor) {
+        return doAndProcessMoves(moveList, assertMoveScoreFromScratch, moveProcessor, null, undoneMoveProcessor);
+    }
+
+    /**
+     * Like {@link #doAndProcessMoves(List, boolean, Predicate, BooleanSupplier)},
+     * but if this score director can calculate the score of a move packed in a long,
+     * it calls the packedMoveProcessor instead, so no {@link Score} is created for that move.
+     *
+     * @param moveList never null, the moves to evaluate in order
+     * @param assertMoveScoreFromScratch true will hurt performance, every score is created to assert it
+     * @param moveProcessor never null, called with the score of each move that isn't packed
+     * @param packedMoveProcessor sometimes null, called with the packed score of each move that is packed,
+     * see {@link ScoreDefinition#packScore(Score)}, which ignores the init score
+     * @param undoneMoveProcessor never null
+     * @return false if a processor returned false
+     */
+    boolean doAndProcessMoves(List<Move<Solution_>> moveList, boolean assertMoveScoreFromScratch,
+            Predicate<Score_> moveProcessor, LongPredicate packedMoveProcessor, BooleanSupplier undoneMoveProcessor);
+
     /**
      * @param expectedWorkingEntityListRevision an
      * @return true if the entityList might have a different set of instances now
@@ -94,6 +94,10 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                 solutionDescriptor.getScoreDefinition().getLevelsSize()));
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             scoreDirectorFactory.setAssertClonedSolution(true);
+            if (scoreDirectorFactory instanceof EasyScoreDirectorFactory) {
+                ((EasyScoreDirectorFactory<Solution_, Score_>) scoreDirectorFactory)
+                        .setAssertEntityContributionSum(true);
+            }
         }
         return scoreDirectorFactory;
     }
@@ -182,8 +186,19 @@ public class ScoreDirectorFactoryFactory<Solution_, Score_ extends Score<Score_>
                     config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
             ConstraintStreamImplType constraintStreamImplType_ = defaultIfNull(config.getConstraintStreamImplType(),
                     ConstraintStreamImplType.DROOLS);
+            int constraintStreamPartitionCount_ = defaultIfNull(config.getConstraintStreamPartitionCount(), 1);
+            if (constraintStreamPartitionCount_ < 1) {
+                throw new IllegalArgumentException("The constraintStreamPartitionCount ("
+                        + constraintStreamPartitionCount_ + ") must be at least 1.");
+            }
+            if (constraintStreamPartitionCount_ > 1 && constraintStreamImplType_ != ConstraintStreamImplType.BAVET) {
+                throw new IllegalArgumentException("The constraintStreamPartitionCount ("
+                        + constraintStreamPartitionCount_ + ") is not supported by the constraintStreamImplType ("
+                        + constraintStreamImplType_ + ").\n"
+                        + "Maybe use the constraintStreamImplType (" + ConstraintStreamImplType.BAVET + ").");
+            }
             return new ConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider,
-                    constraintStreamImplType_);
+                    constraintStreamImplType_, constraintStreamPartitionCount_);
         } else {
             if (config.getConstraintProviderCustomProperties() != null) {
                 throw new IllegalStateException("If there is no constraintProviderClass (" + config.getConstraintProviderClass()
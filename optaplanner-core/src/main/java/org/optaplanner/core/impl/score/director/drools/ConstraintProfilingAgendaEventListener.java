@@ -0,0 +1,62 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.director.drools;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.BeforeMatchFiredEvent;
+import org.kie.api.event.rule.DefaultAgendaEventListener;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
+
+/**
+ * Records the time spent firing the matches of each rule in a {@link ConstraintProfiler}:
+ * consequence time only.
+ * <p>
+ * Only the right hand side of a rule can be attributed to its constraint:
+ * the left hand side is evaluated while facts are inserted, updated and retracted,
+ * in network nodes that are often shared by multiple rules.
+ * Not thread-safe: a {@link org.kie.api.runtime.KieSession} fires its matches on a single thread.
+ */
+public final class ConstraintProfilingAgendaEventListener extends DefaultAgendaEventListener {
+
+    private final ConstraintProfiler constraintProfiler;
+    private final Map<Rule, ConstraintProfiler.Counter> ruleToCounterMap = new IdentityHashMap<>();
+
+    private long fireStartNanos = 0L;
+
+    public ConstraintProfilingAgendaEventListener(ConstraintProfiler constraintProfiler) {
+        this.constraintProfiler = constraintProfiler;
+    }
+
+    @Override
+    public void beforeMatchFired(BeforeMatchFiredEvent event) {
+        fireStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void afterMatchFired(AfterMatchFiredEvent event) {
+        long timeNanos = System.nanoTime() - fireStartNanos;
+        Rule rule = event.getMatch().getRule();
+        ConstraintProfiler.Counter counter = ruleToCounterMap.computeIfAbsent(rule,
+                k -> constraintProfiler.getCounter(rule.getPackageName(), rule.getName()));
+        counter.record(1L, timeNanos);
+    }
+
+}
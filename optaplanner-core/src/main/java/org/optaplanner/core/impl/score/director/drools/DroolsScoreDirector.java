@@ -17,7 +17,10 @@
 package org.optaplanner.core.impl.score.director.drools;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import org.kie.api.definition.rule.Rule;
@@ -49,13 +52,23 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
 
     protected KieSession kieSession;
     protected AbstractScoreHolder<Score_> scoreHolder;
+    /**
+     * Variable changes that haven't been sent to the {@link #kieSession} yet,
+     * so multiple changes of the same fact within 1 move result in a single {@link KieSession#update}.
+     * Flushed before every {@link KieSession#fireAllRules()}.
+     */
+    protected final Map<FactHandle, PendingUpdate> pendingUpdateMap = new LinkedHashMap<>();
 
     public DroolsScoreDirector(DroolsScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
     }
 
+    /**
+     * @return never null after {@link #setWorkingSolution(Object)}, the pending variable changes are flushed first
+     */
     public KieSession getKieSession() {
+        flushPendingUpdates();
         return kieSession;
     }
 
@@ -73,8 +86,12 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
         if (kieSession != null) {
             kieSession.dispose();
         }
+        pendingUpdateMap.clear();
         kieSession = scoreDirectorFactory.newKieSession();
         ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener());
+        if (constraintProfiler != null) {
+            kieSession.addEventListener(new ConstraintProfilingAgendaEventListener(constraintProfiler));
+        }
         resetScoreHolder();
         // TODO Adjust when uninitialized entities from getWorkingFacts get added automatically too (and call afterEntityAdded)
         Collection<Object> workingFacts = getWorkingFacts();
@@ -101,6 +118,7 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
+        flushPendingUpdates();
         kieSession.fireAllRules();
         Score_ score = scoreHolder.extractScore(workingInitScore);
         setCalculatedScore(score);
@@ -119,6 +137,7 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     "The method setWorkingSolution() must be called before the method getConstraintMatchTotalMap().");
         }
         // Notice that we don't trigger the variable listeners
+        flushPendingUpdates();
         kieSession.fireAllRules();
         return scoreHolder.getConstraintMatchTotalMap();
     }
@@ -130,6 +149,7 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     "The method setWorkingSolution() must be called before the method getIndictmentMap().");
         }
         // Notice that we don't trigger the variable listeners
+        flushPendingUpdates();
         kieSession.fireAllRules();
         return scoreHolder.getIndictmentMap();
     }
@@ -137,6 +157,7 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
     @Override
     public void close() {
         super.close();
+        pendingUpdateMap.clear();
         if (kieSession != null) {
             kieSession.dispose();
             kieSession = null;
@@ -185,7 +206,24 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     + PlanningSolution.class.getSimpleName() + "'s entity members ("
                     + getSolutionDescriptor().getEntityMemberAndEntityCollectionMemberNames() + ").");
         }
-        kieSession.update(factHandle, entity, variableName);
+        PendingUpdate pendingUpdate = pendingUpdateMap.get(factHandle);
+        if (pendingUpdate == null) {
+            pendingUpdateMap.put(factHandle, new PendingUpdate(entity, variableName));
+        } else {
+            pendingUpdate.addVariableName(variableName);
+        }
+    }
+
+    /**
+     * Sends each changed fact to the {@link #kieSession} only once,
+     * with all its changed variables, no matter how many times the move changed it.
+     */
+    protected void flushPendingUpdates() {
+        if (pendingUpdateMap.isEmpty()) {
+            return;
+        }
+        pendingUpdateMap.forEach((factHandle, pendingUpdate) -> pendingUpdate.flush(kieSession, factHandle));
+        pendingUpdateMap.clear();
     }
 
     // public void beforeEntityRemoved(EntityDescriptor entityDescriptor, Object entity) // Do nothing
@@ -200,6 +238,8 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     + PlanningSolution.class.getSimpleName() + "'s entity members ("
                     + getSolutionDescriptor().getEntityMemberAndEntityCollectionMemberNames() + ").");
         }
+        // A pending update of a deleted fact is pointless
+        pendingUpdateMap.remove(factHandle);
         kieSession.delete(factHandle);
         super.afterEntityRemoved(entityDescriptor, entity);
     }
@@ -238,6 +278,8 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     + "Maybe first translate that external instance to the workingSolution's instance"
                     + " with " + ScoreDirector.class.getSimpleName() + ".lookUpWorkingObject().");
         }
+        // Any property might have changed, so the pending update of the same fact is included
+        pendingUpdateMap.remove(factHandle);
         kieSession.update(factHandle, problemFactOrEntity);
         super.afterProblemPropertyChanged(problemFactOrEntity);
     }
@@ -256,8 +298,29 @@ public class DroolsScoreDirector<Solution_, Score_ extends Score<Score_>>
                     + "Maybe first translate that external instance to the workingSolution's instance"
                     + " with " + ScoreDirector.class.getSimpleName() + ".lookUpWorkingObject().");
         }
+        pendingUpdateMap.remove(factHandle);
         kieSession.delete(factHandle);
         super.afterProblemFactRemoved(problemFact);
     }
 
+    protected static final class PendingUpdate {
+
+        private final Object fact;
+        private final Set<String> variableNameSet = new LinkedHashSet<>(4);
+
+        public PendingUpdate(Object fact, String variableName) {
+            this.fact = fact;
+            variableNameSet.add(variableName);
+        }
+
+        public void addVariableName(String variableName) {
+            variableNameSet.add(variableName);
+        }
+
+        public void flush(KieSession kieSession, FactHandle factHandle) {
+            kieSession.update(factHandle, fact, variableNameSet.toArray(new String[0]));
+        }
+
+    }
+
 }
@@ -16,16 +16,23 @@
 
 package org.optaplanner.core.impl.score.director.easy;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.ScoreExplanation;
 import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.api.score.calculator.EntityContributionEasyScoreCalculator;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
 
 /**
@@ -33,6 +40,9 @@ import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
  * of the {@link PlanningSolution working solution} every time. This is non-incremental calculation, which is slow.
  * This score director implementation does not support {@link ScoreExplanation#getConstraintMatchTotalMap()} and
  * {@link ScoreExplanation#getIndictmentMap()}.
+ * <p>
+ * If the calculator is an {@link EntityContributionEasyScoreCalculator},
+ * it only recalculates the score contribution of the entities that changed since the last score calculation.
  *
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  * @param <Score_> the score type to go with the solution
@@ -42,12 +52,28 @@ public class EasyScoreDirector<Solution_, Score_ extends Score<Score_>>
         extends AbstractScoreDirector<Solution_, Score_, EasyScoreDirectorFactory<Solution_, Score_>> {
 
     private final EasyScoreCalculator<Solution_, Score_> easyScoreCalculator;
+    /** Null if the {@link #easyScoreCalculator} isn't an {@link EntityContributionEasyScoreCalculator}. */
+    private final EntityContributionEasyScoreCalculator<Solution_, Score_> entityContributionScoreCalculator;
+    /** Null if the score contribution of every entity needs to be (re)calculated. */
+    private Map<Object, Score_> entityToScoreMap = null;
+    /** The entities of which the score contribution in {@link #entityToScoreMap} is stale. */
+    private final Set<Object> dirtyEntitySet;
+    /** The sum of all values of {@link #entityToScoreMap}. */
+    private Score_ entityScoreSum = null;
 
     public EasyScoreDirector(EasyScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory,
             boolean lookUpEnabled, boolean constraintMatchEnabledPreference,
             EasyScoreCalculator<Solution_, Score_> easyScoreCalculator) {
         super(scoreDirectorFactory, lookUpEnabled, constraintMatchEnabledPreference);
         this.easyScoreCalculator = easyScoreCalculator;
+        if (easyScoreCalculator instanceof EntityContributionEasyScoreCalculator) {
+            entityContributionScoreCalculator =
+                    (EntityContributionEasyScoreCalculator<Solution_, Score_>) easyScoreCalculator;
+            dirtyEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+        } else {
+            entityContributionScoreCalculator = null;
+            dirtyEntitySet = null;
+        }
     }
 
     public EasyScoreCalculator<Solution_, Score_> getEasyScoreCalculator() {
@@ -58,10 +84,17 @@ public class EasyScoreDirector<Solution_, Score_ extends Score<Score_>>
     // Complex methods
     // ************************************************************************
 
+    @Override
+    public void setWorkingSolution(Solution_ workingSolution) {
+        super.setWorkingSolution(workingSolution);
+        resetEntityScores();
+    }
+
     @Override
     public Score_ calculateScore() {
         variableListenerSupport.assertNotificationQueuesAreEmpty();
-        Score_ score = easyScoreCalculator.calculateScore(workingSolution);
+        Score_ score = entityContributionScoreCalculator == null ? easyScoreCalculator.calculateScore(workingSolution)
+                : calculateEntityScoreSum();
         if (score == null) {
             throw new IllegalStateException("The easyScoreCalculator (" + easyScoreCalculator.getClass()
                     + ") must return a non-null score (" + score + ") in the method calculateScore().");
@@ -78,6 +111,69 @@ public class EasyScoreDirector<Solution_, Score_ extends Score<Score_>>
         return score;
     }
 
+    private Score_ calculateEntityScoreSum() {
+        if (entityToScoreMap == null) {
+            entityToScoreMap = new IdentityHashMap<>(getWorkingEntityCount());
+            Score_ scoreSum = getScoreDefinition().getZeroScore();
+            Iterator<Object> entityIterator = getSolutionDescriptor().extractAllEntitiesIterator(workingSolution);
+            while (entityIterator.hasNext()) {
+                Object entity = entityIterator.next();
+                Score_ entityScore = calculateEntityScore(entity);
+                entityToScoreMap.put(entity, entityScore);
+                scoreSum = scoreSum.add(entityScore);
+            }
+            entityScoreSum = scoreSum;
+            if (scoreDirectorFactory.isAssertEntityContributionSum()) {
+                assertEntityScoreSum();
+            }
+        } else {
+            for (Object entity : dirtyEntitySet) {
+                Score_ entityScore = calculateEntityScore(entity);
+                Score_ oldEntityScore = entityToScoreMap.put(entity, entityScore);
+                if (oldEntityScore != null) {
+                    entityScoreSum = entityScoreSum.subtract(oldEntityScore);
+                }
+                entityScoreSum = entityScoreSum.add(entityScore);
+            }
+        }
+        dirtyEntitySet.clear();
+        return entityScoreSum;
+    }
+
+    /**
+     * The score director's assertions compare a score with one calculated from scratch,
+     * but both of those are sums of {@link EntityContributionEasyScoreCalculator#calculateEntityScore(Object, Object)},
+     * so a broken entity contribution is only detected by comparing the sum with the full calculation.
+     */
+    private void assertEntityScoreSum() {
+        Score_ score = easyScoreCalculator.calculateScore(workingSolution);
+        if (!entityScoreSum.equals(score)) {
+            throw new IllegalStateException("Score corruption (" + entityScoreSum.subtract(score).toShortString()
+                    + "): the entityScoreSum (" + entityScoreSum + ") of the calculateEntityScore() calls"
+                    + " is not the score (" + score + ") of the calculateScore() call.\n"
+                    + "Maybe the easyScoreCalculator (" + easyScoreCalculator.getClass()
+                    + ") doesn't split the score correctly over the entities in calculateEntityScore().");
+        }
+    }
+
+    private Score_ calculateEntityScore(Object entity) {
+        Score_ entityScore = entityContributionScoreCalculator.calculateEntityScore(workingSolution, entity);
+        if (entityScore == null) {
+            throw new IllegalStateException("The easyScoreCalculator (" + easyScoreCalculator.getClass()
+                    + ") must return a non-null score (" + entityScore
+                    + ") in the method calculateEntityScore() for the entity (" + entity + ").");
+        }
+        return entityScore;
+    }
+
+    private void resetEntityScores() {
+        if (entityContributionScoreCalculator != null) {
+            entityToScoreMap = null;
+            entityScoreSum = null;
+            dirtyEntitySet.clear();
+        }
+    }
+
     /**
      * Always false, {@link ConstraintMatchTotal}s are not supported by this {@link ScoreDirector} implementation.
      *
@@ -112,4 +208,60 @@ public class EasyScoreDirector<Solution_, Score_ extends Score<Score_>>
                 + " is not supported by " + EasyScoreDirector.class.getSimpleName() + ".");
     }
 
+    // ************************************************************************
+    // Entity/variable add/change/remove methods
+    // ************************************************************************
+
+    @Override
+    public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        super.afterEntityAdded(entityDescriptor, entity);
+        if (entityToScoreMap != null) {
+            dirtyEntitySet.add(entity);
+        }
+    }
+
+    @Override
+    public void beforeVariableChanged(VariableDescriptor<Solution_> variableDescriptor, Object entity) {
+        super.beforeVariableChanged(variableDescriptor, entity);
+        if (entityToScoreMap != null) {
+            dirtyEntitySet.add(entity);
+        }
+    }
+
+    @Override
+    public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
+        super.afterEntityRemoved(entityDescriptor, entity);
+        if (entityToScoreMap != null) {
+            dirtyEntitySet.remove(entity);
+            Score_ oldEntityScore = entityToScoreMap.remove(entity);
+            if (oldEntityScore != null) {
+                entityScoreSum = entityScoreSum.subtract(oldEntityScore);
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Problem fact add/change/remove methods
+    // ************************************************************************
+
+    // A problem fact change can affect the score contribution of any entity
+
+    @Override
+    public void afterProblemFactAdded(Object problemFact) {
+        super.afterProblemFactAdded(problemFact);
+        resetEntityScores();
+    }
+
+    @Override
+    public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        super.afterProblemPropertyChanged(problemFactOrEntity);
+        resetEntityScores();
+    }
+
+    @Override
+    public void afterProblemFactRemoved(Object problemFact) {
+        super.afterProblemFactRemoved(problemFact);
+        resetEntityScores();
+    }
+
 }
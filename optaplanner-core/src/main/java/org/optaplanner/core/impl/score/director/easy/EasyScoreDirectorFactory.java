@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.score.director.easy;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.api.score.calculator.EntityContributionEasyScoreCalculator;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
@@ -36,12 +37,27 @@ public class EasyScoreDirectorFactory<Solution_, Score_ extends Score<Score_>>
 
     private final EasyScoreCalculator<Solution_, Score_> easyScoreCalculator;
 
+    protected boolean assertEntityContributionSum = false;
+
     public EasyScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             EasyScoreCalculator<Solution_, Score_> easyScoreCalculator) {
         super(solutionDescriptor);
         this.easyScoreCalculator = easyScoreCalculator;
     }
 
+    public boolean isAssertEntityContributionSum() {
+        return assertEntityContributionSum;
+    }
+
+    /**
+     * @param assertEntityContributionSum true if every from scratch calculation
+     * of an {@link EntityContributionEasyScoreCalculator} must be checked
+     * against {@link EasyScoreCalculator#calculateScore(Object)}, which is slow
+     */
+    public void setAssertEntityContributionSum(boolean assertEntityContributionSum) {
+        this.assertEntityContributionSum = assertEntityContributionSum;
+    }
+
     // ************************************************************************
     // Complex methods
     // ************************************************************************
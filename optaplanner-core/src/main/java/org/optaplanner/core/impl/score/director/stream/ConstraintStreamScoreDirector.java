@@ -24,6 +24,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirector;
@@ -61,7 +62,8 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         if (session != null) {
             session.close();
         }
-        session = scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution);
+        session = scoreDirectorFactory.newConstraintStreamingSession(constraintMatchEnabledPreference, workingSolution,
+                constraintProfiler);
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
         for (Object fact : workingFacts) {
             session.insert(fact);
@@ -76,6 +78,20 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
         return score;
     }
 
+    @Override
+    protected boolean isPackedScoreCalculationSupported() {
+        // A packed score has no init score
+        return workingInitScore == 0 && session.isPackedScoreSupported();
+    }
+
+    @Override
+    protected long calculatePackedScore() {
+        variableListenerSupport.assertNotificationQueuesAreEmpty();
+        long packedScore = session.calculatePackedScore();
+        calculationCount++;
+        return packedScore;
+    }
+
     @Override
     public boolean isConstraintMatchEnabled() {
         return constraintMatchEnabledPreference;
@@ -161,9 +177,21 @@ public class ConstraintStreamScoreDirector<Solution_, Score_ extends Score<Score
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
         session.update(problemFactOrEntity);
+        if (isConstraintConfiguration(problemFactOrEntity)
+                && !scoreDirectorFactory.changeConstraintWeights(session, workingSolution)) {
+            // The session can't rescale these constraint weights in place, so it reads them again from scratch
+            resetConstraintStreamingSession();
+        }
         super.afterProblemPropertyChanged(problemFactOrEntity);
     }
 
+    private boolean isConstraintConfiguration(Object problemFactOrEntity) {
+        MemberAccessor constraintConfigurationMemberAccessor =
+                getSolutionDescriptor().getConstraintConfigurationMemberAccessor();
+        return constraintConfigurationMemberAccessor != null
+                && constraintConfigurationMemberAccessor.executeGetter(workingSolution) == problemFactOrEntity;
+    }
+
     // public void beforeProblemFactRemoved(Object problemFact) // Do nothing
 
     @Override
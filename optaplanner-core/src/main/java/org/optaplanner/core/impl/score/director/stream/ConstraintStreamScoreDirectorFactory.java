@@ -25,6 +25,7 @@ import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
 import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.director.AbstractScoreDirectorFactory;
 import org.optaplanner.core.impl.score.director.ScoreDirectorFactory;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
@@ -49,13 +50,29 @@ public class ConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Scor
 
     public ConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, ConstraintStreamImplType constraintStreamImplType) {
+        this(solutionDescriptor, constraintProvider, constraintStreamImplType, 1);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintProvider never null
+     * @param constraintStreamImplType never null
+     * @param partitionCount at least 1, only {@link ConstraintStreamImplType#BAVET} supports more than 1
+     */
+    public ConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, ConstraintStreamImplType constraintStreamImplType,
+            int partitionCount) {
         super(solutionDescriptor);
         InnerConstraintFactory<Solution_> constraintFactory;
         switch (constraintStreamImplType) {
             case BAVET:
-                constraintFactory = new BavetConstraintFactory<>(solutionDescriptor);
+                constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, partitionCount);
                 break;
             case DROOLS:
+                if (partitionCount != 1) {
+                    throw new IllegalArgumentException("The partitionCount (" + partitionCount
+                            + ") is not supported by the constraintStreamImplType (" + constraintStreamImplType + ").");
+                }
                 constraintFactory = new DroolsConstraintFactory<>(solutionDescriptor);
                 break;
             default:
@@ -89,7 +106,38 @@ public class ConstraintStreamScoreDirectorFactory<Solution_, Score_ extends Scor
 
     public ConstraintSession<Solution_, Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
-        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution);
+        return newConstraintStreamingSession(constraintMatchEnabled, workingSolution, null);
+    }
+
+    public ConstraintSession<Solution_, Score_> newConstraintStreamingSession(boolean constraintMatchEnabled,
+            Solution_ workingSolution, ConstraintProfiler constraintProfiler) {
+        return constraintSessionFactory.buildSession(constraintMatchEnabled, workingSolution, constraintProfiler);
+    }
+
+    /**
+     * @param session never null
+     * @param workingSolution never null
+     * @return true if the session now uses the constraint weights of the workingSolution, false if it must be rebuilt
+     * @see ConstraintSessionFactory#changeConstraintWeights(ConstraintSession, Object)
+     */
+    public boolean changeConstraintWeights(ConstraintSession<Solution_, Score_> session, Solution_ workingSolution) {
+        return constraintSessionFactory.changeConstraintWeights(session, workingSolution);
+    }
+
+    /**
+     * @return 0 or higher
+     * @see ConstraintSessionFactory#getConstraintCompilationCacheHitCount()
+     */
+    public long getConstraintCompilationCacheHitCount() {
+        return constraintSessionFactory.getConstraintCompilationCacheHitCount();
+    }
+
+    /**
+     * @return 0 or higher
+     * @see ConstraintSessionFactory#getConstraintCompilationCacheMissCount()
+     */
+    public long getConstraintCompilationCacheMissCount() {
+        return constraintSessionFactory.getConstraintCompilationCacheMissCount();
     }
 
     // ************************************************************************
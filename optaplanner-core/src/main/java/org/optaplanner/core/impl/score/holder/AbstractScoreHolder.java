@@ -18,11 +18,12 @@ package org.optaplanner.core.impl.score.holder;
 
 import java.math.BigDecimal;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import org.drools.core.common.AgendaItem;
 import org.drools.core.spi.Activation;
@@ -41,23 +42,32 @@ import org.optaplanner.core.impl.score.director.drools.OptaPlannerRuleEventListe
 
 /**
  * Abstract superclass for {@link ScoreHolder}.
+ * <p>
+ * If constraint matching is enabled, a constraint match only remembers its activation and its score
+ * during solving. Its {@link ConstraintMatch} and {@link Indictment}s are only built
+ * by {@link #getConstraintMatchTotalMap()} or {@link #getIndictmentMap()}.
  *
  * @param <Score_> the {@link Score} type
  */
 public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implements ScoreHolder<Score_> {
 
     protected final boolean constraintMatchEnabled;
-    protected final Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap;
-    protected final Map<Object, Indictment<Score_>> indictmentMap;
     protected final Score_ zeroScore;
+    /** Always null if {@link #constraintMatchEnabled} is false. */
+    private final Map<Rule, Score_> ruleToConstraintWeightMap;
+    /** Always null if {@link #constraintMatchEnabled} is false. In the order in which they matched. */
+    private final Set<ConstraintActivationUnMatchListener> matchedListenerSet;
+    /** Null until it's needed and after every match or unmatch. */
+    private Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = null;
+    /** Null until it's needed and after every match or unmatch. */
+    private Map<Object, Indictment<Score_>> indictmentMap = null;
     private BiFunction<List<Object>, Rule, List<Object>> justificationListConverter = null;
 
     protected AbstractScoreHolder(boolean constraintMatchEnabled, Score_ zeroScore) {
         this.constraintMatchEnabled = constraintMatchEnabled;
         // TODO Can we set the initial capacity of this map more accurately? For example: number of rules
-        constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
-        // TODO Can we set the initial capacity of this map more accurately by using entitySize?
-        indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        ruleToConstraintWeightMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        matchedListenerSet = constraintMatchEnabled ? new LinkedHashSet<>() : null;
         this.zeroScore = zeroScore;
     }
 
@@ -70,6 +80,7 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
             throw new IllegalStateException("When constraintMatchEnabled (" + isConstraintMatchEnabled()
                     + ") is disabled in the constructor, this method should not be called.");
         }
+        buildConstraintMatches();
         return constraintMatchTotalMap;
     }
 
@@ -78,9 +89,45 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
             throw new IllegalStateException("When constraintMatchEnabled (" + isConstraintMatchEnabled()
                     + ") is disabled in the constructor, this method should not be called.");
         }
+        buildConstraintMatches();
         return indictmentMap;
     }
 
+    private void buildConstraintMatches() {
+        if (constraintMatchTotalMap != null) {
+            // Nothing matched or unmatched since the last time
+            return;
+        }
+        Map<String, ConstraintMatchTotal<Score_>> newConstraintMatchTotalMap =
+                new LinkedHashMap<>(ruleToConstraintWeightMap.size());
+        ruleToConstraintWeightMap.forEach((rule, constraintWeight) -> {
+            String constraintPackage = rule.getPackageName();
+            String constraintName = rule.getName();
+            String constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+            newConstraintMatchTotalMap.put(constraintId,
+                    new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight, zeroScore));
+        });
+        // TODO Can we set the initial capacity of this map more accurately by using entitySize?
+        Map<Object, Indictment<Score_>> newIndictmentMap = new LinkedHashMap<>();
+        for (ConstraintActivationUnMatchListener listener : matchedListenerSet) {
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal =
+                    findConstraintMatchTotal(newConstraintMatchTotalMap, listener.rule);
+            List<Object> justificationList = extractJustificationList(listener.activation, listener.rule);
+            ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList,
+                    listener.scoreSupplier.get());
+            justificationList.stream()
+                    .distinct() // One match might have the same justification twice
+                    .forEach(justification -> {
+                        DefaultIndictment<Score_> indictment =
+                                (DefaultIndictment<Score_>) newIndictmentMap.computeIfAbsent(justification,
+                                        k -> new DefaultIndictment<>(justification, zeroScore));
+                        indictment.addConstraintMatch(constraintMatch);
+                    });
+        }
+        constraintMatchTotalMap = newConstraintMatchTotalMap;
+        indictmentMap = newIndictmentMap;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -90,11 +137,9 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
             throw new IllegalStateException("The initScore (" + constraintWeight.getInitScore() + ") must be 0.");
         }
         if (constraintMatchEnabled) {
-            String constraintPackage = rule.getPackageName();
-            String constraintName = rule.getName();
-            String constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
-            constraintMatchTotalMap.put(constraintId,
-                    new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight, zeroScore));
+            ruleToConstraintWeightMap.put(rule, constraintWeight);
+            constraintMatchTotalMap = null;
+            indictmentMap = null;
         }
     }
 
@@ -114,27 +159,18 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
                 constraintUndoListener);
         agendaItem.setCallback(constraintActivationUnMatchListener);
         if (constraintMatchEnabled) {
-            List<Object> justificationList = extractJustificationList(kcontext);
-            // Not needed in fast code: Add ConstraintMatch
-            constraintActivationUnMatchListener.constraintMatchTotal = findConstraintMatchTotal(kcontext);
-            ConstraintMatch<Score_> constraintMatch = constraintActivationUnMatchListener.constraintMatchTotal
-                    .addConstraintMatch(justificationList, scoreSupplier.get());
-            List<DefaultIndictment<Score_>> indictmentList = justificationList.stream()
-                    .distinct() // One match might have the same justification twice
-                    .map(justification -> {
-                        DefaultIndictment<Score_> indictment =
-                                (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(justification,
-                                        k -> new DefaultIndictment<>(justification, zeroScore));
-                        indictment.addConstraintMatch(constraintMatch);
-                        return indictment;
-                    }).collect(Collectors.toList());
-            constraintActivationUnMatchListener.constraintMatch = constraintMatch;
-            constraintActivationUnMatchListener.indictmentList = indictmentList;
+            // Not needed in fast code: Remember the match, its ConstraintMatch is only built when it's requested
+            constraintActivationUnMatchListener.activation = agendaItem;
+            constraintActivationUnMatchListener.rule = kcontext.getRule();
+            constraintActivationUnMatchListener.scoreSupplier = scoreSupplier;
+            matchedListenerSet.add(constraintActivationUnMatchListener);
+            constraintMatchTotalMap = null;
+            indictmentMap = null;
         }
     }
 
-    private DefaultConstraintMatchTotal<Score_> findConstraintMatchTotal(RuleContext kcontext) {
-        Rule rule = kcontext.getRule();
+    private DefaultConstraintMatchTotal<Score_> findConstraintMatchTotal(
+            Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap, Rule rule) {
         String constraintPackage = rule.getPackageName();
         String constraintName = rule.getName();
         String constraintId = ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
@@ -192,13 +228,16 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
     public abstract Score_ extractScore(int initScore);
 
     protected List<Object> extractJustificationList(RuleContext kcontext) {
+        return extractJustificationList((Activation) kcontext.getMatch(), kcontext.getRule());
+    }
+
+    protected List<Object> extractJustificationList(Activation activation, Rule rule) {
         // Unlike kcontext.getMatch().getObjects(), this includes the matches of accumulate and exists
-        Activation activation = (Activation) kcontext.getMatch();
         List<Object> objects = activation.getObjectsDeep();
         if (justificationListConverter == null) {
             return objects;
         } else {
-            return justificationListConverter.apply(objects, kcontext.getRule());
+            return justificationListConverter.apply(objects, rule);
         }
     }
 
@@ -206,9 +245,9 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
 
         private final Runnable constraintUndoListener;
 
-        private DefaultConstraintMatchTotal<Score_> constraintMatchTotal;
-        private List<DefaultIndictment<Score_>> indictmentList;
-        private ConstraintMatch<Score_> constraintMatch;
+        private Activation activation;
+        private Rule rule;
+        private Supplier<Score_> scoreSupplier;
 
         public ConstraintActivationUnMatchListener(Runnable constraintUndoListener) {
             this.constraintUndoListener = constraintUndoListener;
@@ -218,14 +257,10 @@ public abstract class AbstractScoreHolder<Score_ extends Score<Score_>> implemen
         public final void run() {
             constraintUndoListener.run();
             if (constraintMatchEnabled) {
-                // Not needed in fast code: Remove ConstraintMatch
-                constraintMatchTotal.removeConstraintMatch(constraintMatch);
-                for (DefaultIndictment<Score_> indictment : indictmentList) {
-                    indictment.removeConstraintMatch(constraintMatch);
-                    if (indictment.getConstraintMatchSet().isEmpty()) {
-                        indictmentMap.remove(indictment.getJustification());
-                    }
-                }
+                // Not needed in fast code: Forget the match
+                matchedListenerSet.remove(this);
+                constraintMatchTotalMap = null;
+                indictmentMap = null;
             }
         }
     }
@@ -18,18 +18,75 @@ package org.optaplanner.core.impl.score.inliner;
 
 import java.math.BigDecimal;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
-@FunctionalInterface
+/**
+ * Impacts the score of its {@link ScoreInliner} for a single constraint.
+ * The caller remembers the matchWeight of each match, so undoing a match doesn't allocate an {@link UndoScoreImpacter}.
+ */
 public interface BigDecimalWeightedScoreImpacter extends WeightedScoreImpacter {
 
     /**
+     * Negating the matchWeight undoes the impact exactly.
+     * @param scoreImpacter never null, adds the impact of a matchWeight to the score
+     * @param matchScoreBuilder never null, builds the impact of a matchWeight as a {@link Score}
+     * @return never null
+     */
+    static BigDecimalWeightedScoreImpacter of(Consumer<BigDecimal> scoreImpacter,
+            Function<BigDecimal, Score<?>> matchScoreBuilder) {
+        return new BigDecimalWeightedScoreImpacter() {
+            @Override
+            public void impactScore(BigDecimal matchWeight) {
+                scoreImpacter.accept(matchWeight);
+            }
+
+            @Override
+            public void undoScoreImpact(BigDecimal matchWeight) {
+                scoreImpacter.accept(matchWeight.negate());
+            }
+
+            @Override
+            public Score<?> buildMatchScore(BigDecimal matchWeight) {
+                return matchScoreBuilder.apply(matchWeight);
+            }
+        };
+    }
+
+    /**
+     * Adds the impact of a match to the score, without allocating anything besides the BigDecimal arithmetic.
+     * @param matchWeight never null
+     */
+    void impactScore(BigDecimal matchWeight);
+
+    /**
+     * Reverts an earlier {@link #impactScore(BigDecimal)} call.
+     * @param matchWeight never null, the same matchWeight as the impactScore() call
+     */
+    void undoScoreImpact(BigDecimal matchWeight);
+
+    /**
+     * Only called if {@link InnerScoreDirector#isConstraintMatchEnabled()} is true.
+     * @param matchWeight never null
+     * @return never null, the impact of the match on the score
+     */
+    Score<?> buildMatchScore(BigDecimal matchWeight);
+
+    /**
+     * Convenience method that allocates an {@link UndoScoreImpacter} per match.
+     * Prefer {@link #impactScore(BigDecimal)} and {@link #undoScoreImpact(BigDecimal)} on a hot path.
      * @param matchWeight never null
-     * @param scoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
+     * @param matchScoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
      * @return never null
      */
-    UndoScoreImpacter impactScore(BigDecimal matchWeight, Consumer<Score<?>> scoreConsumer);
+    default UndoScoreImpacter impactScore(BigDecimal matchWeight, Consumer<Score<?>> matchScoreConsumer) {
+        impactScore(matchWeight);
+        if (matchScoreConsumer != null) {
+            matchScoreConsumer.accept(buildMatchScore(matchWeight));
+        }
+        return () -> undoScoreImpact(matchWeight);
+    }
 
 }
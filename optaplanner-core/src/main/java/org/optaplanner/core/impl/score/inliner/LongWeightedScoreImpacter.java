@@ -17,18 +17,75 @@
 package org.optaplanner.core.impl.score.inliner;
 
 import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
-@FunctionalInterface
+/**
+ * Impacts the score of its {@link ScoreInliner} for a single constraint.
+ * The caller remembers the matchWeight of each match, so undoing a match doesn't allocate an {@link UndoScoreImpacter}.
+ */
 public interface LongWeightedScoreImpacter extends WeightedScoreImpacter {
 
     /**
-     * @param matchWeight never null
-     * @param scoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
+     * Negating the matchWeight undoes the impact exactly, even if the multiplication overflows.
+     * @param scoreImpacter never null, adds the impact of a matchWeight to the score
+     * @param matchScoreBuilder never null, builds the impact of a matchWeight as a {@link Score}
+     * @return never null
+     */
+    static LongWeightedScoreImpacter of(LongConsumer scoreImpacter, LongFunction<Score<?>> matchScoreBuilder) {
+        return new LongWeightedScoreImpacter() {
+            @Override
+            public void impactScore(long matchWeight) {
+                scoreImpacter.accept(matchWeight);
+            }
+
+            @Override
+            public void undoScoreImpact(long matchWeight) {
+                scoreImpacter.accept(-matchWeight);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(long matchWeight) {
+                return matchScoreBuilder.apply(matchWeight);
+            }
+        };
+    }
+
+    /**
+     * Adds the impact of a match to the score, without allocating anything.
+     * @param matchWeight the weight of the match, multiplied by the constraint weight to get its impact
+     */
+    void impactScore(long matchWeight);
+
+    /**
+     * Reverts an earlier {@link #impactScore(long)} call.
+     * @param matchWeight the same matchWeight as the impactScore() call
+     */
+    void undoScoreImpact(long matchWeight);
+
+    /**
+     * Only called if {@link InnerScoreDirector#isConstraintMatchEnabled()} is true.
+     * @param matchWeight the weight of the match, multiplied by the constraint weight to get its impact
+     * @return never null, the impact of the match on the score
+     */
+    Score<?> buildMatchScore(long matchWeight);
+
+    /**
+     * Convenience method that allocates an {@link UndoScoreImpacter} per match.
+     * Prefer {@link #impactScore(long)} and {@link #undoScoreImpact(long)} on a hot path.
+     * @param matchWeight the weight of the match, multiplied by the constraint weight to get its impact
+     * @param matchScoreConsumer null if {@link InnerScoreDirector#isConstraintMatchEnabled()} is false
      * @return never null
      */
-    UndoScoreImpacter impactScore(long matchWeight, Consumer<Score<?>> scoreConsumer);
+    default UndoScoreImpacter impactScore(long matchWeight, Consumer<Score<?>> matchScoreConsumer) {
+        impactScore(matchWeight);
+        if (matchScoreConsumer != null) {
+            matchScoreConsumer.accept(buildMatchScore(matchWeight));
+        }
+        return () -> undoScoreImpact(matchWeight);
+    }
 
 }
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.inliner;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 
 public abstract class ScoreInliner<Score_ extends Score<Score_>> {
 
@@ -28,6 +29,24 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
 
     public abstract Score_ extractScore(int initScore);
 
+    /**
+     * @return true if {@link #extractPackedScore()} can pack every score of this inliner
+     */
+    public boolean isPackedScoreSupported() {
+        return false;
+    }
+
+    /**
+     * Like {@link ScoreDefinition#packScore(Score)} on {@link #extractScore(int)} with initScore 0,
+     * but without creating the {@link Score}.
+     *
+     * @return the packed levels
+     * @throws UnsupportedOperationException if {@link #isPackedScoreSupported()} is false
+     */
+    public long extractPackedScore() {
+        throw new UnsupportedOperationException("The scoreInliner (" + this + ") does not support packing its score.");
+    }
+
     public abstract WeightedScoreImpacter buildWeightedScoreImpacter(Score_ constraintWeight);
 
 }
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
@@ -36,6 +37,25 @@ public interface ConstraintSession<Solution_, Score_ extends Score<Score_>> exte
 
     Score_ calculateScore(int initScore);
 
+    /**
+     * @return true if {@link #calculatePackedScore()} is supported
+     */
+    default boolean isPackedScoreSupported() {
+        return false;
+    }
+
+    /**
+     * Like {@link #calculateScore(int)} with initScore 0, but packs the levels into a long
+     * instead of creating a {@link Score}, see {@link ScoreDefinition#packScore(Score)}.
+     *
+     * @return the packed levels
+     * @throws UnsupportedOperationException if {@link #isPackedScoreSupported()} is false
+     */
+    default long calculatePackedScore() {
+        throw new UnsupportedOperationException("The session (" + getClass().getSimpleName()
+                + ") does not support packed score calculation.");
+    }
+
     /**
      * As defined by {@link InnerScoreDirector#getConstraintMatchTotalMap()}.
      *
@@ -50,6 +70,21 @@ public interface ConstraintSession<Solution_, Score_ extends Score<Score_>> exte
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * Changes the constraint weights of this live session,
+     * so only the current matches of each changed constraint are rescaled, instead of rebuilding the session.
+     * Does nothing and returns false if the session doesn't support it for these weights,
+     * for example because a constraint weight changes from or to zero, which adds or removes a constraint.
+     * In that case, the caller must build a new session.
+     *
+     * @param constraintIdToWeightMap never null, the constraint weight of every constraint,
+     * mapped by {@link ConstraintMatchTotal#getConstraintId()}
+     * @return true if the constraint weights were changed
+     */
+    default boolean changeConstraintWeights(Map<String, Score_> constraintIdToWeightMap) {
+        return false;
+    }
+
     @Override
     void close();
 
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.stream;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 public interface ConstraintSessionFactory<Solution_, Score_ extends Score<Score_>> {
@@ -28,6 +29,54 @@ public interface ConstraintSessionFactory<Solution_, Score_ extends Score<Score_
      * @param workingSolution if null, uniform synthetic constraint weights will be applied
      * @return never null
      */
-    ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution);
+    default ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
+            Solution_ workingSolution) {
+        return buildSession(constraintMatchEnabled, workingSolution, null);
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @param constraintMatchEnabled true if {@link InnerScoreDirector#isConstraintMatchEnabled()} should be true
+     * @param workingSolution if null, uniform synthetic constraint weights will be applied
+     * @param constraintProfiler null if profiling is disabled,
+     * otherwise the session records the time and the evaluation count of each constraint in it
+     * @return never null
+     */
+    ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution,
+            ConstraintProfiler constraintProfiler);
+
+    /**
+     * Reads the constraint weights of the working solution again
+     * and passes them to {@link ConstraintSession#changeConstraintWeights(Map)}.
+     *
+     * @param session never null, built by this factory
+     * @param workingSolution never null
+     * @return true if the constraint weights were changed, false if the session must be rebuilt
+     */
+    default boolean changeConstraintWeights(ConstraintSession<Solution_, Score_> session, Solution_ workingSolution) {
+        return false;
+    }
+
+    /**
+     * Some implementations compile the constraints again for every set of constraints
+     * that zero constraint weights disable, and cache those compilations.
+     *
+     * @return 0 or higher, how many times {@link #buildSession(boolean, Object, ConstraintProfiler)}
+     * reused a cached compilation, always 0 if this implementation doesn't cache compilations
+     */
+    default long getConstraintCompilationCacheHitCount() {
+        return 0L;
+    }
+
+    /**
+     * @return 0 or higher, how many times {@link #buildSession(boolean, Object, ConstraintProfiler)}
+     * had to compile the constraints because no cached compilation was available,
+     * always 0 if this implementation doesn't cache compilations
+     * @see #getConstraintCompilationCacheHitCount()
+     */
+    default long getConstraintCompilationCacheMissCount() {
+        return 0L;
+    }
 
 }
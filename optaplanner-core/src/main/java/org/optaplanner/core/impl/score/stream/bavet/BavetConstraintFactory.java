@@ -33,9 +33,19 @@ public final class BavetConstraintFactory<Solution_> extends InnerConstraintFact
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final String defaultConstraintPackage;
+    private final int partitionCount;
 
     public BavetConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this(solutionDescriptor, 1);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param partitionCount at least 1, see {@link BavetConstraintSessionFactory}
+     */
+    public BavetConstraintFactory(SolutionDescriptor<Solution_> solutionDescriptor, int partitionCount) {
         this.solutionDescriptor = solutionDescriptor;
+        this.partitionCount = partitionCount;
         ConstraintConfigurationDescriptor<Solution_> configurationDescriptor = solutionDescriptor
                 .getConstraintConfigurationDescriptor();
         if (configurationDescriptor == null) {
@@ -78,7 +88,7 @@ public final class BavetConstraintFactory<Solution_> extends InnerConstraintFact
             BavetConstraint<Solution_> bavetConstraint = (BavetConstraint) constraint;
             bavetConstraintList.add(bavetConstraint);
         }
-        return new BavetConstraintSessionFactory<>(solutionDescriptor, bavetConstraintList);
+        return new BavetConstraintSessionFactory<>(solutionDescriptor, bavetConstraintList, partitionCount);
     }
 
     // ************************************************************************
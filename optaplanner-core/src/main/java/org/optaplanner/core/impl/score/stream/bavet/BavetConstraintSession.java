@@ -16,24 +16,27 @@
 
 package org.optaplanner.core.impl.score.stream.bavet;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Objects;
+import java.util.Set;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetDirtyTupleQueue;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
@@ -48,12 +51,14 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     private final ScoreInliner<Score_> scoreInliner;
 
     private final Map<Class<?>, BavetFromUniNode<Object>> declaredClassToNodeMap;
-    private final int nodeOrderSize;
     private final Map<String, BavetScoringNode> constraintIdToScoringNodeMap;
+    private final List<Set<String>> nodeSharingConstraintIdSetList;
+    /** Always null if {@link #constraintMatchEnabled} is false. */
+    private final Map<Object, Indictment<Score_>> indictmentMap;
 
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
 
-    private final List<Queue<BavetAbstractTuple>> nodeOrderedQueueList;
+    private final BavetDirtyTupleQueue dirtyTupleQueue;
     private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
 
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
@@ -61,18 +66,18 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         this.constraintMatchEnabled = constraintMatchEnabled;
         this.zeroScore = scoreDefinition.getZeroScore();
         this.scoreInliner = scoreDefinition.buildScoreInliner(constraintMatchEnabled);
+        indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
         declaredClassToNodeMap = new HashMap<>(50);
         BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this, constraintToWeightMap.size());
         constraintToWeightMap.forEach((constraint, constraintWeight) -> {
+            buildPolicy.startConstraint(constraint.getConstraintId());
             constraint.createNodes(buildPolicy, declaredClassToNodeMap, constraintWeight);
         });
-        this.nodeOrderSize = buildPolicy.getNodeOrderMaximum() + 1;
+        int nodeOrderSize = buildPolicy.getNodeOrderMaximum() + 1;
         constraintIdToScoringNodeMap = buildPolicy.getConstraintIdToScoringNodeMap();
+        nodeSharingConstraintIdSetList = buildPolicy.buildNodeSharingConstraintIdSetList();
         effectiveClassToNodeListMap = new HashMap<>(declaredClassToNodeMap.size());
-        nodeOrderedQueueList = new ArrayList<>(nodeOrderSize);
-        for (int i = 0; i < nodeOrderSize; i++) {
-            nodeOrderedQueueList.add(new ArrayDeque<>(1000));
-        }
+        dirtyTupleQueue = new BavetDirtyTupleQueue(nodeOrderSize, 16);
         fromTupleListMap = new IdentityHashMap<>(1000);
     }
 
@@ -92,6 +97,10 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     public void insert(Object fact) {
         Class<?> factClass = fact.getClass();
         List<BavetFromUniNode<Object>> fromNodeList = findFromNodeList(factClass);
+        if (fromNodeList.isEmpty()) {
+            // No constraint reads this fact, so don't spend memory on it, especially for large problem fact sets
+            return;
+        }
         List<BavetFromUniTuple<Object>> tupleList = new ArrayList<>(fromNodeList.size());
         List<BavetFromUniTuple<Object>> old = fromTupleListMap.put(fact, tupleList);
         if (old != null) {
@@ -108,6 +117,9 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     public void update(Object fact) {
         List<BavetFromUniTuple<Object>> tupleList = fromTupleListMap.get(fact);
         if (tupleList == null) {
+            if (findFromNodeList(fact.getClass()).isEmpty()) {
+                return;
+            }
             throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot update.");
         }
         for (BavetFromUniTuple<Object> tuple : tupleList) {
@@ -119,6 +131,9 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     public void retract(Object fact) {
         List<BavetFromUniTuple<Object>> tupleList = fromTupleListMap.remove(fact);
         if (tupleList == null) {
+            if (findFromNodeList(fact.getClass()).isEmpty()) {
+                return;
+            }
             throw new IllegalStateException("The fact (" + fact + ") was never inserted, so it cannot retract.");
         }
         for (BavetFromUniTuple<Object> tuple : tupleList) {
@@ -126,9 +141,51 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         }
     }
 
+    @Override
+    public boolean changeConstraintWeights(Map<String, Score_> constraintIdToWeightMap) {
+        if (!hasSameConstraints(constraintIdToWeightMap)) {
+            return false;
+        }
+        constraintIdToScoringNodeMap.forEach((constraintId, scoringNode) -> {
+            Score_ constraintWeight = constraintIdToWeightMap.get(constraintId);
+            if (!constraintWeight.equals(scoringNode.getConstraintWeight())) {
+                scoringNode.changeConstraintWeight(constraintWeight);
+            }
+        });
+        return true;
+    }
+
+    /**
+     * @param constraintIdToWeightMap never null
+     * @return true if exactly the constraints of this session have a non-zero weight,
+     * because a zero weight constraint has no nodes
+     */
+    public boolean hasSameConstraints(Map<String, Score_> constraintIdToWeightMap) {
+        return hasSameConstraints(constraintIdToScoringNodeMap.keySet(), zeroScore, constraintIdToWeightMap);
+    }
+
+    static <Score_ extends Score<Score_>> boolean hasSameConstraints(Set<String> constraintIdSet, Score_ zeroScore,
+            Map<String, Score_> constraintIdToWeightMap) {
+        int nonZeroCount = 0;
+        for (Map.Entry<String, Score_> entry : constraintIdToWeightMap.entrySet()) {
+            if (entry.getValue().equals(zeroScore)) {
+                if (constraintIdSet.contains(entry.getKey())) {
+                    return false;
+                }
+            } else {
+                if (!constraintIdSet.contains(entry.getKey())) {
+                    return false;
+                }
+                nonZeroCount++;
+            }
+        }
+        return nonZeroCount == constraintIdSet.size();
+    }
+
     public void transitionTuple(BavetAbstractTuple tuple, BavetTupleState newState) {
         if (tuple.isDirty()) {
-            if (tuple.getState() != newState) {
+            // An update is implied by any pending state: CREATING and UPDATING reread the facts, DYING ignores them
+            if (tuple.getState() != newState && newState != BavetTupleState.UPDATING) {
                 if ((tuple.getState() == BavetTupleState.CREATING && newState == BavetTupleState.DYING)) {
                     tuple.setState(BavetTupleState.ABORTING);
                 } else if ((tuple.getState() == BavetTupleState.UPDATING && newState == BavetTupleState.DYING)) {
@@ -143,51 +200,95 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
             return;
         }
         tuple.setState(newState);
-        nodeOrderedQueueList.get(tuple.getNodeOrder()).add(tuple);
+        dirtyTupleQueue.add(tuple);
     }
 
     @Override
     public Score_ calculateScore(int initScore) {
-        for (int i = 0; i < nodeOrderSize; i++) {
-            Queue<BavetAbstractTuple> queue = nodeOrderedQueueList.get(i);
-            BavetAbstractTuple tuple = queue.poll();
-            while (tuple != null) {
-                tuple.refresh();
-                tuple = queue.poll();
-            }
-        }
+        dirtyTupleQueue.refreshAll();
         return scoreInliner.extractScore(initScore);
     }
 
+    @Override
+    public boolean isPackedScoreSupported() {
+        return scoreInliner.isPackedScoreSupported();
+    }
+
+    @Override
+    public long calculatePackedScore() {
+        dirtyTupleQueue.refreshAll();
+        return scoreInliner.extractPackedScore();
+    }
+
     @Override
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
         Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = new LinkedHashMap<>(
                 constraintIdToScoringNodeMap.size());
         constraintIdToScoringNodeMap.forEach((constraintId, scoringNode) -> {
-            ConstraintMatchTotal<Score_> constraintMatchTotal = scoringNode.buildConstraintMatchTotal(zeroScore);
+            ConstraintMatchTotal<Score_> constraintMatchTotal = scoringNode.getConstraintMatchTotal();
             constraintMatchTotalMap.put(constraintId, constraintMatchTotal);
         });
-        return constraintMatchTotalMap;
+        return Collections.unmodifiableMap(constraintMatchTotalMap);
     }
 
     @Override
     public Map<Object, Indictment<Score_>> getIndictmentMap() {
-        // TODO This is temporary, inefficient code, replace it!
-        Map<Object, Indictment<Score_>> indictmentMap = new LinkedHashMap<>(); // TODO use entitySize
-        Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = getConstraintMatchTotalMap();
-        for (ConstraintMatchTotal<Score_> constraintMatchTotal : constraintMatchTotalMap.values()) {
-            for (ConstraintMatch<Score_> constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
-                constraintMatch.getJustificationList().stream()
-                        .distinct() // One match might have the same justification twice
-                        .forEach(justification -> {
-                            DefaultIndictment<Score_> indictment =
-                                    (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(justification,
-                                            k -> new DefaultIndictment<>(justification, zeroScore));
-                            indictment.addConstraintMatch(constraintMatch);
-                        });
+        return Collections.unmodifiableMap(indictmentMap);
+    }
+
+    /**
+     * Adds a match to its {@link ConstraintMatchTotal} and to the {@link Indictment} of each of its justifications,
+     * so explaining the score doesn't need to revisit the matches that didn't change.
+     * @param constraintMatchTotal never null
+     * @param justificationList never null
+     * @param matchScore never null
+     * @return never null, to pass to {@link #removeConstraintMatch(DefaultConstraintMatchTotal, ConstraintMatch)}
+     */
+    public ConstraintMatch<Score_> addConstraintMatch(DefaultConstraintMatchTotal<Score_> constraintMatchTotal,
+            List<Object> justificationList, Score_ matchScore) {
+        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, matchScore);
+        for (int i = 0; i < justificationList.size(); i++) {
+            Object justification = justificationList.get(i);
+            // One match might have the same justification twice
+            if (!isFirstOccurrence(justificationList, i)) {
+                continue;
+            }
+            DefaultIndictment<Score_> indictment = (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(
+                    justification, k -> new DefaultIndictment<>(justification, zeroScore));
+            indictment.addConstraintMatch(constraintMatch);
+        }
+        return constraintMatch;
+    }
+
+    public void removeConstraintMatch(DefaultConstraintMatchTotal<Score_> constraintMatchTotal,
+            ConstraintMatch<Score_> constraintMatch) {
+        constraintMatchTotal.removeConstraintMatch(constraintMatch);
+        List<Object> justificationList = constraintMatch.getJustificationList();
+        for (int i = 0; i < justificationList.size(); i++) {
+            Object justification = justificationList.get(i);
+            if (!isFirstOccurrence(justificationList, i)) {
+                continue;
+            }
+            DefaultIndictment<Score_> indictment = (DefaultIndictment<Score_>) indictmentMap.get(justification);
+            if (indictment == null) {
+                throw new IllegalStateException("Impossible state: the justification (" + justification
+                        + ") of the constraintMatch (" + constraintMatch + ") has no indictment.");
+            }
+            indictment.removeConstraintMatch(constraintMatch);
+            if (indictment.getConstraintMatchSet().isEmpty()) {
+                indictmentMap.remove(justification);
             }
         }
-        return indictmentMap;
+    }
+
+    private static boolean isFirstOccurrence(List<Object> justificationList, int index) {
+        Object justification = justificationList.get(index);
+        for (int i = 0; i < index; i++) {
+            if (Objects.equals(justificationList.get(i), justification)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -206,4 +307,31 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         return scoreInliner;
     }
 
+    public Score_ getZeroScore() {
+        return zeroScore;
+    }
+
+    /**
+     * @return never null, the {@link ConstraintMatchTotal#getConstraintId()} of every constraint in this session
+     */
+    public Set<String> getConstraintIdSet() {
+        return constraintIdToScoringNodeMap.keySet();
+    }
+
+    /**
+     * Constraints in different sets share no nodes, except for the from nodes,
+     * so they can be calculated in different sessions without duplicating any other node.
+     * @return never null, every {@link ConstraintMatchTotal#getConstraintId()} of this session is in exactly 1 set
+     */
+    public List<Set<String>> getNodeSharingConstraintIdSetList() {
+        return nodeSharingConstraintIdSetList;
+    }
+
+    /**
+     * @return {@code >= 0}, the number of tuples refreshed by all score calculations of this session
+     */
+    public long getRefreshedTupleCount() {
+        return dirtyTupleQueue.getRefreshCount();
+    }
+
 }
@@ -16,12 +16,21 @@
 
 package org.optaplanner.core.impl.score.stream.bavet;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
 import org.optaplanner.core.impl.score.stream.ConstraintSession;
 import org.optaplanner.core.impl.score.stream.ConstraintSessionFactory;
@@ -31,11 +40,57 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final List<BavetConstraint<Solution_>> constraintList;
+    private final int partitionCount;
+    /**
+     * The node sharing groups of all constraints, regardless of their weight, see
+     * {@link BavetConstraintSession#getNodeSharingConstraintIdSetList()}.
+     * Null if {@link #partitionCount} is 1.
+     */
+    private final List<Set<String>> nodeSharingConstraintIdSetList;
+    /**
+     * Maps the ids of the non-zero weighted constraints to the constraint ids of each partition,
+     * so the partitions are only spread once per set of enabled constraints.
+     * Concurrent because the move threads build their sessions at the same time.
+     */
+    private final Map<Set<String>, List<Set<String>>> enabledConstraintIdSetToPartitionListMap =
+            new ConcurrentHashMap<>();
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             List<BavetConstraint<Solution_>> constraintList) {
+        this(solutionDescriptor, constraintList, 1);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintList never null
+     * @param partitionCount at least 1, if higher than 1 the constraints are spread over at most that many
+     * {@link BavetConstraintSession}s, see {@link BavetPartitionedConstraintSession}
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            List<BavetConstraint<Solution_>> constraintList, int partitionCount) {
         this.solutionDescriptor = solutionDescriptor;
         this.constraintList = constraintList;
+        this.partitionCount = partitionCount;
+        nodeSharingConstraintIdSetList = partitionCount > 1 ? buildNodeSharingConstraintIdSetList() : null;
+    }
+
+    /**
+     * Builds the node network of all constraints only once, instead of once per {@link #buildSession}.
+     * The constraint weight doesn't influence node sharing, so every constraint gets the same weight.
+     * @return never null
+     */
+    private List<Set<String>> buildNodeSharingConstraintIdSetList() {
+        ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
+        Score_ constraintWeight = scoreDefinition.getOneSoftestScore();
+        Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap = new LinkedHashMap<>(constraintList.size());
+        for (BavetConstraint<Solution_> constraint : constraintList) {
+            constraintToWeightMap.put(constraint, constraintWeight);
+        }
+        BavetConstraintSession<Solution_, Score_> session = new BavetConstraintSession<>(false,
+                scoreDefinition, constraintToWeightMap);
+        List<Set<String>> constraintIdSetList = session.getNodeSharingConstraintIdSetList();
+        session.close();
+        return constraintIdSetList;
     }
 
     // ************************************************************************
@@ -44,7 +99,7 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     @Override
     public ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
-            Solution_ workingSolution) {
+            Solution_ workingSolution, ConstraintProfiler constraintProfiler) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap = new LinkedHashMap<>(constraintList.size());
@@ -54,7 +109,96 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                 constraintToWeightMap.put(constraint, constraintWeight);
             }
         }
-        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        if (constraintProfiler != null) {
+            // 1 partition per constraint, so the time of each partition belongs to a single constraint.
+            // This duplicates the nodes that constraints normally share, so the profiled times add up to more
+            // than an unprofiled score calculation, as documented in ConstraintProfile.getTimeNanos().
+            List<Map<BavetConstraint<Solution_>, Score_>> partitionMapList = new ArrayList<>(
+                    constraintToWeightMap.size());
+            constraintToWeightMap.forEach((constraint, constraintWeight) -> partitionMapList.add(
+                    Collections.singletonMap(constraint, constraintWeight)));
+            return new BavetPartitionedConstraintSession<>(constraintMatchEnabled, scoreDefinition,
+                    constraintToWeightMap.keySet(), partitionMapList, constraintProfiler);
+        }
+        if (partitionCount <= 1) {
+            return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        }
+        Set<String> enabledConstraintIdSet = new HashSet<>(constraintToWeightMap.size());
+        for (BavetConstraint<Solution_> constraint : constraintToWeightMap.keySet()) {
+            enabledConstraintIdSet.add(constraint.getConstraintId());
+        }
+        List<Set<String>> partitionList = enabledConstraintIdSetToPartitionListMap.computeIfAbsent(
+                enabledConstraintIdSet, this::buildPartitionList);
+        if (partitionList.size() <= 1) {
+            return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        }
+        List<Map<BavetConstraint<Solution_>, Score_>> partitionMapList = new ArrayList<>(partitionList.size());
+        for (Set<String> partition : partitionList) {
+            partitionMapList.add(new LinkedHashMap<>(partition.size()));
+        }
+        constraintToWeightMap.forEach((constraint, constraintWeight) -> {
+            String constraintId = constraint.getConstraintId();
+            for (int i = 0; i < partitionList.size(); i++) {
+                if (partitionList.get(i).contains(constraintId)) {
+                    partitionMapList.get(i).put(constraint, constraintWeight);
+                    break;
+                }
+            }
+        });
+        return new BavetPartitionedConstraintSession<>(constraintMatchEnabled, scoreDefinition,
+                constraintToWeightMap.keySet(), partitionMapList);
+    }
+
+    /**
+     * Constraints that share nodes stay in the same partition, so no node other than a from node is duplicated.
+     * The groups of node sharing constraints are spread over the partitions largest first,
+     * each into the partition with the fewest constraints so far.
+     * Disabled constraints are left out of those groups, but still keep the constraints they connect together.
+     * @param enabledConstraintIdSet never null, the ids of the non-zero weighted constraints
+     * @return never null, the constraint ids of each partition, at most {@link #partitionCount} partitions
+     * and only 1 if the enabled constraints can't be split
+     */
+    private List<Set<String>> buildPartitionList(Set<String> enabledConstraintIdSet) {
+        List<Set<String>> constraintIdSetList = nodeSharingConstraintIdSetList.stream()
+                .map(constraintIdSet -> constraintIdSet.stream()
+                        .filter(enabledConstraintIdSet::contains)
+                        .collect(Collectors.toSet()))
+                .filter(constraintIdSet -> !constraintIdSet.isEmpty())
+                .collect(Collectors.toList());
+        int effectivePartitionCount = Math.min(partitionCount, constraintIdSetList.size());
+        if (effectivePartitionCount <= 1) {
+            return Collections.singletonList(enabledConstraintIdSet);
+        }
+        List<Set<String>> sortedConstraintIdSetList = new ArrayList<>(constraintIdSetList);
+        // Stable sort, so groups of the same size keep their declaration order
+        sortedConstraintIdSetList.sort(Comparator.comparingInt((Set<String> constraintIdSet) -> constraintIdSet.size())
+                .reversed());
+        int[] partitionSizes = new int[effectivePartitionCount];
+        List<Set<String>> partitionList = new ArrayList<>(effectivePartitionCount);
+        for (int i = 0; i < effectivePartitionCount; i++) {
+            partitionList.add(new HashSet<>());
+        }
+        for (Set<String> constraintIdSet : sortedConstraintIdSetList) {
+            int partitionIndex = 0;
+            for (int i = 1; i < effectivePartitionCount; i++) {
+                if (partitionSizes[i] < partitionSizes[partitionIndex]) {
+                    partitionIndex = i;
+                }
+            }
+            partitionSizes[partitionIndex] += constraintIdSet.size();
+            partitionList.get(partitionIndex).addAll(constraintIdSet);
+        }
+        return partitionList;
+    }
+
+    @Override
+    public boolean changeConstraintWeights(ConstraintSession<Solution_, Score_> session, Solution_ workingSolution) {
+        Map<String, Score_> constraintIdToWeightMap = new HashMap<>(constraintList.size());
+        for (BavetConstraint<Solution_> constraint : constraintList) {
+            Score_ constraintWeight = (Score_) constraint.extractConstraintWeight(workingSolution);
+            constraintIdToWeightMap.put(constraint.getConstraintId(), constraintWeight);
+        }
+        return session.changeConstraintWeights(constraintIdToWeightMap);
     }
 
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
+import org.optaplanner.core.impl.score.constraint.DefaultIndictment;
+import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+
+/**
+ * Spreads the constraints over multiple {@link BavetConstraintSession}s that share no nodes,
+ * so the first {@link #calculateScore(int)}, which inserts and refreshes every fact from scratch,
+ * does so for those sessions in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+ * Until then, {@link #insert(Object)} only remembers the fact.
+ * <p>
+ * Later score calculations are incremental and only touch a few tuples,
+ * so they insert, update, retract and refresh sequentially, because forking would cost more than it gains.
+ * Constraints that share a node are in the same partition, so only the from nodes are duplicated in each partition.
+ * <p>
+ * When profiling, every constraint gets its own partition and every score calculation refreshes them sequentially,
+ * so the time and the refreshed tuples of each partition are attributable to a single constraint.
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the score type to go with the solution
+ */
+public final class BavetPartitionedConstraintSession<Solution_, Score_ extends Score<Score_>>
+        implements ConstraintSession<Solution_, Score_> {
+
+    private final boolean constraintMatchEnabled;
+    private final Score_ zeroScore;
+    /** In declaration order. */
+    private final List<String> constraintIdList;
+    private final List<BavetConstraintSession<Solution_, Score_>> partitionList;
+    /** Null if not profiling, otherwise 1 counter per partition. */
+    private final List<ConstraintProfiler.Counter> partitionCounterList;
+
+    /** Null after the first {@link #calculateScore(int)}, otherwise the facts to insert into every partition. */
+    private List<Object> pendingInsertFactList = new ArrayList<>();
+
+    public BavetPartitionedConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
+            Collection<BavetConstraint<Solution_>> constraints,
+            List<Map<BavetConstraint<Solution_>, Score_>> partitionMapList) {
+        this(constraintMatchEnabled, scoreDefinition, constraints, partitionMapList, null);
+    }
+
+    /**
+     * @param constraintMatchEnabled true if constraint matches should be tracked
+     * @param scoreDefinition never null
+     * @param constraints never null, every constraint of every partition, in declaration order
+     * @param partitionMapList never null
+     * @param constraintProfiler null if not profiling,
+     * otherwise every partition in partitionMapList must contain exactly 1 constraint
+     */
+    public BavetPartitionedConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
+            Collection<BavetConstraint<Solution_>> constraints,
+            List<Map<BavetConstraint<Solution_>, Score_>> partitionMapList, ConstraintProfiler constraintProfiler) {
+        this.constraintMatchEnabled = constraintMatchEnabled;
+        this.zeroScore = scoreDefinition.getZeroScore();
+        constraintIdList = new ArrayList<>(constraints.size());
+        for (BavetConstraint<Solution_> constraint : constraints) {
+            constraintIdList.add(constraint.getConstraintId());
+        }
+        partitionList = new ArrayList<>(partitionMapList.size());
+        for (Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap : partitionMapList) {
+            partitionList.add(new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition,
+                    constraintToWeightMap));
+        }
+        if (constraintProfiler == null) {
+            partitionCounterList = null;
+        } else {
+            partitionCounterList = new ArrayList<>(partitionMapList.size());
+            for (Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap : partitionMapList) {
+                if (constraintToWeightMap.size() != 1) {
+                    throw new IllegalStateException("Impossible state: when profiling, the partition ("
+                            + constraintToWeightMap.keySet() + ") must have exactly 1 constraint.");
+                }
+                BavetConstraint<Solution_> constraint = constraintToWeightMap.keySet().iterator().next();
+                partitionCounterList.add(constraintProfiler.getCounter(
+                        constraint.getConstraintPackage(), constraint.getConstraintName()));
+            }
+        }
+    }
+
+    @Override
+    public void insert(Object fact) {
+        if (pendingInsertFactList != null) {
+            pendingInsertFactList.add(fact);
+            return;
+        }
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            partition.insert(fact);
+        }
+    }
+
+    @Override
+    public void update(Object fact) {
+        if (pendingInsertFactList != null) {
+            // A pending fact is inserted with its latest state anyway
+            return;
+        }
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            partition.update(fact);
+        }
+    }
+
+    @Override
+    public void retract(Object fact) {
+        if (pendingInsertFactList != null) {
+            removePendingInsertFact(fact);
+            return;
+        }
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            partition.retract(fact);
+        }
+    }
+
+    private void removePendingInsertFact(Object fact) {
+        // By identity, like BavetConstraintSession, and from the end, because it's usually a recent insert
+        for (int i = pendingInsertFactList.size() - 1; i >= 0; i--) {
+            if (pendingInsertFactList.get(i) == fact) {
+                pendingInsertFactList.remove(i);
+                return;
+            }
+        }
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            // Fails fast like an unpartitioned session, unless no constraint reads the fact
+            partition.retract(fact);
+        }
+    }
+
+    private void insertPendingFacts(BavetConstraintSession<Solution_, Score_> partition) {
+        for (Object fact : pendingInsertFactList) {
+            partition.insert(fact);
+        }
+    }
+
+    @Override
+    public Score_ calculateScore(int initScore) {
+        if (partitionCounterList != null) {
+            return calculateProfiledScore(initScore);
+        }
+        if (pendingInsertFactList != null) {
+            // The partitions share no state, so each one can insert the facts and refresh its tuples on another thread
+            Score_ score = IntStream.range(0, partitionList.size()).parallel()
+                    .mapToObj(i -> {
+                        BavetConstraintSession<Solution_, Score_> partition = partitionList.get(i);
+                        insertPendingFacts(partition);
+                        return partition.calculateScore(0);
+                    })
+                    .reduce(zeroScore, Score::add)
+                    .withInitScore(initScore);
+            pendingInsertFactList = null;
+            return score;
+        }
+        Score_ score = zeroScore;
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            score = score.add(partition.calculateScore(0));
+        }
+        return score.withInitScore(initScore);
+    }
+
+    private Score_ calculateProfiledScore(int initScore) {
+        if (pendingInsertFactList != null) {
+            partitionList.forEach(this::insertPendingFacts);
+            pendingInsertFactList = null;
+        }
+        // Sequentially, so the clock of one constraint doesn't include the work of another
+        Score_ score = zeroScore;
+        for (int i = 0; i < partitionList.size(); i++) {
+            BavetConstraintSession<Solution_, Score_> partition = partitionList.get(i);
+            long refreshedTupleCount = partition.getRefreshedTupleCount();
+            long startNanos = System.nanoTime();
+            score = score.add(partition.calculateScore(0));
+            long timeNanos = System.nanoTime() - startNanos;
+            partitionCounterList.get(i).record(partition.getRefreshedTupleCount() - refreshedTupleCount, timeNanos);
+        }
+        return score.withInitScore(initScore);
+    }
+
+    @Override
+    public boolean changeConstraintWeights(Map<String, Score_> constraintIdToWeightMap) {
+        // Validate all partitions before changing any, so a failure doesn't leave a partially changed session
+        Set<String> constraintIdSet = new HashSet<>();
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            constraintIdSet.addAll(partition.getConstraintIdSet());
+        }
+        if (!BavetConstraintSession.hasSameConstraints(constraintIdSet, zeroScore, constraintIdToWeightMap)) {
+            return false;
+        }
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            Map<String, Score_> partitionConstraintIdToWeightMap = new HashMap<>(constraintIdToWeightMap);
+            partitionConstraintIdToWeightMap.keySet().retainAll(partition.getConstraintIdSet());
+            partition.changeConstraintWeights(partitionConstraintIdToWeightMap);
+        }
+        return true;
+    }
+
+    @Override
+    public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        Map<String, ConstraintMatchTotal<Score_>> partitionConstraintMatchTotalMap = new HashMap<>(
+                constraintIdList.size());
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            // Each constraint belongs to exactly 1 partition
+            partitionConstraintMatchTotalMap.putAll(partition.getConstraintMatchTotalMap());
+        }
+        // In declaration order, like an unpartitioned session
+        Map<String, ConstraintMatchTotal<Score_>> constraintMatchTotalMap = new LinkedHashMap<>(
+                constraintIdList.size());
+        for (String constraintId : constraintIdList) {
+            constraintMatchTotalMap.put(constraintId, partitionConstraintMatchTotalMap.get(constraintId));
+        }
+        return Collections.unmodifiableMap(constraintMatchTotalMap);
+    }
+
+    @Override
+    public Map<Object, Indictment<Score_>> getIndictmentMap() {
+        if (!constraintMatchEnabled) {
+            return null;
+        }
+        // A justification can be indicted by constraints in different partitions
+        Map<Object, Indictment<Score_>> indictmentMap = new LinkedHashMap<>();
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            partition.getIndictmentMap().forEach((justification, partitionIndictment) -> {
+                DefaultIndictment<Score_> indictment = (DefaultIndictment<Score_>) indictmentMap.computeIfAbsent(
+                        justification, k -> new DefaultIndictment<>(justification, zeroScore));
+                for (ConstraintMatch<Score_> constraintMatch : partitionIndictment.getConstraintMatchSet()) {
+                    indictment.addConstraintMatch(constraintMatch);
+                }
+            });
+        }
+        return Collections.unmodifiableMap(indictmentMap);
+    }
+
+    @Override
+    public void close() {
+        for (BavetConstraintSession<Solution_, Score_> partition : partitionList) {
+            partition.close();
+        }
+    }
+
+}
@@ -18,12 +18,18 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
@@ -38,12 +44,19 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bi.DefaultBiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bi.InnerBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
+import org.optaplanner.core.impl.score.stream.tri.FilteringTriJoiner;
 
 public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends BavetAbstractConstraintStream<Solution_>
         implements InnerBiConstraintStream<A, B> {
@@ -121,13 +134,64 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <C> BiConstraintStream<A, B> ifNotExists(Class<C> otherClass, TriJoiner<A, B, C>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <C> BiConstraintStream<A, B> ifExistsOrNot(boolean shouldExist, Class<C> otherClass,
+            TriJoiner<A, B, C>... joiners) {
+        int indexOfFirstFilter = -1;
+        // The indexing joiners feed the index, the filtering joiners are merged into a single filter
+        TriPredicate<A, B, C> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            TriJoiner<A, B, C> joiner = joiners[i];
+            if (joiner instanceof FilteringTriJoiner) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                TriPredicate<A, B, C> joinerFilter = ((FilteringTriJoiner<A, B, C>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow " +
+                        "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n" +
+                        "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractTriJoiner<A, B, C> indexingJoiner = AbstractTriJoiner.merge(indexOfFirstFilter < 0 ? joiners
+                : Arrays.copyOf(joiners, indexOfFirstFilter));
+        for (JoinerType type : indexingJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeBiConstraintStream<Solution_, A, B> leftBridge = new BavetJoinBridgeBiConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, C> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetIfExistsBridgeUniConstraintStream<Solution_, C> rightBridge = new BavetIfExistsBridgeUniConstraintStream<>(
+                constraintFactory, other, indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        // Without filter or comparison, the left tuples of an index key all match the same right tuples
+        boolean countingByKey = filter == null && !indexFactory.hasComparisonJoinerType();
+        BavetIfExistsBiConstraintStream<Solution_, A, B, C> ifExistsStream = new BavetIfExistsBiConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter, countingByKey);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setIfExistsStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -137,32 +201,76 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Void, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, null, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, Void> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, null);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
-    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
-            BiFunction<A, B, GroupKey_> groupKeyMapping,
-            BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Pair<GroupKeyA_, GroupKeyB_>, Void> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this,
+                        (a, b) -> Pair.of(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)), null);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Void, GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
-    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
-            BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            BiFunction<A, B, GroupKey_> groupKeyMapping,
+            BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this,
+                        (a, b) -> Pair.of(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)), collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, GroupKeyA_, GroupKeyB_, Result_>
+                groupStream = new BavetGroupTriConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -171,7 +279,40 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                     BiFunction<A, B, GroupKeyA_> groupKeyAMapping, BiFunction<A, B, GroupKeyB_> groupKeyBMapping,
                     BiConstraintCollector<A, B, ResultContainerC_, ResultC_> collectorC,
                     BiConstraintCollector<A, B, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        TriFunction<ResultContainerC_, A, B, Runnable> accumulatorC = collectorC.accumulator();
+        TriFunction<ResultContainerD_, A, B, Runnable> accumulatorD = collectorD.accumulator();
+        // The group bridge takes a single collector, so both collectors share a paired result container
+        BiConstraintCollector<A, B, Pair<ResultContainerC_, ResultContainerD_>, Void> collector =
+                new DefaultBiConstraintCollector<>(
+                        () -> Pair.of(supplierC.get(), supplierD.get()),
+                        (resultContainer, a, b) -> {
+                            Runnable undoAccumulatorC = accumulatorC.apply(resultContainer.getLeft(), a, b);
+                            Runnable undoAccumulatorD = accumulatorD.apply(resultContainer.getRight(), a, b);
+                            return () -> {
+                                undoAccumulatorC.run();
+                                undoAccumulatorD.run();
+                            };
+                        },
+                        resultContainer -> null); // The group stream applies both finishers itself
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>> bridge = new BavetGroupBridgeBiConstraintStream<>(
+                        constraintFactory, this,
+                        (a, b) -> Pair.of(groupKeyAMapping.apply(a, b), groupKeyBMapping.apply(a, b)),
+                        collector);
+        childStreamList.add(bridge);
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>, GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisherC.apply(resultContainer.getLeft()),
+                        (groupKey, resultContainer) -> finisherD.apply(resultContainer.getRight()));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiPredicate;
 
@@ -49,10 +50,29 @@ public final class BavetFilterBiConstraintStream<Solution_, A, B> extends BavetA
     // Node creation
     // ************************************************************************
 
+    @Override
+    public BavetAbstractBiNode<A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<A, B> parentNode) {
+        // Fuse a chain of filters into a single node, to avoid a tuple and a refresh per filter
+        List<BiPredicate<A, B>> predicateList = new ArrayList<>();
+        predicateList.add(predicate);
+        BavetFilterBiConstraintStream<Solution_, A, B> lastStream = this;
+        while (lastStream.childStreamList.size() == 1
+                && lastStream.childStreamList.get(0) instanceof BavetFilterBiConstraintStream) {
+            lastStream = (BavetFilterBiConstraintStream<Solution_, A, B>) lastStream.childStreamList.get(0);
+            predicateList.add(lastStream.predicate);
+        }
+        BavetAbstractBiNode<A, B> node = new BavetFilterBiNode<>(buildPolicy.getSession(), nodeOrder, parentNode,
+                predicateList);
+        node = processNode(buildPolicy, nodeOrder, parentNode, node);
+        lastStream.createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
     @Override
     protected BavetFilterBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<A, B> parentNode) {
-        return new BavetFilterBiNode<>(buildPolicy.getSession(), nodeOrder, parentNode, predicate);
+        throw new IllegalStateException("Impossible state: this code is never called.");
     }
 
     @Override
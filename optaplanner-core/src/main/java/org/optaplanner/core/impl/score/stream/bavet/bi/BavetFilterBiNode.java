@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.BiPredicate;
@@ -27,15 +28,16 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
 
     private final BavetAbstractBiNode<A, B> parentNode;
-    private final BiPredicate<A, B> predicate;
+    /** Consecutive filters are fused into a single node, so a tuple is tested by all their predicates at once. */
+    private final BiPredicate<A, B>[] predicates;
 
     private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
     public BavetFilterBiNode(BavetConstraintSession session, int nodeOrder,
-            BavetAbstractBiNode<A, B> parentNode, BiPredicate<A, B> predicate) {
+            BavetAbstractBiNode<A, B> parentNode, List<BiPredicate<A, B>> predicateList) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
-        this.predicate = predicate;
+        this.predicates = predicateList.toArray(new BiPredicate[0]);
     }
 
     @Override
@@ -49,7 +51,8 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(predicate));
+        // Lambdas don't override hashCode() and equals(), so predicates are compared by identity
+        return Objects.hash(System.identityHashCode(parentNode), Arrays.hashCode(predicates));
     }
 
     @Override
@@ -59,7 +62,7 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
         } else if (o instanceof BavetFilterBiNode) {
             BavetFilterBiNode<?, ?> other = (BavetFilterBiNode<?, ?>) o;
             return parentNode == other.parentNode
-                    && predicate == other.predicate;
+                    && Arrays.equals(predicates, other.predicates);
         } else {
             return false;
         }
@@ -79,12 +82,18 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
         A a = tuple.getFactA();
         B b = tuple.getFactB();
         List<BavetAbstractBiTuple<A, B>> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractBiTuple<A, B> childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a, b)) {
+        boolean accepted = tuple.isActive() && test(a, b);
+        if (accepted && tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()) {
+            // It was accepted before too, so the child tuples only need to be updated
+            for (BavetAbstractBiTuple<A, B> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+        } else {
+            for (BavetAbstractBiTuple<A, B> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.DYING);
+            }
+            childTupleList.clear();
+            if (accepted) {
                 for (BavetAbstractBiNode<A, B> childNode : childNodeList) {
                     BavetAbstractBiTuple<A, B> childTuple = childNode.createTuple(tuple);
                     childTupleList.add(childTuple);
@@ -95,9 +104,18 @@ public final class BavetFilterBiNode<A, B> extends BavetAbstractBiNode<A, B> {
         tuple.refreshed();
     }
 
+    private boolean test(A a, B b) {
+        for (BiPredicate<A, B> predicate : predicates) {
+            if (!predicate.test(a, b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
-        return "Filter() with " + childNodeList.size() + " children";
+        return "Filter(" + predicates.length + " predicates) with " + childNodeList.size() + " children";
     }
 
     // ************************************************************************
@@ -17,26 +17,31 @@
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
-public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_>
-        extends BavetAbstractBiConstraintStream<Solution_, GroupKey_, Result_> {
+public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB>
+        extends BavetAbstractBiConstraintStream<Solution_, NewA, NewB>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
 
     private final BavetAbstractConstraintStream<Solution_> parent;
-    private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, ResultContainer_, NewA> finisherA;
+    private final BiFunction<GroupKey_, ResultContainer_, NewB> finisherB;
 
     public BavetGroupBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractConstraintStream<Solution_> parent,
-            Function<ResultContainer_, Result_> finisher) {
+            BiFunction<GroupKey_, ResultContainer_, NewA> finisherA,
+            BiFunction<GroupKey_, ResultContainer_, NewB> finisherB) {
         super(constraintFactory);
         this.parent = parent;
-        this.finisher = finisher;
+        this.finisherA = finisherA;
+        this.finisherB = finisherB;
     }
 
     @Override
@@ -49,20 +54,19 @@ public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultCont
     // ************************************************************************
 
     @Override
-    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
-            Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
-        return (BavetGroupBiNode<GroupKey_, ResultContainer_, Result_>) super.createNodeChain(buildPolicy, constraintWeight,
-                nodeOrder, parentNode);
+    public BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB> createGroupNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder) {
+        return (BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB>) createNodeChain(buildPolicy, constraintWeight, nodeOrder, null);
     }
 
     @Override
-    protected BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
-            Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
+    protected BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<NewA, NewB> parentNode) {
         if (parentNode != null) {
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") cannot have a parentNode (" + parentNode + ").");
         }
-        return new BavetGroupBiNode<>(buildPolicy.getSession(), nodeOrder, finisher);
+        return new BavetGroupBiNode<>(buildPolicy.getSession(), nodeOrder, finisherA, finisherB);
     }
 
     @Override
@@ -18,25 +18,30 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiNode<GroupKey_, Result_> {
+public final class BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB> extends BavetAbstractBiNode<NewA, NewB>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
 
-    private final Function<ResultContainer_, Result_> finisher;
+    private final BiFunction<GroupKey_, ResultContainer_, NewA> finisherA;
+    private final BiFunction<GroupKey_, ResultContainer_, NewB> finisherB;
 
-    private final List<BavetAbstractBiNode<GroupKey_, Result_>> childNodeList = new ArrayList<>();
+    private final List<BavetAbstractBiNode<NewA, NewB>> childNodeList = new ArrayList<>();
 
     public BavetGroupBiNode(BavetConstraintSession session, int nodeOrder,
-            Function<ResultContainer_, Result_> finisher) {
+            BiFunction<GroupKey_, ResultContainer_, NewA> finisherA,
+            BiFunction<GroupKey_, ResultContainer_, NewB> finisherB) {
         super(session, nodeOrder);
-        this.finisher = finisher;
+        this.finisherA = finisherA;
+        this.finisherB = finisherB;
     }
 
     @Override
-    public void addChildNode(BavetAbstractBiNode<GroupKey_, Result_> childNode) {
+    public void addChildNode(BavetAbstractBiNode<NewA, NewB> childNode) {
         childNodeList.add(childNode);
     }
 
@@ -44,34 +49,41 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    // No node sharing
 
     // ************************************************************************
     // Runtime
     // ************************************************************************
 
     @Override
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            BavetAbstractBiTuple<GroupKey_, Result_> parentTuple) {
+    public BavetGroupBiTuple<GroupKey_, ResultContainer_, NewA, NewB> createTuple(BavetAbstractBiTuple<NewA, NewB> parentTuple) {
         throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
                 + ") can't have a parentTuple (" + parentTuple + ");");
     }
 
-    public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
-            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+    @Override
+    public BavetGroupBiTuple<GroupKey_, ResultContainer_, NewA, NewB> createTuple(GroupKey_ groupKey, ResultContainer_ resultContainer) {
         return new BavetGroupBiTuple<>(this, groupKey, resultContainer);
     }
 
-    public void refresh(BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> tuple) {
-        List<BavetAbstractBiTuple<GroupKey_, Result_>> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractBiTuple<GroupKey_, Result_> childTuple : childTupleList) {
+    public void refresh(BavetGroupBiTuple<GroupKey_, ResultContainer_, NewA, NewB> tuple) {
+        List<BavetAbstractBiTuple<NewA, NewB>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            tuple.updateResult(finisherA, finisherB);
+            for (BavetAbstractBiTuple<NewA, NewB> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
+        for (BavetAbstractBiTuple<NewA, NewB> childTuple : childTupleList) {
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
         childTupleList.clear();
         if (tuple.isActive()) {
-            tuple.updateResult(finisher);
-            for (BavetAbstractBiNode<GroupKey_, Result_> childNode : childNodeList) {
-                BavetAbstractBiTuple<GroupKey_, Result_> childTuple = childNode.createTuple(tuple);
+            tuple.updateResult(finisherA, finisherB);
+            for (BavetAbstractBiNode<NewA, NewB> childNode : childNodeList) {
+                BavetAbstractBiTuple<NewA, NewB> childTuple = childNode.createTuple(tuple);
                 childTupleList.add(childTuple);
                 session.transitionTuple(childTuple, BavetTupleState.CREATING);
             }
@@ -18,29 +18,29 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
-public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiTuple<GroupKey_, Result_>
-        implements BavetGroupTuple {
+public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, NewA, NewB> extends BavetAbstractBiTuple<NewA, NewB>
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
 
-    private final BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node;
+    private final BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB> node;
 
-    private GroupKey_ groupKey;
+    private final GroupKey_ groupKey;
     private int parentCount;
-    private ResultContainer_ resultContainer;
-    private Result_ result;
+    private final ResultContainer_ resultContainer;
+    private NewA factA;
+    private NewB factB;
 
-    protected List<BavetAbstractBiTuple<GroupKey_, Result_>> childTupleList;
+    protected List<BavetAbstractBiTuple<NewA, NewB>> childTupleList;
 
-    public BavetGroupBiTuple(BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node,
+    public BavetGroupBiTuple(BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB> node,
             GroupKey_ groupKey, ResultContainer_ resultContainer) {
         this.node = node;
         this.groupKey = groupKey;
         parentCount = 0;
         this.resultContainer = resultContainer;
-        result = null;
         childTupleList = new ArrayList<>();
     }
 
@@ -49,11 +49,13 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         node.refresh(this);
     }
 
+    @Override
     public int increaseParentCount() {
         parentCount++;
         return parentCount;
     }
 
+    @Override
     public int decreaseParentCount() {
         parentCount--;
         if (parentCount < 0) {
@@ -63,12 +65,16 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         return parentCount;
     }
 
+    @Override
     public void clearResult() {
-        result = null;
+        factA = null;
+        factB = null;
     }
 
-    public void updateResult(Function<ResultContainer_, Result_> finisher) {
-        result = finisher.apply(resultContainer);
+    public void updateResult(BiFunction<GroupKey_, ResultContainer_, NewA> finisherA,
+            BiFunction<GroupKey_, ResultContainer_, NewB> finisherB) {
+        factA = finisherA.apply(groupKey, resultContainer);
+        factB = finisherB.apply(groupKey, resultContainer);
     }
 
     @Override
@@ -81,29 +87,31 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
     // ************************************************************************
 
     @Override
-    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> getNode() {
+    public BavetGroupBiNode<GroupKey_, ResultContainer_, NewA, NewB> getNode() {
         return node;
     }
 
     @Override
-    public GroupKey_ getFactA() {
-        return groupKey;
+    public NewA getFactA() {
+        return factA;
     }
 
     @Override
-    public Result_ getFactB() {
-        return result;
+    public NewB getFactB() {
+        return factB;
     }
 
+    @Override
     public GroupKey_ getGroupKey() {
         return groupKey;
     }
 
+    @Override
     public ResultContainer_ getResultContainer() {
         return resultContainer;
     }
 
-    public List<BavetAbstractBiTuple<GroupKey_, Result_>> getChildTupleList() {
+    public List<BavetAbstractBiTuple<NewA, NewB>> getChildTupleList() {
         return childTupleList;
     }
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupBridgeBiTuple<A, B, GroupKey_, ResultContainer_> extends BavetAbstractBiTuple<A, B>
+        implements BavetGroupBridgeTuple {
+
+    private final BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> node;
+    private final BavetAbstractBiTuple<A, B> parentTuple;
+
+    private Runnable undoAccumulator;
+    private BavetGroupTuple<GroupKey_, ResultContainer_> childTuple;
+
+    public BavetGroupBridgeBiTuple(BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> node,
+            BavetAbstractBiTuple<A, B> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge(" + getFactsString() + ") with " + (childTuple == null ? 0 : 1) + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeBiNode<A, B, GroupKey_, ResultContainer_> getNode() {
+        return node;
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    public Runnable getUndoAccumulator() {
+        return undoAccumulator;
+    }
+
+    public void setUndoAccumulator(Runnable undoAccumulator) {
+        this.undoAccumulator = undoAccumulator;
+    }
+
+    public BavetGroupTuple<GroupKey_, ResultContainer_> getChildTuple() {
+        return childTuple;
+    }
+
+    public void setChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple) {
+        this.childTuple = childTuple;
+    }
+
+}
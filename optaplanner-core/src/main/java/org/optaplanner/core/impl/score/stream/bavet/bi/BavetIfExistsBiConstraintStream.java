@@ -0,0 +1,101 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.optaplanner.core.api.function.TriPredicate;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniNode;
+
+public final class BavetIfExistsBiConstraintStream<Solution_, A, B, C>
+        extends BavetAbstractBiConstraintStream<Solution_, A, B>
+        implements BavetJoinConstraintStream<Solution_> {
+
+    private final BavetAbstractConstraintStream<Solution_> leftParent;
+    private final BavetAbstractConstraintStream<Solution_> rightParent;
+    private final boolean shouldExist;
+    private final TriPredicate<A, B, C> filter;
+    private final boolean countingByKey;
+
+    public BavetIfExistsBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractConstraintStream<Solution_> leftParent,
+            BavetAbstractConstraintStream<Solution_> rightParent,
+            boolean shouldExist, TriPredicate<A, B, C> filter, boolean countingByKey) {
+        super(constraintFactory);
+        this.leftParent = leftParent;
+        this.rightParent = rightParent;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+        this.countingByKey = countingByKey;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return Stream.concat(leftParent.getFromStreamList().stream(),
+                rightParent.getFromStreamList().stream())
+                .collect(Collectors.toList());
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBiNode<A, B, C> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetJoinBridgeNode leftNode_, BavetJoinBridgeNode rightNode_) {
+        BavetJoinBridgeBiNode<A, B> leftNode = (BavetJoinBridgeBiNode<A, B>) leftNode_;
+        BavetIfExistsBridgeUniNode<C> rightNode = (BavetIfExistsBridgeUniNode<C>) rightNode_;
+        BavetIfExistsBiNode<A, B, C> node = new BavetIfExistsBiNode<>(buildPolicy.getSession(), nodeOrder,
+                leftNode, rightNode, shouldExist, filter, countingByKey);
+        BavetIfExistsBiNode<A, B, C> sharedNode = (BavetIfExistsBiNode<A, B, C>) processNode(buildPolicy, nodeOrder, null, node);
+        if (sharedNode == node) {
+            // A shared ifExists node already has its own bridges, so only a new ifExists node registers these
+            leftNode.getParentNode().addChildNode(leftNode);
+            rightNode.getParentNode().addChildNode(rightNode);
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            leftNode.setChildTupleUpdater(node::updateChildTuplesLeft);
+            rightNode.setIfExistsNode(node);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, sharedNode);
+        return sharedNode;
+    }
+
+    @Override
+    protected BavetIfExistsBiNode<A, B, C> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<A, B> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
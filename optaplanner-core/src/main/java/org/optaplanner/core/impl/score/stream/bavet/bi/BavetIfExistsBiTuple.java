@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.bi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+
+public final class BavetIfExistsBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
+        implements BavetJoinTuple {
+
+    private final BavetIfExistsBiNode<A, B, ?> node;
+    private final BavetJoinBridgeBiTuple<A, B> leftParentTuple;
+
+    protected List<BavetAbstractBiTuple<A, B>> childTupleList;
+
+    public BavetIfExistsBiTuple(BavetIfExistsBiNode<A, B, ?> node, BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
+        this.node = node;
+        this.leftParentTuple = leftParentTuple;
+        childTupleList = new ArrayList<>();
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBiNode<A, B, ?> getNode() {
+        return node;
+    }
+
+    @Override
+    public A getFactA() {
+        return leftParentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return leftParentTuple.getFactB();
+    }
+
+    public BavetJoinBridgeBiTuple<A, B> getLeftParentTuple() {
+        return leftParentTuple;
+    }
+
+    public List<BavetAbstractBiTuple<A, B>> getChildTupleList() {
+        return childTupleList;
+    }
+
+}
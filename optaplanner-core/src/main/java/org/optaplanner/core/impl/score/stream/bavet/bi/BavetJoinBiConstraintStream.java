@@ -60,11 +60,18 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
         BavetJoinBridgeUniNode<A> leftNode = (BavetJoinBridgeUniNode<A>) leftNode_;
         BavetJoinBridgeUniNode<B> rightNode = (BavetJoinBridgeUniNode<B>) rightNode_;
         BavetJoinBiNode<A, B> node = new BavetJoinBiNode<>(buildPolicy.getSession(), nodeOrder, leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinBiNode<A, B>) processNode(buildPolicy, nodeOrder, null, node); // TODO Sharing never happens
-        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
-        return node;
+        BavetJoinBiNode<A, B> sharedNode = (BavetJoinBiNode<A, B>) processNode(buildPolicy, nodeOrder, null, node);
+        if (sharedNode == node) {
+            // A shared join node already has its own bridges, so only a new join node registers these
+            leftNode.getParentNode().addChildNode(leftNode);
+            rightNode.getParentNode().addChildNode(rightNode);
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+            leftNode.setChildTupleUpdater(node::updateChildTuplesLeft);
+            rightNode.setChildTupleUpdater(node::updateChildTuplesRight);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, sharedNode);
+        return sharedNode;
     }
 
     @Override
@@ -18,9 +18,11 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
@@ -51,7 +53,24 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftParentNode, rightParentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBiNode) {
+            BavetJoinBiNode<?, ?> other = (BavetJoinBiNode<?, ?>) o;
+            // The bridges are never shared on their own, so compare them by their parent nodes and joiners
+            return leftParentNode.equals(other.leftParentNode)
+                    && rightParentNode.equals(other.rightParentNode);
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -70,6 +89,13 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
 
     public void refresh(BavetJoinBiTuple<A, B> tuple) {
         List<BavetAbstractBiTuple<A, B>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            for (BavetAbstractBiTuple<A, B> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
         for (BavetAbstractBiTuple<A, B> childTuple : childTupleList) {
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
@@ -98,9 +124,12 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
         leftTupleSet.clear();
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<B>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
+            Iterable<BavetJoinBridgeUniTuple<B>> rightParentTupleList =
+                    getRightIndex().get(leftParentTuple.getIndexProperties());
             for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleList) {
-                if (!rightParentTuple.isDirty()) {
+                // A dirty rightParentTuple that is still active has not been reindexed yet:
+                // if it does get a different index key, it will kill this child tuple when it is refreshed
+                if (rightParentTuple.isActive()) {
                     BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftTupleSet.add(childTuple);
                     rightParentTuple.getChildTupleSet().add(childTuple);
@@ -124,9 +153,12 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
         rightTupleSet.clear();
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<A>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
+            Iterable<BavetJoinBridgeUniTuple<A>> leftParentTupleList =
+                    getLeftIndex().get(rightParentTuple.getIndexProperties());
             for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleList) {
-                if (!leftParentTuple.isDirty()) {
+                // A dirty leftParentTuple that is still active has not been reindexed yet:
+                // if it does get a different index key, it will kill this child tuple when it is refreshed
+                if (leftParentTuple.isActive()) {
                     BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftParentTuple.getChildTupleSet().add(childTuple);
                     rightTupleSet.add(childTuple);
@@ -136,6 +168,18 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
     }
 
+    public void updateChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
+        for (BavetJoinTuple tuple : rightParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
     public BavetIndex<BavetJoinBridgeUniTuple<A>> getLeftIndex() {
         return leftParentNode.getIndex();
     }
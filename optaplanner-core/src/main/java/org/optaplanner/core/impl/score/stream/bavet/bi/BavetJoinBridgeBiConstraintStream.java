@@ -62,11 +62,21 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
     // Node creation
     // ************************************************************************
 
+    @Override
+    public BavetJoinBridgeBiNode<A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<A, B> parentNode) {
+        // Don't share the node or add it to its parent yet: the join node decides that for both bridges
+        BavetJoinBridgeBiNode<A, B> node = createNode(buildPolicy, constraintWeight, nodeOrder, parentNode);
+        buildPolicy.updateNodeOrderMaximum(nodeOrder);
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
     @Override
     protected BavetJoinBridgeBiNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<A, B> parentNode) {
         BavetJoinBridgeBiNode<A, B> node = new BavetJoinBridgeBiNode<>(buildPolicy.getSession(),
-                nodeOrder, parentNode, mapping, indexFactory.buildIndex(isLeftBridge));
+                nodeOrder, parentNode, mapping, indexFactory, isLeftBridge);
         return node;
     }
 
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -23,6 +25,7 @@ import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriNode;
 
 public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
@@ -32,17 +35,50 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     private final BiFunction<A, B, Object[]> mapping;
     /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
     private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher;
+    /** Calls {@link BavetJoinTriNode#updateChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
+    private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleUpdater;
 
+    private final BavetIndexFactory indexFactory;
+    private final boolean isLeftBridge;
     private final BavetIndex<BavetJoinBridgeBiTuple<A, B>> index;
 
     public BavetJoinBridgeBiNode(BavetConstraintSession session, int nodeOrder, BavetAbstractBiNode<A, B> parentNode,
-            BiFunction<A, B, Object[]> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
+            BiFunction<A, B, Object[]> mapping, BavetIndexFactory indexFactory, boolean isLeftBridge) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.mapping = mapping;
-        this.index = index;
+        this.indexFactory = indexFactory;
+        this.isLeftBridge = isLeftBridge;
+        this.index = indexFactory.buildIndex(isLeftBridge);
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, indexFactory);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeBiNode) {
+            BavetJoinBridgeBiNode<?, ?> other = (BavetJoinBridgeBiNode<?, ?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && indexFactory.equals(other.indexFactory);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetJoinBridgeBiTuple<A, B> createTuple(BavetAbstractBiTuple<A, B> parentTuple) {
         return new BavetJoinBridgeBiTuple<>(this, parentTuple);
@@ -51,13 +87,25 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     public void refresh(BavetJoinBridgeBiTuple<A, B> tuple) {
         A a = tuple.getFactA();
         B b = tuple.getFactB();
-        if (tuple.getState() != BavetTupleState.CREATING) {
-            // Clean up index
-            index.remove(tuple);
-        }
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
             Object[] indexProperties = mapping.apply(a, b);
+            if (Arrays.equals(indexProperties, tuple.getIndexProperties())) {
+                // The index key didn't change, so the child tuples join the same tuples: just update them
+                childTupleUpdater.accept(tuple);
+                tuple.refreshed();
+                return;
+            }
+            index.remove(tuple);
             index.put(indexProperties, tuple);
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING && tuple.getState() != BavetTupleState.ABORTING) {
+                // Clean up index
+                index.remove(tuple);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a, b);
+                index.put(indexProperties, tuple);
+            }
         }
         childTupleRefresher.accept(tuple);
         tuple.refreshed();
@@ -72,6 +120,10 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     // Getters/setters
     // ************************************************************************
 
+    public BavetAbstractBiNode<A, B> getParentNode() {
+        return parentNode;
+    }
+
     public BavetIndex<BavetJoinBridgeBiTuple<A, B>> getIndex() {
         return index;
     }
@@ -80,4 +132,8 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
         this.childTupleRefresher = childTupleRefresher;
     }
 
+    public void setChildTupleUpdater(Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleUpdater) {
+        this.childTupleUpdater = childTupleUpdater;
+    }
+
 }
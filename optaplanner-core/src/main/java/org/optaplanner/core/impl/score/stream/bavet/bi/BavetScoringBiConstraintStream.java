@@ -19,22 +19,20 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.ToIntBiFunction;
 import java.util.function.ToLongBiFunction;
 
-import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
 public final class BavetScoringBiConstraintStream<Solution_, A, B>
@@ -108,18 +106,14 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             Score<?> constraintWeight, int nodeOrder, BavetAbstractBiNode<A, B> parentNode) {
         ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
-        TriFunction<A, B, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+        BavetScoreImpacter<BavetScoringBiTuple<A, B>> scoreImpacter;
         if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
             IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
             if (intMatchWeigher != null) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int matchWeight = intMatchWeigher.applyAsInt(a, b);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofInt(constraint, castedWeightedScoreImpacter,
+                        tuple -> intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1,
-                        matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofInt(constraint, castedWeightedScoreImpacter, tuple -> 1);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + BiConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -128,14 +122,10 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
         } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
             LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
             if (longMatchWeigher != null) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> {
-                    long matchWeight = longMatchWeigher.applyAsLong(a, b);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofLong(constraint, castedWeightedScoreImpacter,
+                        tuple -> longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1L,
-                        matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofLong(constraint, castedWeightedScoreImpacter, tuple -> 1L);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + BiConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -145,14 +135,11 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
                     (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
             if (bigDecimalMatchWeigher != null) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofBigDecimal(constraint, castedWeightedScoreImpacter,
+                        tuple -> bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(BigDecimal.ONE, matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofBigDecimal(constraint, castedWeightedScoreImpacter,
+                        tuple -> BigDecimal.ONE);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + BiConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
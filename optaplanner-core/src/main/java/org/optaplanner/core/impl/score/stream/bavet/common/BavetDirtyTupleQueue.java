@@ -0,0 +1,86 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Holds the dirty tuples of every node order until the next score calculation refreshes them.
+ * <p>
+ * The tuple arrays and the dirty node order bitset are reused across score calculations,
+ * so after warming up, adding and refreshing tuples doesn't allocate.
+ * Node orders without dirty tuples are skipped instead of polled.
+ */
+public final class BavetDirtyTupleQueue {
+
+    private final BavetAbstractTuple[][] tupleArrays;
+    private final int[] sizes;
+    private final BitSet dirtyNodeOrderSet;
+
+    private long refreshCount = 0L;
+
+    public BavetDirtyTupleQueue(int nodeOrderSize, int initialCapacity) {
+        tupleArrays = new BavetAbstractTuple[nodeOrderSize][];
+        for (int i = 0; i < nodeOrderSize; i++) {
+            tupleArrays[i] = new BavetAbstractTuple[initialCapacity];
+        }
+        sizes = new int[nodeOrderSize];
+        dirtyNodeOrderSet = new BitSet(nodeOrderSize);
+    }
+
+    public void add(BavetAbstractTuple tuple) {
+        int nodeOrder = tuple.getNodeOrder();
+        int size = sizes[nodeOrder];
+        BavetAbstractTuple[] tupleArray = tupleArrays[nodeOrder];
+        if (size == tupleArray.length) {
+            tupleArray = Arrays.copyOf(tupleArray, size * 2);
+            tupleArrays[nodeOrder] = tupleArray;
+        }
+        tupleArray[size] = tuple;
+        sizes[nodeOrder] = size + 1;
+        dirtyNodeOrderSet.set(nodeOrder);
+    }
+
+    /**
+     * Refreshes the dirty tuples in ascending node order.
+     * Refreshing a tuple only makes tuples of a higher node order dirty,
+     * so every node order is drained at most once.
+     */
+    public void refreshAll() {
+        for (int nodeOrder = dirtyNodeOrderSet.nextSetBit(0); nodeOrder >= 0;
+                nodeOrder = dirtyNodeOrderSet.nextSetBit(nodeOrder + 1)) {
+            // Don't cache the array or the size: they grow if a tuple of the same node order is added meanwhile
+            for (int i = 0; i < sizes[nodeOrder]; i++) {
+                tupleArrays[nodeOrder][i].refresh();
+            }
+            refreshCount += sizes[nodeOrder];
+            // Release the refreshed tuples, so dead tuples can be garbage collected
+            Arrays.fill(tupleArrays[nodeOrder], 0, sizes[nodeOrder], null);
+            sizes[nodeOrder] = 0;
+            dirtyNodeOrderSet.clear(nodeOrder);
+        }
+    }
+
+    /**
+     * @return {@code >= 0}, the number of tuples refreshed since this queue was created
+     */
+    public long getRefreshCount() {
+        return refreshCount;
+    }
+
+}
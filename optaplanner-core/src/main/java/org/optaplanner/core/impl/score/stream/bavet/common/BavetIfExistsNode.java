@@ -0,0 +1,43 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+/**
+ * The right side of an ifExists() or ifNotExists() has no child tuples:
+ * its bridge only reports which index key changed, so the node can recheck the left tuples on that key.
+ */
+public interface BavetIfExistsNode extends BavetJoinNode {
+
+    /**
+     * Called after a right tuple was put in the index.
+     * @param rightIndexProperties never null
+     */
+    void refreshChildTuplesRightInserted(Object[] rightIndexProperties);
+
+    /**
+     * Called after a right tuple was removed from the index.
+     * @param rightIndexProperties never null
+     */
+    void refreshChildTuplesRightRetracted(Object[] rightIndexProperties);
+
+    /**
+     * Called after a right tuple was updated without changing its index key.
+     * @param rightIndexProperties never null
+     */
+    void updateChildTuplesRight(Object[] rightIndexProperties);
+
+}
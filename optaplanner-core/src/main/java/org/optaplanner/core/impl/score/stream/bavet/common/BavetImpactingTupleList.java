@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The tuples of a {@link BavetScoringNode} that currently impact the score,
+ * so a constraint weight change only revisits the matches of that constraint.
+ * <p>
+ * Each tuple remembers its position, so adding and removing a tuple is O(1) and doesn't hash.
+ * Removing a tuple moves the last tuple into its position, so the order isn't stable.
+ * @param <Tuple_> the scoring tuple type
+ */
+public final class BavetImpactingTupleList<Tuple_ extends BavetScoringTuple> {
+
+    private final List<Tuple_> tupleList = new ArrayList<>();
+
+    public void add(Tuple_ tuple) {
+        if (tuple.getImpactingIndex() >= 0) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") is already impacting at index (" + tuple.getImpactingIndex() + ").");
+        }
+        tuple.setImpactingIndex(tupleList.size());
+        tupleList.add(tuple);
+    }
+
+    public void remove(Tuple_ tuple) {
+        int index = tuple.getImpactingIndex();
+        if (index < 0 || tupleList.get(index) != tuple) {
+            throw new IllegalStateException("Impossible state: the tuple (" + tuple
+                    + ") isn't impacting at index (" + index + ").");
+        }
+        int lastIndex = tupleList.size() - 1;
+        Tuple_ lastTuple = tupleList.remove(lastIndex);
+        if (index != lastIndex) {
+            tupleList.set(index, lastTuple);
+            lastTuple.setImpactingIndex(index);
+        }
+        tuple.setImpactingIndex(-1);
+    }
+
+    public int size() {
+        return tupleList.size();
+    }
+
+    public Tuple_ get(int index) {
+        return tupleList.get(index);
+    }
+
+}
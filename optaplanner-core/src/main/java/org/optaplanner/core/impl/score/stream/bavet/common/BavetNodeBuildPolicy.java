@@ -16,11 +16,16 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniNode;
 
 public class BavetNodeBuildPolicy<Solution_> {
 
@@ -32,6 +37,13 @@ public class BavetNodeBuildPolicy<Solution_> {
             new HashMap<>();
     private Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
 
+    /** The constraint whose nodes are being created, null if unknown. */
+    private String currentConstraintId = null;
+    /** The id of the constraint that created each shared node, except for the from nodes. */
+    private Map<BavetAbstractNode, String> sharedNodeToConstraintIdMap = new HashMap<>();
+    /** Union-find over the constraints that share nodes, see {@link #buildNodeSharingConstraintIdSetList()}. */
+    private Map<String, String> constraintIdToParentIdMap = new LinkedHashMap<>();
+
     public BavetNodeBuildPolicy(BavetConstraintSession session, int constraintCount) {
         this.session = session;
         constraintIdToScoringNodeMap = new LinkedHashMap<>(constraintCount);
@@ -50,9 +62,53 @@ public class BavetNodeBuildPolicy<Solution_> {
                     + ")'s nodeOrder (" + node.getNodeOrder() + ") differs from the sharedNode (" + sharedNode
                     + ")'s nodeOrder (" + sharedNode.getNodeOrder() + ").");
         }
+        // Every constraint has its own from nodes in a partition, because they cost only 1 tuple per fact
+        if (currentConstraintId != null && !(sharedNode instanceof BavetFromUniNode)) {
+            String sharingConstraintId = sharedNodeToConstraintIdMap.putIfAbsent(sharedNode, currentConstraintId);
+            if (sharingConstraintId != null) {
+                String rootId = findRootConstraintId(sharingConstraintId);
+                String currentRootId = findRootConstraintId(currentConstraintId);
+                if (!rootId.equals(currentRootId)) {
+                    constraintIdToParentIdMap.put(currentRootId, rootId);
+                }
+            }
+        }
         return sharedNode;
     }
 
+    /**
+     * Call this before creating the nodes of each constraint,
+     * so {@link #buildNodeSharingConstraintIdSetList()} knows which constraints share nodes.
+     * @param constraintId never null
+     */
+    public void startConstraint(String constraintId) {
+        currentConstraintId = constraintId;
+        constraintIdToParentIdMap.putIfAbsent(constraintId, constraintId);
+    }
+
+    private String findRootConstraintId(String constraintId) {
+        String parentId = constraintIdToParentIdMap.get(constraintId);
+        if (parentId.equals(constraintId)) {
+            return constraintId;
+        }
+        String rootId = findRootConstraintId(parentId);
+        constraintIdToParentIdMap.put(constraintId, rootId);
+        return rootId;
+    }
+
+    /**
+     * Groups the constraints into the connected components of the node network, ignoring the from nodes.
+     * @return never null, every constraint id is in exactly 1 set, in the order of {@link #startConstraint(String)}
+     */
+    public List<Set<String>> buildNodeSharingConstraintIdSetList() {
+        Map<String, Set<String>> rootIdToConstraintIdSetMap = new LinkedHashMap<>();
+        for (String constraintId : constraintIdToParentIdMap.keySet()) {
+            rootIdToConstraintIdSetMap.computeIfAbsent(findRootConstraintId(constraintId), k -> new LinkedHashSet<>())
+                    .add(constraintId);
+        }
+        return new ArrayList<>(rootIdToConstraintIdSetMap.values());
+    }
+
     public void addScoringNode(BavetScoringNode scoringNode) {
         constraintIdToScoringNodeMap.put(scoringNode.getConstraintId(), scoringNode);
     }
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+import java.math.BigDecimal;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+
+/**
+ * Impacts the score for a {@link BavetScoringTuple} and remembers the matchWeight in that tuple,
+ * so undoing the impact doesn't need an {@link UndoScoreImpacter} per match.
+ * @param <Tuple_> the scoring tuple type
+ */
+public abstract class BavetScoreImpacter<Tuple_ extends BavetScoringTuple> {
+
+    public static <Tuple_ extends BavetScoringTuple> BavetScoreImpacter<Tuple_> ofInt(
+            BavetConstraint<?> constraint, IntWeightedScoreImpacter weightedScoreImpacter,
+            ToIntFunction<Tuple_> matchWeigher) {
+        return new BavetScoreImpacter<Tuple_>() {
+            private IntWeightedScoreImpacter currentWeightedScoreImpacter = weightedScoreImpacter;
+
+            @Override
+            public void impactScore(Tuple_ tuple) {
+                int matchWeight = matchWeigher.applyAsInt(tuple);
+                constraint.assertCorrectImpact(matchWeight);
+                currentWeightedScoreImpacter.impactScore(matchWeight);
+                tuple.setMatchWeight(matchWeight);
+            }
+
+            @Override
+            public void undoScoreImpact(Tuple_ tuple) {
+                currentWeightedScoreImpacter.undoScoreImpact((int) tuple.getMatchWeight());
+            }
+
+            @Override
+            public Score<?> buildMatchScore(Tuple_ tuple) {
+                return currentWeightedScoreImpacter.buildMatchScore((int) tuple.getMatchWeight());
+            }
+
+            @Override
+            public void changeWeightedScoreImpacter(WeightedScoreImpacter newWeightedScoreImpacter,
+                    BavetImpactingTupleList<Tuple_> impactingTupleList) {
+                IntWeightedScoreImpacter castedWeightedScoreImpacter =
+                        (IntWeightedScoreImpacter) newWeightedScoreImpacter;
+                for (int i = 0; i < impactingTupleList.size(); i++) {
+                    int matchWeight = (int) impactingTupleList.get(i).getMatchWeight();
+                    currentWeightedScoreImpacter.undoScoreImpact(matchWeight);
+                    castedWeightedScoreImpacter.impactScore(matchWeight);
+                }
+                currentWeightedScoreImpacter = castedWeightedScoreImpacter;
+            }
+        };
+    }
+
+    public static <Tuple_ extends BavetScoringTuple> BavetScoreImpacter<Tuple_> ofLong(
+            BavetConstraint<?> constraint, LongWeightedScoreImpacter weightedScoreImpacter,
+            ToLongFunction<Tuple_> matchWeigher) {
+        return new BavetScoreImpacter<Tuple_>() {
+            private LongWeightedScoreImpacter currentWeightedScoreImpacter = weightedScoreImpacter;
+
+            @Override
+            public void impactScore(Tuple_ tuple) {
+                long matchWeight = matchWeigher.applyAsLong(tuple);
+                constraint.assertCorrectImpact(matchWeight);
+                currentWeightedScoreImpacter.impactScore(matchWeight);
+                tuple.setMatchWeight(matchWeight);
+            }
+
+            @Override
+            public void undoScoreImpact(Tuple_ tuple) {
+                currentWeightedScoreImpacter.undoScoreImpact(tuple.getMatchWeight());
+            }
+
+            @Override
+            public Score<?> buildMatchScore(Tuple_ tuple) {
+                return currentWeightedScoreImpacter.buildMatchScore(tuple.getMatchWeight());
+            }
+
+            @Override
+            public void changeWeightedScoreImpacter(WeightedScoreImpacter newWeightedScoreImpacter,
+                    BavetImpactingTupleList<Tuple_> impactingTupleList) {
+                LongWeightedScoreImpacter castedWeightedScoreImpacter =
+                        (LongWeightedScoreImpacter) newWeightedScoreImpacter;
+                for (int i = 0; i < impactingTupleList.size(); i++) {
+                    long matchWeight = impactingTupleList.get(i).getMatchWeight();
+                    currentWeightedScoreImpacter.undoScoreImpact(matchWeight);
+                    castedWeightedScoreImpacter.impactScore(matchWeight);
+                }
+                currentWeightedScoreImpacter = castedWeightedScoreImpacter;
+            }
+        };
+    }
+
+    public static <Tuple_ extends BavetScoringTuple> BavetScoreImpacter<Tuple_> ofBigDecimal(
+            BavetConstraint<?> constraint, BigDecimalWeightedScoreImpacter weightedScoreImpacter,
+            Function<Tuple_, BigDecimal> matchWeigher) {
+        return new BavetScoreImpacter<Tuple_>() {
+            private BigDecimalWeightedScoreImpacter currentWeightedScoreImpacter = weightedScoreImpacter;
+
+            @Override
+            public void impactScore(Tuple_ tuple) {
+                BigDecimal matchWeight = matchWeigher.apply(tuple);
+                constraint.assertCorrectImpact(matchWeight);
+                currentWeightedScoreImpacter.impactScore(matchWeight);
+                tuple.setBigDecimalMatchWeight(matchWeight);
+            }
+
+            @Override
+            public void undoScoreImpact(Tuple_ tuple) {
+                currentWeightedScoreImpacter.undoScoreImpact(tuple.getBigDecimalMatchWeight());
+                tuple.setBigDecimalMatchWeight(null);
+            }
+
+            @Override
+            public Score<?> buildMatchScore(Tuple_ tuple) {
+                return currentWeightedScoreImpacter.buildMatchScore(tuple.getBigDecimalMatchWeight());
+            }
+
+            @Override
+            public void changeWeightedScoreImpacter(WeightedScoreImpacter newWeightedScoreImpacter,
+                    BavetImpactingTupleList<Tuple_> impactingTupleList) {
+                BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
+                        (BigDecimalWeightedScoreImpacter) newWeightedScoreImpacter;
+                for (int i = 0; i < impactingTupleList.size(); i++) {
+                    BigDecimal matchWeight = impactingTupleList.get(i).getBigDecimalMatchWeight();
+                    currentWeightedScoreImpacter.undoScoreImpact(matchWeight);
+                    castedWeightedScoreImpacter.impactScore(matchWeight);
+                }
+                currentWeightedScoreImpacter = castedWeightedScoreImpacter;
+            }
+        };
+    }
+
+    /**
+     * Adds the impact of the tuple's match to the score and remembers its matchWeight in the tuple.
+     * @param tuple never null
+     */
+    public abstract void impactScore(Tuple_ tuple);
+
+    /**
+     * Reverts the last {@link #impactScore(BavetScoringTuple)} for the same tuple.
+     * @param tuple never null
+     */
+    public abstract void undoScoreImpact(Tuple_ tuple);
+
+    /**
+     * Only called if constraint matching is enabled, after {@link #impactScore(BavetScoringTuple)}.
+     * @param tuple never null
+     * @return never null, the impact of the tuple's match on the score
+     */
+    public abstract Score<?> buildMatchScore(Tuple_ tuple);
+
+    /**
+     * Moves the impact of every impacting tuple to the new weightedScoreImpacter, usually of a new constraint weight,
+     * with the matchWeight remembered in each tuple, so no matchWeigher is called again.
+     * Later calls of the other methods use the new weightedScoreImpacter.
+     * @param newWeightedScoreImpacter never null, of the same type as the current one
+     * @param impactingTupleList never null, every tuple that currently impacts the score through this
+     */
+    public abstract void changeWeightedScoreImpacter(WeightedScoreImpacter newWeightedScoreImpacter,
+            BavetImpactingTupleList<Tuple_> impactingTupleList);
+
+}
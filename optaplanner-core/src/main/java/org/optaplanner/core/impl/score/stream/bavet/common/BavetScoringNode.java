@@ -17,7 +17,9 @@
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public interface BavetScoringNode extends BavetNode {
 
@@ -42,10 +44,21 @@ public interface BavetScoringNode extends BavetNode {
     Score<?> getConstraintWeight();
 
     /**
-     * @param zeroScore never null
+     * Maintained incrementally as the tuples of this node are refreshed.
+     * The returned instance is live, so it reflects later changes too,
+     * but its {@link ConstraintMatchTotal#getConstraintMatchSet()} is unmodifiable.
      * @return never null
      * @param <Score_> the {@link Score} type
+     * @throws IllegalStateException if {@link BavetConstraintSession#isConstraintMatchEnabled()} is false
      */
-    <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> buildConstraintMatchTotal(Score_ zeroScore);
+    <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> getConstraintMatchTotal();
+
+    /**
+     * Rescales the score impact of every current match of this constraint to the new constraint weight,
+     * without recalculating any match weight, so it's O(matches of this constraint).
+     * Also rebuilds the {@link ConstraintMatchTotal} if {@link BavetConstraintSession#isConstraintMatchEnabled()}.
+     * @param newConstraintWeight never null, never zero
+     */
+    void changeConstraintWeight(Score<?> newConstraintWeight);
 
 }
@@ -16,17 +16,43 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
-import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import java.math.BigDecimal;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 
 public interface BavetScoringTuple {
 
-    UndoScoreImpacter getUndoScoreImpacter();
+    /**
+     * @return true if {@link BavetScoreImpacter#impactScore(BavetScoringTuple)} impacted the score for this tuple
+     * and that impact hasn't been undone yet
+     */
+    boolean isImpacting();
+
+    void setImpacting(boolean impacting);
+
+    /**
+     * @return the position of this tuple in {@link BavetImpactingTupleList}, -1 if it isn't in there
+     */
+    int getImpactingIndex();
+
+    void setImpactingIndex(int impactingIndex);
+
+    /**
+     * @return the matchWeight of the last impact, if the score type has int or long weights
+     */
+    long getMatchWeight();
+
+    void setMatchWeight(long matchWeight);
+
+    /**
+     * @return sometimes null, the matchWeight of the last impact, if the score type has {@link BigDecimal} weights
+     */
+    BigDecimal getBigDecimalMatchWeight();
 
-    void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter);
+    void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight);
 
-    Score<?> getMatchScore();
+    ConstraintMatch<?> getConstraintMatch();
 
-    void setMatchScore(Score<?> matchScore);
+    void setConstraintMatch(ConstraintMatch<?> constraintMatch);
 
 }
@@ -17,15 +17,11 @@
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.NavigableMap;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
+import java.util.NoSuchElementException;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
@@ -33,7 +29,8 @@ import org.optaplanner.core.impl.score.stream.common.JoinerType;
 public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
     private final JoinerType comparisonJoinerType;
-    private final Map<BavetIndexKey, NavigableMap<Object, Set<Tuple_>>> equalsMap = new HashMap<>();
+    private final Map<BavetIndexKey, BavetSortedTupleArray<Tuple_>> equalsMap = new HashMap<>();
+    private final RangeIterator rangeIterator = new RangeIterator();
 
     public BavetEqualsAndComparisonIndex(JoinerType comparisonJoinerType) {
         this.comparisonJoinerType = comparisonJoinerType;
@@ -45,18 +42,14 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
         BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
                 Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 1));
         Object oldComparisonIndexProperty = oldIndexProperties[oldIndexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(oldEqualsIndexKey);
-        Set<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
-        boolean removed = tupleSet.remove(tuple);
+        BavetSortedTupleArray<Tuple_> sortedTupleArray = equalsMap.get(oldEqualsIndexKey);
+        boolean removed = sortedTupleArray.remove(oldComparisonIndexProperty, tuple);
         if (!removed) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
-                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+                    + ")'s tuple cannot be removed in the index from the sortedTupleArray (" + sortedTupleArray + ").");
         }
-        if (tupleSet.isEmpty()) {
-            comparisonMap.remove(oldComparisonIndexProperty);
-            if (comparisonMap.isEmpty()) {
-                equalsMap.remove(oldEqualsIndexKey);
-            }
+        if (sortedTupleArray.isEmpty()) {
+            equalsMap.remove(oldEqualsIndexKey);
         }
         tuple.setIndexProperties(null);
     }
@@ -65,46 +58,92 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
     public void put(Object[] indexProperties, Tuple_ tuple) {
         BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
         Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
-        Set<Tuple_> tupleSet = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashSet<>());
-        boolean added = tupleSet.add(tuple);
+        BavetSortedTupleArray<Tuple_> sortedTupleArray = equalsMap.computeIfAbsent(equalsIndexKey,
+                k -> new BavetSortedTupleArray<>());
+        boolean added = sortedTupleArray.add(comparisonIndexProperty, tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
-                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+                    + ") was already added in the index to the sortedTupleArray (" + sortedTupleArray + ").");
         }
         tuple.setIndexProperties(indexProperties);
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
-        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
-        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(equalsIndexKey);
-        if (comparisonMap == null) {
+    public Iterable<Tuple_> get(Object[] indexProperties) {
+        BavetSortedTupleArray<Tuple_> sortedTupleArray = selectSortedTupleArray(indexProperties);
+        if (sortedTupleArray == null) {
             return Collections.emptySet();
         }
-        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
-        switch (comparisonJoinerType) {
-            case LESS_THAN:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
-                break;
-            case LESS_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, true);
-                break;
-            case GREATER_THAN:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, false);
-                break;
-            case GREATER_THAN_OR_EQUAL:
-                selectedComparisonMap = comparisonMap.tailMap(comparisonIndexProperty, true);
-                break;
-            default:
-                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
-                        + ") is not one of the 4 comparison types.");
+        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
+        rangeIterator.reset(sortedTupleArray,
+                sortedTupleArray.rangeStart(comparisonJoinerType, comparisonIndexProperty),
+                sortedTupleArray.rangeEnd(comparisonJoinerType, comparisonIndexProperty));
+        return rangeIterator;
+    }
+
+    @Override
+    public int count(Object[] indexProperties) {
+        BavetSortedTupleArray<Tuple_> sortedTupleArray = selectSortedTupleArray(indexProperties);
+        if (sortedTupleArray == null) {
+            return 0;
+        }
+        Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
+        int rangeEnd = sortedTupleArray.rangeEnd(comparisonJoinerType, comparisonIndexProperty);
+        int count = 0;
+        for (int i = sortedTupleArray.rangeStart(comparisonJoinerType, comparisonIndexProperty); i < rangeEnd; i++) {
+            count += sortedTupleArray.getTupleSet(i).size();
+        }
+        return count;
+    }
+
+    private BavetSortedTupleArray<Tuple_> selectSortedTupleArray(Object[] indexProperties) {
+        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
+        return equalsMap.get(equalsIndexKey);
+    }
+
+    /**
+     * Reused by every {@link #get(Object[])} call, to avoid creating a temporary collection per lookup.
+     */
+    private final class RangeIterator implements Iterable<Tuple_>, Iterator<Tuple_> {
+
+        private BavetSortedTupleArray<Tuple_> sortedTupleArray;
+        private int nextSlot;
+        private int rangeEnd;
+        private Iterator<Tuple_> tupleIterator;
+
+        private void reset(BavetSortedTupleArray<Tuple_> sortedTupleArray, int rangeStart, int rangeEnd) {
+            this.sortedTupleArray = sortedTupleArray;
+            this.nextSlot = rangeStart;
+            this.rangeEnd = rangeEnd;
+            tupleIterator = Collections.emptyIterator();
+        }
+
+        @Override
+        public Iterator<Tuple_> iterator() {
+            return this;
         }
-        return selectedComparisonMap.values().stream()
-                .flatMap(Collection::stream)
-                .collect(Collectors.toSet());
+
+        @Override
+        public boolean hasNext() {
+            while (!tupleIterator.hasNext()) {
+                if (nextSlot >= rangeEnd) {
+                    return false;
+                }
+                tupleIterator = sortedTupleArray.getTupleSet(nextSlot).iterator();
+                nextSlot++;
+            }
+            return true;
+        }
+
+        @Override
+        public Tuple_ next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return tupleIterator.next();
+        }
+
     }
 
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes the last 2 index properties as an interval,
+ * for a less than joiner combined with a greater than joiner,
+ * such as {@link org.optaplanner.core.api.score.stream.Joiners#overlapping}.
+ * The stored tuple's property for the less than joiner is the low end of its interval,
+ * the stored tuple's property for the greater than joiner is the high end of its interval.
+ * @param <Tuple_> the tuple type
+ */
+public class BavetEqualsAndIntervalIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final int lowOffset;
+    private final boolean lowInclusive;
+    private final int highOffset;
+    private final boolean highInclusive;
+    private final Map<BavetIndexKey, BavetIntervalTree<Tuple_>> equalsMap = new HashMap<>();
+    private final IntervalIterator intervalIterator = new IntervalIterator();
+
+    /**
+     * @param firstComparisonJoinerType never null, with the stored property on the left side
+     * @param secondComparisonJoinerType never null, with the stored property on the left side,
+     * in the opposite direction of the firstComparisonJoinerType
+     */
+    public BavetEqualsAndIntervalIndex(JoinerType firstComparisonJoinerType, JoinerType secondComparisonJoinerType) {
+        if (isLessThan(firstComparisonJoinerType) == isLessThan(secondComparisonJoinerType)) {
+            throw new IllegalStateException("Impossible state: the firstComparisonJoinerType ("
+                    + firstComparisonJoinerType + ") and the secondComparisonJoinerType ("
+                    + secondComparisonJoinerType + ") don't define an interval.");
+        }
+        JoinerType lowJoinerType;
+        JoinerType highJoinerType;
+        if (isLessThan(firstComparisonJoinerType)) {
+            lowOffset = 2;
+            lowJoinerType = firstComparisonJoinerType;
+            highOffset = 1;
+            highJoinerType = secondComparisonJoinerType;
+        } else {
+            lowOffset = 1;
+            lowJoinerType = secondComparisonJoinerType;
+            highOffset = 2;
+            highJoinerType = firstComparisonJoinerType;
+        }
+        lowInclusive = lowJoinerType == JoinerType.LESS_THAN_OR_EQUAL;
+        highInclusive = highJoinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    public static boolean isLessThan(JoinerType joinerType) {
+        switch (joinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return true;
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return false;
+            default:
+                throw new IllegalStateException("Impossible state: the joinerType (" + joinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = tuple.getIndexProperties();
+        BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
+                Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 2));
+        BavetIntervalTree<Tuple_> intervalTree = equalsMap.get(oldEqualsIndexKey);
+        boolean removed = intervalTree.remove(oldIndexProperties[oldIndexProperties.length - lowOffset],
+                oldIndexProperties[oldIndexProperties.length - highOffset], tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the intervalTree (" + intervalTree + ").");
+        }
+        if (intervalTree.isEmpty()) {
+            equalsMap.remove(oldEqualsIndexKey);
+        }
+        tuple.setIndexProperties(null);
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 2));
+        BavetIntervalTree<Tuple_> intervalTree = equalsMap.computeIfAbsent(equalsIndexKey,
+                k -> new BavetIntervalTree<>());
+        boolean added = intervalTree.add(indexProperties[indexProperties.length - lowOffset],
+                indexProperties[indexProperties.length - highOffset], tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the index to the intervalTree (" + intervalTree + ").");
+        }
+        tuple.setIndexProperties(indexProperties);
+    }
+
+    @Override
+    public Iterable<Tuple_> get(Object[] indexProperties) {
+        BavetIntervalTree<Tuple_> intervalTree = selectIntervalTree(indexProperties);
+        if (intervalTree == null) {
+            return Collections.emptySet();
+        }
+        intervalIterator.reset(intervalTree, indexProperties[indexProperties.length - lowOffset],
+                indexProperties[indexProperties.length - highOffset]);
+        return intervalIterator;
+    }
+
+    @Override
+    public int count(Object[] indexProperties) {
+        BavetIntervalTree<Tuple_> intervalTree = selectIntervalTree(indexProperties);
+        if (intervalTree == null) {
+            return 0;
+        }
+        intervalIterator.reset(intervalTree, indexProperties[indexProperties.length - lowOffset],
+                indexProperties[indexProperties.length - highOffset]);
+        int count = 0;
+        BavetIntervalTree.Node<Tuple_> node = intervalIterator.nextNode();
+        while (node != null) {
+            count += node.getTupleSet().size();
+            node = intervalIterator.nextNode();
+        }
+        return count;
+    }
+
+    private BavetIntervalTree<Tuple_> selectIntervalTree(Object[] indexProperties) {
+        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 2));
+        return equalsMap.get(equalsIndexKey);
+    }
+
+    private boolean matchesLow(Object storedLow, Object lowBound) {
+        int comparison = ((Comparable) storedLow).compareTo(lowBound);
+        return lowInclusive ? comparison <= 0 : comparison < 0;
+    }
+
+    private boolean matchesHigh(Object storedHigh, Object highBound) {
+        int comparison = ((Comparable) storedHigh).compareTo(highBound);
+        return highInclusive ? comparison >= 0 : comparison > 0;
+    }
+
+    /**
+     * Reused by every {@link #get(Object[])} and {@link #count(Object[])} call,
+     * to avoid creating a temporary collection per lookup.
+     * Walks the tree depth first with an explicit stack,
+     * skipping the subtrees that start too late or end too early.
+     */
+    private final class IntervalIterator implements Iterable<Tuple_>, Iterator<Tuple_> {
+
+        private BavetIntervalTree.Node<Tuple_>[] nodeStack = new BavetIntervalTree.Node[16];
+        private int nodeStackSize = 0;
+        private Object lowBound;
+        private Object highBound;
+        private Iterator<Tuple_> tupleIterator;
+
+        private void reset(BavetIntervalTree<Tuple_> intervalTree, Object lowBound, Object highBound) {
+            this.lowBound = lowBound;
+            this.highBound = highBound;
+            Arrays.fill(nodeStack, 0, nodeStackSize, null);
+            nodeStackSize = 0;
+            tupleIterator = Collections.emptyIterator();
+            BavetIntervalTree.Node<Tuple_> root = intervalTree.getRoot();
+            // A depth first walk never holds more than 1 node per level plus the root's sibling
+            int maximumStackSize = root.getHeight() + 1;
+            if (nodeStack.length < maximumStackSize) {
+                nodeStack = new BavetIntervalTree.Node[Math.max(maximumStackSize, nodeStack.length * 2)];
+            }
+            pushIfOverlapping(root);
+        }
+
+        private void pushIfOverlapping(BavetIntervalTree.Node<Tuple_> node) {
+            if (node != null && matchesHigh(node.getMaxHigh(), highBound)) {
+                nodeStack[nodeStackSize++] = node;
+            }
+        }
+
+        private BavetIntervalTree.Node<Tuple_> nextNode() {
+            while (nodeStackSize > 0) {
+                BavetIntervalTree.Node<Tuple_> node = nodeStack[--nodeStackSize];
+                nodeStack[nodeStackSize] = null;
+                pushIfOverlapping(node.getLeft());
+                // The right subtree only has intervals that start at or after this one
+                if (matchesLow(node.getLow(), lowBound)) {
+                    pushIfOverlapping(node.getRight());
+                    if (matchesHigh(node.getHigh(), highBound)) {
+                        return node;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Iterator<Tuple_> iterator() {
+            return this;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!tupleIterator.hasNext()) {
+                BavetIntervalTree.Node<Tuple_> node = nextNode();
+                if (node == null) {
+                    return false;
+                }
+                tupleIterator = node.getTupleSet().iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Tuple_ next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return tupleIterator.next();
+        }
+
+    }
+
+}
@@ -57,7 +57,7 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
+    public Iterable<Tuple_> get(Object[] indexProperties) {
         Set<Tuple_> tupleSet = map.get(new BavetIndexKey(indexProperties));
         if (tupleSet == null) {
             return Collections.emptySet();
@@ -65,4 +65,13 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
         return tupleSet;
     }
 
+    @Override
+    public int count(Object[] indexProperties) {
+        Set<Tuple_> tupleSet = map.get(new BavetIndexKey(indexProperties));
+        if (tupleSet == null) {
+            return 0;
+        }
+        return tupleSet.size();
+    }
+
 }
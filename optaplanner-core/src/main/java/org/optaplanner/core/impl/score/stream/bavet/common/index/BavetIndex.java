@@ -16,8 +16,6 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
-import java.util.Set;
-
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
 public abstract class BavetIndex<Tuple_ extends BavetJoinBridgeTuple> {
@@ -26,6 +24,20 @@ public abstract class BavetIndex<Tuple_ extends BavetJoinBridgeTuple> {
 
     public abstract void put(Object[] indexProperties, Tuple_ tuple);
 
-    public abstract Set<Tuple_> get(Object[] indexProperties);
+    /**
+     * Implementations don't create a temporary collection per call.
+     * The returned {@link Iterable} might be reused by the next call on the same index,
+     * so don't call {@link #get(Object[])} or {@link #count(Object[])} on the same index during iteration
+     * and don't change the index during iteration.
+     * @param indexProperties never null
+     * @return never null, the tuples that match the indexProperties
+     */
+    public abstract Iterable<Tuple_> get(Object[] indexProperties);
+
+    /**
+     * @param indexProperties never null
+     * @return {@code >= 0}, the size of {@link #get(Object[])}, but without iterating it
+     */
+    public abstract int count(Object[] indexProperties);
 
 }
@@ -16,20 +16,26 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
+import java.util.Arrays;
+
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 import org.optaplanner.core.impl.score.stream.common.AbstractJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 
 public class BavetIndexFactory {
 
+    private final AbstractJoiner joiner;
     private final JoinerType[] joinerTypes;
 
     public BavetIndexFactory(AbstractJoiner joiner) {
+        this.joiner = joiner;
         joinerTypes = joiner.getJoinerTypes();
+        int lastComparisonCount = isInterval() ? 2 : 1;
         for (int i = 0; i < joinerTypes.length; i++) {
-            if (joinerTypes[i] != JoinerType.EQUAL && i != (joinerTypes.length - 1)) {
+            if (joinerTypes[i] != JoinerType.EQUAL && i < (joinerTypes.length - lastComparisonCount)) {
                 throw new IllegalArgumentException("The joinerType (" + joinerTypes[i]
-                        + ") is currently only supported as the last joinerType.\n"
+                        + ") is currently only supported as the last joinerType"
+                        + " or as the last 2 joinerTypes in opposite directions, such as overlapping().\n"
                         + ((joinerTypes[i + 1] == JoinerType.EQUAL)
                                 ? "Maybe move the next joinerType (" + joinerTypes[i + 1]
                                         + ") before this joinerType (" + joinerTypes[i] + ")."
@@ -39,6 +45,42 @@ public class BavetIndexFactory {
         }
     }
 
+    /**
+     * @return true if the last 2 joinerTypes are a less than and a greater than comparison, in any order
+     */
+    private boolean isInterval() {
+        if (joinerTypes.length < 2) {
+            return false;
+        }
+        JoinerType firstJoinerType = joinerTypes[joinerTypes.length - 2];
+        JoinerType secondJoinerType = joinerTypes[joinerTypes.length - 1];
+        if (!isComparison(firstJoinerType) || !isComparison(secondJoinerType)) {
+            return false;
+        }
+        return BavetEqualsAndIntervalIndex.isLessThan(firstJoinerType)
+                != BavetEqualsAndIntervalIndex.isLessThan(secondJoinerType);
+    }
+
+    private static boolean isComparison(JoinerType joinerType) {
+        switch (joinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return true if the tuples on one side don't all match the same tuples on the other side
+     * for the same equal properties
+     */
+    public boolean hasComparisonJoinerType() {
+        return joinerTypes.length > 0 && joinerTypes[joinerTypes.length - 1] != JoinerType.EQUAL;
+    }
+
     public <Tuple_ extends BavetJoinBridgeTuple> BavetIndex<Tuple_> buildIndex(boolean isLeftBridge) {
         if (joinerTypes.length == 0) {
             return new BavetNoneIndex<>();
@@ -46,10 +88,51 @@ public class BavetIndexFactory {
         JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
         if (lastJoinerType == JoinerType.EQUAL) {
             return new BavetEqualsIndex<>();
+        } else if (isInterval()) {
+            JoinerType firstJoinerType = joinerTypes[joinerTypes.length - 2];
+            // Use flip() to model A < B as B > A
+            return new BavetEqualsAndIntervalIndex<>(isLeftBridge ? firstJoinerType : firstJoinerType.flip(),
+                    isLeftBridge ? lastJoinerType : lastJoinerType.flip());
         } else {
             // Use flip() to model A < B as B > A
             return new BavetEqualsAndComparisonIndex<>(isLeftBridge ? lastJoinerType : lastJoinerType.flip());
         }
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(joinerTypes);
+    }
+
+    /**
+     * Equal index factories index the same properties on both sides,
+     * because their joiners have the same joiner types and the same mapping instances.
+     * @param o sometimes null
+     * @return true if the join bridges built with these index factories can be shared
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIndexFactory) {
+            BavetIndexFactory other = (BavetIndexFactory) o;
+            if (!Arrays.equals(joinerTypes, other.joinerTypes)) {
+                return false;
+            }
+            for (int i = 0; i < joinerTypes.length; i++) {
+                if (joiner.getLeftMapping(i) != other.joiner.getLeftMapping(i)
+                        || joiner.getRightMapping(i) != other.joiner.getRightMapping(i)) {
+                    return false;
+                }
+            }
+            return true;
+        } else {
+            return false;
+        }
+    }
+
 }
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * An AVL tree of intervals, sorted by their low end and augmented with the maximum high end of each subtree,
+ * so an overlap lookup skips every subtree that ends too early or starts too late.
+ * Tuples with the same low and high end share a node.
+ * @param <Tuple_> the tuple type
+ */
+public class BavetIntervalTree<Tuple_> {
+
+    private Node<Tuple_> root = null;
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public Node<Tuple_> getRoot() {
+        return root;
+    }
+
+    /**
+     * @param low never null, {@link Comparable}
+     * @param high never null, {@link Comparable}
+     * @param tuple never null
+     * @return false if the tuple was already added for that interval
+     */
+    public boolean add(Object low, Object high, Tuple_ tuple) {
+        Node<Tuple_> node = find(low, high);
+        if (node == null) {
+            node = new Node<>(low, high);
+            root = insert(root, node);
+        }
+        return node.tupleSet.add(tuple);
+    }
+
+    /**
+     * @param low never null, {@link Comparable}
+     * @param high never null, {@link Comparable}
+     * @param tuple never null
+     * @return false if the tuple was not added for that interval
+     */
+    public boolean remove(Object low, Object high, Tuple_ tuple) {
+        Node<Tuple_> node = find(low, high);
+        if (node == null) {
+            return false;
+        }
+        boolean removed = node.tupleSet.remove(tuple);
+        if (node.tupleSet.isEmpty()) {
+            root = delete(root, low, high);
+        }
+        return removed;
+    }
+
+    private Node<Tuple_> find(Object low, Object high) {
+        Node<Tuple_> node = root;
+        while (node != null) {
+            int comparison = compareKey(low, high, node);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                node = node.right;
+            } else {
+                return node;
+            }
+        }
+        return null;
+    }
+
+    private Node<Tuple_> insert(Node<Tuple_> subtree, Node<Tuple_> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (compareKey(node.low, node.high, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+        } else {
+            subtree.right = insert(subtree.right, node);
+        }
+        return rebalance(subtree);
+    }
+
+    private Node<Tuple_> delete(Node<Tuple_> subtree, Object low, Object high) {
+        int comparison = compareKey(low, high, subtree);
+        if (comparison < 0) {
+            subtree.left = delete(subtree.left, low, high);
+        } else if (comparison > 0) {
+            subtree.right = delete(subtree.right, low, high);
+        } else {
+            if (subtree.left == null) {
+                return subtree.right;
+            } else if (subtree.right == null) {
+                return subtree.left;
+            }
+            Node<Tuple_> successor = subtree.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMinimum(subtree.right);
+            successor.left = subtree.left;
+            return rebalance(successor);
+        }
+        return rebalance(subtree);
+    }
+
+    private Node<Tuple_> deleteMinimum(Node<Tuple_> subtree) {
+        if (subtree.left == null) {
+            return subtree.right;
+        }
+        subtree.left = deleteMinimum(subtree.left);
+        return rebalance(subtree);
+    }
+
+    private Node<Tuple_> rebalance(Node<Tuple_> node) {
+        node.refresh();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<Tuple_> rotateRight(Node<Tuple_> node) {
+        Node<Tuple_> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.refresh();
+        pivot.refresh();
+        return pivot;
+    }
+
+    private Node<Tuple_> rotateLeft(Node<Tuple_> node) {
+        Node<Tuple_> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.refresh();
+        pivot.refresh();
+        return pivot;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int compareKey(Object low, Object high, Node<?> node) {
+        int comparison = ((Comparable) low).compareTo(node.low);
+        if (comparison != 0) {
+            return comparison;
+        }
+        return ((Comparable) high).compareTo(node.high);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        appendInOrder(builder, root);
+        return builder.append("]").toString();
+    }
+
+    private static void appendInOrder(StringBuilder builder, Node<?> node) {
+        if (node == null) {
+            return;
+        }
+        appendInOrder(builder, node.left);
+        if (builder.length() > 1) {
+            builder.append(", ");
+        }
+        builder.append(node.low).append("..").append(node.high).append("=").append(node.tupleSet);
+        appendInOrder(builder, node.right);
+    }
+
+    public static final class Node<Tuple_> {
+
+        private final Object low;
+        private final Object high;
+        private final Set<Tuple_> tupleSet = new LinkedHashSet<>();
+        private Object maxHigh;
+        private int height = 1;
+        private Node<Tuple_> left = null;
+        private Node<Tuple_> right = null;
+
+        private Node(Object low, Object high) {
+            this.low = low;
+            this.high = high;
+            maxHigh = high;
+        }
+
+        private void refresh() {
+            height = Math.max(height(left), height(right)) + 1;
+            maxHigh = high;
+            if (left != null && ((Comparable) left.maxHigh).compareTo(maxHigh) > 0) {
+                maxHigh = left.maxHigh;
+            }
+            if (right != null && ((Comparable) right.maxHigh).compareTo(maxHigh) > 0) {
+                maxHigh = right.maxHigh;
+            }
+        }
+
+        public Object getLow() {
+            return low;
+        }
+
+        public Object getHigh() {
+            return high;
+        }
+
+        public Set<Tuple_> getTupleSet() {
+            return tupleSet;
+        }
+
+        /**
+         * @return never null, the highest {@link #getHigh()} in this subtree
+         */
+        public Object getMaxHigh() {
+            return maxHigh;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        public Node<Tuple_> getLeft() {
+            return left;
+        }
+
+        public Node<Tuple_> getRight() {
+            return right;
+        }
+
+    }
+
+}
@@ -48,8 +48,13 @@ public class BavetNoneIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIn
     }
 
     @Override
-    public Set<Tuple_> get(Object[] indexProperties) {
+    public Iterable<Tuple_> get(Object[] indexProperties) {
         return tupleSet;
     }
 
+    @Override
+    public int count(Object[] indexProperties) {
+        return tupleSet.size();
+    }
+
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Keeps the tuples sorted by their comparison index property in parallel arrays,
+ * so a comparison lookup is a binary search that selects a range of array slots,
+ * without creating a map view or a temporary collection.
+ * @param <Tuple_> the tuple type
+ */
+public class BavetSortedTupleArray<Tuple_> {
+
+    private Object[] keys;
+    private Object[] tupleSets;
+    private int size = 0;
+
+    public BavetSortedTupleArray() {
+        keys = new Object[8];
+        tupleSets = new Object[8];
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param key never null, {@link Comparable}
+     * @param tuple never null
+     * @return false if the tuple was already added for that key
+     */
+    public boolean add(Object key, Tuple_ tuple) {
+        int index = binarySearch(key);
+        Set<Tuple_> tupleSet;
+        if (index >= 0) {
+            tupleSet = getTupleSet(index);
+        } else {
+            index = -(index + 1);
+            if (size == keys.length) {
+                int newLength = keys.length * 2;
+                Object[] newKeys = new Object[newLength];
+                System.arraycopy(keys, 0, newKeys, 0, size);
+                keys = newKeys;
+                Object[] newTupleSets = new Object[newLength];
+                System.arraycopy(tupleSets, 0, newTupleSets, 0, size);
+                tupleSets = newTupleSets;
+            }
+            System.arraycopy(keys, index, keys, index + 1, size - index);
+            System.arraycopy(tupleSets, index, tupleSets, index + 1, size - index);
+            tupleSet = new LinkedHashSet<>();
+            keys[index] = key;
+            tupleSets[index] = tupleSet;
+            size++;
+        }
+        return tupleSet.add(tuple);
+    }
+
+    /**
+     * @param key never null, {@link Comparable}
+     * @param tuple never null
+     * @return false if the tuple was not added for that key
+     */
+    public boolean remove(Object key, Tuple_ tuple) {
+        int index = binarySearch(key);
+        if (index < 0) {
+            return false;
+        }
+        Set<Tuple_> tupleSet = getTupleSet(index);
+        boolean removed = tupleSet.remove(tuple);
+        if (tupleSet.isEmpty()) {
+            size--;
+            System.arraycopy(keys, index + 1, keys, index, size - index);
+            System.arraycopy(tupleSets, index + 1, tupleSets, index, size - index);
+            keys[size] = null;
+            tupleSets[size] = null;
+        }
+        return removed;
+    }
+
+    /**
+     * @param comparisonJoinerType never null, one of the 4 comparison types, with the stored key on the left side
+     * @param key never null, {@link Comparable}
+     * @return {@code >= 0}, the first slot of the range that matches
+     */
+    public int rangeStart(JoinerType comparisonJoinerType, Object key) {
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+                return 0;
+            case GREATER_THAN:
+                return upperBound(key);
+            case GREATER_THAN_OR_EQUAL:
+                return lowerBound(key);
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+    }
+
+    /**
+     * @param comparisonJoinerType never null, one of the 4 comparison types, with the stored key on the left side
+     * @param key never null, {@link Comparable}
+     * @return {@code >= 0}, the slot after the last slot of the range that matches
+     */
+    public int rangeEnd(JoinerType comparisonJoinerType, Object key) {
+        switch (comparisonJoinerType) {
+            case LESS_THAN:
+                return lowerBound(key);
+            case LESS_THAN_OR_EQUAL:
+                return upperBound(key);
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                return size;
+            default:
+                throw new IllegalStateException("Impossible state: the comparisonJoinerType (" + comparisonJoinerType
+                        + ") is not one of the 4 comparison types.");
+        }
+    }
+
+    public Set<Tuple_> getTupleSet(int index) {
+        return (Set<Tuple_>) tupleSets[index];
+    }
+
+    /**
+     * @param key never null
+     * @return the slot of the key if it's present, otherwise {@code -(insertion point) - 1},
+     * just like {@link java.util.Arrays#binarySearch(Object[], Object)}
+     */
+    private int binarySearch(Object key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = ((Comparable) keys[middle]).compareTo(key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * @return the first slot with a key that is greater than or equal to the given key
+     */
+    private int lowerBound(Object key) {
+        int index = binarySearch(key);
+        return (index >= 0) ? index : -(index + 1);
+    }
+
+    /**
+     * @return the first slot with a key that is greater than the given key
+     */
+    private int upperBound(Object key) {
+        int index = binarySearch(key);
+        return (index >= 0) ? index + 1 : -(index + 1);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(keys[i]).append("=").append(tupleSets[i]);
+        }
+        return builder.append("]").toString();
+    }
+
+}
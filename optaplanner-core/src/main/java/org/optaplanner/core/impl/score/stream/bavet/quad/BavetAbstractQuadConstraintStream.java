@@ -0,0 +1,417 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.function.PentaFunction;
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.penta.AbstractPentaJoiner;
+import org.optaplanner.core.impl.score.stream.penta.FilteringPentaJoiner;
+import org.optaplanner.core.impl.score.stream.quad.DefaultQuadConstraintCollector;
+import org.optaplanner.core.impl.score.stream.quad.InnerQuadConstraintStream;
+
+public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> extends BavetAbstractConstraintStream<Solution_>
+        implements InnerQuadConstraintStream<A, B, C, D> {
+
+    protected final List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> childStreamList = new ArrayList<>(2);
+
+    public BavetAbstractQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory) {
+        super(constraintFactory);
+    }
+
+    // ************************************************************************
+    // Stream builder methods
+    // ************************************************************************
+
+    protected void addChildStream(BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream) {
+        childStreamList.add(childStream);
+    }
+
+    @Override
+    public int getCardinality() {
+        return 4;
+    }
+
+    // ************************************************************************
+    // Filter
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
+        BavetFilterQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetFilterQuadConstraintStream<>(constraintFactory,
+                this, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    // ************************************************************************
+    // If (not) exists
+    // ************************************************************************
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(Class<E> otherClass, PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(true, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <E> QuadConstraintStream<A, B, C, D> ifExistsOrNot(boolean shouldExist, Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        int indexOfFirstFilter = -1;
+        // The indexing joiners feed the index, the filtering joiners are merged into a single filter
+        PentaPredicate<A, B, C, D, E> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            PentaJoiner<A, B, C, D, E> joiner = joiners[i];
+            if (joiner instanceof FilteringPentaJoiner) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                PentaPredicate<A, B, C, D, E> joinerFilter = ((FilteringPentaJoiner<A, B, C, D, E>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow " +
+                        "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n" +
+                        "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractPentaJoiner<A, B, C, D, E> indexingJoiner = AbstractPentaJoiner.merge(indexOfFirstFilter < 0 ? joiners
+                : Arrays.copyOf(joiners, indexOfFirstFilter));
+        for (JoinerType type : indexingJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeQuadConstraintStream<Solution_, A, B, C, D> leftBridge = new BavetJoinBridgeQuadConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, E> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetIfExistsBridgeUniConstraintStream<Solution_, E> rightBridge = new BavetIfExistsBridgeUniConstraintStream<>(
+                constraintFactory, other, indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        // Without filter or comparison, the left tuples of an index key all match the same right tuples
+        boolean countingByKey = filter == null && !indexFactory.hasComparisonJoinerType();
+        BavetIfExistsQuadConstraintStream<Solution_, A, B, C, D, E> ifExistsStream = new BavetIfExistsQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter, countingByKey);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setIfExistsStream(ifExistsStream);
+        return ifExistsStream;
+    }
+
+    // ************************************************************************
+    // Group by
+    // ************************************************************************
+
+    @Override
+    public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Void, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, null, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, Void> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, null);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Pair<GroupKeyA_, GroupKeyB_>, Void> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this,
+                        (a, b, c, d) -> Pair.of(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                        null);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Void, GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                new BavetGroupBridgeQuadConstraintStream<>(constraintFactory, this,
+                        (a, b, c, d) -> Pair.of(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                        collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, GroupKeyA_, GroupKeyB_, Result_>
+                groupStream = new BavetGroupTriConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        PentaFunction<ResultContainerC_, A, B, C, D, Runnable> accumulatorC = collectorC.accumulator();
+        PentaFunction<ResultContainerD_, A, B, C, D, Runnable> accumulatorD = collectorD.accumulator();
+        // The group bridge takes a single collector, so both collectors share a paired result container
+        QuadConstraintCollector<A, B, C, D, Pair<ResultContainerC_, ResultContainerD_>, Void> collector =
+                new DefaultQuadConstraintCollector<>(
+                        () -> Pair.of(supplierC.get(), supplierD.get()),
+                        (resultContainer, a, b, c, d) -> {
+                            Runnable undoAccumulatorC = accumulatorC.apply(resultContainer.getLeft(), a, b, c, d);
+                            Runnable undoAccumulatorD = accumulatorD.apply(resultContainer.getRight(), a, b, c, d);
+                            return () -> {
+                                undoAccumulatorC.run();
+                                undoAccumulatorD.run();
+                            };
+                        },
+                        resultContainer -> null); // The group stream applies both finishers itself
+        BavetGroupBridgeQuadConstraintStream<Solution_, A, B, C, D, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>> bridge = new BavetGroupBridgeQuadConstraintStream<>(
+                        constraintFactory, this,
+                        (a, b, c, d) -> Pair.of(groupKeyAMapping.apply(a, b, c, d), groupKeyBMapping.apply(a, b, c, d)),
+                        collector);
+        childStreamList.add(bridge);
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>, GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisherC.apply(resultContainer.getLeft()),
+                        (groupKey, resultContainer) -> finisherD.apply(resultContainer.getRight()));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
+    }
+
+    // ************************************************************************
+    // Penalize/reward
+    // ************************************************************************
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreLong(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreBigDecimal(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableLong(String constraintPackage, String constraintName,
+            ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableBigDecimal(String constraintPackage, String constraintName,
+            QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(constraintFactory,
+                this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    public BavetAbstractQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        BavetAbstractQuadNode<A, B, C, D> node = createNode(buildPolicy, constraintWeight, nodeOrder, parentNode);
+        node = processNode(buildPolicy, nodeOrder, parentNode, node);
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
+    protected BavetAbstractQuadNode<A, B, C, D> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy, int nodeOrder,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, BavetAbstractQuadNode<A, B, C, D> node) {
+        buildPolicy.updateNodeOrderMaximum(nodeOrder);
+        BavetAbstractQuadNode<A, B, C, D> sharedNode = buildPolicy.retrieveSharedNode(node);
+        if (sharedNode != node) {
+            // Share node
+            node = sharedNode;
+        } else {
+            if (parentNode != null) { // TODO remove null check and don't go through this code like this for from and joins
+                parentNode.addChildNode(node);
+            }
+        }
+        return node;
+    }
+
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight, int nodeOrder,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (childStreamList.isEmpty()) {
+            throw new IllegalStateException("The stream (" + this + ") leads to nowhere.\n"
+                    + "Maybe don't create it.");
+        }
+        for (BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream : childStreamList) {
+            childStream.createNodeChain(buildPolicy, constraintWeight, nodeOrder + 1, node);
+        }
+    }
+
+    protected abstract BavetAbstractQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode);
+
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+
+public abstract class BavetAbstractQuadTuple<A, B, C, D> extends BavetAbstractTuple {
+
+    @Override
+    public Object[] getFacts() {
+        return new Object[] { getFactA(), getFactB(), getFactC(), getFactD() };
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public abstract A getFactA();
+
+    public abstract B getFactB();
+
+    public abstract C getFactC();
+
+    public abstract D getFactD();
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetFilterQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+
+    private final BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent;
+    private final QuadPredicate<A, B, C, D> predicate;
+
+    public BavetFilterQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            QuadPredicate<A, B, C, D> predicate) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.predicate = predicate;
+        if (predicate == null) {
+            throw new IllegalArgumentException("The predicate (null) cannot be null.");
+        }
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        // Fuse a chain of filters into a single node, to avoid a tuple and a refresh per filter
+        List<QuadPredicate<A, B, C, D>> predicateList = new ArrayList<>();
+        predicateList.add(predicate);
+        BavetFilterQuadConstraintStream<Solution_, A, B, C, D> lastStream = this;
+        while (lastStream.childStreamList.size() == 1
+                && lastStream.childStreamList.get(0) instanceof BavetFilterQuadConstraintStream) {
+            lastStream = (BavetFilterQuadConstraintStream<Solution_, A, B, C, D>) lastStream.childStreamList.get(0);
+            predicateList.add(lastStream.predicate);
+        }
+        BavetAbstractQuadNode<A, B, C, D> node = new BavetFilterQuadNode<>(buildPolicy.getSession(), nodeOrder,
+                parentNode, predicateList);
+        node = processNode(buildPolicy, nodeOrder, parentNode, node);
+        lastStream.createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
+    @Override
+    protected BavetFilterQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
+    }
+
+    @Override
+    public String toString() {
+        return "Filter() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetFilterQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    /** Consecutive filters are fused into a single node, so a tuple is tested by all their predicates at once. */
+    private final QuadPredicate<A, B, C, D>[] predicates;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetFilterQuadNode(BavetConstraintSession session, int nodeOrder,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, List<QuadPredicate<A, B, C, D>> predicateList) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.predicates = predicateList.toArray(new QuadPredicate[0]);
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        // Lambdas don't override hashCode() and equals(), so predicates are compared by identity
+        return Objects.hash(System.identityHashCode(parentNode), Arrays.hashCode(predicates));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetFilterQuadNode) {
+            BavetFilterQuadNode<?, ?, ?, ?> other = (BavetFilterQuadNode<?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && Arrays.equals(predicates, other.predicates);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetFilterQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        // TODO Use childNodeList.size() to improve the tuple's childTupleList's capacity
+        return new BavetFilterQuadTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetFilterQuadTuple<A, B, C, D> tuple) {
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        List<BavetAbstractQuadTuple<A, B, C, D>> childTupleList = tuple.getChildTupleList();
+        boolean accepted = tuple.isActive() && test(a, b, c, d);
+        if (accepted && tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()) {
+            // It was accepted before too, so the child tuples only need to be updated
+            for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+        } else {
+            for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.DYING);
+            }
+            childTupleList.clear();
+            if (accepted) {
+                for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                    BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                    childTupleList.add(childTuple);
+                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                }
+            }
+        }
+        tuple.refreshed();
+    }
+
+    private boolean test(A a, B b, C c, D d) {
+        for (QuadPredicate<A, B, C, D> predicate : predicates) {
+            if (!predicate.test(a, b, c, d)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "Filter(" + predicates.length + " predicates) with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
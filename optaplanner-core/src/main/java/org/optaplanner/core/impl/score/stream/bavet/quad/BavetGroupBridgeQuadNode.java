@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_> extends BavetAbstractQuadNode<A, B, C, D> {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    /**
+     * Null if all tuples share the same group.
+     */
+    private final QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping;
+    /**
+     * Null if there is no collector.
+     */
+    private final QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector;
+    private final BavetGroupNode<GroupKey_, ResultContainer_> groupNode;
+
+    private final Map<GroupKey_, BavetGroupTuple<GroupKey_, ResultContainer_>> tupleMap;
+
+    public BavetGroupBridgeQuadNode(BavetConstraintSession session, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode,
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, ?> collector,
+            BavetGroupNode<GroupKey_, ResultContainer_> groupNode) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.groupKeyMapping = groupKeyMapping;
+        this.collector = collector;
+        this.groupNode = groupNode;
+        tupleMap = new HashMap<>();
+    }
+
+    @Override
+    public BavetGroupBridgeQuadTuple<A, B, C, D, GroupKey_, ResultContainer_> createTuple(
+            BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetGroupBridgeQuadTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetGroupBridgeQuadTuple<A, B, C, D, GroupKey_, ResultContainer_> tuple) {
+        if (tuple.getChildTuple() != null) {
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tuple.getChildTuple();
+            GroupKey_ oldGroupKey = childTuple.getGroupKey();
+            int parentCount = childTuple.decreaseParentCount();
+            if (tuple.getUndoAccumulator() != null) {
+                tuple.getUndoAccumulator().run();
+            }
+            childTuple.clearResult();
+            tuple.setChildTuple(null);
+            tuple.setUndoAccumulator(null);
+            if (parentCount == 0) {
+                // Clean up tupleMap
+                tupleMap.remove(oldGroupKey);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.DYING);
+            } else {
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
+            }
+        }
+        if (tuple.isActive()) {
+            A a = tuple.getFactA();
+            B b = tuple.getFactB();
+            C c = tuple.getFactC();
+            D d = tuple.getFactD();
+            GroupKey_ groupKey = groupKeyMapping == null ? null : groupKeyMapping.apply(a, b, c, d);
+            BavetGroupTuple<GroupKey_, ResultContainer_> childTuple = tupleMap.computeIfAbsent(groupKey,
+                    k -> groupNode.createTuple(groupKey, collector == null ? null : collector.supplier().get()));
+            int parentCount = childTuple.increaseParentCount();
+            if (collector != null) {
+                Runnable undoAccumulator = collector.accumulator().apply(childTuple.getResultContainer(), a, b, c, d);
+                tuple.setUndoAccumulator(undoAccumulator);
+            }
+            childTuple.clearResult();
+            tuple.setChildTuple(childTuple);
+            if (parentCount == 1) {
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.CREATING);
+            } else {
+                // It might have just been created by an earlier tuple in the same nodeOrder
+                if (((BavetAbstractTuple) childTuple).getState() != BavetTupleState.CREATING) {
+                    session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
+                }
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
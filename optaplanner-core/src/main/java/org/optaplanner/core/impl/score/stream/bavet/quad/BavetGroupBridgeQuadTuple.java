@@ -0,0 +1,92 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupBridgeTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupBridgeQuadTuple<A, B, C, D, GroupKey_, ResultContainer_> extends BavetAbstractQuadTuple<A, B, C, D>
+        implements BavetGroupBridgeTuple {
+
+    private final BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_> node;
+    private final BavetAbstractQuadTuple<A, B, C, D> parentTuple;
+
+    private Runnable undoAccumulator;
+    private BavetGroupTuple<GroupKey_, ResultContainer_> childTuple;
+
+    public BavetGroupBridgeQuadTuple(BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_> node,
+            BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge(" + getFactsString() + ") with " + (childTuple == null ? 0 : 1) + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeQuadNode<A, B, C, D, GroupKey_, ResultContainer_> getNode() {
+        return node;
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return parentTuple.getFactD();
+    }
+
+    public Runnable getUndoAccumulator() {
+        return undoAccumulator;
+    }
+
+    public void setUndoAccumulator(Runnable undoAccumulator) {
+        this.undoAccumulator = undoAccumulator;
+    }
+
+    public BavetGroupTuple<GroupKey_, ResultContainer_> getChildTuple() {
+        return childTuple;
+    }
+
+    public void setChildTuple(BavetGroupTuple<GroupKey_, ResultContainer_> childTuple) {
+        this.childTuple = childTuple;
+    }
+
+}
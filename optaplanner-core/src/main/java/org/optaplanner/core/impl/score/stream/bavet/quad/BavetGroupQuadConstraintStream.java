@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetGroupQuadConstraintStream<Solution_, GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD>
+        extends BavetAbstractQuadConstraintStream<Solution_, NewA, NewB, NewC, NewD>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
+
+    private final BavetAbstractConstraintStream<Solution_> parent;
+    private final BiFunction<GroupKey_, ResultContainer_, NewA> finisherA;
+    private final BiFunction<GroupKey_, ResultContainer_, NewB> finisherB;
+    private final BiFunction<GroupKey_, ResultContainer_, NewC> finisherC;
+    private final BiFunction<GroupKey_, ResultContainer_, NewD> finisherD;
+
+    public BavetGroupQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractConstraintStream<Solution_> parent,
+            BiFunction<GroupKey_, ResultContainer_, NewA> finisherA,
+            BiFunction<GroupKey_, ResultContainer_, NewB> finisherB,
+            BiFunction<GroupKey_, ResultContainer_, NewC> finisherC,
+            BiFunction<GroupKey_, ResultContainer_, NewD> finisherD) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.finisherA = finisherA;
+        this.finisherB = finisherB;
+        this.finisherC = finisherC;
+        this.finisherD = finisherD;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetGroupQuadNode<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> createGroupNodeChain(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight, int nodeOrder) {
+        return (BavetGroupQuadNode<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD>) createNodeChain(buildPolicy,
+                constraintWeight, nodeOrder, null);
+    }
+
+    @Override
+    protected BavetGroupQuadNode<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> createNode(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight, int nodeOrder,
+            BavetAbstractQuadNode<NewA, NewB, NewC, NewD> parentNode) {
+        if (parentNode != null) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") cannot have a parentNode (" + parentNode + ").");
+        }
+        return new BavetGroupQuadNode<>(buildPolicy.getSession(), nodeOrder, finisherA, finisherB, finisherC, finisherD);
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
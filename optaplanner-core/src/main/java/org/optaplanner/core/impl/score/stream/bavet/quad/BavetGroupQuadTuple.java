@@ -0,0 +1,137 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupQuadTuple<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD>
+        extends BavetAbstractQuadTuple<NewA, NewB, NewC, NewD>
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
+
+    private final BavetGroupQuadNode<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> node;
+
+    private final GroupKey_ groupKey;
+    private int parentCount;
+    private final ResultContainer_ resultContainer;
+    private NewA factA;
+    private NewB factB;
+    private NewC factC;
+    private NewD factD;
+
+    protected List<BavetAbstractQuadTuple<NewA, NewB, NewC, NewD>> childTupleList;
+
+    public BavetGroupQuadTuple(BavetGroupQuadNode<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> node,
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        this.node = node;
+        this.groupKey = groupKey;
+        parentCount = 0;
+        this.resultContainer = resultContainer;
+        childTupleList = new ArrayList<>();
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public int increaseParentCount() {
+        parentCount++;
+        return parentCount;
+    }
+
+    @Override
+    public int decreaseParentCount() {
+        parentCount--;
+        if (parentCount < 0) {
+            throw new IllegalStateException("The parentCount (" + parentCount + ") for groupKey (" + groupKey
+                    + ") must not be negative.");
+        }
+        return parentCount;
+    }
+
+    @Override
+    public void clearResult() {
+        factA = null;
+        factB = null;
+        factC = null;
+        factD = null;
+    }
+
+    public void updateResult(BiFunction<GroupKey_, ResultContainer_, NewA> finisherA,
+            BiFunction<GroupKey_, ResultContainer_, NewB> finisherB,
+            BiFunction<GroupKey_, ResultContainer_, NewC> finisherC,
+            BiFunction<GroupKey_, ResultContainer_, NewD> finisherD) {
+        factA = finisherA.apply(groupKey, resultContainer);
+        factB = finisherB.apply(groupKey, resultContainer);
+        factC = finisherC.apply(groupKey, resultContainer);
+        factD = finisherD.apply(groupKey, resultContainer);
+    }
+
+    @Override
+    public String toString() {
+        return "Group(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupQuadNode<GroupKey_, ResultContainer_, NewA, NewB, NewC, NewD> getNode() {
+        return node;
+    }
+
+    @Override
+    public NewA getFactA() {
+        return factA;
+    }
+
+    @Override
+    public NewB getFactB() {
+        return factB;
+    }
+
+    @Override
+    public NewC getFactC() {
+        return factC;
+    }
+
+    @Override
+    public NewD getFactD() {
+        return factD;
+    }
+
+    @Override
+    public GroupKey_ getGroupKey() {
+        return groupKey;
+    }
+
+    @Override
+    public ResultContainer_ getResultContainer() {
+        return resultContainer;
+    }
+
+    public List<BavetAbstractQuadTuple<NewA, NewB, NewC, NewD>> getChildTupleList() {
+        return childTupleList;
+    }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.api.function.PentaPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetIfExistsNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniTuple;
+
+public final class BavetIfExistsQuadNode<A, B, C, D, E> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetIfExistsNode {
+
+    private final BavetJoinBridgeQuadNode<A, B, C, D> leftParentNode;
+    private final BavetIfExistsBridgeUniNode<E> rightParentNode;
+    private final boolean shouldExist;
+    /** Null if there are no filtering joiners. */
+    private final PentaPredicate<A, B, C, D, E> filter;
+    /**
+     * True if all left tuples with the same index key match the same right tuples,
+     * so the size of the right index for that key decides if they exist.
+     */
+    private final boolean countingByKey;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsQuadNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeQuadNode<A, B, C, D> leftParentNode, BavetIfExistsBridgeUniNode<E> rightParentNode,
+            boolean shouldExist, PentaPredicate<A, B, C, D, E> filter, boolean countingByKey) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+        this.countingByKey = countingByKey;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftParentNode, rightParentNode, shouldExist, System.identityHashCode(filter));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsQuadNode) {
+            BavetIfExistsQuadNode<?, ?, ?, ?, ?> other = (BavetIfExistsQuadNode<?, ?, ?, ?, ?>) o;
+            // The bridges are never shared on their own, so compare them by their parent nodes and joiners
+            return leftParentNode.equals(other.leftParentNode)
+                    && rightParentNode.equals(other.rightParentNode)
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsQuadTuple<A, B, C, D> createTuple(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple) {
+        return new BavetIfExistsQuadTuple<>(this, leftParentTuple);
+    }
+
+    public void refresh(BavetIfExistsQuadTuple<A, B, C, D> tuple) {
+        List<BavetAbstractQuadTuple<A, B, C, D>> childTupleList = tuple.getChildTupleList();
+        boolean passed = tuple.isActive() && isExisting(tuple) == shouldExist;
+        if (passed && tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()) {
+            for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
+        for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (passed) {
+            for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    private boolean isExisting(BavetIfExistsQuadTuple<A, B, C, D> tuple) {
+        Object[] indexProperties = tuple.getLeftParentTuple().getIndexProperties();
+        if (filter == null) {
+            return getRightIndex().count(indexProperties) > 0;
+        }
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        for (BavetIfExistsBridgeUniTuple<E> rightParentTuple : getRightIndex().get(indexProperties)) {
+            if (filter.test(a, b, c, d, rightParentTuple.getFactA())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple) {
+        Set<BavetJoinTuple> leftTupleSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple tuple : leftTupleSet) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.DYING);
+        }
+        leftTupleSet.clear();
+        if (leftParentTuple.isActive()) {
+            BavetIfExistsQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple);
+            leftTupleSet.add(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+    }
+
+    public void updateChildTuplesLeft(BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple) {
+        for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    @Override
+    public void refreshChildTuplesRightInserted(Object[] rightIndexProperties) {
+        // Only the first right tuple for an index key can change the outcome of the left tuples
+        if (countingByKey && getRightIndex().count(rightIndexProperties) != 1) {
+            return;
+        }
+        recheckLeftTuples(rightIndexProperties);
+    }
+
+    @Override
+    public void refreshChildTuplesRightRetracted(Object[] rightIndexProperties) {
+        // Only the last right tuple for an index key can change the outcome of the left tuples
+        if (countingByKey && getRightIndex().count(rightIndexProperties) != 0) {
+            return;
+        }
+        recheckLeftTuples(rightIndexProperties);
+    }
+
+    @Override
+    public void updateChildTuplesRight(Object[] rightIndexProperties) {
+        if (filter == null) {
+            // The index key didn't change, so the right tuple still matches the same left tuples
+            return;
+        }
+        recheckLeftTuples(rightIndexProperties);
+    }
+
+    private void recheckLeftTuples(Object[] rightIndexProperties) {
+        for (BavetJoinBridgeQuadTuple<A, B, C, D> leftParentTuple : getLeftIndex().get(rightIndexProperties)) {
+            for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+                session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+            }
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetIfExistsBridgeUniTuple<E>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
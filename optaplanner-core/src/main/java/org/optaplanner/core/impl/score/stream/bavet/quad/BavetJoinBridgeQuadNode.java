@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+
+public final class BavetJoinBridgeQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    private final QuadFunction<A, B, C, D, Object[]> mapping;
+    /** Calls {@link BavetIfExistsQuadNode#refreshChildTuplesLeft(BavetJoinBridgeQuadTuple)}. */
+    private Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleRefresher;
+    /** Calls {@link BavetIfExistsQuadNode#updateChildTuplesLeft(BavetJoinBridgeQuadTuple)}. */
+    private Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleUpdater;
+
+    private final BavetIndexFactory indexFactory;
+    private final boolean isLeftBridge;
+    private final BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> index;
+
+    public BavetJoinBridgeQuadNode(BavetConstraintSession session, int nodeOrder, BavetAbstractQuadNode<A, B, C, D> parentNode,
+            QuadFunction<A, B, C, D, Object[]> mapping, BavetIndexFactory indexFactory, boolean isLeftBridge) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+        this.indexFactory = indexFactory;
+        this.isLeftBridge = isLeftBridge;
+        this.index = indexFactory.buildIndex(isLeftBridge);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, indexFactory);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeQuadNode) {
+            BavetJoinBridgeQuadNode<?, ?, ?, ?> other = (BavetJoinBridgeQuadNode<?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && indexFactory.equals(other.indexFactory);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetJoinBridgeQuadTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetJoinBridgeQuadTuple<A, B, C, D> tuple) {
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            Object[] indexProperties = mapping.apply(a, b, c, d);
+            if (Arrays.equals(indexProperties, tuple.getIndexProperties())) {
+                // The index key didn't change, so the child tuples join the same tuples: just update them
+                childTupleUpdater.accept(tuple);
+                tuple.refreshed();
+                return;
+            }
+            index.remove(tuple);
+            index.put(indexProperties, tuple);
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING && tuple.getState() != BavetTupleState.ABORTING) {
+                // Clean up index
+                index.remove(tuple);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a, b, c, d);
+                index.put(indexProperties, tuple);
+            }
+        }
+        childTupleRefresher.accept(tuple);
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetAbstractQuadNode<A, B, C, D> getParentNode() {
+        return parentNode;
+    }
+
+    public BavetIndex<BavetJoinBridgeQuadTuple<A, B, C, D>> getIndex() {
+        return index;
+    }
+
+    public void setChildTupleRefresher(Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleRefresher) {
+        this.childTupleRefresher = childTupleRefresher;
+    }
+
+    public void setChildTupleUpdater(Consumer<BavetJoinBridgeQuadTuple<A, B, C, D>> childTupleUpdater) {
+        this.childTupleUpdater = childTupleUpdater;
+    }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriNode;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriTuple;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+public final class BavetJoinQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> implements BavetJoinNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetJoinBridgeUniNode<D> rightParentNode;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetJoinQuadNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetJoinBridgeUniNode<D> rightParentNode) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftParentNode, rightParentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinQuadNode) {
+            BavetJoinQuadNode<?, ?, ?, ?> other = (BavetJoinQuadNode<?, ?, ?, ?>) o;
+            // The bridges are never shared on their own, so compare them by their parent nodes and joiners
+            return leftParentNode.equals(other.leftParentNode)
+                    && rightParentNode.equals(other.rightParentNode);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        throw new IllegalStateException("The join node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetJoinQuadTuple<A, B, C, D> createTuple(
+            BavetJoinBridgeTriTuple<A, B, C> abcTuple, BavetJoinBridgeUniTuple<D> dTuple) {
+        return new BavetJoinQuadTuple<>(this, abcTuple, dTuple);
+    }
+
+    public void refresh(BavetJoinQuadTuple<A, B, C, D> tuple) {
+        List<BavetAbstractQuadTuple<A, B, C, D>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
+        for (BavetAbstractQuadTuple<A, B, C, D> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        Set<BavetJoinTuple> leftTupleSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple tuple_ : leftTupleSet) {
+            BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) tuple_;
+            boolean removed = tuple.getDTuple().getChildTupleSet().remove(tuple);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the facts (" + tuple.getFactA() + ", " + tuple.getFactB()
+                        + ", " + tuple.getFactC() + ")'s tuple cannot be removed from the other fact (" + tuple.getFactD()
+                        + ")'s join bridge.");
+            }
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        }
+        leftTupleSet.clear();
+        if (leftParentTuple.isActive()) {
+            Iterable<BavetJoinBridgeUniTuple<D>> rightParentTupleList =
+                    getRightIndex().get(leftParentTuple.getIndexProperties());
+            for (BavetJoinBridgeUniTuple<D> rightParentTuple : rightParentTupleList) {
+                // A dirty rightParentTuple that is still active has not been reindexed yet:
+                // if it does get a different index key, it will kill this child tuple when it is refreshed
+                if (rightParentTuple.isActive()) {
+                    BavetJoinQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                    leftTupleSet.add(childTuple);
+                    rightParentTuple.getChildTupleSet().add(childTuple);
+                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                }
+            }
+        }
+    }
+
+    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        Set<BavetJoinTuple> rightTupleSet = rightParentTuple.getChildTupleSet();
+        for (BavetJoinTuple uncastTuple : rightTupleSet) {
+            BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) uncastTuple;
+            boolean removed = tuple.getAbcTuple().getChildTupleSet().remove(tuple);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactD()
+                        + ")'s tuple cannot be removed from the other facts (" + tuple.getFactA() + ", " + tuple.getFactB()
+                        + ", " + tuple.getFactC()
+                        + ")'s join bridge.");
+            }
+            session.transitionTuple(tuple, BavetTupleState.DYING);
+        }
+        rightTupleSet.clear();
+        if (rightParentTuple.isActive()) {
+            Iterable<BavetJoinBridgeTriTuple<A, B, C>> leftParentTupleList =
+                    getLeftIndex().get(rightParentTuple.getIndexProperties());
+            for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : leftParentTupleList) {
+                // A dirty leftParentTuple that is still active has not been reindexed yet:
+                // if it does get a different index key, it will kill this child tuple when it is refreshed
+                if (leftParentTuple.isActive()) {
+                    BavetJoinQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                    leftParentTuple.getChildTupleSet().add(childTuple);
+                    rightTupleSet.add(childTuple);
+                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                }
+            }
+        }
+    }
+
+    public void updateChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<D> rightParentTuple) {
+        for (BavetJoinTuple tuple : rightParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "Join() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
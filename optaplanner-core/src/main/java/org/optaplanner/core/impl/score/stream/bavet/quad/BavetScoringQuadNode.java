@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.Arrays;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetImpactingTupleList;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+
+public final class BavetScoringQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> implements BavetScoringNode {
+
+    private final String constraintPackage;
+    private final String constraintName;
+    private Score<?> constraintWeight;
+    private final BavetScoreImpacter<BavetScoringQuadTuple<A, B, C, D>> scoreImpacter;
+    private final BavetImpactingTupleList<BavetScoringQuadTuple<A, B, C, D>> impactingTupleList;
+
+    private final boolean constraintMatchEnabled;
+    /** Always null if {@link #constraintMatchEnabled} is false. */
+    private DefaultConstraintMatchTotal constraintMatchTotal;
+
+    public BavetScoringQuadNode(BavetConstraintSession session, int nodeOrder,
+            String constraintPackage, String constraintName, Score<?> constraintWeight,
+            BavetScoreImpacter<BavetScoringQuadTuple<A, B, C, D>> scoreImpacter) {
+        super(session, nodeOrder);
+        this.constraintPackage = constraintPackage;
+        this.constraintName = constraintName;
+        this.constraintWeight = constraintWeight;
+        this.scoreImpacter = scoreImpacter;
+        impactingTupleList = new BavetImpactingTupleList<>();
+        this.constraintMatchEnabled = session.isConstraintMatchEnabled();
+        constraintMatchTotal = constraintMatchEnabled
+                ? new DefaultConstraintMatchTotal(constraintPackage, constraintName, constraintWeight,
+                        session.getZeroScore())
+                : null;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetScoringQuadTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetScoringQuadTuple<A, B, C, D> tuple) {
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        boolean wasImpacting = tuple.isImpacting();
+        if (wasImpacting) {
+            scoreImpacter.undoScoreImpact(tuple);
+            if (constraintMatchEnabled) {
+                session.removeConstraintMatch(constraintMatchTotal, tuple.getConstraintMatch());
+                tuple.setConstraintMatch(null);
+            }
+        }
+        if (tuple.isActive()) {
+            scoreImpacter.impactScore(tuple);
+            tuple.setImpacting(true);
+            if (!wasImpacting) {
+                impactingTupleList.add(tuple);
+            }
+            if (constraintMatchEnabled) {
+                ConstraintMatch<?> constraintMatch = session.addConstraintMatch(constraintMatchTotal,
+                        Arrays.asList(a, b, c, d), scoreImpacter.buildMatchScore(tuple));
+                tuple.setConstraintMatch(constraintMatch);
+            }
+        } else {
+            tuple.setImpacting(false);
+            if (wasImpacting) {
+                impactingTupleList.remove(tuple);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public void changeConstraintWeight(Score<?> newConstraintWeight) {
+        scoreImpacter.changeWeightedScoreImpacter(
+                session.getScoreInliner().buildWeightedScoreImpacter(newConstraintWeight), impactingTupleList);
+        constraintWeight = newConstraintWeight;
+        if (constraintMatchEnabled) {
+            DefaultConstraintMatchTotal newConstraintMatchTotal = new DefaultConstraintMatchTotal(
+                    constraintPackage, constraintName, newConstraintWeight, session.getZeroScore());
+            for (int i = 0; i < impactingTupleList.size(); i++) {
+                BavetScoringQuadTuple<A, B, C, D> tuple = impactingTupleList.get(i);
+                ConstraintMatch<?> oldConstraintMatch = tuple.getConstraintMatch();
+                session.removeConstraintMatch(constraintMatchTotal, oldConstraintMatch);
+                ConstraintMatch<?> constraintMatch = session.addConstraintMatch(newConstraintMatchTotal,
+                        oldConstraintMatch.getJustificationList(), scoreImpacter.buildMatchScore(tuple));
+                tuple.setConstraintMatch(constraintMatch);
+            }
+            constraintMatchTotal = newConstraintMatchTotal;
+        }
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> getConstraintMatchTotal() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled, this method should not be called.");
+        }
+        return constraintMatchTotal;
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + constraintWeight + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public String getConstraintPackage() {
+        return constraintPackage;
+    }
+
+    @Override
+    public String getConstraintName() {
+        return constraintName;
+    }
+
+    @Override
+    public String getConstraintId() {
+        return ConstraintMatchTotal.composeConstraintId(constraintPackage, constraintName);
+    }
+
+    @Override
+    public Score<?> getConstraintWeight() {
+        return constraintWeight;
+    }
+
+}
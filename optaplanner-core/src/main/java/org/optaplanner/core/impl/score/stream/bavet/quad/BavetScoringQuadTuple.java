@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+
+public final class BavetScoringQuadTuple<A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D> implements BavetScoringTuple {
+
+    private final BavetScoringQuadNode<A, B, C, D> node;
+    private final BavetAbstractQuadTuple<A, B, C, D> parentTuple;
+
+    private boolean impacting = false;
+    private int impactingIndex = -1;
+    private long matchWeight = 0L;
+    /** Always null if the score type doesn't have {@link BigDecimal} weights. */
+    private BigDecimal bigDecimalMatchWeight = null;
+    /** Always null if {@link BavetConstraintSession#isConstraintMatchEnabled()} is false. */
+    private ConstraintMatch<?> constraintMatch = null;
+
+    public BavetScoringQuadTuple(BavetScoringQuadNode<A, B, C, D> node, BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return parentTuple.getFactD();
+    }
+
+    @Override
+    public boolean isImpacting() {
+        return impacting;
+    }
+
+    @Override
+    public void setImpacting(boolean impacting) {
+        this.impacting = impacting;
+    }
+
+    @Override
+    public int getImpactingIndex() {
+        return impactingIndex;
+    }
+
+    @Override
+    public void setImpactingIndex(int impactingIndex) {
+        this.impactingIndex = impactingIndex;
+    }
+
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
+    }
+
+    @Override
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
+    @Override
+    public BigDecimal getBigDecimalMatchWeight() {
+        return bigDecimalMatchWeight;
+    }
+
+    @Override
+    public void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight) {
+        this.bigDecimalMatchWeight = bigDecimalMatchWeight;
+    }
+
+    @Override
+    public ConstraintMatch<?> getConstraintMatch() {
+        return constraintMatch;
+    }
+
+    @Override
+    public void setConstraintMatch(ConstraintMatch<?> constraintMatch) {
+        this.constraintMatch = constraintMatch;
+    }
+
+}
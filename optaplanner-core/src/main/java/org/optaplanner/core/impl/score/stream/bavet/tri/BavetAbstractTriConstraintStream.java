@@ -18,14 +18,21 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.apache.commons.lang3.tuple.Pair;
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
@@ -34,9 +41,21 @@ import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.quad.AbstractQuadJoiner;
+import org.optaplanner.core.impl.score.stream.quad.FilteringQuadJoiner;
+import org.optaplanner.core.impl.score.stream.tri.DefaultTriConstraintCollector;
 import org.optaplanner.core.impl.score.stream.tri.InnerTriConstraintStream;
 
 public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> extends BavetAbstractConstraintStream<Solution_>
@@ -79,7 +98,33 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public <D> QuadConstraintStream<A, B, C, D> join(UniConstraintStream<D> otherStream, QuadJoiner<A, B, C, D> joiner) {
-        throw new UnsupportedOperationException();
+        if (!(otherStream instanceof BavetAbstractUniConstraintStream)) {
+            throw new IllegalStateException("The streams (" + this + ", " + otherStream
+                    + ") are not build from the same " + ConstraintFactory.class.getSimpleName() + ".");
+        }
+        BavetAbstractUniConstraintStream<Solution_, D> other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
+        if (constraintFactory != other.getConstraintFactory()) {
+            throw new IllegalStateException("The streams (" + this + ", " + other
+                    + ") are build from different constraintFactories (" + constraintFactory + ", "
+                    + other.getConstraintFactory()
+                    + ").");
+        }
+        if (!(joiner instanceof AbstractQuadJoiner)) {
+            throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        }
+        AbstractQuadJoiner<A, B, C, D> castedJoiner = (AbstractQuadJoiner<A, B, C, D>) joiner;
+        BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetJoinQuadConstraintStream<Solution_, A, B, C, D> joinStream = new BavetJoinQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge);
+        leftBridge.setJoinStream(joinStream);
+        rightBridge.setJoinStream(joinStream);
+        return joinStream;
     }
 
     // ************************************************************************
@@ -89,13 +134,64 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <D> TriConstraintStream<A, B, C> ifNotExists(Class<D> otherClass, QuadJoiner<A, B, C, D>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <D> TriConstraintStream<A, B, C> ifExistsOrNot(boolean shouldExist, Class<D> otherClass,
+            QuadJoiner<A, B, C, D>... joiners) {
+        int indexOfFirstFilter = -1;
+        // The indexing joiners feed the index, the filtering joiners are merged into a single filter
+        QuadPredicate<A, B, C, D> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            QuadJoiner<A, B, C, D> joiner = joiners[i];
+            if (joiner instanceof FilteringQuadJoiner) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                QuadPredicate<A, B, C, D> joinerFilter = ((FilteringQuadJoiner<A, B, C, D>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow " +
+                        "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n" +
+                        "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractQuadJoiner<A, B, C, D> indexingJoiner = AbstractQuadJoiner.merge(indexOfFirstFilter < 0 ? joiners
+                : Arrays.copyOf(joiners, indexOfFirstFilter));
+        for (JoinerType type : indexingJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, D> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetIfExistsBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetIfExistsBridgeUniConstraintStream<>(
+                constraintFactory, other, indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        // Without filter or comparison, the left tuples of an index key all match the same right tuples
+        boolean countingByKey = filter == null && !indexFactory.hasComparisonJoinerType();
+        BavetIfExistsTriConstraintStream<Solution_, A, B, C, D> ifExistsStream = new BavetIfExistsTriConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter, countingByKey);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setIfExistsStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -105,32 +201,76 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Void, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, null, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, Void> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, null);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
-    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
-            TriFunction<A, B, C, GroupKey_> groupKeyMapping,
-            TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Pair<GroupKeyA_, GroupKeyB_>, Void> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this,
+                        (a, b, c) -> Pair.of(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)), null);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Void, GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
-    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
-            TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException();
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            TriFunction<A, B, C, GroupKey_> groupKeyMapping,
+            TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this,
+                        (a, b, c) -> Pair.of(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)), collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, GroupKeyA_, GroupKeyB_, Result_>
+                groupStream = new BavetGroupTriConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -139,7 +279,40 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
                     TriFunction<A, B, C, GroupKeyA_> groupKeyAMapping, TriFunction<A, B, C, GroupKeyB_> groupKeyBMapping,
                     TriConstraintCollector<A, B, C, ResultContainerC_, ResultC_> collectorC,
                     TriConstraintCollector<A, B, C, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException();
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        QuadFunction<ResultContainerC_, A, B, C, Runnable> accumulatorC = collectorC.accumulator();
+        QuadFunction<ResultContainerD_, A, B, C, Runnable> accumulatorD = collectorD.accumulator();
+        // The group bridge takes a single collector, so both collectors share a paired result container
+        TriConstraintCollector<A, B, C, Pair<ResultContainerC_, ResultContainerD_>, Void> collector =
+                new DefaultTriConstraintCollector<>(
+                        () -> Pair.of(supplierC.get(), supplierD.get()),
+                        (resultContainer, a, b, c) -> {
+                            Runnable undoAccumulatorC = accumulatorC.apply(resultContainer.getLeft(), a, b, c);
+                            Runnable undoAccumulatorD = accumulatorD.apply(resultContainer.getRight(), a, b, c);
+                            return () -> {
+                                undoAccumulatorC.run();
+                                undoAccumulatorD.run();
+                            };
+                        },
+                        resultContainer -> null); // The group stream applies both finishers itself
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>> bridge = new BavetGroupBridgeTriConstraintStream<>(
+                        constraintFactory, this,
+                        (a, b, c) -> Pair.of(groupKeyAMapping.apply(a, b, c), groupKeyBMapping.apply(a, b, c)),
+                        collector);
+        childStreamList.add(bridge);
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>, GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisherC.apply(resultContainer.getLeft()),
+                        (groupKey, resultContainer) -> finisherD.apply(resultContainer.getRight()));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
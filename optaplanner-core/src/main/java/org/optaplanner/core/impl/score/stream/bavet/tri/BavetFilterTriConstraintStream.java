@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.optaplanner.core.api.function.TriPredicate;
@@ -50,10 +51,29 @@ public final class BavetFilterTriConstraintStream<Solution_, A, B, C>
     // Node creation
     // ************************************************************************
 
+    @Override
+    public BavetAbstractTriNode<A, B, C> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractTriNode<A, B, C> parentNode) {
+        // Fuse a chain of filters into a single node, to avoid a tuple and a refresh per filter
+        List<TriPredicate<A, B, C>> predicateList = new ArrayList<>();
+        predicateList.add(predicate);
+        BavetFilterTriConstraintStream<Solution_, A, B, C> lastStream = this;
+        while (lastStream.childStreamList.size() == 1
+                && lastStream.childStreamList.get(0) instanceof BavetFilterTriConstraintStream) {
+            lastStream = (BavetFilterTriConstraintStream<Solution_, A, B, C>) lastStream.childStreamList.get(0);
+            predicateList.add(lastStream.predicate);
+        }
+        BavetAbstractTriNode<A, B, C> node = new BavetFilterTriNode<>(buildPolicy.getSession(), nodeOrder, parentNode,
+                predicateList);
+        node = processNode(buildPolicy, nodeOrder, parentNode, node);
+        lastStream.createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
     @Override
     protected BavetFilterTriNode<A, B, C> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, int nodeOrder, BavetAbstractTriNode<A, B, C> parentNode) {
-        return new BavetFilterTriNode<>(buildPolicy.getSession(), nodeOrder, parentNode, predicate);
+        throw new IllegalStateException("Impossible state: this code is never called.");
     }
 
     @Override
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -27,15 +28,16 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> {
 
     private final BavetAbstractTriNode<A, B, C> parentNode;
-    private final TriPredicate<A, B, C> predicate;
+    /** Consecutive filters are fused into a single node, so a tuple is tested by all their predicates at once. */
+    private final TriPredicate<A, B, C>[] predicates;
 
     private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
 
     public BavetFilterTriNode(BavetConstraintSession session, int nodeOrder,
-            BavetAbstractTriNode<A, B, C> parentNode, TriPredicate<A, B, C> predicate) {
+            BavetAbstractTriNode<A, B, C> parentNode, List<TriPredicate<A, B, C>> predicateList) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
-        this.predicate = predicate;
+        this.predicates = predicateList.toArray(new TriPredicate[0]);
     }
 
     @Override
@@ -49,7 +51,8 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
 
     @Override
     public int hashCode() {
-        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(predicate));
+        // Lambdas don't override hashCode() and equals(), so predicates are compared by identity
+        return Objects.hash(System.identityHashCode(parentNode), Arrays.hashCode(predicates));
     }
 
     @Override
@@ -59,7 +62,7 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
         } else if (o instanceof BavetFilterTriNode) {
             BavetFilterTriNode<?, ?, ?> other = (BavetFilterTriNode<?, ?, ?>) o;
             return parentNode == other.parentNode
-                    && predicate == other.predicate;
+                    && Arrays.equals(predicates, other.predicates);
         } else {
             return false;
         }
@@ -80,12 +83,18 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
         B b = tuple.getFactB();
         C c = tuple.getFactC();
         List<BavetAbstractTriTuple<A, B, C>> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a, b, c)) {
+        boolean accepted = tuple.isActive() && test(a, b, c);
+        if (accepted && tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()) {
+            // It was accepted before too, so the child tuples only need to be updated
+            for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+        } else {
+            for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.DYING);
+            }
+            childTupleList.clear();
+            if (accepted) {
                 for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
                     BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
                     childTupleList.add(childTuple);
@@ -96,9 +105,18 @@ public final class BavetFilterTriNode<A, B, C> extends BavetAbstractTriNode<A, B
         tuple.refreshed();
     }
 
+    private boolean test(A a, B b, C c) {
+        for (TriPredicate<A, B, C> predicate : predicates) {
+            if (!predicate.test(a, b, c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
-        return "Filter() with " + childNodeList.size() + " children";
+        return "Filter(" + predicates.length + " predicates) with " + childNodeList.size() + " children";
     }
 
     // ************************************************************************
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupTriNode<GroupKey_, ResultContainer_, NewA, NewB, NewC> extends BavetAbstractTriNode<NewA, NewB, NewC>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    private final BiFunction<GroupKey_, ResultContainer_, NewA> finisherA;
+    private final BiFunction<GroupKey_, ResultContainer_, NewB> finisherB;
+    private final BiFunction<GroupKey_, ResultContainer_, NewC> finisherC;
+
+    private final List<BavetAbstractTriNode<NewA, NewB, NewC>> childNodeList = new ArrayList<>();
+
+    public BavetGroupTriNode(BavetConstraintSession session, int nodeOrder,
+            BiFunction<GroupKey_, ResultContainer_, NewA> finisherA,
+            BiFunction<GroupKey_, ResultContainer_, NewB> finisherB,
+            BiFunction<GroupKey_, ResultContainer_, NewC> finisherC) {
+        super(session, nodeOrder);
+        this.finisherA = finisherA;
+        this.finisherB = finisherB;
+        this.finisherC = finisherC;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<NewA, NewB, NewC> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupTriTuple<GroupKey_, ResultContainer_, NewA, NewB, NewC> createTuple(BavetAbstractTriTuple<NewA, NewB, NewC> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupTriTuple<GroupKey_, ResultContainer_, NewA, NewB, NewC> createTuple(GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        return new BavetGroupTriTuple<>(this, groupKey, resultContainer);
+    }
+
+    public void refresh(BavetGroupTriTuple<GroupKey_, ResultContainer_, NewA, NewB, NewC> tuple) {
+        List<BavetAbstractTriTuple<NewA, NewB, NewC>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            tuple.updateResult(finisherA, finisherB, finisherC);
+            for (BavetAbstractTriTuple<NewA, NewB, NewC> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
+        for (BavetAbstractTriTuple<NewA, NewB, NewC> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            tuple.updateResult(finisherA, finisherB, finisherC);
+            for (BavetAbstractTriNode<NewA, NewB, NewC> childNode : childNodeList) {
+                BavetAbstractTriTuple<NewA, NewB, NewC> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
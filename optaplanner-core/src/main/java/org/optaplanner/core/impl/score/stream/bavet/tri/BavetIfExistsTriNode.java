@@ -0,0 +1,216 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetIfExistsNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetIfExistsBridgeUniTuple;
+
+public final class BavetIfExistsTriNode<A, B, C, D> extends BavetAbstractTriNode<A, B, C>
+        implements BavetIfExistsNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetIfExistsBridgeUniNode<D> rightParentNode;
+    private final boolean shouldExist;
+    /** Null if there are no filtering joiners. */
+    private final QuadPredicate<A, B, C, D> filter;
+    /**
+     * True if all left tuples with the same index key match the same right tuples,
+     * so the size of the right index for that key decides if they exist.
+     */
+    private final boolean countingByKey;
+
+    private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsTriNode(BavetConstraintSession session, int nodeOrder,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetIfExistsBridgeUniNode<D> rightParentNode,
+            boolean shouldExist, QuadPredicate<A, B, C, D> filter, boolean countingByKey) {
+        super(session, nodeOrder);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+        this.countingByKey = countingByKey;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractTriNode<A, B, C> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftParentNode, rightParentNode, shouldExist, System.identityHashCode(filter));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsTriNode) {
+            BavetIfExistsTriNode<?, ?, ?, ?> other = (BavetIfExistsTriNode<?, ?, ?, ?>) o;
+            // The bridges are never shared on their own, so compare them by their parent nodes and joiners
+            return leftParentNode.equals(other.leftParentNode)
+                    && rightParentNode.equals(other.rightParentNode)
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsTriTuple<A, B, C> createTuple(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        return new BavetIfExistsTriTuple<>(this, leftParentTuple);
+    }
+
+    public void refresh(BavetIfExistsTriTuple<A, B, C> tuple) {
+        List<BavetAbstractTriTuple<A, B, C>> childTupleList = tuple.getChildTupleList();
+        boolean passed = tuple.isActive() && isExisting(tuple) == shouldExist;
+        if (passed && tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()) {
+            for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
+        for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (passed) {
+            for (BavetAbstractTriNode<A, B, C> childNode : childNodeList) {
+                BavetAbstractTriTuple<A, B, C> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    private boolean isExisting(BavetIfExistsTriTuple<A, B, C> tuple) {
+        Object[] indexProperties = tuple.getLeftParentTuple().getIndexProperties();
+        if (filter == null) {
+            return getRightIndex().count(indexProperties) > 0;
+        }
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        for (BavetIfExistsBridgeUniTuple<D> rightParentTuple : getRightIndex().get(indexProperties)) {
+            if (filter.test(a, b, c, rightParentTuple.getFactA())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void refreshChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        Set<BavetJoinTuple> leftTupleSet = leftParentTuple.getChildTupleSet();
+        for (BavetJoinTuple tuple : leftTupleSet) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.DYING);
+        }
+        leftTupleSet.clear();
+        if (leftParentTuple.isActive()) {
+            BavetIfExistsTriTuple<A, B, C> childTuple = createTuple(leftParentTuple);
+            leftTupleSet.add(childTuple);
+            session.transitionTuple(childTuple, BavetTupleState.CREATING);
+        }
+    }
+
+    public void updateChildTuplesLeft(BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    @Override
+    public void refreshChildTuplesRightInserted(Object[] rightIndexProperties) {
+        // Only the first right tuple for an index key can change the outcome of the left tuples
+        if (countingByKey && getRightIndex().count(rightIndexProperties) != 1) {
+            return;
+        }
+        recheckLeftTuples(rightIndexProperties);
+    }
+
+    @Override
+    public void refreshChildTuplesRightRetracted(Object[] rightIndexProperties) {
+        // Only the last right tuple for an index key can change the outcome of the left tuples
+        if (countingByKey && getRightIndex().count(rightIndexProperties) != 0) {
+            return;
+        }
+        recheckLeftTuples(rightIndexProperties);
+    }
+
+    @Override
+    public void updateChildTuplesRight(Object[] rightIndexProperties) {
+        if (filter == null) {
+            // The index key didn't change, so the right tuple still matches the same left tuples
+            return;
+        }
+        recheckLeftTuples(rightIndexProperties);
+    }
+
+    private void recheckLeftTuples(Object[] rightIndexProperties) {
+        for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : getLeftIndex().get(rightIndexProperties)) {
+            for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+                session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+            }
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetIfExistsBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
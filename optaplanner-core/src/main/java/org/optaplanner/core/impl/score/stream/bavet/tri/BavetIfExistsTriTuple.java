@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+
+public final class BavetIfExistsTriTuple<A, B, C> extends BavetAbstractTriTuple<A, B, C>
+        implements BavetJoinTuple {
+
+    private final BavetIfExistsTriNode<A, B, C, ?> node;
+    private final BavetJoinBridgeTriTuple<A, B, C> leftParentTuple;
+
+    protected List<BavetAbstractTriTuple<A, B, C>> childTupleList;
+
+    public BavetIfExistsTriTuple(BavetIfExistsTriNode<A, B, C, ?> node, BavetJoinBridgeTriTuple<A, B, C> leftParentTuple) {
+        this.node = node;
+        this.leftParentTuple = leftParentTuple;
+        childTupleList = new ArrayList<>();
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsTriNode<A, B, C, ?> getNode() {
+        return node;
+    }
+
+    @Override
+    public A getFactA() {
+        return leftParentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return leftParentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return leftParentTuple.getFactC();
+    }
+
+    public BavetJoinBridgeTriTuple<A, B, C> getLeftParentTuple() {
+        return leftParentTuple;
+    }
+
+    public List<BavetAbstractTriTuple<A, B, C>> getChildTupleList() {
+        return childTupleList;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadNode;
+
+public final class BavetJoinBridgeTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractTriNode<A, B, C> parentNode;
+    private final TriFunction<A, B, C, Object[]> mapping;
+    /** Calls {@link BavetJoinQuadNode#refreshChildTuplesLeft(BavetJoinBridgeTriTuple)} or the ifExists variant. */
+    private Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleRefresher;
+    /** Calls {@link BavetJoinQuadNode#updateChildTuplesLeft(BavetJoinBridgeTriTuple)} or the ifExists variant. */
+    private Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleUpdater;
+
+    private final BavetIndexFactory indexFactory;
+    private final boolean isLeftBridge;
+    private final BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> index;
+
+    public BavetJoinBridgeTriNode(BavetConstraintSession session, int nodeOrder, BavetAbstractTriNode<A, B, C> parentNode,
+            TriFunction<A, B, C, Object[]> mapping, BavetIndexFactory indexFactory, boolean isLeftBridge) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+        this.indexFactory = indexFactory;
+        this.isLeftBridge = isLeftBridge;
+        this.index = indexFactory.buildIndex(isLeftBridge);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, indexFactory);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeTriNode) {
+            BavetJoinBridgeTriNode<?, ?, ?> other = (BavetJoinBridgeTriNode<?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && indexFactory.equals(other.indexFactory);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinBridgeTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetJoinBridgeTriTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetJoinBridgeTriTuple<A, B, C> tuple) {
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            Object[] indexProperties = mapping.apply(a, b, c);
+            if (Arrays.equals(indexProperties, tuple.getIndexProperties())) {
+                // The index key didn't change, so the child tuples join the same tuples: just update them
+                childTupleUpdater.accept(tuple);
+                tuple.refreshed();
+                return;
+            }
+            index.remove(tuple);
+            index.put(indexProperties, tuple);
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING && tuple.getState() != BavetTupleState.ABORTING) {
+                // Clean up index
+                index.remove(tuple);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a, b, c);
+                index.put(indexProperties, tuple);
+            }
+        }
+        childTupleRefresher.accept(tuple);
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetAbstractTriNode<A, B, C> getParentNode() {
+        return parentNode;
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getIndex() {
+        return index;
+    }
+
+    public void setChildTupleRefresher(Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleRefresher) {
+        this.childTupleRefresher = childTupleRefresher;
+    }
+
+    public void setChildTupleUpdater(Consumer<BavetJoinBridgeTriTuple<A, B, C>> childTupleUpdater) {
+        this.childTupleUpdater = childTupleUpdater;
+    }
+
+}
@@ -61,11 +61,18 @@ public final class BavetJoinTriConstraintStream<Solution_, A, B, C> extends Bave
         BavetJoinBridgeBiNode<A, B> leftNode = (BavetJoinBridgeBiNode<A, B>) leftNode_;
         BavetJoinBridgeUniNode<C> rightNode = (BavetJoinBridgeUniNode<C>) rightNode_;
         BavetJoinTriNode<A, B, C> node = new BavetJoinTriNode<>(buildPolicy.getSession(), nodeOrder, leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinTriNode<A, B, C>) processNode(buildPolicy, nodeOrder, null, node); // TODO Sharing never happens
-        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
-        return node;
+        BavetJoinTriNode<A, B, C> sharedNode = (BavetJoinTriNode<A, B, C>) processNode(buildPolicy, nodeOrder, null, node);
+        if (sharedNode == node) {
+            // A shared join node already has its own bridges, so only a new join node registers these
+            leftNode.getParentNode().addChildNode(leftNode);
+            rightNode.getParentNode().addChildNode(rightNode);
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+            leftNode.setChildTupleUpdater(node::updateChildTuplesLeft);
+            rightNode.setChildTupleUpdater(node::updateChildTuplesRight);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, sharedNode);
+        return sharedNode;
     }
 
     @Override
@@ -18,11 +18,13 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiNode;
 import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBridgeBiTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
@@ -53,7 +55,24 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(leftParentNode, rightParentNode);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinTriNode) {
+            BavetJoinTriNode<?, ?, ?> other = (BavetJoinTriNode<?, ?, ?>) o;
+            // The bridges are never shared on their own, so compare them by their parent nodes and joiners
+            return leftParentNode.equals(other.leftParentNode)
+                    && rightParentNode.equals(other.rightParentNode);
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -72,6 +91,13 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
 
     public void refresh(BavetJoinTriTuple<A, B, C> tuple) {
         List<BavetAbstractTriTuple<A, B, C>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
         for (BavetAbstractTriTuple<A, B, C> childTuple : childTupleList) {
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
@@ -100,9 +126,12 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
         leftTupleSet.clear();
         if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
+            Iterable<BavetJoinBridgeUniTuple<C>> rightParentTupleList =
+                    getRightIndex().get(leftParentTuple.getIndexProperties());
             for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleList) {
-                if (!rightParentTuple.isDirty()) {
+                // A dirty rightParentTuple that is still active has not been reindexed yet:
+                // if it does get a different index key, it will kill this child tuple when it is refreshed
+                if (rightParentTuple.isActive()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftTupleSet.add(childTuple);
                     rightParentTuple.getChildTupleSet().add(childTuple);
@@ -126,9 +155,12 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
         rightTupleSet.clear();
         if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
+            Iterable<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList =
+                    getLeftIndex().get(rightParentTuple.getIndexProperties());
             for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleList) {
-                if (!leftParentTuple.isDirty()) {
+                // A dirty leftParentTuple that is still active has not been reindexed yet:
+                // if it does get a different index key, it will kill this child tuple when it is refreshed
+                if (leftParentTuple.isActive()) {
                     BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
                     leftParentTuple.getChildTupleSet().add(childTuple);
                     rightTupleSet.add(childTuple);
@@ -138,6 +170,18 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
     }
 
+    public void updateChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
+        for (BavetJoinTuple tuple : leftParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public void updateChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
+        for (BavetJoinTuple tuple : rightParentTuple.getChildTupleSet()) {
+            session.transitionTuple((BavetAbstractTuple) tuple, BavetTupleState.UPDATING);
+        }
+    }
+
     public BavetIndex<BavetJoinBridgeBiTuple<A, B>> getLeftIndex() {
         return leftParentNode.getIndex();
     }
@@ -18,9 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.function.Consumer;
 
-import org.optaplanner.core.api.function.QuadFunction;
 import org.optaplanner.core.api.function.ToIntTriFunction;
 import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
@@ -30,11 +28,11 @@ import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
 public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
@@ -108,18 +106,14 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
             Score<?> constraintWeight, int nodeOrder, BavetAbstractTriNode<A, B, C> parentNode) {
         ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
-        QuadFunction<A, B, C, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+        BavetScoreImpacter<BavetScoringTriTuple<A, B, C>> scoreImpacter;
         if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
             IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
             if (intMatchWeigher != null) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofInt(constraint, castedWeightedScoreImpacter,
+                        tuple -> intMatchWeigher.applyAsInt(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(1, matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofInt(constraint, castedWeightedScoreImpacter, tuple -> 1);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + TriConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -128,14 +122,10 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
         } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
             LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
             if (longMatchWeigher != null) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> {
-                    long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofLong(constraint, castedWeightedScoreImpacter,
+                        tuple -> longMatchWeigher.applyAsLong(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(1L, matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofLong(constraint, castedWeightedScoreImpacter, tuple -> 1L);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + TriConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -145,14 +135,11 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
             BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
                     (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
             if (bigDecimalMatchWeigher != null) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofBigDecimal(constraint, castedWeightedScoreImpacter,
+                        tuple -> bigDecimalMatchWeigher.apply(tuple.getFactA(), tuple.getFactB(), tuple.getFactC()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, B b, C c, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(BigDecimal.ONE, matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofBigDecimal(constraint, castedWeightedScoreImpacter,
+                        tuple -> BigDecimal.ONE);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + TriConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
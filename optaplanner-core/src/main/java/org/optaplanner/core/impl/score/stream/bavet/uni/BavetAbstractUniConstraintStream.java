@@ -18,12 +18,17 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
@@ -40,10 +45,13 @@ import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiConstraintStre
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetGroupQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetGroupTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.uni.DefaultUniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.uni.InnerUniConstraintStream;
 
 public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends BavetAbstractConstraintStream<Solution_>
@@ -137,13 +145,64 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, Class<B> otherClass,
+            BiJoiner<A, B>... joiners) {
+        int indexOfFirstFilter = -1;
+        // The indexing joiners feed the index, the filtering joiners are merged into a single filter
+        BiPredicate<A, B> filter = null;
+        for (int i = 0; i < joiners.length; i++) {
+            BiJoiner<A, B> joiner = joiners[i];
+            if (joiner instanceof FilteringBiJoiner) {
+                if (indexOfFirstFilter < 0) {
+                    indexOfFirstFilter = i;
+                }
+                BiPredicate<A, B> joinerFilter = ((FilteringBiJoiner<A, B>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (indexOfFirstFilter >= 0) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow " +
+                        "a filtering joiner (" + joiners[indexOfFirstFilter] + ").\n" +
+                        "Maybe reorder the joiners such that filtering() joiners are later in the parameter list.");
+            }
+        }
+        AbstractBiJoiner<A, B> indexingJoiner = AbstractBiJoiner.merge(indexOfFirstFilter < 0 ? joiners
+                : Arrays.copyOf(joiners, indexOfFirstFilter));
+        for (JoinerType type : indexingJoiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        childStreamList.add(leftBridge);
+        BavetAbstractUniConstraintStream<Solution_, B> other = constraintFactory.fromUnfiltered(otherClass);
+        BavetIfExistsBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetIfExistsBridgeUniConstraintStream<>(
+                constraintFactory, other, indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        // Without filter or comparison, the left tuples of an index key all match the same right tuples
+        boolean countingByKey = filter == null && !indexFactory.hasComparisonJoinerType();
+        BavetIfExistsUniConstraintStream<Solution_, A, B> ifExistsStream = new BavetIfExistsUniConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, shouldExist, filter, countingByKey);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setIfExistsStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -153,29 +212,56 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException(); // TODO
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Void, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, null, collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupUniConstraintStream<Solution_, Void, ResultContainer_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(Function<A, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException(); // TODO
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, Void> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, null);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, Void, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping) {
-        throw new UnsupportedOperationException(); // TODO
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Pair<GroupKeyA_, GroupKeyB_>, Void> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this,
+                        a -> Pair.of(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), null);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, Void, GroupKeyA_, GroupKeyB_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             Function<A, GroupKey_> groupKeyMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_, Result_> bridge =
+        BavetGroupBridgeUniConstraintStream<Solution_, A, GroupKey_, ResultContainer_> bridge =
                 new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
         childStreamList.add(bridge);
-        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
-                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, GroupKey_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey,
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
         bridge.setGroupStream(groupStream);
         return groupStream;
     }
@@ -184,7 +270,18 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
             Function<A, GroupKeyA_> groupKeyAMapping, Function<A, GroupKeyB_> groupKeyBMapping,
             UniConstraintCollector<A, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException(); // TODO
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_> bridge =
+                new BavetGroupBridgeUniConstraintStream<>(constraintFactory, this,
+                        a -> Pair.of(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)), collector);
+        childStreamList.add(bridge);
+        Function<ResultContainer_, Result_> finisher = collector.finisher();
+        BavetGroupTriConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>, ResultContainer_, GroupKeyA_, GroupKeyB_, Result_>
+                groupStream = new BavetGroupTriConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisher.apply(resultContainer));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -193,7 +290,40 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     Function<A, GroupKeyA_> groupKeyAMapping,
                     Function<A, GroupKeyB_> groupKeyBMapping, UniConstraintCollector<A, ResultContainerC_, ResultC_> collectorC,
                     UniConstraintCollector<A, ResultContainerD_, ResultD_> collectorD) {
-        throw new UnsupportedOperationException(); // TODO
+        Supplier<ResultContainerC_> supplierC = collectorC.supplier();
+        Supplier<ResultContainerD_> supplierD = collectorD.supplier();
+        BiFunction<ResultContainerC_, A, Runnable> accumulatorC = collectorC.accumulator();
+        BiFunction<ResultContainerD_, A, Runnable> accumulatorD = collectorD.accumulator();
+        // The group bridge takes a single collector, so both collectors share a paired result container
+        UniConstraintCollector<A, Pair<ResultContainerC_, ResultContainerD_>, Void> collector =
+                new DefaultUniConstraintCollector<>(
+                        () -> Pair.of(supplierC.get(), supplierD.get()),
+                        (resultContainer, a) -> {
+                            Runnable undoAccumulatorC = accumulatorC.apply(resultContainer.getLeft(), a);
+                            Runnable undoAccumulatorD = accumulatorD.apply(resultContainer.getRight(), a);
+                            return () -> {
+                                undoAccumulatorC.run();
+                                undoAccumulatorD.run();
+                            };
+                        },
+                        resultContainer -> null); // The group stream applies both finishers itself
+        BavetGroupBridgeUniConstraintStream<Solution_, A, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>> bridge = new BavetGroupBridgeUniConstraintStream<>(
+                        constraintFactory, this,
+                        a -> Pair.of(groupKeyAMapping.apply(a), groupKeyBMapping.apply(a)),
+                        collector);
+        childStreamList.add(bridge);
+        Function<ResultContainerC_, ResultC_> finisherC = collectorC.finisher();
+        Function<ResultContainerD_, ResultD_> finisherD = collectorD.finisher();
+        BavetGroupQuadConstraintStream<Solution_, Pair<GroupKeyA_, GroupKeyB_>,
+                Pair<ResultContainerC_, ResultContainerD_>, GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupStream =
+                new BavetGroupQuadConstraintStream<>(constraintFactory, bridge,
+                        (groupKey, resultContainer) -> groupKey.getLeft(),
+                        (groupKey, resultContainer) -> groupKey.getRight(),
+                        (groupKey, resultContainer) -> finisherC.apply(resultContainer.getLeft()),
+                        (groupKey, resultContainer) -> finisherD.apply(resultContainer.getRight()));
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     // ************************************************************************
@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -49,9 +50,28 @@ public final class BavetFilterUniConstraintStream<Solution_, A> extends BavetAbs
     // ************************************************************************
 
     @Override
-    protected BavetAbstractUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+    public BavetAbstractUniNode<A> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
-        return new BavetFilterUniNode<>(buildPolicy.getSession(), nodeOrder, parentNode, predicate);
+        // Fuse a chain of filters into a single node, to avoid a tuple and a refresh per filter
+        List<Predicate<A>> predicateList = new ArrayList<>();
+        predicateList.add(predicate);
+        BavetFilterUniConstraintStream<Solution_, A> lastStream = this;
+        while (lastStream.childStreamList.size() == 1
+                && lastStream.childStreamList.get(0) instanceof BavetFilterUniConstraintStream) {
+            lastStream = (BavetFilterUniConstraintStream<Solution_, A>) lastStream.childStreamList.get(0);
+            predicateList.add(lastStream.predicate);
+        }
+        BavetAbstractUniNode<A> node = new BavetFilterUniNode<>(buildPolicy.getSession(), nodeOrder, parentNode,
+                predicateList);
+        node = processNode(buildPolicy, nodeOrder, parentNode, node);
+        lastStream.createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
+    @Override
+    protected BavetFilterUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
     }
 
     @Override
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Predicate;
@@ -27,15 +28,16 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
 
     private final BavetAbstractUniNode<A> parentNode;
-    private final Predicate<A> predicate;
+    /** Consecutive filters are fused into a single node, so a tuple is tested by all their predicates at once. */
+    private final Predicate<A>[] predicates;
 
     private List<BavetAbstractUniNode<A>> childNodeList = new ArrayList<>();
 
     public BavetFilterUniNode(BavetConstraintSession session, int nodeOrder,
-            BavetAbstractUniNode<A> parentNode, Predicate<A> predicate) {
+            BavetAbstractUniNode<A> parentNode, List<Predicate<A>> predicateList) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
-        this.predicate = predicate;
+        this.predicates = predicateList.toArray(new Predicate[0]);
     }
 
     @Override
@@ -49,7 +51,8 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(predicate));
+        // Lambdas don't override hashCode() and equals(), so predicates are compared by identity
+        return Objects.hash(System.identityHashCode(parentNode), Arrays.hashCode(predicates));
     }
 
     @Override
@@ -59,7 +62,7 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
         } else if (o instanceof BavetFilterUniNode) {
             BavetFilterUniNode<?> other = (BavetFilterUniNode<?>) o;
             return parentNode == other.parentNode
-                    && predicate == other.predicate;
+                    && Arrays.equals(predicates, other.predicates);
         } else {
             return false;
         }
@@ -78,12 +81,18 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
     public void refresh(BavetFilterUniTuple<A> tuple) {
         A a = tuple.getFactA();
         List<BavetAbstractUniTuple<A>> childTupleList = tuple.getChildTupleList();
-        for (BavetAbstractUniTuple<A> childTuple : childTupleList) {
-            session.transitionTuple(childTuple, BavetTupleState.DYING);
-        }
-        childTupleList.clear();
-        if (tuple.isActive()) {
-            if (predicate.test(a)) {
+        boolean accepted = tuple.isActive() && test(a);
+        if (accepted && tuple.getState() == BavetTupleState.UPDATING && !childTupleList.isEmpty()) {
+            // It was accepted before too, so the child tuples only need to be updated
+            for (BavetAbstractUniTuple<A> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+        } else {
+            for (BavetAbstractUniTuple<A> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.DYING);
+            }
+            childTupleList.clear();
+            if (accepted) {
                 for (BavetAbstractUniNode<A> childNode : childNodeList) {
                     BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
                     childTupleList.add(childTuple);
@@ -94,9 +103,18 @@ public final class BavetFilterUniNode<A> extends BavetAbstractUniNode<A> {
         tuple.refreshed();
     }
 
+    private boolean test(A a) {
+        for (Predicate<A> predicate : predicates) {
+            if (!predicate.test(a)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
-        return "Filter() with " + childNodeList.size() + " children";
+        return "Filter(" + predicates.length + " predicates) with " + childNodeList.size() + " children";
     }
 
     // ************************************************************************
@@ -76,9 +76,14 @@ public final class BavetFromUniNode<A> extends BavetAbstractUniNode<A> {
 
     public void refresh(BavetFromUniTuple<A> tuple) {
         List<BavetAbstractUniTuple<A>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            for (BavetAbstractUniTuple<A> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
         for (BavetAbstractUniTuple<A> childTuple : childTupleList) {
-            // TODO the entire FromUniNode isn't really doing anything
-            // so the destruction/construction is just an update op unless it's CREATING or DYING
             session.transitionTuple(childTuple, BavetTupleState.DYING);
         }
         childTupleList.clear();
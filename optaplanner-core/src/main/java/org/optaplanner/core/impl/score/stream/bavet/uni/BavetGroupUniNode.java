@@ -0,0 +1,100 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupUniNode<GroupKey_, ResultContainer_, NewA> extends BavetAbstractUniNode<NewA>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    private final BiFunction<GroupKey_, ResultContainer_, NewA> finisherA;
+
+    private final List<BavetAbstractUniNode<NewA>> childNodeList = new ArrayList<>();
+
+    public BavetGroupUniNode(BavetConstraintSession session, int nodeOrder,
+            BiFunction<GroupKey_, ResultContainer_, NewA> finisherA) {
+        super(session, nodeOrder);
+        this.finisherA = finisherA;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<NewA> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupUniTuple<GroupKey_, ResultContainer_, NewA> createTuple(BavetAbstractUniTuple<NewA> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupUniTuple<GroupKey_, ResultContainer_, NewA> createTuple(GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        return new BavetGroupUniTuple<>(this, groupKey, resultContainer);
+    }
+
+    public void refresh(BavetGroupUniTuple<GroupKey_, ResultContainer_, NewA> tuple) {
+        List<BavetAbstractUniTuple<NewA>> childTupleList = tuple.getChildTupleList();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            tuple.updateResult(finisherA);
+            for (BavetAbstractUniTuple<NewA> childTuple : childTupleList) {
+                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+            }
+            tuple.refreshed();
+            return;
+        }
+        for (BavetAbstractUniTuple<NewA> childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            tuple.updateResult(finisherA);
+            for (BavetAbstractUniNode<NewA> childNode : childNodeList) {
+                BavetAbstractUniTuple<NewA> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
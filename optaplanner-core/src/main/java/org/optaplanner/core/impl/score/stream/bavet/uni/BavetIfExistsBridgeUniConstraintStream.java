@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+
+public final class BavetIfExistsBridgeUniConstraintStream<Solution_, A>
+        extends BavetAbstractUniConstraintStream<Solution_, A>
+        implements BavetJoinBridgeConstraintStream<Solution_> {
+
+    private final BavetAbstractUniConstraintStream<Solution_, A> parent;
+    private BavetJoinConstraintStream<Solution_> ifExistsStream;
+    private final Function<A, Object[]> mapping;
+    private final BavetIndexFactory indexFactory;
+
+    public BavetIfExistsBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractUniConstraintStream<Solution_, A> parent,
+            Function<A, Object[]> mapping, BavetIndexFactory indexFactory) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.mapping = mapping;
+        this.indexFactory = indexFactory;
+    }
+
+    public void setIfExistsStream(BavetJoinConstraintStream<Solution_> ifExistsStream) {
+        this.ifExistsStream = ifExistsStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBridgeUniNode<A> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
+        // Don't share the node or add it to its parent yet: the ifExists node decides that for both bridges
+        BavetIfExistsBridgeUniNode<A> node = createNode(buildPolicy, constraintWeight, nodeOrder, parentNode);
+        buildPolicy.updateNodeOrderMaximum(nodeOrder);
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
+    @Override
+    protected BavetIfExistsBridgeUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
+        BavetIfExistsBridgeUniNode<A> node = new BavetIfExistsBridgeUniNode<>(buildPolicy.getSession(),
+                nodeOrder, parentNode, mapping, indexFactory);
+        return node;
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            int nodeOrder, BavetAbstractUniNode<A> uncastedNode) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's an ifExists bridge.");
+        }
+        BavetIfExistsBridgeUniNode<A> node = (BavetIfExistsBridgeUniNode<A>) uncastedNode;
+        BavetJoinBridgeNode leftNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().get(ifExistsStream);
+        if (leftNode == null) {
+            buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(ifExistsStream, node);
+        } else {
+            int maxNodeOrder = Math.max(leftNode.getNodeOrder(), node.getNodeOrder());
+            ifExistsStream.createNodeChain(buildPolicy, constraintWeight, maxNodeOrder + 1, leftNode, node);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IfExistsBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
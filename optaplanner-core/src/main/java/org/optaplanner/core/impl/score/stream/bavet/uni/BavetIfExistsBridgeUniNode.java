@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetIfExistsNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+
+/**
+ * The right bridge of an ifExists() or ifNotExists(): unlike a join bridge, its tuples don't have child tuples.
+ */
+public final class BavetIfExistsBridgeUniNode<A> extends BavetAbstractUniNode<A>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractUniNode<A> parentNode;
+    private final Function<A, Object[]> mapping;
+    private BavetIfExistsNode ifExistsNode;
+
+    private final BavetIndexFactory indexFactory;
+    private final BavetIndex<BavetIfExistsBridgeUniTuple<A>> index;
+
+    public BavetIfExistsBridgeUniNode(BavetConstraintSession session, int nodeOrder, BavetAbstractUniNode<A> parentNode,
+            Function<A, Object[]> mapping, BavetIndexFactory indexFactory) {
+        super(session, nodeOrder);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+        this.indexFactory = indexFactory;
+        this.index = indexFactory.buildIndex(false);
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), indexFactory);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsBridgeUniNode) {
+            BavetIfExistsBridgeUniNode<?> other = (BavetIfExistsBridgeUniNode<?>) o;
+            return parentNode == other.parentNode
+                    && indexFactory.equals(other.indexFactory);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsBridgeUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        return new BavetIfExistsBridgeUniTuple<>(this, parentTuple);
+    }
+
+    public void refresh(BavetIfExistsBridgeUniTuple<A> tuple) {
+        A a = tuple.getFactA();
+        if (tuple.getState() == BavetTupleState.UPDATING) {
+            Object[] indexProperties = mapping.apply(a);
+            Object[] oldIndexProperties = tuple.getIndexProperties();
+            if (Arrays.equals(indexProperties, oldIndexProperties)) {
+                // The index key didn't change, so only a filtering joiner can change the outcome
+                ifExistsNode.updateChildTuplesRight(indexProperties);
+                tuple.refreshed();
+                return;
+            }
+            index.remove(tuple);
+            ifExistsNode.refreshChildTuplesRightRetracted(oldIndexProperties);
+            index.put(indexProperties, tuple);
+            ifExistsNode.refreshChildTuplesRightInserted(indexProperties);
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING && tuple.getState() != BavetTupleState.ABORTING) {
+                // Clean up index
+                Object[] oldIndexProperties = tuple.getIndexProperties();
+                index.remove(tuple);
+                ifExistsNode.refreshChildTuplesRightRetracted(oldIndexProperties);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a);
+                index.put(indexProperties, tuple);
+                ifExistsNode.refreshChildTuplesRightInserted(indexProperties);
+            }
+        }
+        tuple.refreshed();
+    }
+
+    @Override
+    public String toString() {
+        return "IfExistsBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetAbstractUniNode<A> getParentNode() {
+        return parentNode;
+    }
+
+    public BavetIndex<BavetIfExistsBridgeUniTuple<A>> getIndex() {
+        return index;
+    }
+
+    public void setIfExistsNode(BavetIfExistsNode ifExistsNode) {
+        this.ifExistsNode = ifExistsNode;
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinTuple;
+
+public final class BavetIfExistsUniTuple<A> extends BavetAbstractUniTuple<A>
+        implements BavetJoinTuple {
+
+    private final BavetIfExistsUniNode<A, ?> node;
+    private final BavetJoinBridgeUniTuple<A> leftParentTuple;
+
+    protected List<BavetAbstractUniTuple<A>> childTupleList;
+
+    public BavetIfExistsUniTuple(BavetIfExistsUniNode<A, ?> node, BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        this.node = node;
+        this.leftParentTuple = leftParentTuple;
+        childTupleList = new ArrayList<>();
+    }
+
+    @Override
+    public void refresh() {
+        node.refresh(this);
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsUniNode<A, ?> getNode() {
+        return node;
+    }
+
+    @Override
+    public A getFactA() {
+        return leftParentTuple.getFactA();
+    }
+
+    public BavetJoinBridgeUniTuple<A> getLeftParentTuple() {
+        return leftParentTuple;
+    }
+
+    public List<BavetAbstractUniTuple<A>> getChildTupleList() {
+        return childTupleList;
+    }
+
+}
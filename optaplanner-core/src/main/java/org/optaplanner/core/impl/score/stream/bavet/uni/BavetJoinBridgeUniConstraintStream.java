@@ -61,11 +61,21 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
     // Node creation
     // ************************************************************************
 
+    @Override
+    public BavetJoinBridgeUniNode<A> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
+        // Don't share the node or add it to its parent yet: the join node decides that for both bridges
+        BavetJoinBridgeUniNode<A> node = createNode(buildPolicy, constraintWeight, nodeOrder, parentNode);
+        buildPolicy.updateNodeOrderMaximum(nodeOrder);
+        createChildNodeChains(buildPolicy, constraintWeight, nodeOrder, node);
+        return node;
+    }
+
     @Override
     protected BavetJoinBridgeUniNode<A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
         BavetJoinBridgeUniNode<A> node = new BavetJoinBridgeUniNode<>(buildPolicy.getSession(),
-                nodeOrder, parentNode, mapping, indexFactory.buildIndex(isLeftBridge));
+                nodeOrder, parentNode, mapping, indexFactory, isLeftBridge);
         return node;
     }
 
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -24,6 +26,7 @@ import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 
 public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         implements BavetJoinBridgeNode {
@@ -32,17 +35,50 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     private final Function<A, Object[]> mapping;
     /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
     private Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher;
+    /** Calls {@link BavetJoinBiNode#updateChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
+    private Consumer<BavetJoinBridgeUniTuple<A>> childTupleUpdater;
 
+    private final BavetIndexFactory indexFactory;
+    private final boolean isLeftBridge;
     private final BavetIndex<BavetJoinBridgeUniTuple<A>> index;
 
     public BavetJoinBridgeUniNode(BavetConstraintSession session, int nodeOrder, BavetAbstractUniNode<A> parentNode,
-            Function<A, Object[]> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
+            Function<A, Object[]> mapping, BavetIndexFactory indexFactory, boolean isLeftBridge) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.mapping = mapping;
-        this.index = index;
+        this.indexFactory = indexFactory;
+        this.isLeftBridge = isLeftBridge;
+        this.index = indexFactory.buildIndex(isLeftBridge);
     }
 
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), isLeftBridge, indexFactory);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBridgeUniNode) {
+            BavetJoinBridgeUniNode<?> other = (BavetJoinBridgeUniNode<?>) o;
+            return parentNode == other.parentNode
+                    && isLeftBridge == other.isLeftBridge
+                    && indexFactory.equals(other.indexFactory);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
     @Override
     public BavetJoinBridgeUniTuple<A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
         return new BavetJoinBridgeUniTuple<>(this, parentTuple);
@@ -50,13 +86,25 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
 
     public void refresh(BavetJoinBridgeUniTuple<A> tuple) {
         A a = tuple.getFactA();
-        if (tuple.getState() != BavetTupleState.CREATING) {
-            // Clean up index
-            index.remove(tuple);
-        }
-        if (tuple.isActive()) {
+        if (tuple.getState() == BavetTupleState.UPDATING) {
             Object[] indexProperties = mapping.apply(a);
+            if (Arrays.equals(indexProperties, tuple.getIndexProperties())) {
+                // The index key didn't change, so the child tuples join the same tuples: just update them
+                childTupleUpdater.accept(tuple);
+                tuple.refreshed();
+                return;
+            }
+            index.remove(tuple);
             index.put(indexProperties, tuple);
+        } else {
+            if (tuple.getState() != BavetTupleState.CREATING && tuple.getState() != BavetTupleState.ABORTING) {
+                // Clean up index
+                index.remove(tuple);
+            }
+            if (tuple.isActive()) {
+                Object[] indexProperties = mapping.apply(a);
+                index.put(indexProperties, tuple);
+            }
         }
         childTupleRefresher.accept(tuple);
         tuple.refreshed();
@@ -71,6 +119,10 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     // Getters/setters
     // ************************************************************************
 
+    public BavetAbstractUniNode<A> getParentNode() {
+        return parentNode;
+    }
+
     public BavetIndex<BavetJoinBridgeUniTuple<A>> getIndex() {
         return index;
     }
@@ -79,4 +131,8 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
         this.childTupleRefresher = childTupleRefresher;
     }
 
+    public void setChildTupleUpdater(Consumer<BavetJoinBridgeUniTuple<A>> childTupleUpdater) {
+        this.childTupleUpdater = childTupleUpdater;
+    }
+
 }
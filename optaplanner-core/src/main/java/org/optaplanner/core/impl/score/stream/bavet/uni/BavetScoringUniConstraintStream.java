@@ -18,8 +18,6 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
@@ -30,11 +28,11 @@ import org.optaplanner.core.impl.score.inliner.BigDecimalWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.IntWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.LongWeightedScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.ScoreInliner;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 
 public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAbstractUniConstraintStream<Solution_, A> {
 
@@ -106,18 +104,14 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
             Score<?> constraintWeight, int nodeOrder, BavetAbstractUniNode<A> parentNode) {
         ScoreInliner scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraintWeight);
-        BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+        BavetScoreImpacter<BavetScoringUniTuple<A>> scoreImpacter;
         if (weightedScoreImpacter instanceof IntWeightedScoreImpacter) {
             IntWeightedScoreImpacter castedWeightedScoreImpacter = (IntWeightedScoreImpacter) weightedScoreImpacter;
             if (intMatchWeigher != null) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> {
-                    int matchWeight = intMatchWeigher.applyAsInt(a);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofInt(constraint, castedWeightedScoreImpacter,
+                        tuple -> intMatchWeigher.applyAsInt(tuple.getFactA()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1,
-                        matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofInt(constraint, castedWeightedScoreImpacter, tuple -> 1);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + UniConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -126,14 +120,10 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
         } else if (weightedScoreImpacter instanceof LongWeightedScoreImpacter) {
             LongWeightedScoreImpacter castedWeightedScoreImpacter = (LongWeightedScoreImpacter) weightedScoreImpacter;
             if (longMatchWeigher != null) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> {
-                    long matchWeight = longMatchWeigher.applyAsLong(a);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofLong(constraint, castedWeightedScoreImpacter,
+                        tuple -> longMatchWeigher.applyAsLong(tuple.getFactA()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter.impactScore(1L,
-                        matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofLong(constraint, castedWeightedScoreImpacter, tuple -> 1L);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + UniConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -143,14 +133,11 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
             BigDecimalWeightedScoreImpacter castedWeightedScoreImpacter =
                     (BigDecimalWeightedScoreImpacter) weightedScoreImpacter;
             if (bigDecimalMatchWeigher != null) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> {
-                    BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a);
-                    constraint.assertCorrectImpact(matchWeight);
-                    return castedWeightedScoreImpacter.impactScore(matchWeight, matchScoreConsumer);
-                };
+                scoreImpacter = BavetScoreImpacter.ofBigDecimal(constraint, castedWeightedScoreImpacter,
+                        tuple -> bigDecimalMatchWeigher.apply(tuple.getFactA()));
             } else if (noMatchWeigher) {
-                scoreImpacter = (A a, Consumer<Score<?>> matchScoreConsumer) -> castedWeightedScoreImpacter
-                        .impactScore(BigDecimal.ONE, matchScoreConsumer);
+                scoreImpacter = BavetScoreImpacter.ofBigDecimal(constraint, castedWeightedScoreImpacter,
+                        tuple -> BigDecimal.ONE);
             } else {
                 throw new IllegalStateException("The matchWeigher of " + UniConstraintStream.class.getSimpleName()
                         + ".penalize(matchWeigher) of the constraint (" + constraint.getConstraintId()
@@ -17,16 +17,14 @@
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.Collections;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.function.BiFunction;
-import java.util.function.Consumer;
 
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.impl.score.constraint.DefaultConstraintMatchTotal;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetImpactingTupleList;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
 
 public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implements BavetScoringNode {
@@ -34,23 +32,29 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
     private final BavetAbstractUniNode<A> parentNode;
     private final String constraintPackage;
     private final String constraintName;
-    private final Score<?> constraintWeight;
-    private final BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter;
+    private Score<?> constraintWeight;
+    private final BavetScoreImpacter<BavetScoringUniTuple<A>> scoreImpacter;
+    private final BavetImpactingTupleList<BavetScoringUniTuple<A>> impactingTupleList;
 
     private final boolean constraintMatchEnabled;
-    private final Set<BavetScoringUniTuple<A>> tupleSet;
+    /** Always null if {@link #constraintMatchEnabled} is false. */
+    private DefaultConstraintMatchTotal constraintMatchTotal;
 
     public BavetScoringUniNode(BavetConstraintSession session, int nodeOrder, BavetAbstractUniNode<A> parentNode,
             String constraintPackage, String constraintName, Score<?> constraintWeight,
-            BiFunction<A, Consumer<Score<?>>, UndoScoreImpacter> scoreImpacter) {
+            BavetScoreImpacter<BavetScoringUniTuple<A>> scoreImpacter) {
         super(session, nodeOrder);
         this.parentNode = parentNode;
         this.constraintPackage = constraintPackage;
         this.constraintName = constraintName;
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
+        impactingTupleList = new BavetImpactingTupleList<>();
         this.constraintMatchEnabled = session.isConstraintMatchEnabled();
-        tupleSet = constraintMatchEnabled ? new HashSet<>() : null;
+        constraintMatchTotal = constraintMatchEnabled
+                ? new DefaultConstraintMatchTotal(constraintPackage, constraintName, constraintWeight,
+                        session.getZeroScore())
+                : null;
     }
 
     // ************************************************************************
@@ -70,41 +74,59 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
 
     public void refresh(BavetScoringUniTuple<A> tuple) {
         A a = tuple.getFactA();
-        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
-        if (oldUndoScoreImpacter != null) {
-            oldUndoScoreImpacter.undoScoreImpact();
+        boolean wasImpacting = tuple.isImpacting();
+        if (wasImpacting) {
+            scoreImpacter.undoScoreImpact(tuple);
             if (constraintMatchEnabled) {
-                tuple.setMatchScore(null);
-                boolean removed = tupleSet.remove(tuple);
-                if (!removed) {
-                    throw new IllegalStateException("Impossible state: The node with constraintId ("
-                            + getConstraintId() + ") could not remove the tuple (" + tuple + ") from the tupleSet.");
-                }
+                session.removeConstraintMatch(constraintMatchTotal, tuple.getConstraintMatch());
+                tuple.setConstraintMatch(null);
             }
         }
         if (tuple.isActive()) {
-            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, tuple::setMatchScore);
-            tuple.setUndoScoreImpacter(undoScoreImpacter);
+            scoreImpacter.impactScore(tuple);
+            tuple.setImpacting(true);
+            if (!wasImpacting) {
+                impactingTupleList.add(tuple);
+            }
             if (constraintMatchEnabled) {
-                boolean added = tupleSet.add(tuple);
-                if (!added) {
-                    throw new IllegalStateException("Impossible state: The node with constraintId ("
-                            + getConstraintId() + ") could not add the tuple (" + tuple + ") to the tupleSet.");
-                }
+                ConstraintMatch<?> constraintMatch = session.addConstraintMatch(constraintMatchTotal,
+                        Collections.singletonList(a), scoreImpacter.buildMatchScore(tuple));
+                tuple.setConstraintMatch(constraintMatch);
             }
         } else {
-            tuple.setUndoScoreImpacter(null);
+            tuple.setImpacting(false);
+            if (wasImpacting) {
+                impactingTupleList.remove(tuple);
+            }
         }
         tuple.refreshed();
     }
 
     @Override
-    public <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> buildConstraintMatchTotal(Score_ zeroScore) {
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = new DefaultConstraintMatchTotal(constraintPackage,
-                constraintName, constraintWeight, zeroScore);
-        for (BavetScoringUniTuple<A> tuple : tupleSet) {
-            constraintMatchTotal.addConstraintMatch(
-                    Collections.singletonList(tuple.getFactA()), (Score_) tuple.getMatchScore());
+    public void changeConstraintWeight(Score<?> newConstraintWeight) {
+        scoreImpacter.changeWeightedScoreImpacter(
+                session.getScoreInliner().buildWeightedScoreImpacter(newConstraintWeight), impactingTupleList);
+        constraintWeight = newConstraintWeight;
+        if (constraintMatchEnabled) {
+            DefaultConstraintMatchTotal newConstraintMatchTotal = new DefaultConstraintMatchTotal(
+                    constraintPackage, constraintName, newConstraintWeight, session.getZeroScore());
+            for (int i = 0; i < impactingTupleList.size(); i++) {
+                BavetScoringUniTuple<A> tuple = impactingTupleList.get(i);
+                ConstraintMatch<?> oldConstraintMatch = tuple.getConstraintMatch();
+                session.removeConstraintMatch(constraintMatchTotal, oldConstraintMatch);
+                ConstraintMatch<?> constraintMatch = session.addConstraintMatch(newConstraintMatchTotal,
+                        oldConstraintMatch.getJustificationList(), scoreImpacter.buildMatchScore(tuple));
+                tuple.setConstraintMatch(constraintMatch);
+            }
+            constraintMatchTotal = newConstraintMatchTotal;
+        }
+    }
+
+    @Override
+    public <Score_ extends Score<Score_>> ConstraintMatchTotal<Score_> getConstraintMatchTotal() {
+        if (!constraintMatchEnabled) {
+            throw new IllegalStateException("When constraintMatchEnabled (" + constraintMatchEnabled
+                    + ") is disabled, this method should not be called.");
         }
         return constraintMatchTotal;
     }
@@ -16,8 +16,9 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
-import org.optaplanner.core.api.score.Score;
-import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import java.math.BigDecimal;
+
+import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
 
@@ -26,9 +27,13 @@ public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> impl
     private final BavetScoringUniNode<A> node;
     private final BavetAbstractUniTuple<A> parentTuple;
 
-    private UndoScoreImpacter undoScoreImpacter = null;
+    private boolean impacting = false;
+    private int impactingIndex = -1;
+    private long matchWeight = 0L;
+    /** Always null if the score type doesn't have {@link BigDecimal} weights. */
+    private BigDecimal bigDecimalMatchWeight = null;
     /** Always null if {@link BavetConstraintSession#isConstraintMatchEnabled()} is false. */
-    private Score<?> matchScore = null;
+    private ConstraintMatch<?> constraintMatch = null;
 
     public BavetScoringUniTuple(BavetScoringUniNode<A> node, BavetAbstractUniTuple<A> parentTuple) {
         this.node = node;
@@ -60,23 +65,53 @@ public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> impl
     }
 
     @Override
-    public UndoScoreImpacter getUndoScoreImpacter() {
-        return undoScoreImpacter;
+    public boolean isImpacting() {
+        return impacting;
+    }
+
+    @Override
+    public void setImpacting(boolean impacting) {
+        this.impacting = impacting;
+    }
+
+    @Override
+    public int getImpactingIndex() {
+        return impactingIndex;
+    }
+
+    @Override
+    public void setImpactingIndex(int impactingIndex) {
+        this.impactingIndex = impactingIndex;
+    }
+
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
+    }
+
+    @Override
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
+    @Override
+    public BigDecimal getBigDecimalMatchWeight() {
+        return bigDecimalMatchWeight;
     }
 
     @Override
-    public void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter) {
-        this.undoScoreImpacter = undoScoreImpacter;
+    public void setBigDecimalMatchWeight(BigDecimal bigDecimalMatchWeight) {
+        this.bigDecimalMatchWeight = bigDecimalMatchWeight;
     }
 
     @Override
-    public Score<?> getMatchScore() {
-        return matchScore;
+    public ConstraintMatch<?> getConstraintMatch() {
+        return constraintMatch;
     }
 
     @Override
-    public void setMatchScore(Score<?> matchScore) {
-        this.matchScore = matchScore;
+    public void setConstraintMatch(ConstraintMatch<?> constraintMatch) {
+        this.constraintMatch = constraintMatch;
     }
 
 }
@@ -17,7 +17,6 @@
 package org.optaplanner.core.impl.score.stream.common;
 
 import java.math.BigDecimal;
-import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.score.Score;
@@ -71,29 +70,36 @@ public abstract class AbstractConstraint<Solution_, ConstraintFactory extends In
     }
 
     public void assertCorrectImpact(int impact) {
-        assertCorrectImpact(impact, () -> impact < 0);
+        if (impact < 0) {
+            assertNegativeImpactAllowed(impact);
+        }
     }
 
     public void assertCorrectImpact(long impact) {
-        assertCorrectImpact(impact, () -> impact < 0L);
+        if (impact < 0L) {
+            assertNegativeImpactAllowed(impact);
+        }
     }
 
     public void assertCorrectImpact(BigDecimal impact) {
-        assertCorrectImpact(impact, () -> impact.signum() < 0);
+        if (impact.signum() < 0) {
+            assertNegativeImpactAllowed(impact);
+        }
     }
 
-    private void assertCorrectImpact(Object impact, BooleanSupplier lessThanZero) {
+    /**
+     * Only called for a negative impact, so a correct impact never boxes the primitive impact on the hot path.
+     * @param impact never null, negative
+     */
+    private void assertNegativeImpactAllowed(Object impact) {
         switch (scoreImpactType) {
             case MIXED: // No need to do anything.
                 break;
             case REWARD:
             case PENALTY:
-                if (lessThanZero.getAsBoolean()) {
-                    throw new IllegalStateException("Negative match weight (" + impact + ") for constraint ("
-                            + getConstraintId() + "). " +
-                            "Check constraint provider implementation.");
-                }
-                return;
+                throw new IllegalStateException("Negative match weight (" + impact + ") for constraint ("
+                        + getConstraintId() + "). " +
+                        "Check constraint provider implementation.");
             default:
                 throw new IllegalStateException("Unknown score impact type: (" + scoreImpactType + ")");
         }
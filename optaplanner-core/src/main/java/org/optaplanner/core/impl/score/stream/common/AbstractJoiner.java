@@ -20,4 +20,8 @@ public abstract class AbstractJoiner {
 
     public abstract JoinerType[] getJoinerTypes();
 
+    public abstract Object getLeftMapping(int index);
+
+    public abstract Object getRightMapping(int index);
+
 }
@@ -20,11 +20,13 @@ import static java.util.stream.Collectors.toMap;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.drools.model.Model;
@@ -37,7 +39,9 @@ import org.kie.internal.event.rule.RuleEventManager;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.score.constraint.ConstraintProfiler;
 import org.optaplanner.core.impl.score.definition.ScoreDefinition;
+import org.optaplanner.core.impl.score.director.drools.ConstraintProfilingAgendaEventListener;
 import org.optaplanner.core.impl.score.director.drools.DroolsScoreDirector;
 import org.optaplanner.core.impl.score.director.drools.OptaPlannerRuleEventListener;
 import org.optaplanner.core.impl.score.holder.AbstractScoreHolder;
@@ -45,18 +49,41 @@ import org.optaplanner.core.impl.score.stream.ConstraintSession;
 import org.optaplanner.core.impl.score.stream.ConstraintSessionFactory;
 import org.optaplanner.core.impl.score.stream.drools.common.FactTuple;
 import org.optaplanner.core.impl.score.stream.drools.common.rules.RuleAssembly;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Score<Score_>>
         implements ConstraintSessionFactory<Solution_, Score_> {
 
+    private static final Logger logger = LoggerFactory.getLogger(DroolsConstraintSessionFactory.class);
+    /**
+     * Every KieBase holds a complete Rete network, so the cache can't grow with every possible subset of constraints.
+     * In practice, working solutions only switch between a few constraint weight configurations.
+     */
+    private static final int KIE_BASE_CACHE_SIZE = 16;
+
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final Model originalModel;
     private final KieBase originalKieBase;
     private final Map<Rule, DroolsConstraint<Solution_>> compiledRuleToConstraintMap;
     private final Map<String, org.drools.model.Rule> constraintToModelRuleMap;
     private final Map<Rule, Class[]> compiledRuleToExpectedTypesMap;
-    private KieBase currentKieBase;
-    private Set<String> currentlyDisabledConstraintIdSet = null;
+    /**
+     * Compiling a {@link KieBase} is expensive, so each set of disabled constraints is only compiled once,
+     * even if the constraint weights of the working solutions keep switching between them.
+     * Holds at most {@link #KIE_BASE_CACHE_SIZE} KieBases and evicts the least recently used one,
+     * which is compiled again (and counted as a miss) if it is needed later.
+     * Guarded by synchronizing on this map, so concurrent sessions never compile the same KieBase twice.
+     */
+    private final Map<Set<String>, KieBase> disabledConstraintIdSetToKieBaseMap =
+            new LinkedHashMap<Set<String>, KieBase>(KIE_BASE_CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Set<String>, KieBase> eldest) {
+                    return size() > KIE_BASE_CACHE_SIZE;
+                }
+            };
+    private final AtomicLong kieBaseCacheHitCount = new AtomicLong(0L);
+    private final AtomicLong kieBaseCacheMissCount = new AtomicLong(0L);
 
     public DroolsConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor, Model model,
             Map<org.drools.model.Rule, Class[]> modelRuleToExpectedTypesMap,
@@ -64,9 +91,8 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
         this.solutionDescriptor = solutionDescriptor;
         this.originalModel = model;
         this.originalKieBase = KieBaseBuilder.createKieBaseFromModel(model);
-        this.currentKieBase = originalKieBase;
         this.compiledRuleToConstraintMap = Arrays.stream(constraints)
-                .collect(toMap(constraint -> currentKieBase.getRule(constraint.getConstraintPackage(),
+                .collect(toMap(constraint -> originalKieBase.getRule(constraint.getConstraintPackage(),
                         constraint.getConstraintName()), Function.identity()));
         this.constraintToModelRuleMap = Arrays.stream(constraints)
                 .collect(toMap(Constraint::getConstraintId, constraint -> model.getRules().stream()
@@ -153,7 +179,8 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
     }
 
     @Override
-    public ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution) {
+    public ConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution,
+            ConstraintProfiler constraintProfiler) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         // Make sure the constraint justifications match what comes out of Bavet.
         AbstractScoreHolder<Score_> scoreHolder = scoreDefinition.buildScoreHolder(constraintMatchEnabled);
@@ -175,11 +202,28 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
             }
         });
         // Determine the KieBase to use.
-        if (disabledConstraintIdSet.isEmpty()) { // Shortcut; don't change the original KieBase.
-            currentKieBase = originalKieBase;
-            currentlyDisabledConstraintIdSet = null;
-        } else if (!disabledConstraintIdSet.equals(currentlyDisabledConstraintIdSet)) {
-            // Only rebuild the active KieBase when the set of disabled constraints changed.
+        KieBase kieBase = disabledConstraintIdSet.isEmpty() ? originalKieBase // Shortcut; use the original KieBase.
+                : findOrBuildKieBase(disabledConstraintIdSet);
+        // Create the session itself.
+        KieSession kieSession = kieBase.newKieSession();
+        ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
+        if (constraintProfiler != null) {
+            kieSession.addEventListener(new ConstraintProfilingAgendaEventListener(constraintProfiler));
+        }
+        kieSession.setGlobal(DroolsScoreDirector.GLOBAL_SCORE_HOLDER_KEY, scoreHolder);
+        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder);
+    }
+
+    private KieBase findOrBuildKieBase(Set<String> disabledConstraintIdSet) {
+        synchronized (disabledConstraintIdSetToKieBaseMap) {
+            KieBase kieBase = disabledConstraintIdSetToKieBaseMap.get(disabledConstraintIdSet);
+            if (kieBase != null) {
+                kieBaseCacheHitCount.incrementAndGet();
+                return kieBase;
+            }
+            // Only rebuild a KieBase when that set of disabled constraints isn't cached.
+            kieBaseCacheMissCount.incrementAndGet();
+            logger.debug("Building a KieBase without the disabled constraints ({}).", disabledConstraintIdSet);
             ModelImpl model = new ModelImpl().withGlobals(originalModel.getGlobals());
             constraintToModelRuleMap.forEach((constraintId, modelRule) -> {
                 if (disabledConstraintIdSet.contains(constraintId)) {
@@ -187,14 +231,28 @@ public final class DroolsConstraintSessionFactory<Solution_, Score_ extends Scor
                 }
                 model.addRule(modelRule);
             });
-            currentKieBase = KieBaseBuilder.createKieBaseFromModel(model);
-            currentlyDisabledConstraintIdSet = disabledConstraintIdSet;
+            kieBase = KieBaseBuilder.createKieBaseFromModel(model);
+            disabledConstraintIdSetToKieBaseMap.put(disabledConstraintIdSet, kieBase);
+            return kieBase;
         }
-        // Create the session itself.
-        KieSession kieSession = currentKieBase.newKieSession();
-        ((RuleEventManager) kieSession).addEventListener(new OptaPlannerRuleEventListener()); // Enables undo in rules.
-        kieSession.setGlobal(DroolsScoreDirector.GLOBAL_SCORE_HOLDER_KEY, scoreHolder);
-        return new DroolsConstraintSession<>(solutionDescriptor, kieSession, scoreHolder);
+    }
+
+    /**
+     * @return how many times {@link #buildSession(boolean, Object, ConstraintProfiler)}
+     * reused a previously compiled {@link KieBase} for a working solution with disabled constraints
+     */
+    @Override
+    public long getConstraintCompilationCacheHitCount() {
+        return kieBaseCacheHitCount.get();
+    }
+
+    /**
+     * @return how many times {@link #buildSession(boolean, Object, ConstraintProfiler)}
+     * had to compile a new {@link KieBase}, not counting the original one with all constraints enabled
+     */
+    @Override
+    public long getConstraintCompilationCacheMissCount() {
+        return kieBaseCacheMissCount.get();
     }
 
 }
@@ -32,6 +32,7 @@ import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.constraint.ConstraintMatch;
 import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
@@ -116,6 +117,28 @@ public abstract class AbstractConstraintStreamTest {
                     }
                 }
             }
+            Map<Object, Indictment<Score_>> indictmentMap = scoreDirector.getIndictmentMap();
+            for (ConstraintMatchTotal<Score_> constraintMatchTotal : constraintMatchTotalMap.values()) {
+                for (ConstraintMatch<Score_> constraintMatch : constraintMatchTotal.getConstraintMatchSet()) {
+                    for (Object justification : constraintMatch.getJustificationList()) {
+                        Indictment<Score_> indictment = indictmentMap.get(justification);
+                        if (indictment == null || !indictment.getConstraintMatchSet().contains(constraintMatch)) {
+                            fail("The constraintMatch (" + constraintMatch + ") is lacking,"
+                                    + " it's not in the indictment (" + indictment + ") of its justification ("
+                                    + justification + ").");
+                        }
+                    }
+                }
+            }
+            for (Indictment<Score_> indictment : indictmentMap.values()) {
+                for (ConstraintMatch<Score_> constraintMatch : indictment.getConstraintMatchSet()) {
+                    if (!constraintMatchTotalMap.get(constraintMatch.getConstraintId()).getConstraintMatchSet()
+                            .contains(constraintMatch)) {
+                        fail("The constraintMatch (" + constraintMatch + ") is in excess,"
+                                + " it's in the indictment (" + indictment + ") but not in its constraintMatchTotal.");
+                    }
+                }
+            }
         }
         assertThat(score.getScore()).isEqualTo(scoreTotal);
     }
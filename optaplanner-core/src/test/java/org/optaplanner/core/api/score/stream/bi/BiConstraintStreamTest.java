@@ -25,6 +25,7 @@ import static org.optaplanner.core.api.score.stream.Joiners.filtering;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -406,7 +407,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
                     .ifExists(Integer.class)
@@ -418,7 +418,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -444,7 +443,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -477,7 +475,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -512,7 +509,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -545,7 +541,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
                     .ifNotExists(Integer.class)
@@ -557,7 +552,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -583,7 +577,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -620,7 +613,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -651,7 +643,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -692,7 +683,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -727,7 +717,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -750,7 +739,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping1Collector_count() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 7);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -777,7 +765,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.fromUniquePair(TestdataLavishEntity.class)
@@ -807,7 +794,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping1Collector_count() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -840,7 +826,6 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 2, 4);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -1087,9 +1072,45 @@ public class BiConstraintStreamTest extends AbstractConstraintStreamTest {
     }
 
     @TestTemplate
-    @Disabled("Not yet supported") // TODO
     public void nodeSharing() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 2);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntityGroup entityGroup = solution.getEntityGroupList().get(1);
+
+        AtomicLong monitorCount = new AtomicLong(0L);
+        Function<TestdataLavishEntity, TestdataLavishEntityGroup> mapping = entity -> {
+            monitorCount.getAndIncrement();
+            return entity.getEntityGroup();
+        };
+        BiJoiner<TestdataLavishEntity, TestdataLavishEntityGroup> joiner = equal(mapping, Function.identity());
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(
+                        TestdataLavishSolution.buildSolutionDescriptor(), (factory) -> new Constraint[] {
+                                factory.from(TestdataLavishEntity.class)
+                                        .join(TestdataLavishEntityGroup.class, joiner)
+                                        .penalize("myConstraint1", SimpleScore.ONE),
+                                factory.from(TestdataLavishEntity.class)
+                                        .join(TestdataLavishEntityGroup.class, joiner)
+                                        .filter((entity, group) -> group == entityGroup)
+                                        .penalize("myConstraint2", SimpleScore.ONE)
+                        }, constraintStreamImplType);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, constraintMatchEnabled);
 
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-4));
+        assertThat(monitorCount.getAndSet(0L)).isEqualTo(3);
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setEntityGroup(entityGroup);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-5));
+        assertThat(monitorCount.get()).isEqualTo(1);
     }
 
     @TestTemplate
@@ -61,7 +61,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void filter_entity() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -113,7 +112,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void filterConsecutive() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(5, 5);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntity entity2 = solution.getEntityList().get(1);
@@ -155,7 +153,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
                     .join(TestdataLavishEntityGroup.class, equal(TestdataLavishEntity::getEntityGroup, identity()))
@@ -172,7 +169,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -201,7 +197,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -238,7 +233,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -275,7 +269,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -310,7 +303,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
                     .join(TestdataLavishEntityGroup.class, equal(TestdataLavishEntity::getEntityGroup, identity()))
@@ -327,7 +319,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -356,7 +347,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 2, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -393,7 +383,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -426,7 +415,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -466,7 +454,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_0Mapping1Collector() {
-        assumeDrools();
         /*
          * E1 has G1 and V1
          * E2 has G2 and V2
@@ -500,7 +487,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -524,7 +510,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping1Collector_count() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -558,7 +543,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishEntity.class)
@@ -593,7 +577,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping1Collector_count() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -630,7 +613,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 2, 2, 3);
 
         InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
@@ -671,7 +653,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalize_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -700,7 +681,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalize_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -731,7 +711,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalize_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -762,7 +741,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void penalize_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -784,7 +762,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void reward_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -813,7 +790,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void reward_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -843,7 +819,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void reward_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(Arrays.asList(v1));
@@ -874,7 +849,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void reward_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -26,6 +26,8 @@ import static org.optaplanner.core.api.score.stream.ConstraintCollectors.max;
 import static org.optaplanner.core.api.score.stream.ConstraintCollectors.min;
 import static org.optaplanner.core.api.score.stream.Joiners.equal;
 import static org.optaplanner.core.api.score.stream.Joiners.filtering;
+import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
+import static org.optaplanner.core.api.score.stream.Joiners.overlapping;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -40,6 +42,7 @@ import org.junit.jupiter.api.TestTemplate;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.api.score.buildin.simplebigdecimal.SimpleBigDecimalScore;
 import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
 import org.optaplanner.core.api.score.stream.AbstractConstraintStreamTest;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
@@ -49,6 +52,8 @@ import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDire
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.constraintconfiguration.TestdataConstraintConfiguration;
+import org.optaplanner.core.impl.testdata.domain.constraintconfiguration.TestdataConstraintConfigurationSolution;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataSimpleBigDecimalScoreSolution;
 import org.optaplanner.core.impl.testdata.domain.score.TestdataSimpleLongScoreSolution;
 import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
@@ -305,13 +310,157 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
                 assertMatch(entity3, entity3));
     }
 
+    @TestTemplate
+    public void join_1EqualWithUnchangedIndexKey() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        entity1.setIntegerProperty(7);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(8);
+        solution.getEntityList().add(entity2);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            equal(TestdataLavishEntity::getEntityGroup))
+                    .filter((a, b) -> a != b && a.getIntegerProperty() < b.getIntegerProperty())
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE,
+                            (a, b) -> b.getIntegerProperty() - a.getIntegerProperty());
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, entity1, entity2));
+
+        // Incremental: the index key stays the same, so the join tuples are updated in place
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(5);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-3, entity1, entity2));
+
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(9);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, entity2, entity1));
+
+        // Both sides change, one with and one without a new index key
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(10);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setEntityGroup(solution.getFirstEntityGroup());
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-7, solution.getFirstEntity(), entity2));
+    }
+
+    @TestTemplate
+    public void join_1Equal1LessThan() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        entity1.setIntegerProperty(7);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(8);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup, solution.getFirstValue());
+        entity3.setIntegerProperty(8);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            equal(TestdataLavishEntity::getEntityGroup),
+                            lessThan(TestdataLavishEntity::getIntegerProperty))
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity1, entity3));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setIntegerProperty(9);
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        assertScore(scoreDirector,
+                assertMatch(entity2, entity1),
+                assertMatch(entity3, entity1));
+
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(7);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(entity2, entity1),
+                assertMatch(entity3, entity1),
+                assertMatch(entity3, entity2));
+    }
+
+    @TestTemplate
+    public void join_overlapping() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
+        TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup, solution.getFirstValue());
+        entity1.setIntegerProperty(7);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup, solution.getFirstValue());
+        entity2.setIntegerProperty(8);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup, solution.getFirstValue());
+        entity3.setIntegerProperty(10);
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            // Each entity occupies the interval [integerProperty, integerProperty + 2)
+            return factory.from(TestdataLavishEntity.class)
+                    .join(TestdataLavishEntity.class,
+                            overlapping(TestdataLavishEntity::getIntegerProperty,
+                                    entity -> entity.getIntegerProperty() + 2))
+                    .filter((a, b) -> a != b)
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1));
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity3);
+        entity3.setIntegerProperty(9);
+        scoreDirector.afterProblemPropertyChanged(entity3);
+        assertScore(scoreDirector,
+                assertMatch(entity1, entity2),
+                assertMatch(entity2, entity1),
+                assertMatch(entity2, entity3),
+                assertMatch(entity3, entity2));
+
+        scoreDirector.beforeProblemPropertyChanged(entity2);
+        entity2.setIntegerProperty(1);
+        scoreDirector.afterProblemPropertyChanged(entity2);
+        assertScore(scoreDirector,
+                assertMatch(solution.getFirstEntity(), entity2),
+                assertMatch(entity2, solution.getFirstEntity()));
+    }
+
     // ************************************************************************
     // If (not) exists
     // ************************************************************************
 
     @TestTemplate
     public void ifExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishValueGroup.class)
                     .ifExists(Integer.class)
@@ -323,7 +472,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -353,7 +501,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -388,7 +535,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -422,7 +568,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -457,7 +602,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifExistsOther_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -490,7 +634,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_unknownClass() {
-        assumeDrools();
         assertThatThrownBy(() -> buildScoreDirector((factory) -> {
             return factory.from(TestdataLavishValueGroup.class)
                     .ifNotExists(Integer.class)
@@ -502,7 +645,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_0Joiner0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 1);
         TestdataLavishValueGroup valueGroup = new TestdataLavishValueGroup("MyValueGroup");
         solution.getValueGroupList().add(valueGroup);
@@ -528,7 +670,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_0Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -559,7 +700,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -590,7 +730,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExists_1Join1Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -625,7 +764,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void ifNotExistsOther_1Join0Filter() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 1);
         TestdataLavishEntityGroup entityGroup = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup);
@@ -730,7 +868,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping0Collect_filtered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -755,7 +892,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping1Collect_filtered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -782,7 +918,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_joinedAndFiltered() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -810,7 +945,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_1Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -879,7 +1013,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_0Mapping1Collector_max() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1087,7 +1220,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping0Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1143,7 +1275,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping1Collector_count() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1180,7 +1311,6 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
 
     @TestTemplate
     public void groupBy_2Mapping2Collector() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
         TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
         solution.getEntityGroupList().add(entityGroup1);
@@ -1215,6 +1345,49 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
                 assertMatchWithScore(-2, entityGroup1, value1, 2, 2));
     }
 
+    @TestTemplate
+    public void groupBy_2Mapping2Collector_countAndMax() {
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 7);
+        TestdataLavishEntityGroup entityGroup1 = new TestdataLavishEntityGroup("MyEntityGroup");
+        solution.getEntityGroupList().add(entityGroup1);
+        TestdataLavishValue value1 = new TestdataLavishValue("MyValue", solution.getFirstValueGroup());
+        solution.getValueList().add(value1);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", entityGroup1, value1);
+        solution.getEntityList().add(entity1);
+        TestdataLavishEntity entity2 = new TestdataLavishEntity("MyEntity 2", entityGroup1, value1);
+        solution.getEntityList().add(entity2);
+        TestdataLavishEntity entity3 = new TestdataLavishEntity("MyEntity 3", entityGroup1, solution.getFirstValue());
+        solution.getEntityList().add(entity3);
+
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector = buildScoreDirector((factory) -> {
+            return factory.from(TestdataLavishEntity.class)
+                    .groupBy(TestdataLavishEntity::getEntityGroup, TestdataLavishEntity::getValue,
+                            count(), max(comparing(TestdataLavishEntity::getCode)))
+                    .filter((entityGroup, value, count, maxEntity) -> entityGroup == entityGroup1)
+                    .penalize(TEST_CONSTRAINT_NAME, SimpleScore.ONE, (entityGroup, value, count, maxEntity) -> count);
+        });
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-2, entityGroup1, value1, 2, entity2),
+                assertMatchWithScore(-1, entityGroup1, solution.getFirstValue(), 1, entity3));
+
+        // Incremental: both collectors must undo their accumulation
+        scoreDirector.beforeEntityRemoved(entity2);
+        solution.getEntityList().remove(entity2);
+        scoreDirector.afterEntityRemoved(entity2);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, entityGroup1, value1, 1, entity1),
+                assertMatchWithScore(-1, entityGroup1, solution.getFirstValue(), 1, entity3));
+
+        scoreDirector.beforeEntityRemoved(entity3);
+        solution.getEntityList().remove(entity3);
+        scoreDirector.afterEntityRemoved(entity3);
+        assertScore(scoreDirector,
+                assertMatchWithScore(-1, entityGroup1, value1, 1, entity1));
+    }
+
     // ************************************************************************
     // Penalize/reward
     // ************************************************************************
@@ -1508,6 +1681,60 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
         assertThat(oneWeightMonitorCount.get()).isEqualTo(1);
     }
 
+    @TestTemplate
+    public void constraintWeightChange() {
+        TestdataConstraintConfigurationSolution solution = new TestdataConstraintConfigurationSolution("Solution");
+        TestdataConstraintConfiguration constraintConfiguration = new TestdataConstraintConfiguration("Configuration");
+        solution.setConstraintConfiguration(constraintConfiguration);
+        TestdataValue value = new TestdataValue("MyValue");
+        solution.setValueList(Collections.singletonList(value));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("MyEntity 1", value),
+                new TestdataEntity("MyEntity 2", value), new TestdataEntity("MyEntity 3", value)));
+
+        AtomicLong monitorCount = new AtomicLong(0L);
+        InnerScoreDirector<TestdataConstraintConfigurationSolution, SimpleScore> scoreDirector =
+                buildScoreDirector(TestdataConstraintConfigurationSolution::buildSolutionDescriptor,
+                        (factory) -> factory.from(TestdataEntity.class)
+                                .filter(entity -> {
+                                    monitorCount.getAndIncrement();
+                                    return true;
+                                })
+                                .penalizeConfigurable("First weight"));
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        assertThat(monitorCount.getAndSet(0L)).isEqualTo(3);
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(constraintConfiguration);
+        constraintConfiguration.setFirstWeight(SimpleScore.of(5));
+        scoreDirector.afterProblemPropertyChanged(constraintConfiguration);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-15));
+        if (constraintStreamImplType == ConstraintStreamImplType.BAVET) {
+            // Only the match weights are rescaled, no filter is evaluated again
+            assertThat(monitorCount.get()).isEqualTo(0);
+        }
+        if (constraintMatchEnabled) {
+            assertThat(scoreDirector.getConstraintMatchTotalMap()).hasSize(1);
+            ConstraintMatchTotal<SimpleScore> constraintMatchTotal =
+                    scoreDirector.getConstraintMatchTotalMap().values().iterator().next();
+            assertThat(constraintMatchTotal.getConstraintWeight()).isEqualTo(SimpleScore.of(5));
+            assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.of(-15));
+            assertThat(constraintMatchTotal.getConstraintMatchCount()).isEqualTo(3);
+        }
+
+        // Incremental from and to a zero weight
+        scoreDirector.beforeProblemPropertyChanged(constraintConfiguration);
+        constraintConfiguration.setFirstWeight(SimpleScore.ZERO);
+        scoreDirector.afterProblemPropertyChanged(constraintConfiguration);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.ZERO);
+        scoreDirector.beforeProblemPropertyChanged(constraintConfiguration);
+        constraintConfiguration.setFirstWeight(SimpleScore.of(2));
+        scoreDirector.afterProblemPropertyChanged(constraintConfiguration);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-6));
+    }
+
     @TestTemplate
     public void nodeSharing() {
         assumeBavet();
@@ -1548,6 +1775,49 @@ public class UniConstraintStreamTest extends AbstractConstraintStreamTest {
         assertThat(monitorCount.get()).isEqualTo(1);
     }
 
+    @TestTemplate
+    public void nodeSharing_filterChain() {
+        assumeBavet();
+        TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(2, 5, 3, 2);
+        TestdataLavishEntity entity1 = new TestdataLavishEntity("MyEntity 1", solution.getFirstEntityGroup(),
+                solution.getFirstValue());
+        entity1.setStringProperty("myProperty1");
+        solution.getEntityList().add(entity1);
+
+        AtomicLong monitorCount = new AtomicLong(0L);
+        Predicate<TestdataLavishEntity> predicate1 = entity -> true;
+        Predicate<TestdataLavishEntity> predicate2 = entity -> {
+            monitorCount.getAndIncrement();
+            return true;
+        };
+        ConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(
+                        TestdataLavishSolution.buildSolutionDescriptor(), (factory) -> new Constraint[] {
+                                factory.from(TestdataLavishEntity.class)
+                                        .filter(predicate1)
+                                        .filter(predicate2)
+                                        .penalize("myConstraint1", SimpleScore.ONE),
+                                factory.from(TestdataLavishEntity.class)
+                                        .filter(predicate1)
+                                        .filter(predicate2)
+                                        .penalize("myConstraint2", SimpleScore.ONE)
+                        }, constraintStreamImplType);
+        InnerScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, constraintMatchEnabled);
+
+        // From scratch
+        scoreDirector.setWorkingSolution(solution);
+        scoreDirector.calculateScore();
+        assertThat(monitorCount.getAndSet(0L)).isEqualTo(3);
+
+        // Incremental
+        scoreDirector.beforeProblemPropertyChanged(entity1);
+        entity1.setStringProperty("myProperty2");
+        scoreDirector.afterProblemPropertyChanged(entity1);
+        scoreDirector.calculateScore();
+        assertThat(monitorCount.get()).isEqualTo(1);
+    }
+
     @TestTemplate
     public void reuseFilteredStream() {
         assumeDrools();
@@ -16,10 +16,12 @@
 package org.optaplanner.core.impl.domain.lookup;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -53,6 +55,24 @@ public class LookUpManagerTest {
         lookUpManager.removeWorkingObject(p);
     }
 
+    @Test
+    public void shareWorkingObjects() {
+        TestdataObjectIntegerId shared = new TestdataObjectIntegerId(0);
+        TestdataObjectIntegerId original = new TestdataObjectIntegerId(1);
+        TestdataObjectIntegerId clone = new TestdataObjectIntegerId(1);
+        Map<Object, Object> sharedIdToWorkingObjectMap = lookUpManager.buildSharedIdToWorkingObjectMap(
+                Arrays.asList(shared, original), Arrays.asList(shared, clone));
+        assertThat(sharedIdToWorkingObjectMap).hasSize(1);
+        lookUpManager.shareWorkingObjects(sharedIdToWorkingObjectMap);
+        lookUpManager.resetWorkingObjects(Arrays.asList(shared, clone));
+        assertThat(lookUpManager.lookUpWorkingObject(new TestdataObjectIntegerId(0))).isSameAs(shared);
+        assertThat(lookUpManager.lookUpWorkingObject(original)).isSameAs(clone);
+        // The shared object isn't indexed again, so it can't be removed from this working solution
+        assertThatIllegalStateException().isThrownBy(() -> lookUpManager.removeWorkingObject(shared));
+        lookUpManager.removeWorkingObject(clone);
+        assertThat(lookUpManager.lookUpWorkingObjectOrReturnNull(original)).isNull();
+    }
+
     @Test
     public void clearWorkingObjects() {
         lookUpManager.resetWorkingObjects(Collections.emptyList());
@@ -18,8 +18,11 @@ package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
@@ -94,6 +97,96 @@ public class NearbyDistanceMatrixTest {
         assertThat(nearbyDistanceMatrix.getDestination(d, 3)).isSameAs(c);
     }
 
+    @Test
+    public void lazyDestinations() {
+        final MatrixTestdataObject a = new MatrixTestdataObject("a", 0, new double[] { 0.0, 1.0, 1.0, 1.0 });
+        final MatrixTestdataObject b = new MatrixTestdataObject("b", 1, new double[] { 1.0, 0.0, 2.0, 1.0 });
+        final MatrixTestdataObject c = new MatrixTestdataObject("c", 2, new double[] { 1.0, 2.0, 0.0, 3.0 });
+        final MatrixTestdataObject d = new MatrixTestdataObject("d", 3, new double[] { 1.0, 1.0, 3.0, 0.0 });
+        List<Object> entityList = Arrays.asList(a, b, c, d);
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            distanceCount.incrementAndGet();
+            return origin.distances[destination.index];
+        };
+
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, 4,
+                origin -> entityList.iterator(), origin -> 4, destinationSize -> 2);
+        assertThat(distanceCount.get()).isEqualTo(0);
+
+        assertThat(nearbyDistanceMatrix.getDestination(b, 0)).isSameAs(b);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(distanceCount.get()).isEqualTo(4);
+        // Beyond the initial destination size, the same order as if all destinations were computed up front
+        assertThat(nearbyDistanceMatrix.getDestination(b, 2)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 3)).isSameAs(c);
+        assertThat(distanceCount.get()).isEqualTo(8);
+        assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(a);
+        assertThat(distanceCount.get()).isEqualTo(8);
+
+        assertThat(nearbyDistanceMatrix.getDestination(d, 3)).isSameAs(c);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 0)).isSameAs(d);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 1)).isSameAs(a);
+        assertThat(nearbyDistanceMatrix.getDestination(d, 2)).isSameAs(b);
+        assertThat(distanceCount.get()).isEqualTo(12);
+    }
+
+    @Test
+    public void coordinateDestinations() {
+        Random random = new Random(37);
+        List<Object> entityList = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            // A small grid, so many destinations are at the same distance
+            entityList.add(new CoordinateTestdataObject("e" + i, random.nextInt(20), random.nextInt(20)));
+        }
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        CoordinateNearbyDistanceMeter<CoordinateTestdataObject, CoordinateTestdataObject> meter =
+                new CoordinateNearbyDistanceMeter<CoordinateTestdataObject, CoordinateTestdataObject>() {
+                    @Override
+                    public double[] getOriginCoordinates(CoordinateTestdataObject origin) {
+                        return origin.coordinates;
+                    }
+
+                    @Override
+                    public double[] getDestinationCoordinates(CoordinateTestdataObject destination) {
+                        return destination.coordinates;
+                    }
+
+                    @Override
+                    public double getNearbyDistance(CoordinateTestdataObject origin,
+                            CoordinateTestdataObject destination) {
+                        distanceCount.incrementAndGet();
+                        return CoordinateNearbyDistanceMeter.calculateEuclideanDistance(
+                                origin.coordinates, destination.coordinates);
+                    }
+                };
+
+        NearbyDistanceMatrix eagerMatrix = new NearbyDistanceMatrix(meter, entityList.size());
+        for (Object origin : entityList) {
+            eagerMatrix.addAllDestinations(origin, entityList.iterator(), entityList.size());
+        }
+        distanceCount.set(0);
+        NearbyDistanceMatrix lazyMatrix = new NearbyDistanceMatrix(meter, entityList.size(),
+                origin -> entityList.iterator(), origin -> entityList.size(), destinationSize -> 10, true);
+        for (Object origin : entityList) {
+            for (int i = 0; i < entityList.size(); i++) {
+                assertThat(lazyMatrix.getDestination(origin, i)).isSameAs(eagerMatrix.getDestination(origin, i));
+            }
+        }
+        // The k-d tree doesn't measure the distances through the meter
+        assertThat(distanceCount.get()).isEqualTo(0);
+    }
+
+    private static class CoordinateTestdataObject extends TestdataObject {
+        private double[] coordinates;
+
+        public CoordinateTestdataObject(String code, double x, double y) {
+            super(code);
+            this.coordinates = new double[] { x, y };
+        }
+
+    }
+
     private static class MatrixTestdataObject extends TestdataObject {
         private int index;
         private double[] distances;
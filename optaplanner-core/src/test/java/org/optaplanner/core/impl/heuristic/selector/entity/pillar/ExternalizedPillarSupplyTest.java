@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class ExternalizedPillarSupplyTest {
+
+    @Test
+    public void incrementalPillars() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedPillarSupply<TestdataSolution> supply = new ExternalizedPillarSupply<>(variableDescriptor, 1);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+        TestdataEntity d = new TestdataEntity("d", v1);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(a, b, c, d));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+
+        List<List<Object>> pillarList = supply.getPillarList();
+        assertThat(pillarList).containsExactly(Arrays.asList(a, b, d), Arrays.asList(c));
+        List<Object> v1Pillar = pillarList.get(0);
+
+        // Changed and changed back, like a move and its undo move
+        supply.beforeVariableChanged(scoreDirector, b);
+        b.setValue(v3);
+        supply.afterVariableChanged(scoreDirector, b);
+        supply.beforeVariableChanged(scoreDirector, b);
+        b.setValue(v1);
+        supply.afterVariableChanged(scoreDirector, b);
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(a, b, d), Arrays.asList(c));
+        assertThat(supply.getPillarList().get(0)).isSameAs(v1Pillar);
+
+        supply.beforeVariableChanged(scoreDirector, b);
+        b.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, b);
+        supply.beforeVariableChanged(scoreDirector, c);
+        c.setValue(v3);
+        supply.afterVariableChanged(scoreDirector, c);
+        assertThat(supply.getPillarList()).containsExactlyInAnyOrder(
+                Arrays.asList(a, d), Arrays.asList(b), Arrays.asList(c));
+        // A pillar that a move might still reference doesn't change
+        assertThat(v1Pillar).containsExactly(a, b, d);
+
+        supply.beforeEntityRemoved(scoreDirector, b);
+        supply.afterEntityRemoved(scoreDirector, b);
+        assertThat(supply.getPillarList()).containsExactlyInAnyOrder(Arrays.asList(a, d), Arrays.asList(c));
+
+        supply.close();
+    }
+
+    @Test
+    public void minimumPillarSize() {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        ScoreDirector<TestdataSolution> scoreDirector = mock(ScoreDirector.class);
+        ExternalizedPillarSupply<TestdataSolution> supply = new ExternalizedPillarSupply<>(variableDescriptor, 2);
+
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataEntity a = new TestdataEntity("a", v1);
+        TestdataEntity b = new TestdataEntity("b", v1);
+        TestdataEntity c = new TestdataEntity("c", v2);
+
+        TestdataSolution solution = new TestdataSolution("solution");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(a, b, c));
+
+        when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+        supply.resetWorkingSolution(scoreDirector);
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(a, b));
+
+        supply.beforeVariableChanged(scoreDirector, b);
+        b.setValue(v2);
+        supply.afterVariableChanged(scoreDirector, b);
+        assertThat(supply.getPillarList()).containsExactly(Arrays.asList(c, b));
+
+        supply.close();
+    }
+
+}
@@ -91,6 +91,34 @@ public class ChangeMoveTest {
         assertThat(a.getValue()).isEqualTo(v2);
     }
 
+    @Test
+    public void undoMoveInPlace() {
+        TestdataValue v1 = new TestdataValue("1");
+        TestdataValue v2 = new TestdataValue("2");
+        TestdataValue v3 = new TestdataValue("3");
+
+        TestdataEntityProvidingEntity a = new TestdataEntityProvidingEntity("a", Arrays.asList(v1, v2, v3), null);
+
+        InnerScoreDirector<TestdataEntityProvidingSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        EntityDescriptor<TestdataEntityProvidingSolution> entityDescriptor = TestdataEntityProvidingEntity
+                .buildEntityDescriptor();
+
+        ChangeMove<TestdataEntityProvidingSolution> aMove = new ChangeMove<>(a,
+                entityDescriptor.getGenuineVariableDescriptor("value"), v2);
+        assertThat(aMove.isUndoableInPlace()).isTrue();
+        a.setValue(v1);
+        aMove.doMoveUndoableInPlace(scoreDirector);
+        assertThat(a.getValue()).isEqualTo(v2);
+        aMove.undoMoveInPlace(scoreDirector);
+        assertThat(a.getValue()).isEqualTo(v1);
+
+        a.setValue(v3);
+        aMove.doMoveUndoableInPlace(scoreDirector);
+        assertThat(a.getValue()).isEqualTo(v2);
+        aMove.undoMoveInPlace(scoreDirector);
+        assertThat(a.getValue()).isEqualTo(v3);
+    }
+
     @Test
     public void rebase() {
         GenuineVariableDescriptor<TestdataSolution> variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
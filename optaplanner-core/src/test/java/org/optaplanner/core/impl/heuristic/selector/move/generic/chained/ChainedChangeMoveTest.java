@@ -106,6 +106,37 @@ public class ChainedChangeMoveTest {
         SelectorTestUtils.assertChain(b0, b1);
     }
 
+    @Test
+    public void oldAndNewTrailingUndoneInPlace() {
+        GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
+                .buildVariableDescriptorForChainedObject();
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector =
+                PlannerTestUtils.mockScoreDirector(variableDescriptor.getEntityDescriptor().getSolutionDescriptor());
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+
+        SingletonInverseVariableSupply inverseVariableSupply = SelectorTestUtils.mockSingletonInverseVariableSupply(
+                new TestdataChainedEntity[] { a1, a2, a3, b1 });
+
+        ChainedChangeMove<TestdataChainedSolution> move = new ChainedChangeMove<>(a2, variableDescriptor, inverseVariableSupply,
+                b0);
+        assertThat(move.isUndoableInPlace()).isTrue();
+        move.doMoveUndoableInPlace(scoreDirector);
+
+        SelectorTestUtils.assertChain(a0, a1, a3);
+        SelectorTestUtils.assertChain(b0, a2, b1);
+
+        move.undoMoveInPlace(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3);
+        SelectorTestUtils.assertChain(b0, b1);
+    }
+
     @Test
     public void sameChainWithOneBetween() {
         GenuineVariableDescriptor<TestdataChainedSolution> variableDescriptor = TestdataChainedEntity
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.heuristic.selector.move.generic.chained;
 
 import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -249,6 +250,46 @@ public class ChainedSwapMoveTest {
         SelectorTestUtils.assertChain(a0, a1, a2, a3, a4);
     }
 
+    @Test
+    public void undoMoveInPlace() {
+        InnerScoreDirector<TestdataChainedSolution, SimpleScore> scoreDirector = PlannerTestUtils.mockScoreDirector(
+                chainedVariableDescriptor.getEntityDescriptor().getSolutionDescriptor());
+
+        TestdataChainedAnchor a0 = new TestdataChainedAnchor("a0");
+        TestdataChainedEntity a1 = new TestdataChainedEntity("a1", a0);
+        TestdataChainedEntity a2 = new TestdataChainedEntity("a2", a1);
+        TestdataChainedEntity a3 = new TestdataChainedEntity("a3", a2);
+        TestdataChainedEntity a4 = new TestdataChainedEntity("a4", a3);
+
+        TestdataChainedAnchor b0 = new TestdataChainedAnchor("b0");
+        TestdataChainedEntity b1 = new TestdataChainedEntity("b1", b0);
+        TestdataChainedEntity b2 = new TestdataChainedEntity("b2", b1);
+
+        SingletonInverseVariableSupply inverseVariableSupply = SelectorTestUtils.mockSingletonInverseVariableSupply(
+                new TestdataChainedEntity[] { a1, a2, a3, a4, b1, b2 });
+
+        ChainedSwapMove<TestdataChainedSolution> move = new ChainedSwapMove<>(
+                Collections.singletonList(chainedVariableDescriptor),
+                Collections.singletonList(inverseVariableSupply),
+                a2, a3);
+        assertThat(move.isUndoableInPlace()).isTrue();
+        move.doMoveUndoableInPlace(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a3, a2, a4);
+        move.undoMoveInPlace(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4);
+
+        move = new ChainedSwapMove<>(
+                Collections.singletonList(chainedVariableDescriptor),
+                Collections.singletonList(inverseVariableSupply),
+                a2, b1);
+        move.doMoveUndoableInPlace(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, b1, a3, a4);
+        SelectorTestUtils.assertChain(b0, a2, b2);
+        move.undoMoveInPlace(scoreDirector);
+        SelectorTestUtils.assertChain(a0, a1, a2, a3, a4);
+        SelectorTestUtils.assertChain(b0, b1, b2);
+    }
+
     @Test
     public void rebase() {
         EntityDescriptor<TestdataChainedSolution> entityDescriptor = TestdataChainedEntity.buildEntityDescriptor();
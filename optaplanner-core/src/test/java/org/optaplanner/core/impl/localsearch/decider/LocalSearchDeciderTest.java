@@ -0,0 +1,156 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
+import org.optaplanner.core.impl.localsearch.decider.forager.AcceptedLocalSearchForager;
+import org.optaplanner.core.impl.localsearch.decider.forager.finalist.HighestScoreFinalistPodium;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.solver.termination.Termination;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class LocalSearchDeciderTest {
+
+    @Test
+    public void pendingBatchIsEvaluatedWhenNotDoableMoveTerminates() {
+        DummyMove a = new DummyMove("a");
+        DummyMove b = new DummyMove("b");
+        DummyMove notDoable = new DummyMove("notDoable") {
+            @Override
+            public boolean isMoveDoable(ScoreDirector<TestdataSolution> scoreDirector) {
+                return false;
+            }
+        };
+        MoveSelector<TestdataSolution> moveSelector = SelectorTestUtils.mockMoveSelector(DummyMove.class,
+                a, b, notDoable);
+        Termination<TestdataSolution> termination = mock(Termination.class);
+        when(termination.isPhaseTerminated(any())).thenReturn(true);
+        Acceptor<TestdataSolution> acceptor = mock(Acceptor.class);
+        when(acceptor.isAccepted(any())).thenReturn(true);
+        LocalSearchDecider<TestdataSolution> decider = new LocalSearchDecider<>("", termination, moveSelector,
+                acceptor, new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                        LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false));
+
+        List<Move<TestdataSolution>> evaluatedMoveList = new ArrayList<>();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope(new SimpleScoreDefinition(),
+                evaluatedMoveList, false);
+        decider.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        decider.stepStarted(stepScope);
+        decider.decideNextStep(stepScope);
+        // The phase terminated, so only the first move of the pending batch is evaluated, but it's not dropped
+        assertThat(evaluatedMoveList).containsExactly(a);
+        assertThat(stepScope.getStep()).isSameAs(a);
+        assertThat(stepScope.getScore()).isEqualTo(SimpleScore.of(-1));
+        decider.stepEnded(stepScope);
+        decider.phaseEnded(phaseScope);
+    }
+
+    @Test
+    public void packedScoresOnlyCreateTheScoreOfThePickedMove() {
+        DummyMove a = new DummyMove("a");
+        DummyMove b = new DummyMove("b");
+        DummyMove c = new DummyMove("c");
+        MoveSelector<TestdataSolution> moveSelector = SelectorTestUtils.mockMoveSelector(DummyMove.class, a, b, c);
+        Termination<TestdataSolution> termination = mock(Termination.class);
+        when(termination.isPhaseTerminated(any())).thenReturn(false);
+        Acceptor<TestdataSolution> acceptor = mock(Acceptor.class);
+        when(acceptor.isAccepted(any())).thenReturn(true);
+        LocalSearchDecider<TestdataSolution> decider = new LocalSearchDecider<>("", termination, moveSelector,
+                acceptor, new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                        LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false));
+
+        List<Move<TestdataSolution>> evaluatedMoveList = new ArrayList<>();
+        SimpleScoreDefinition scoreDefinition = spy(new SimpleScoreDefinition());
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope(scoreDefinition,
+                evaluatedMoveList, true);
+        decider.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        decider.stepStarted(stepScope);
+        decider.decideNextStep(stepScope);
+        assertThat(evaluatedMoveList).containsExactly(a, b, c);
+        assertThat(stepScope.getStep()).isSameAs(a);
+        assertThat(stepScope.getScore()).isEqualTo(SimpleScore.of(-1));
+        // The forager compared the packed scores, so only the picked move created its Score
+        verify(scoreDefinition, times(1)).unpackScore(anyInt(), anyLong());
+        decider.stepEnded(stepScope);
+        decider.phaseEnded(phaseScope);
+    }
+
+    private LocalSearchPhaseScope<TestdataSolution> createPhaseScope(SimpleScoreDefinition scoreDefinition,
+            List<Move<TestdataSolution>> evaluatedMoveList, boolean packed) {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSolutionDescriptor()).thenReturn(TestdataSolution.buildSolutionDescriptor());
+        when(scoreDirector.getScoreDefinition()).thenReturn(scoreDefinition);
+        // Like the real score director, each move is processed while it's done and checked after it's undone
+        when(scoreDirector.doAndProcessMoves(anyList(), anyBoolean(), any(), any(), any())).thenAnswer(invocation -> {
+            List<Move<TestdataSolution>> moveList = invocation.getArgument(0);
+            Predicate<SimpleScore> moveProcessor = invocation.getArgument(2);
+            LongPredicate packedMoveProcessor = invocation.getArgument(3);
+            BooleanSupplier undoneMoveProcessor = invocation.getArgument(4);
+            for (Move<TestdataSolution> move : moveList) {
+                evaluatedMoveList.add(move);
+                int score = -evaluatedMoveList.size();
+                boolean proceeding = packed ? packedMoveProcessor.test(score)
+                        : moveProcessor.test(SimpleScore.of(score));
+                if (!proceeding || !undoneMoveProcessor.getAsBoolean()) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setBestScore(SimpleScore.of(-10));
+        LocalSearchStepScope<TestdataSolution> lastLocalSearchStepScope = new LocalSearchStepScope<>(phaseScope);
+        lastLocalSearchStepScope.setScore(SimpleScore.of(-100));
+        phaseScope.setLastCompletedStepScope(lastLocalSearchStepScope);
+        return phaseScope;
+    }
+
+}
@@ -33,4 +33,13 @@ public abstract class AbstractAcceptorTest {
         return moveScope;
     }
 
+    protected <Solution_> LocalSearchMoveScope<Solution_> buildPackedMoveScope(
+            LocalSearchStepScope<Solution_> stepScope, int score) {
+        Move<Solution_> move = mock(Move.class);
+        LocalSearchMoveScope<Solution_> moveScope = new LocalSearchMoveScope<>(stepScope, 0, move);
+        // A SimpleScore packs into its only level
+        moveScope.setPackedScore(score);
+        return moveScope;
+    }
+
 }
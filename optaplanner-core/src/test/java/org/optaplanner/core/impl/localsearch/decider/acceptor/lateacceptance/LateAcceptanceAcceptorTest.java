@@ -18,6 +18,8 @@ package org.optaplanner.core.impl.localsearch.decider.acceptor.lateacceptance;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -25,6 +27,8 @@ import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptorTe
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -36,7 +40,7 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setLateAcceptanceSize(3);
         acceptor.setHillClimbingEnabled(false);
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        SolverScope<TestdataSolution> solverScope = buildSolverScope();
         solverScope.setBestScore(SimpleScore.of(-1000));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
@@ -149,7 +153,7 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setLateAcceptanceSize(2);
         acceptor.setHillClimbingEnabled(true);
 
-        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        SolverScope<TestdataSolution> solverScope = buildSolverScope();
         solverScope.setBestScore(SimpleScore.of(-1000));
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
         LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
@@ -256,6 +260,60 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void packedMoveScores() {
+        LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
+        acceptor.setLateAcceptanceSize(2);
+        acceptor.setHillClimbingEnabled(true);
+
+        SolverScope<TestdataSolution> solverScope = buildSolverScope();
+        solverScope.setBestScore(SimpleScore.of(-1000));
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(solverScope.getBestScore());
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        // lateScore = -1000, lastCompletedStepScore = -1000
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope0);
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = buildPackedMoveScope(stepScope0, -800);
+        assertThat(acceptor.isAccepted(buildPackedMoveScope(stepScope0, -1000))).isTrue();
+        assertThat(acceptor.isAccepted(buildPackedMoveScope(stepScope0, -1001))).isFalse();
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        assertThat(moveScope0.getScore()).isEqualTo(SimpleScore.of(-800));
+        stepScope0.setStep(moveScope0.getMove());
+        stepScope0.setScore(moveScope0.getScore());
+        solverScope.setBestScore(moveScope0.getScore());
+        acceptor.stepEnded(stepScope0);
+        phaseScope.setLastCompletedStepScope(stepScope0);
+
+        // lateScore = -1000, lastCompletedStepScore = -800
+        LocalSearchStepScope<TestdataSolution> stepScope1 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope1);
+        LocalSearchMoveScope<TestdataSolution> moveScope1 = buildPackedMoveScope(stepScope1, -900);
+        assertThat(acceptor.isAccepted(buildPackedMoveScope(stepScope1, -1001))).isFalse();
+        assertThat(acceptor.isAccepted(moveScope1)).isTrue();
+        stepScope1.setStep(moveScope1.getMove());
+        stepScope1.setScore(moveScope1.getScore());
+        // bestScore unchanged
+        acceptor.stepEnded(stepScope1);
+        phaseScope.setLastCompletedStepScope(stepScope1);
+
+        // lateScore = -800, lastCompletedStepScore = -900
+        LocalSearchStepScope<TestdataSolution> stepScope2 = new LocalSearchStepScope<>(phaseScope);
+        acceptor.stepStarted(stepScope2);
+        assertThat(acceptor.isAccepted(buildPackedMoveScope(stepScope2, -800))).isTrue();
+        // Accepted by hill climbing
+        assertThat(acceptor.isAccepted(buildPackedMoveScope(stepScope2, -900))).isTrue();
+        assertThat(acceptor.isAccepted(buildPackedMoveScope(stepScope2, -901))).isFalse();
+        // Packed and unpacked move scores are interchangeable
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -850))).isTrue();
+        assertThat(acceptor.isAccepted(buildMoveScope(stepScope2, -901))).isFalse();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     public void zeroLateAcceptanceSize() {
         LateAcceptanceAcceptor acceptor = new LateAcceptanceAcceptor();
@@ -269,4 +327,12 @@ public class LateAcceptanceAcceptorTest extends AbstractAcceptorTest {
         acceptor.setLateAcceptanceSize(-1);
         assertThatIllegalArgumentException().isThrownBy(() -> acceptor.phaseStarted(null));
     }
+
+    private static SolverScope<TestdataSolution> buildSolverScope() {
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        return solverScope;
+    }
 }
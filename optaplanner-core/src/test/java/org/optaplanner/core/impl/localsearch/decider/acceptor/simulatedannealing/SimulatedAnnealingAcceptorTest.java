@@ -26,10 +26,15 @@ import java.util.Random;
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.buildin.simplelong.SimpleLongScore;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.AbstractAcceptorTest;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
+import org.optaplanner.core.impl.score.buildin.simplelong.SimpleLongScoreDefinition;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -41,6 +46,9 @@ public class SimulatedAnnealingAcceptorTest extends AbstractAcceptorTest {
         acceptor.setStartingTemperature(SimpleScore.of(200));
 
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
         solverScope.setBestScore(SimpleScore.of(-1000));
         Random workingRandom = mock(Random.class);
         solverScope.setWorkingRandom(workingRandom);
@@ -104,6 +112,39 @@ public class SimulatedAnnealingAcceptorTest extends AbstractAcceptorTest {
         acceptor.phaseEnded(phaseScope);
     }
 
+    @Test
+    public void levelsAboveExactDoubleLimit() {
+        SimulatedAnnealingAcceptor acceptor = new SimulatedAnnealingAcceptor();
+        acceptor.setStartingTemperature(SimpleLongScore.of(1L));
+
+        SolverScope<TestdataSolution> solverScope = new SolverScope<>();
+        InnerScoreDirector<TestdataSolution, SimpleLongScore> scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getScoreDefinition()).thenReturn(new SimpleLongScoreDefinition());
+        solverScope.setScoreDirector(scoreDirector);
+        long lastStepScore = 1L << 60;
+        solverScope.setBestScore(SimpleLongScore.of(lastStepScore));
+        Random workingRandom = mock(Random.class);
+        solverScope.setWorkingRandom(workingRandom);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = new LocalSearchStepScope<>(phaseScope, -1);
+        lastCompletedStepScope.setScore(SimpleLongScore.of(lastStepScore));
+        phaseScope.setLastCompletedStepScope(lastCompletedStepScope);
+        acceptor.phaseStarted(phaseScope);
+
+        LocalSearchStepScope<TestdataSolution> stepScope0 = new LocalSearchStepScope<>(phaseScope);
+        stepScope0.setTimeGradient(0.0);
+        acceptor.stepStarted(stepScope0);
+        // As doubles, both scores round to 2^60, but the exact difference of 1 gives an acceptChance of exp(-1)
+        LocalSearchMoveScope<TestdataSolution> moveScope0 = new LocalSearchMoveScope<>(stepScope0, 0, mock(Move.class));
+        moveScope0.setScore(SimpleLongScore.of(lastStepScore - 1L));
+        when(workingRandom.nextDouble()).thenReturn(0.36);
+        assertThat(acceptor.isAccepted(moveScope0)).isTrue();
+        when(workingRandom.nextDouble()).thenReturn(0.37);
+        assertThat(acceptor.isAccepted(moveScope0)).isFalse();
+
+        acceptor.phaseEnded(phaseScope);
+    }
+
     @Test
     public void negativeSimulatedAnnealingSize() {
         SimulatedAnnealingAcceptor acceptor = new SimulatedAnnealingAcceptor();
@@ -19,9 +19,12 @@ package org.optaplanner.core.impl.score;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.ScoreExplanation;
 import org.optaplanner.core.api.score.ScoreManager;
+import org.optaplanner.core.api.score.constraint.ConstraintProfile;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 
@@ -44,4 +47,32 @@ class DefaultScoreManagerTest {
         });
     }
 
+    @Test
+    public void profileScore() {
+        SolverFactory<TestdataSolution> solverFactory =
+                SolverFactory.createFromXmlResource("org/optaplanner/core/api/solver/testdataSolverConfig.xml");
+        ScoreManager<TestdataSolution, ?> scoreManager = ScoreManager.create(solverFactory);
+        TestdataSolution solution = TestdataSolution.generateSolution();
+        List<ConstraintProfile> constraintProfileList = scoreManager.profileScore(solution);
+        assertThat(constraintProfileList).hasSize(1);
+        ConstraintProfile constraintProfile = constraintProfileList.get(0);
+        assertSoftly(softly -> {
+            softly.assertThat(constraintProfile.getConstraintName()).isEqualTo("Conflict");
+            softly.assertThat(constraintProfile.getEvaluationCount()).isPositive();
+            softly.assertThat(constraintProfile.getTimeNanos()).isNotNegative();
+        });
+        assertThat(solution.getScore()).isNotNull();
+    }
+
+    @Test
+    public void constraintCompilationCacheCountsWithoutConstraintStreams() {
+        SolverFactory<TestdataSolution> solverFactory =
+                SolverFactory.createFromXmlResource("org/optaplanner/core/api/solver/testdataSolverConfig.xml");
+        ScoreManager<TestdataSolution, ?> scoreManager = ScoreManager.create(solverFactory);
+        scoreManager.updateScore(TestdataSolution.generateSolution());
+        // A DRL score calculator doesn't compile its constraints per constraint weight configuration
+        assertThat(scoreManager.getConstraintCompilationCacheHitCount()).isEqualTo(0L);
+        assertThat(scoreManager.getConstraintCompilationCacheMissCount()).isEqualTo(0L);
+    }
+
 }
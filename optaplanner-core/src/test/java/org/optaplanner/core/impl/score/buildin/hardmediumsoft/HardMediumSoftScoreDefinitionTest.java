@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.buildin.hardmediumsoft;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardmediumsoft.HardMediumSoftScore;
@@ -53,6 +54,30 @@ public class HardMediumSoftScoreDefinitionTest {
         assertThat(new HardMediumSoftScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    public void packScore() {
+        HardMediumSoftScoreDefinition scoreDefinition = new HardMediumSoftScoreDefinition();
+        HardMediumSoftScore[] scores = {
+                HardMediumSoftScore.of(-2_000_000, 1_000_000, -1_000_000),
+                HardMediumSoftScore.of(-1, 0, 1_000_000),
+                HardMediumSoftScore.of(0, -1, 0),
+                HardMediumSoftScore.of(0, 0, -1),
+                HardMediumSoftScore.of(0, 0, 0),
+                HardMediumSoftScore.of(2_000_000, -1_000_000, 1_000_000)
+        };
+        for (int i = 0; i < scores.length; i++) {
+            assertThat(scoreDefinition.isPackable(scores[i])).isTrue();
+            long packedScore = scoreDefinition.packScore(scores[i]);
+            assertThat(scoreDefinition.unpackScore(0, packedScore)).isEqualTo(scores[i]);
+            if (i > 0) {
+                assertThat(packedScore).isGreaterThan(scoreDefinition.packScore(scores[i - 1]));
+            }
+        }
+        HardMediumSoftScore unpackableScore = HardMediumSoftScore.of(0, Integer.MAX_VALUE, 0);
+        assertThat(scoreDefinition.isPackable(unpackableScore)).isFalse();
+        assertThatThrownBy(() -> scoreDefinition.packScore(unpackableScore)).isInstanceOf(ArithmeticException.class);
+    }
+
     @Test
     public void buildOptimisticBoundOnlyUp() {
         HardMediumSoftScoreDefinition scoreDefinition = new HardMediumSoftScoreDefinition();
@@ -53,6 +53,39 @@ public class HardSoftScoreDefinitionTest extends AbstractScoreDefinitionTest {
         assertThat(new HardSoftScoreDefinition().getFeasibleLevelsSize()).isEqualTo(1);
     }
 
+    @Test
+    public void extractLevelDoubles() {
+        double[] levelDoubles = new double[2];
+        new HardSoftScoreDefinition().extractLevelDoubles(HardSoftScore.of(-7, -300), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-7.0, -300.0);
+    }
+
+    @Test
+    public void packScore() {
+        HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
+        HardSoftScore[] scores = {
+                HardSoftScore.of(Integer.MIN_VALUE, Integer.MIN_VALUE),
+                HardSoftScore.of(-1, Integer.MAX_VALUE),
+                HardSoftScore.of(0, -1),
+                HardSoftScore.of(0, 0),
+                HardSoftScore.of(0, 1),
+                HardSoftScore.of(Integer.MAX_VALUE, Integer.MAX_VALUE)
+        };
+        for (int i = 0; i < scores.length; i++) {
+            assertThat(scoreDefinition.isPackable(scores[i])).isTrue();
+            long packedScore = scoreDefinition.packScore(scores[i]);
+            assertThat(scoreDefinition.unpackScore(0, packedScore)).isEqualTo(scores[i]);
+            if (i > 0) {
+                assertThat(packedScore).isGreaterThan(scoreDefinition.packScore(scores[i - 1]));
+            }
+        }
+        assertThat(scoreDefinition.unpackScore(-3, scoreDefinition.packScore(HardSoftScore.of(-7, -300))))
+                .isEqualTo(HardSoftScore.ofUninitialized(-3, -7, -300));
+        double[] levelDoubles = new double[2];
+        scoreDefinition.extractPackedLevelDoubles(scoreDefinition.packScore(HardSoftScore.of(-7, -300)), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-7.0, -300.0);
+    }
+
     @Test
     public void buildOptimisticBoundOnlyUp() {
         HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
@@ -83,6 +83,28 @@ public class HardSoftScoreHolderImplTest extends AbstractScoreHolderTest<HardSof
         }
     }
 
+    @Test
+    public void constraintMatchesRebuiltAfterUnmatch() {
+        HardSoftScoreHolderImpl scoreHolder = new HardSoftScoreHolderImpl(true);
+        RuleContext hard1 = mockRuleContext("hard1");
+        scoreHolder.addHardConstraintMatch(hard1, -1);
+        RuleContext soft1 = mockRuleContext("soft1", OTHER_JUSTIFICATION);
+        scoreHolder.addSoftConstraintMatch(soft1, -10);
+        assertThat(findConstraintMatchTotal(scoreHolder, "hard1").getScore()).isEqualTo(HardSoftScore.of(-1, 0));
+        assertThat(scoreHolder.getIndictmentMap().get(OTHER_JUSTIFICATION).getScore())
+                .isEqualTo(HardSoftScore.of(0, -10));
+        // Without changes in between, the same instances are returned
+        assertThat(scoreHolder.getIndictmentMap()).isSameAs(scoreHolder.getIndictmentMap());
+
+        callOnDelete(soft1);
+        assertThat(scoreHolder.getIndictmentMap().get(OTHER_JUSTIFICATION)).isNull();
+        assertThat(findConstraintMatchTotal(scoreHolder, "soft1")).isNull();
+        scoreHolder.addSoftConstraintMatch(soft1, -20);
+        assertThat(scoreHolder.getIndictmentMap().get(OTHER_JUSTIFICATION).getScore())
+                .isEqualTo(HardSoftScore.of(0, -20));
+        assertThat(findConstraintMatchTotal(scoreHolder, "hard1").getConstraintMatchCount()).isEqualTo(1);
+    }
+
     @Test
     public void rewardPenalizeWithConstraintMatch() {
         rewardPenalize(true);
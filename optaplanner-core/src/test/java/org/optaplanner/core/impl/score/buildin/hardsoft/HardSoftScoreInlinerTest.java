@@ -59,4 +59,32 @@ public class HardSoftScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-800, -10));
     }
 
+    @Test
+    public void extractPackedScore() {
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(false);
+        HardSoftScoreDefinition scoreDefinition = new HardSoftScoreDefinition();
+        assertThat(scoreInliner.isPackedScoreSupported()).isTrue();
+        assertThat(scoreInliner.extractPackedScore()).isEqualTo(scoreDefinition.packScore(HardSoftScore.ZERO));
+
+        scoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-10, -3)).impactScore(2);
+        assertThat(scoreDefinition.unpackScore(0, scoreInliner.extractPackedScore()))
+                .isEqualTo(HardSoftScore.of(-20, -6));
+    }
+
+    @Test
+    public void impactAndUndoWithoutUndoScoreImpacter() {
+        HardSoftScoreInliner scoreInliner = new HardSoftScoreInliner(true);
+
+        IntWeightedScoreImpacter allLevelsImpacter = scoreInliner.buildWeightedScoreImpacter(HardSoftScore.of(-10, -3));
+        allLevelsImpacter.impactScore(2);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-20, -6));
+        assertThat(allLevelsImpacter.buildMatchScore(2)).isEqualTo(HardSoftScore.of(-20, -6));
+        allLevelsImpacter.impactScore(5);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-70, -21));
+        allLevelsImpacter.undoScoreImpact(2);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(-50, -15));
+        allLevelsImpacter.undoScoreImpact(5);
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.ZERO);
+    }
+
 }
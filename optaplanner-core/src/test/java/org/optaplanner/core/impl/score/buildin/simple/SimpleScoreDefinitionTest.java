@@ -47,6 +47,31 @@ public class SimpleScoreDefinitionTest {
         assertThat(new SimpleScoreDefinition().getLevelLabels()).isEqualTo(new String[] { "score" });
     }
 
+    @Test
+    public void packScore() {
+        SimpleScoreDefinition scoreDefinition = new SimpleScoreDefinition();
+        SimpleScore[] scores = {
+                SimpleScore.of(Integer.MIN_VALUE),
+                SimpleScore.of(-1),
+                SimpleScore.of(0),
+                SimpleScore.of(1),
+                SimpleScore.of(Integer.MAX_VALUE)
+        };
+        for (int i = 0; i < scores.length; i++) {
+            assertThat(scoreDefinition.isPackable(scores[i])).isTrue();
+            long packedScore = scoreDefinition.packScore(scores[i]);
+            assertThat(scoreDefinition.unpackScore(0, packedScore)).isEqualTo(scores[i]);
+            if (i > 0) {
+                assertThat(packedScore).isGreaterThan(scoreDefinition.packScore(scores[i - 1]));
+            }
+        }
+        assertThat(scoreDefinition.unpackScore(-3, scoreDefinition.packScore(SimpleScore.of(-7))))
+                .isEqualTo(SimpleScore.ofUninitialized(-3, -7));
+        double[] levelDoubles = new double[1];
+        scoreDefinition.extractPackedLevelDoubles(scoreDefinition.packScore(SimpleScore.of(-7)), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-7.0);
+    }
+
     @Test
     public void buildOptimisticBoundOnlyUp() {
         SimpleScoreDefinition scoreDefinition = new SimpleScoreDefinition();
@@ -53,4 +53,14 @@ public class SimpleScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleScore.of(-810));
     }
 
+    @Test
+    public void extractPackedScore() {
+        SimpleScoreInliner scoreInliner = new SimpleScoreInliner(false);
+        assertThat(scoreInliner.isPackedScoreSupported()).isTrue();
+        assertThat(scoreInliner.extractPackedScore()).isEqualTo(0L);
+
+        scoreInliner.buildWeightedScoreImpacter(SimpleScore.of(-90)).impactScore(2);
+        assertThat(scoreInliner.extractPackedScore()).isEqualTo(-180L);
+    }
+
 }
@@ -47,6 +47,31 @@ public class SimpleLongScoreDefinitionTest {
         assertThat(new SimpleLongScoreDefinition().getLevelLabels()).isEqualTo(new String[] { "score" });
     }
 
+    @Test
+    public void packScore() {
+        SimpleLongScoreDefinition scoreDefinition = new SimpleLongScoreDefinition();
+        SimpleLongScore[] scores = {
+                SimpleLongScore.of(Long.MIN_VALUE),
+                SimpleLongScore.of(-1L),
+                SimpleLongScore.of(0L),
+                SimpleLongScore.of(1L),
+                SimpleLongScore.of(Long.MAX_VALUE)
+        };
+        for (int i = 0; i < scores.length; i++) {
+            assertThat(scoreDefinition.isPackable(scores[i])).isTrue();
+            long packedScore = scoreDefinition.packScore(scores[i]);
+            assertThat(scoreDefinition.unpackScore(0, packedScore)).isEqualTo(scores[i]);
+            if (i > 0) {
+                assertThat(packedScore).isGreaterThan(scoreDefinition.packScore(scores[i - 1]));
+            }
+        }
+        assertThat(scoreDefinition.unpackScore(-3, scoreDefinition.packScore(SimpleLongScore.of(-7L))))
+                .isEqualTo(SimpleLongScore.ofUninitialized(-3, -7L));
+        double[] levelDoubles = new double[1];
+        scoreDefinition.extractPackedLevelDoubles(scoreDefinition.packScore(SimpleLongScore.of(-7L)), levelDoubles);
+        assertThat(levelDoubles).containsExactly(-7.0);
+    }
+
     @Test
     public void buildOptimisticBoundOnlyUp() {
         SimpleLongScoreDefinition scoreDefinition = new SimpleLongScoreDefinition();
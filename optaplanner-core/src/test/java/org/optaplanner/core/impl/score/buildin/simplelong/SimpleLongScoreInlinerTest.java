@@ -53,4 +53,14 @@ public class SimpleLongScoreInlinerTest {
         assertThat(scoreInliner.extractScore(0)).isEqualTo(SimpleLongScore.of(-810L));
     }
 
+    @Test
+    public void extractPackedScore() {
+        SimpleLongScoreInliner scoreInliner = new SimpleLongScoreInliner(false);
+        assertThat(scoreInliner.isPackedScoreSupported()).isTrue();
+        assertThat(scoreInliner.extractPackedScore()).isEqualTo(0L);
+
+        scoreInliner.buildWeightedScoreImpacter(SimpleLongScore.of(-90L)).impactScore(2L);
+        assertThat(scoreInliner.extractPackedScore()).isEqualTo(-180L);
+    }
+
 }
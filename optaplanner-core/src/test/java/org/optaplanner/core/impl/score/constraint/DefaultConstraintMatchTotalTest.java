@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.constraint;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -52,6 +53,17 @@ public class DefaultConstraintMatchTotalTest {
         assertThat(constraintMatchTotal.getScore()).isEqualTo(SimpleScore.ZERO);
     }
 
+    @Test
+    public void constraintMatchSetIsUnmodifiable() {
+        DefaultConstraintMatchTotal<SimpleScore> constraintMatchTotal =
+                new DefaultConstraintMatchTotal<>("package1", "constraint1", SimpleScore.ZERO);
+        ConstraintMatch<SimpleScore> match1 = constraintMatchTotal.addConstraintMatch(
+                asList(new TestdataEntity("e1")), SimpleScore.of(-1));
+        assertThatThrownBy(() -> constraintMatchTotal.getConstraintMatchSet().remove(match1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(constraintMatchTotal.getConstraintMatchSet()).containsExactly(match1);
+    }
+
     @Test
     public void equalsAndHashCode() {
         PlannerAssert.assertObjectsAreEqual(
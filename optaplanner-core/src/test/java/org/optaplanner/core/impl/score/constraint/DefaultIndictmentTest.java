@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.constraint;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
@@ -57,6 +58,18 @@ public class DefaultIndictmentTest {
         assertThat(indictment.getScore()).isEqualTo(SimpleScore.of(-54300));
     }
 
+    @Test
+    public void constraintMatchSetIsUnmodifiable() {
+        TestdataEntity e1 = new TestdataEntity("e1");
+        DefaultIndictment<SimpleScore> indictment = new DefaultIndictment<>(e1, SimpleScore.ZERO);
+        ConstraintMatch<SimpleScore> match1 = new ConstraintMatch<>("package1", "constraint1", asList(e1),
+                SimpleScore.of(-1));
+        indictment.addConstraintMatch(match1);
+        assertThatThrownBy(() -> indictment.getConstraintMatchSet().remove(match1))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(indictment.getConstraintMatchSet()).containsExactly(match1);
+    }
+
     @Test
     public void equalsAndHashCode() {
         PlannerAssert.assertObjectsAreEqual(
@@ -33,6 +33,7 @@ import org.optaplanner.core.api.score.calculator.IncrementalScoreCalculator;
 import org.optaplanner.core.api.score.stream.Constraint;
 import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.ConstraintProvider;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
 import org.optaplanner.core.config.score.director.ScoreDirectorFactoryConfig;
 import org.optaplanner.core.config.solver.EnvironmentMode;
 import org.optaplanner.core.impl.score.director.easy.EasyScoreDirector;
@@ -138,6 +139,16 @@ class ScoreDirectorFactoryFactoryTest {
                 .withMessageContaining("together");
     }
 
+    @Test
+    void constraintStreamPartitionCountWithDrools_throwsException() {
+        ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig()
+                .withConstraintProviderClass(TestdataConstraintProvider.class)
+                .withConstraintStreamImplType(ConstraintStreamImplType.DROOLS)
+                .withConstraintStreamPartitionCount(2);
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> buildTestdataScoreDirectoryFactory(config))
+                .withMessageContaining("constraintStreamPartitionCount");
+    }
+
     @Test
     void nonExistingDrlResource_throwsException() {
         ScoreDirectorFactoryConfig config = new ScoreDirectorFactoryConfig().withScoreDrls("nonExisting.drl");
@@ -17,15 +17,21 @@ package org.optaplanner.core.impl.score.director.drools;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.withSettings;
 
 import org.junit.jupiter.api.Test;
 import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
 import org.kie.internal.event.rule.RuleEventManager;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
 import org.optaplanner.core.impl.score.buildin.simple.SimpleScoreDefinition;
 
 public class DroolsScoreDirectorTest {
@@ -54,6 +60,36 @@ public class DroolsScoreDirectorTest {
         assertThat(director.getIndictmentMap()).isNotNull();
     }
 
+    @Test
+    public void variableChangesOfTheSameEntityAreCoalesced() {
+        DroolsScoreDirectorFactory<Object, SimpleScore> factory = mockDroolsScoreDirectorFactory();
+        KieSession kieSession = factory.newKieSession();
+        DroolsScoreDirector<Object, ?> director = new DroolsScoreDirector<>(factory, false, false);
+        director.setWorkingSolution(new Object());
+        Object entity = new Object();
+        FactHandle factHandle = mock(FactHandle.class);
+        when(kieSession.getFactHandle(entity)).thenReturn(factHandle);
+        VariableDescriptor<Object> valueDescriptor = mockVariableDescriptor("value");
+        VariableDescriptor<Object> secondValueDescriptor = mockVariableDescriptor("secondValue");
+
+        director.afterVariableChanged(valueDescriptor, entity);
+        director.afterVariableChanged(secondValueDescriptor, entity);
+        director.afterVariableChanged(valueDescriptor, entity);
+        verify(kieSession, never()).update(any(FactHandle.class), any(), any(String[].class));
+
+        director.calculateScore();
+        verify(kieSession, times(1)).update(factHandle, entity, "value", "secondValue");
+        director.calculateScore();
+        verify(kieSession, times(1)).update(factHandle, entity, "value", "secondValue");
+    }
+
+    @SuppressWarnings("unchecked")
+    private VariableDescriptor<Object> mockVariableDescriptor(String variableName) {
+        VariableDescriptor<Object> variableDescriptor = mock(VariableDescriptor.class);
+        when(variableDescriptor.getVariableName()).thenReturn(variableName);
+        return variableDescriptor;
+    }
+
     @SuppressWarnings("unchecked")
     private DroolsScoreDirectorFactory<Object, SimpleScore> mockDroolsScoreDirectorFactory() {
         DroolsScoreDirectorFactory<Object, SimpleScore> factory = mock(DroolsScoreDirectorFactory.class);
@@ -21,13 +21,30 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.calculator.EntityContributionEasyScoreCalculator;
 import org.optaplanner.core.config.score.trend.InitializingScoreTrendLevel;
 import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.score.trend.InitializingScoreTrend;
+import org.optaplanner.core.impl.solver.thread.ChildThreadType;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedEntity;
 import org.optaplanner.core.impl.testdata.domain.shadow.corrupted.TestdataCorruptedShadowedSolution;
@@ -81,4 +98,196 @@ public class EasyScoreDirectorTest {
                 () -> scoreDirector.assertShadowVariablesAreNotStale(SimpleScore.ofUninitialized(0, 0), "FirstChange"))
                         .isInstanceOf(IllegalStateException.class);
     }
+
+    @Test
+    public void entityContributionRecalculatesOnlyChangedEntities() {
+        List<Object> calculatedEntityList = new ArrayList<>();
+        EntityContributionEasyScoreCalculator<TestdataSolution, SimpleScore> calculator =
+                new EntityContributionEasyScoreCalculator<TestdataSolution, SimpleScore>() {
+                    @Override
+                    public SimpleScore calculateEntityScore(TestdataSolution solution, Object entity) {
+                        calculatedEntityList.add(entity);
+                        return SimpleScore.of(-solution.getValueList().indexOf(((TestdataEntity) entity).getValue()));
+                    }
+
+                    @Override
+                    public SimpleScore calculateScore(TestdataSolution solution) {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(), calculator);
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        // Values 0, 1, 2 for entities 0, 1, 2
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 3);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        assertThat(calculatedEntityList).hasSize(3);
+
+        calculatedEntityList.clear();
+        TestdataEntity e1 = solution.getEntityList().get(1);
+        scoreDirector.beforeVariableChanged(e1, "value");
+        e1.setValue(solution.getValueList().get(2));
+        scoreDirector.afterVariableChanged(e1, "value");
+        scoreDirector.triggerVariableListeners();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-4));
+        assertThat(calculatedEntityList).containsExactly(e1);
+
+        calculatedEntityList.clear();
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-4));
+        assertThat(calculatedEntityList).isEmpty();
+
+        TestdataValue v0 = solution.getValueList().get(0);
+        scoreDirector.beforeProblemPropertyChanged(v0);
+        v0.setCode("Changed Value 0");
+        scoreDirector.afterProblemPropertyChanged(v0);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-4));
+        assertThat(calculatedEntityList).hasSize(3);
+    }
+
+    @Test
+    public void entityContributionCorruptionDetectedWithAssertEntityContributionSum() {
+        EntityContributionEasyScoreCalculator<TestdataSolution, SimpleScore> calculator =
+                new EntityContributionEasyScoreCalculator<TestdataSolution, SimpleScore>() {
+                    @Override
+                    public SimpleScore calculateEntityScore(TestdataSolution solution, Object entity) {
+                        // Corrupted: ignores the entity's value
+                        return SimpleScore.of(-1);
+                    }
+
+                    @Override
+                    public SimpleScore calculateScore(TestdataSolution solution) {
+                        return SimpleScore.of(-solution.getEntityList().stream()
+                                .mapToInt(entity -> solution.getValueList().indexOf(entity.getValue()))
+                                .sum());
+                    }
+                };
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(), calculator);
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        // Values 0, 1, 2 for entities 0, 1, 2
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 3);
+
+        scoreDirectorFactory.setAssertEntityContributionSum(true);
+        EasyScoreDirector<TestdataSolution, SimpleScore> assertingScoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        // Only by coincidence the sum of the entity contributions (-3) matches the full calculation (-0 -1 -2)
+        assertingScoreDirector.setWorkingSolution(solution);
+        assertThat(assertingScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+
+        // Now the full calculation is -2 -1 -2
+        solution.getEntityList().get(0).setValue(solution.getValueList().get(2));
+        assertingScoreDirector.setWorkingSolution(solution);
+        assertThatIllegalStateException()
+                .isThrownBy(assertingScoreDirector::calculateScore)
+                .withMessageContaining("Score corruption")
+                .withMessageContaining("calculateEntityScore()");
+    }
+
+    @Test
+    public void createMoveThreadChildScoreDirectorsConcurrently() throws InterruptedException, ExecutionException {
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.of(-solution.getEntityList().stream()
+                                .mapToInt(entity -> solution.getValueList().indexOf(entity.getValue()))
+                                .sum()));
+        scoreDirectorFactory.setInitializingScoreTrend(
+                InitializingScoreTrend.buildUniformTrend(InitializingScoreTrendLevel.ONLY_DOWN, 1));
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        TestdataSolution solution = TestdataSolution.generateSolution(10, 10);
+        scoreDirector.setWorkingSolution(solution);
+
+        int moveThreadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(moveThreadCount);
+        try {
+            // Like the SetupOperation of every move thread, all children are created at the same time
+            CyclicBarrier startBarrier = new CyclicBarrier(moveThreadCount);
+            List<Future<InnerScoreDirector<TestdataSolution, SimpleScore>>> futureList =
+                    new ArrayList<>(moveThreadCount);
+            for (int i = 0; i < moveThreadCount; i++) {
+                futureList.add(executorService.submit(() -> {
+                    startBarrier.await();
+                    return scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
+                }));
+            }
+            for (Future<InnerScoreDirector<TestdataSolution, SimpleScore>> future : futureList) {
+                InnerScoreDirector<TestdataSolution, SimpleScore> childThreadScoreDirector = future.get();
+                assertThat(childThreadScoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-45));
+                // The values aren't planning cloned, so every child looks them up through the shared map
+                for (TestdataValue value : solution.getValueList()) {
+                    assertThat(childThreadScoreDirector.lookUpWorkingObject(value)).isSameAs(value);
+                }
+                for (TestdataEntity entity : solution.getEntityList()) {
+                    assertThat(childThreadScoreDirector.lookUpWorkingObject(entity)).isNotSameAs(entity);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void doAndProcessMoves() {
+        EasyScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new EasyScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        solution -> SimpleScore.of(-solution.getEntityList().stream()
+                                .mapToInt(entity -> solution.getValueList().indexOf(entity.getValue()))
+                                .sum()));
+        EasyScoreDirector<TestdataSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+
+        // Values 0, 1, 2 for entities 0, 1, 2
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 3);
+        scoreDirector.setWorkingSolution(solution);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor = scoreDirector.getSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataEntity.class).getGenuineVariableDescriptor("value");
+        TestdataEntity e0 = solution.getEntityList().get(0);
+        TestdataEntity e1 = solution.getEntityList().get(1);
+        TestdataEntity e2 = solution.getEntityList().get(2);
+        TestdataValue v0 = solution.getValueList().get(0);
+        TestdataValue v1 = solution.getValueList().get(1);
+        TestdataValue v2 = solution.getValueList().get(2);
+
+        List<Move<TestdataSolution>> moveList = Arrays.asList(
+                new ChangeMove<>(e0, variableDescriptor, v2),
+                new ChangeMove<>(e0, variableDescriptor, v1),
+                new SwapMove<>(Collections.singletonList(variableDescriptor), e1, e2),
+                new ChangeMove<>(e2, variableDescriptor, v0));
+        List<SimpleScore> scoreList = new ArrayList<>();
+        assertThat(scoreDirector.doAndProcessMoves(moveList, true, scoreList::add, () -> true)).isTrue();
+        assertThat(scoreList).containsExactly(SimpleScore.of(-5), SimpleScore.of(-4), SimpleScore.of(-3),
+                SimpleScore.of(-1));
+        assertThat(e0.getValue()).isSameAs(v0);
+        assertThat(e1.getValue()).isSameAs(v1);
+        assertThat(e2.getValue()).isSameAs(v2);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+
+        scoreList.clear();
+        assertThat(scoreDirector.doAndProcessMoves(moveList, false, score -> {
+            scoreList.add(score);
+            return scoreList.size() < 2;
+        }, () -> true)).isFalse();
+        assertThat(scoreList).containsExactly(SimpleScore.of(-5), SimpleScore.of(-4));
+        assertThat(e0.getValue()).isSameAs(v0);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+
+        // Every move is undone before the undoneMoveProcessor can stop the batch
+        scoreList.clear();
+        List<TestdataValue> undoneValueList = new ArrayList<>();
+        assertThat(scoreDirector.doAndProcessMoves(moveList, false, scoreList::add, () -> {
+            undoneValueList.add(e0.getValue());
+            return undoneValueList.size() < 2;
+        })).isFalse();
+        assertThat(scoreList).containsExactly(SimpleScore.of(-5), SimpleScore.of(-4));
+        assertThat(undoneValueList).containsExactly(v0, v0);
+        assertThat(scoreDirector.calculateScore()).isEqualTo(SimpleScore.of(-3));
+    }
+
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintStreamImplType;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.ConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the bytes a warmed up Bavet session allocates per {@link InnerScoreDirector#calculateScore()},
+ * with {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ */
+public class BavetConstraintSessionAllocationTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(BavetConstraintSessionAllocationTest.class);
+
+    private static final int WARM_UP_COUNT = 20_000;
+    private static final int MEASURE_COUNT = 10_000;
+
+    private com.sun.management.ThreadMXBean threadMXBean;
+
+    @BeforeEach
+    public void setUp() {
+        ThreadMXBean genericThreadMXBean = ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(genericThreadMXBean instanceof com.sun.management.ThreadMXBean,
+                "This JVM cannot measure the allocated bytes of a thread.");
+        threadMXBean = (com.sun.management.ThreadMXBean) genericThreadMXBean;
+        Assumptions.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported()
+                && threadMXBean.isThreadAllocatedMemoryEnabled(),
+                "This JVM cannot measure the allocated bytes of a thread.");
+    }
+
+    @Test
+    public void calculateScoreWithoutChanges() {
+        TestdataSolution solution = TestdataSolution.generateSolution(10, 100);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            scoreDirector.calculateScore();
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            scoreDirector.calculateScore();
+        }
+        long bytesPerCalculation = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytes) / MEASURE_COUNT;
+        logger.info("Bavet allocated {} bytes per calculateScore() without changes.", bytesPerCalculation);
+        // Only the Score instance itself, no dirty tuple bookkeeping
+        assertThat(bytesPerCalculation).isLessThan(256L);
+    }
+
+    @Test
+    public void calculateScoreAfterVariableChange() {
+        TestdataSolution solution = TestdataSolution.generateSolution(10, 100);
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = buildScoreDirector();
+        scoreDirector.setWorkingSolution(solution);
+        List<TestdataEntity> entityList = solution.getEntityList();
+        List<TestdataValue> valueList = solution.getValueList();
+        for (int i = 0; i < WARM_UP_COUNT; i++) {
+            changeValue(scoreDirector, entityList.get(i % entityList.size()),
+                    valueList.get((i * 7) % valueList.size()));
+        }
+        long threadId = Thread.currentThread().getId();
+        long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_COUNT; i++) {
+            changeValue(scoreDirector, entityList.get(i % entityList.size()),
+                    valueList.get((i * 3) % valueList.size()));
+        }
+        long bytesPerMove = (threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytes) / MEASURE_COUNT;
+        logger.info("Bavet allocated {} bytes per variable change and calculateScore().", bytesPerMove);
+        assertThat(bytesPerMove).isPositive();
+    }
+
+    private static void changeValue(InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector,
+            TestdataEntity entity, TestdataValue value) {
+        scoreDirector.beforeVariableChanged(entity, "value");
+        entity.setValue(value);
+        scoreDirector.afterVariableChanged(entity, "value");
+        scoreDirector.triggerVariableListeners();
+        scoreDirector.calculateScore();
+    }
+
+    private static InnerScoreDirector<TestdataSolution, SimpleScore> buildScoreDirector() {
+        ConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore> scoreDirectorFactory =
+                new ConstraintStreamScoreDirectorFactory<>(TestdataSolution.buildSolutionDescriptor(),
+                        constraintFactory -> new Constraint[] {
+                                constraintFactory.fromUniquePair(TestdataEntity.class, equal(TestdataEntity::getValue))
+                                        .penalize("Same value", SimpleScore.ONE)
+                        },
+                        ConstraintStreamImplType.BAVET);
+        return scoreDirectorFactory.buildScoreDirector(false, false);
+    }
+
+}
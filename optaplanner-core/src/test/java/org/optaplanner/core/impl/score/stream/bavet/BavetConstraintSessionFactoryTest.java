@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+
+public class BavetConstraintSessionFactoryTest {
+
+    private static final Predicate<TestdataEntity> ASSIGNED = entity -> entity.getValue() != null;
+
+    private static Constraint[] buildConstraints(ConstraintFactory constraintFactory) {
+        return new Constraint[] {
+                // "a" and "b" share the filter node, "c" shares nothing
+                constraintFactory.from(TestdataEntity.class)
+                        .filter(ASSIGNED)
+                        .penalize("a", SimpleScore.ONE),
+                constraintFactory.from(TestdataValue.class)
+                        .penalize("c", SimpleScore.ONE),
+                constraintFactory.from(TestdataEntity.class)
+                        .filter(ASSIGNED)
+                        .penalize("b", SimpleScore.of(2))
+        };
+    }
+
+    @Test
+    public void nodeSharingConstraintIdSetList() {
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor());
+        Constraint[] constraints = buildConstraints(constraintFactory);
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 5);
+        ConstraintSession<TestdataSolution, SimpleScore> session =
+                (ConstraintSession<TestdataSolution, SimpleScore>) constraintFactory.buildSessionFactory(constraints)
+                        .buildSession(false, solution, null);
+        assertThat(session).isInstanceOf(BavetConstraintSession.class);
+        List<Set<String>> constraintIdSetList =
+                ((BavetConstraintSession<TestdataSolution, SimpleScore>) session).getNodeSharingConstraintIdSetList();
+        assertThat(constraintIdSetList).containsExactly(
+                new HashSet<>(Arrays.asList(constraints[0].getConstraintId(), constraints[2].getConstraintId())),
+                new HashSet<>(Arrays.asList(constraints[1].getConstraintId())));
+    }
+
+    @Test
+    public void partitionsKeepNodeSharingConstraintsTogether() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 5);
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor());
+        SimpleScore expectedScore = calculateScore(constraintFactory, buildConstraints(constraintFactory), solution);
+
+        // Only 2 groups of node sharing constraints, so at most 2 partitions
+        BavetConstraintFactory<TestdataSolution> partitionedConstraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), 4);
+        Constraint[] constraints = buildConstraints(partitionedConstraintFactory);
+        ConstraintSession<TestdataSolution, SimpleScore> session =
+                (ConstraintSession<TestdataSolution, SimpleScore>) partitionedConstraintFactory
+                        .buildSessionFactory(constraints).buildSession(true, solution, null);
+        assertThat(session).isInstanceOf(BavetPartitionedConstraintSession.class);
+        insertFacts(session, solution);
+        // Retracting a fact that isn't inserted into the partitions yet
+        TestdataValue removedValue = solution.getValueList().get(0);
+        session.retract(removedValue);
+        assertThat(session.calculateScore(0)).isEqualTo(expectedScore.add(SimpleScore.ONE));
+        session.insert(removedValue);
+        assertThat(session.calculateScore(0)).isEqualTo(expectedScore);
+        // In declaration order, even though "a" and "b" are in the same partition
+        assertThat(session.getConstraintMatchTotalMap().keySet()).containsExactly(
+                constraints[0].getConstraintId(), constraints[1].getConstraintId(), constraints[2].getConstraintId());
+    }
+
+    @Test
+    public void zeroWeightConstraintsLeaveOnlyOnePartition() {
+        TestdataSolution solution = TestdataSolution.generateSolution(3, 5);
+        BavetConstraintFactory<TestdataSolution> constraintFactory =
+                new BavetConstraintFactory<>(TestdataSolution.buildSolutionDescriptor(), 4);
+        Constraint[] constraints = new Constraint[] {
+                constraintFactory.from(TestdataEntity.class)
+                        .filter(ASSIGNED)
+                        .penalize("a", SimpleScore.ONE),
+                constraintFactory.from(TestdataValue.class)
+                        .penalize("c", SimpleScore.ZERO)
+        };
+        BavetConstraintSessionFactory<TestdataSolution, SimpleScore> sessionFactory =
+                (BavetConstraintSessionFactory<TestdataSolution, SimpleScore>) constraintFactory
+                        .buildSessionFactory(constraints);
+        // The second session reuses the partitions of the first one
+        for (int i = 0; i < 2; i++) {
+            ConstraintSession<TestdataSolution, SimpleScore> session =
+                    sessionFactory.buildSession(false, solution, null);
+            assertThat(session).isInstanceOf(BavetConstraintSession.class);
+            assertThat(((BavetConstraintSession<TestdataSolution, SimpleScore>) session).getConstraintIdSet())
+                    .containsExactly(constraints[0].getConstraintId());
+            session.close();
+        }
+    }
+
+    private static SimpleScore calculateScore(BavetConstraintFactory<TestdataSolution> constraintFactory,
+            Constraint[] constraints, TestdataSolution solution) {
+        ConstraintSession<TestdataSolution, SimpleScore> session =
+                (ConstraintSession<TestdataSolution, SimpleScore>) constraintFactory.buildSessionFactory(constraints)
+                        .buildSession(false, solution, null);
+        insertFacts(session, solution);
+        return session.calculateScore(0);
+    }
+
+    private static void insertFacts(ConstraintSession<TestdataSolution, SimpleScore> session,
+            TestdataSolution solution) {
+        solution.getValueList().forEach(session::insert);
+        solution.getEntityList().forEach(session::insert);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.drools;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.impl.score.stream.ConstraintSession;
+import org.optaplanner.core.impl.score.stream.ConstraintSessionFactory;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.constraintconfiguration.TestdataConstraintConfiguration;
+import org.optaplanner.core.impl.testdata.domain.constraintconfiguration.TestdataConstraintConfigurationSolution;
+
+public class DroolsConstraintSessionFactoryTest {
+
+    @Test
+    public void kieBaseCachePerDisabledConstraintSet() {
+        DroolsConstraintFactory<TestdataConstraintConfigurationSolution> constraintFactory =
+                new DroolsConstraintFactory<>(TestdataConstraintConfigurationSolution.buildSolutionDescriptor());
+        Constraint[] constraints = new Constraint[] {
+                constraintFactory.from(TestdataEntity.class)
+                        .penalizeConfigurable("First weight"),
+                constraintFactory.from(TestdataValue.class)
+                        .penalizeConfigurable("packageOverwrittenOnField", "Second weight")
+        };
+        ConstraintSessionFactory<TestdataConstraintConfigurationSolution, SimpleScore> sessionFactory =
+                (ConstraintSessionFactory<TestdataConstraintConfigurationSolution, SimpleScore>) constraintFactory
+                        .buildSessionFactory(constraints);
+
+        TestdataConstraintConfigurationSolution solution = new TestdataConstraintConfigurationSolution("Solution");
+        TestdataConstraintConfiguration constraintConfiguration = new TestdataConstraintConfiguration("Configuration");
+        solution.setConstraintConfiguration(constraintConfiguration);
+        TestdataValue value = new TestdataValue("MyValue");
+        solution.setValueList(Collections.singletonList(value));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("MyEntity 1", value),
+                new TestdataEntity("MyEntity 2", value), new TestdataEntity("MyEntity 3", value)));
+
+        // Disables "First weight", so a KieBase without it is compiled
+        constraintConfiguration.setFirstWeight(SimpleScore.ZERO);
+        assertThat(calculateScore(sessionFactory, solution)).isEqualTo(SimpleScore.of(-20));
+        assertThat(sessionFactory.getConstraintCompilationCacheMissCount()).isEqualTo(1L);
+        assertThat(sessionFactory.getConstraintCompilationCacheHitCount()).isEqualTo(0L);
+
+        // All constraints enabled uses the original KieBase, which is neither a hit nor a miss
+        constraintConfiguration.setFirstWeight(SimpleScore.ONE);
+        assertThat(calculateScore(sessionFactory, solution)).isEqualTo(SimpleScore.of(-23));
+        assertThat(sessionFactory.getConstraintCompilationCacheMissCount()).isEqualTo(1L);
+        assertThat(sessionFactory.getConstraintCompilationCacheHitCount()).isEqualTo(0L);
+
+        // Switching back reuses the compiled KieBase
+        constraintConfiguration.setFirstWeight(SimpleScore.ZERO);
+        assertThat(calculateScore(sessionFactory, solution)).isEqualTo(SimpleScore.of(-20));
+        constraintConfiguration.setFirstWeight(SimpleScore.ONE);
+        assertThat(calculateScore(sessionFactory, solution)).isEqualTo(SimpleScore.of(-23));
+        constraintConfiguration.setFirstWeight(SimpleScore.ZERO);
+        assertThat(calculateScore(sessionFactory, solution)).isEqualTo(SimpleScore.of(-20));
+        assertThat(sessionFactory.getConstraintCompilationCacheMissCount()).isEqualTo(1L);
+        assertThat(sessionFactory.getConstraintCompilationCacheHitCount()).isEqualTo(2L);
+    }
+
+    private static SimpleScore calculateScore(
+            ConstraintSessionFactory<TestdataConstraintConfigurationSolution, SimpleScore> sessionFactory,
+            TestdataConstraintConfigurationSolution solution) {
+        ConstraintSession<TestdataConstraintConfigurationSolution, SimpleScore> session =
+                sessionFactory.buildSession(false, solution);
+        solution.getValueList().forEach(session::insert);
+        solution.getEntityList().forEach(session::insert);
+        return session.calculateScore(0);
+    }
+
+}